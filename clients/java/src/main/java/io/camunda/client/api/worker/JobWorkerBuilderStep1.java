@@ -242,6 +242,41 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics);
 
+    /**
+     * Coalesces the job completions sent by this worker's job handlers into batched requests. A
+     * completion is held back for at most the given window, and a batch is sent as soon as it
+     * contains {@code maxBatchSize} completions. Each completion still results in its own response
+     * (or error), exactly as if it had been sent on its own.
+     *
+     * <p>This is useful for workers processing many short-lived jobs, where the round trip of each
+     * completion dominates the throughput. Only completions sent via gRPC are batched; if the
+     * gateway does not support batched completions, every job is completed with its own request.
+     *
+     * <p>By default, completions are not batched.
+     *
+     * @param window how long a completion is held back at most, e.g. a few milliseconds
+     * @param maxBatchSize the maximum number of completions sent in a single request
+     * @return the builder for this worker
+     */
+    @ExperimentalApi("batched job completions require a gateway supporting CompleteJobs")
+    JobWorkerBuilderStep3 completionBatching(final Duration window, final int maxBatchSize);
+
+    /**
+     * Executes the job handler of every job on its own virtual thread instead of on the client's
+     * job worker executor. This allows blocking job handlers to work on many jobs concurrently
+     * without sizing a thread pool for it. The number of jobs handled concurrently is still bounded
+     * by {@link #maxJobsActive(int)}.
+     *
+     * <p>Virtual threads require Java 21 or newer at runtime; opening the worker fails otherwise.
+     *
+     * <p>By default, jobs are handled on the client's job worker executor.
+     *
+     * @param useVirtualThreads true to handle jobs on virtual threads
+     * @return the builder for this worker
+     */
+    @ExperimentalApi("virtual threads require Java 21 or newer")
+    JobWorkerBuilderStep3 virtualThreadExecution(final boolean useVirtualThreads);
+
     /**
      * Open the worker and start to work on available tasks.
      *
@@ -28,6 +28,7 @@ import io.camunda.client.impl.RetriableClientFutureImpl;
 import io.camunda.client.impl.http.HttpCamundaFuture;
 import io.camunda.client.impl.http.HttpClient;
 import io.camunda.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.client.impl.worker.JobCompletionBatcher;
 import io.camunda.client.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
@@ -47,6 +48,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
     implements CompleteJobCommandStep1, CompleteJobCommandStep2 {
 
   private final GatewayStub asyncStub;
+  private final JobCompletionBatcher completionBatcher;
   private final Builder grpcRequestObjectBuilder;
   private final Predicate<StatusCode> retryPredicate;
   private Duration requestTimeout;
@@ -70,8 +72,29 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
       final Predicate<StatusCode> retryPredicate,
       final HttpClient httpClient,
       final boolean preferRestOverGrpc) {
+    this(
+        asyncStub,
+        jsonMapper,
+        key,
+        requestTimeout,
+        retryPredicate,
+        httpClient,
+        preferRestOverGrpc,
+        null);
+  }
+
+  public CompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate,
+      final HttpClient httpClient,
+      final boolean preferRestOverGrpc,
+      final JobCompletionBatcher completionBatcher) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
+    this.completionBatcher = completionBatcher;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
     grpcRequestObjectBuilder = CompleteJobRequest.newBuilder();
@@ -299,6 +322,11 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private void sendGrpcRequest(
       final CompleteJobRequest request,
       final StreamObserver<GatewayOuterClass.CompleteJobResponse> streamObserver) {
+    if (completionBatcher != null) {
+      completionBatcher.complete(request, requestTimeout, streamObserver);
+      return;
+    }
+
     asyncStub
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .completeJob(request, streamObserver);
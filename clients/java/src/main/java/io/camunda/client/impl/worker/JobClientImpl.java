@@ -32,6 +32,8 @@ import io.camunda.client.impl.command.StreamJobsCommandImpl;
 import io.camunda.client.impl.command.ThrowErrorCommandImpl;
 import io.camunda.client.impl.http.HttpClient;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
 public final class JobClientImpl implements JobClient {
@@ -41,6 +43,7 @@ public final class JobClientImpl implements JobClient {
   private final CamundaClientConfiguration config;
   private final JsonMapper jsonMapper;
   private final Predicate<StatusCode> retryPredicate;
+  private final JobCompletionBatcher completionBatcher;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
@@ -48,11 +51,47 @@ public final class JobClientImpl implements JobClient {
       final CamundaClientConfiguration config,
       final JsonMapper jsonMapper,
       final Predicate<StatusCode> retryPredicate) {
+    this(asyncStub, httpClient, config, jsonMapper, retryPredicate, null);
+  }
+
+  private JobClientImpl(
+      final GatewayStub asyncStub,
+      final HttpClient httpClient,
+      final CamundaClientConfiguration config,
+      final JsonMapper jsonMapper,
+      final Predicate<StatusCode> retryPredicate,
+      final JobCompletionBatcher completionBatcher) {
     this.asyncStub = asyncStub;
     this.httpClient = httpClient;
     this.config = config;
     this.jsonMapper = jsonMapper;
     this.retryPredicate = retryPredicate;
+    this.completionBatcher = completionBatcher;
+  }
+
+  /**
+   * Returns a copy of this job client which sends its gRPC job completions through the given
+   * batcher, such that completions sent in quick succession are coalesced into a single request.
+   *
+   * @param completionBatcher the batcher to send the completions through
+   * @return a copy of this job client using the given batcher
+   */
+  public JobClientImpl withCompletionBatcher(final JobCompletionBatcher completionBatcher) {
+    return new JobClientImpl(
+        asyncStub, httpClient, config, jsonMapper, retryPredicate, completionBatcher);
+  }
+
+  /**
+   * Creates a new batcher which sends its completions through the gateway stub of this client.
+   *
+   * @param scheduler the scheduler used to flush a batch once its window elapsed
+   * @param window how long completions are collected before they are sent
+   * @param maxBatchSize how many completions are sent at most in a single request
+   * @return the new batcher
+   */
+  public JobCompletionBatcher newCompletionBatcher(
+      final ScheduledExecutorService scheduler, final Duration window, final int maxBatchSize) {
+    return new JobCompletionBatcher(asyncStub, scheduler, window, maxBatchSize);
   }
 
   @Override
@@ -64,7 +103,8 @@ public final class JobClientImpl implements JobClient {
         config.getDefaultRequestTimeout(),
         retryPredicate,
         httpClient,
-        config.preferRestOverGrpc());
+        config.preferRestOverGrpc(),
+        completionBatcher);
   }
 
   @Override
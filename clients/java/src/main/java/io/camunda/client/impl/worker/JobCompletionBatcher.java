@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import io.camunda.client.impl.Loggers;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.StreamObserver;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+
+/**
+ * Coalesces job completions which are sent within a short window into a single {@code CompleteJobs}
+ * request, reducing the number of round trips a worker with many short-lived jobs needs. A batch is
+ * sent once the window elapsed or once it reached its maximum size, whichever comes first.
+ *
+ * <p>Every completion keeps its own response observer, which is notified with the result of its job
+ * only, as if it had been sent on its own. If the gateway does not support batched completions, the
+ * batcher falls back to completing every job with a separate request.
+ */
+public final class JobCompletionBatcher implements Closeable {
+
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+
+  private final GatewayStub asyncStub;
+  private final ScheduledExecutorService scheduler;
+  private final Duration window;
+  private final int maxBatchSize;
+
+  private List<PendingCompletion> pendingCompletions = new ArrayList<>();
+  private ScheduledFuture<?> scheduledFlush;
+  private volatile boolean isBatchingSupported = true;
+
+  public JobCompletionBatcher(
+      final GatewayStub asyncStub,
+      final ScheduledExecutorService scheduler,
+      final Duration window,
+      final int maxBatchSize) {
+    this.asyncStub = asyncStub;
+    this.scheduler = scheduler;
+    this.window = window;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Enqueues the given completion; the observer is notified once the batch containing it was
+   * answered.
+   *
+   * @param request the completion to send
+   * @param requestTimeout the deadline of the completion; a batch uses the longest deadline of its
+   *     completions
+   * @param responseObserver the observer to notify with the outcome of this completion
+   */
+  public void complete(
+      final CompleteJobRequest request,
+      final Duration requestTimeout,
+      final StreamObserver<CompleteJobResponse> responseObserver) {
+    final PendingCompletion completion =
+        new PendingCompletion(request, requestTimeout, responseObserver);
+    if (!isBatchingSupported) {
+      sendSingle(completion);
+      return;
+    }
+
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      pendingCompletions.add(completion);
+      if (pendingCompletions.size() < maxBatchSize) {
+        if (scheduledFlush == null) {
+          scheduleFlush();
+        }
+        return;
+      }
+
+      batch = drainPendingCompletions();
+    }
+
+    sendBatch(batch);
+  }
+
+  /** Sends all pending completions immediately. */
+  public void flush() {
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      batch = drainPendingCompletions();
+    }
+
+    sendBatch(batch);
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+
+  private void scheduleFlush() {
+    try {
+      scheduledFlush = scheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final RejectedExecutionException e) {
+      // the scheduler is shutting down; the pending completions are sent on close
+      LOG.debug("Failed to schedule flush of pending job completions", e);
+    }
+  }
+
+  private List<PendingCompletion> drainPendingCompletions() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+
+    final List<PendingCompletion> batch = pendingCompletions;
+    pendingCompletions = new ArrayList<>();
+    return batch;
+  }
+
+  private void sendBatch(final List<PendingCompletion> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    if (batch.size() == 1 || !isBatchingSupported) {
+      batch.forEach(this::sendSingle);
+      return;
+    }
+
+    final CompleteJobsRequest.Builder request = CompleteJobsRequest.newBuilder();
+    Duration requestTimeout = Duration.ZERO;
+    for (final PendingCompletion completion : batch) {
+      request.addRequests(completion.request);
+      if (completion.requestTimeout.compareTo(requestTimeout) > 0) {
+        requestTimeout = completion.requestTimeout;
+      }
+    }
+
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request.build(), new BatchResponseObserver(batch));
+  }
+
+  private void sendSingle(final PendingCompletion completion) {
+    asyncStub
+        .withDeadlineAfter(completion.requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJob(completion.request, completion.responseObserver);
+  }
+
+  private static final class PendingCompletion {
+    private final CompleteJobRequest request;
+    private final Duration requestTimeout;
+    private final StreamObserver<CompleteJobResponse> responseObserver;
+
+    private PendingCompletion(
+        final CompleteJobRequest request,
+        final Duration requestTimeout,
+        final StreamObserver<CompleteJobResponse> responseObserver) {
+      this.request = request;
+      this.requestTimeout = requestTimeout;
+      this.responseObserver = responseObserver;
+    }
+
+    private void onResult(final CompleteJobsResult result) {
+      if (result.getCode() == Code.OK.value()) {
+        responseObserver.onNext(CompleteJobResponse.getDefaultInstance());
+        responseObserver.onCompleted();
+      } else {
+        responseObserver.onError(
+            Status.fromCodeValue(result.getCode())
+                .withDescription(result.getMessage())
+                .asRuntimeException());
+      }
+    }
+  }
+
+  private final class BatchResponseObserver implements StreamObserver<CompleteJobsResponse> {
+    private final List<PendingCompletion> batch;
+
+    private BatchResponseObserver(final List<PendingCompletion> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void onNext(final CompleteJobsResponse response) {
+      final List<CompleteJobsResult> results = response.getResultsList();
+      for (int i = 0; i < batch.size(); i++) {
+        if (i < results.size()) {
+          batch.get(i).onResult(results.get(i));
+        } else {
+          batch
+              .get(i)
+              .responseObserver
+              .onError(
+                  Status.INTERNAL
+                      .withDescription("Expected a result for every completion of the batch")
+                      .asRuntimeException());
+        }
+      }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      if (Status.fromThrowable(throwable).getCode() == Code.UNIMPLEMENTED) {
+        LOG.debug(
+            "Gateway does not support batched job completions, completing jobs one at a time");
+        isBatchingSupported = false;
+        batch.forEach(JobCompletionBatcher.this::sendSingle);
+        return;
+      }
+
+      batch.forEach(completion -> completion.responseObserver.onError(throwable));
+    }
+
+    @Override
+    public void onCompleted() {
+      // every completion was already notified with its result
+    }
+  }
+}
@@ -35,6 +35,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
 public final class JobWorkerBuilderImpl
@@ -60,6 +62,9 @@ public final class JobWorkerBuilderImpl
   private boolean enableStreaming;
   private Duration streamingTimeout;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
+  private Duration completionBatchWindow;
+  private int completionMaxBatchSize;
+  private boolean useVirtualThreads;
 
   public JobWorkerBuilderImpl(
       final CamundaClientConfiguration configuration,
@@ -164,6 +169,19 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 completionBatching(final Duration window, final int maxBatchSize) {
+    completionBatchWindow = window;
+    completionMaxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 virtualThreadExecution(final boolean useVirtualThreads) {
+    this.useVirtualThreads = useVirtualThreads;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -172,8 +190,32 @@ public final class JobWorkerBuilderImpl
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
+    if (completionBatchWindow != null) {
+      ensurePositive("completionBatchWindow", completionBatchWindow);
+      ensureGreaterThan("completionMaxBatchSize", completionMaxBatchSize, 0);
+    }
+
+    final JobClient handlerJobClient;
+    final JobCompletionBatcher completionBatcher;
+    if (completionBatchWindow != null && jobClient instanceof JobClientImpl) {
+      final JobClientImpl jobClientImpl = (JobClientImpl) jobClient;
+      completionBatcher =
+          jobClientImpl.newCompletionBatcher(
+              executorService, completionBatchWindow, completionMaxBatchSize);
+      handlerJobClient = jobClientImpl.withCompletionBatcher(completionBatcher);
+    } else {
+      completionBatcher = null;
+      handlerJobClient = jobClient;
+    }
+
+    final ExecutorService virtualThreadExecutor =
+        useVirtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+    final Executor handlerExecutor =
+        virtualThreadExecutor != null ? virtualThreadExecutor : executorService;
+
     final JobStreamer jobStreamer;
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactoryImpl(jobClient, handler);
+    final JobRunnableFactory jobRunnableFactory =
+        new JobRunnableFactoryImpl(handlerJobClient, handler);
     final JobPoller jobPoller =
         new JobPollerImpl(
             jobClient,
@@ -202,10 +244,10 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               executorService);
-      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
+      jobExecutor = new BlockingExecutor(handlerExecutor, maxJobsActive, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
-      jobExecutor = executorService;
+      jobExecutor = handlerExecutor;
     }
 
     final JobWorkerImpl jobWorker =
@@ -220,6 +262,13 @@ public final class JobWorkerBuilderImpl
             metrics,
             jobExecutor);
     closeables.add(jobWorker);
+    // closed after the worker, such that completions of jobs still being handled are sent
+    if (virtualThreadExecutor != null) {
+      closeables.add(virtualThreadExecutor::shutdown);
+    }
+    if (completionBatcher != null) {
+      closeables.add(completionBatcher);
+    }
     return jobWorker;
   }
 
@@ -244,4 +293,21 @@ public final class JobWorkerBuilderImpl
   private List<String> getTenantIds() {
     return customTenantIds.isEmpty() ? defaultTenantIds : customTenantIds;
   }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    // the client is compiled for Java 8, so the factory is looked up at runtime
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (final NoSuchMethodException e) {
+      throw new UnsupportedOperationException(
+          String.format(
+              "Expected to handle jobs on virtual threads, but they are not supported by the "
+                  + "current Java runtime '%s'; use Java 21 or newer",
+              System.getProperty("java.version")),
+          e);
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create a virtual thread executor", e);
+    }
+  }
 }
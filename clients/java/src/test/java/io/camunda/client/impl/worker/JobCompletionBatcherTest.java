@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class JobCompletionBatcherTest {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  @Rule public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+  private final RecordingGateway gateway = new RecordingGateway();
+  private ManagedChannel channel;
+
+  @Before
+  public void setup() throws IOException {
+    final String serverName = InProcessServerBuilder.generateName();
+    grpcCleanup.register(
+        InProcessServerBuilder.forName(serverName)
+            .directExecutor()
+            .addService(gateway)
+            .build()
+            .start());
+    channel =
+        grpcCleanup.register(InProcessChannelBuilder.forName(serverName).directExecutor().build());
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void shouldSendBatchOnceMaxBatchSizeIsReached() {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(Duration.ofHours(1), 3);
+
+    // when
+    final CompletionObserver first = complete(batcher, 1L);
+    final CompletionObserver second = complete(batcher, 2L);
+    final CompletionObserver third = complete(batcher, 3L);
+
+    // then
+    assertThat(gateway.batchRequests).hasSize(1);
+    assertThat(gateway.batchRequests.get(0).getRequestsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L, 2L, 3L);
+    assertThat(first.result).isCompleted();
+    assertThat(second.result).isCompleted();
+    assertThat(third.result).isCompleted();
+  }
+
+  @Test
+  public void shouldSendBatchOnceWindowElapsed() {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(Duration.ofMillis(10), 100);
+
+    // when
+    final CompletionObserver first = complete(batcher, 1L);
+    final CompletionObserver second = complete(batcher, 2L);
+
+    // then
+    Awaitility.await("until the pending completions are sent")
+        .until(() -> first.result.isDone() && second.result.isDone());
+    assertThat(gateway.batchRequests).hasSize(1);
+    assertThat(gateway.batchRequests.get(0).getRequestsCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldOnlyFailRejectedCompletion() {
+    // given
+    gateway.rejectedJobKey = 2L;
+    final JobCompletionBatcher batcher = newBatcher(Duration.ofHours(1), 2);
+
+    // when
+    final CompletionObserver completed = complete(batcher, 1L);
+    final CompletionObserver rejected = complete(batcher, 2L);
+
+    // then
+    assertThat(completed.result).isCompleted();
+    assertThat(rejected.result)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(Exception.class)
+        .satisfies(
+            error -> assertThat(Status.fromThrowable(error).getCode()).isEqualTo(Code.NOT_FOUND));
+  }
+
+  @Test
+  public void shouldSendPendingCompletionsOnClose() {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(Duration.ofHours(1), 100);
+    final CompletionObserver first = complete(batcher, 1L);
+    final CompletionObserver second = complete(batcher, 2L);
+
+    // when
+    batcher.close();
+
+    // then
+    assertThat(gateway.batchRequests).hasSize(1);
+    assertThat(first.result).isCompleted();
+    assertThat(second.result).isCompleted();
+  }
+
+  @Test
+  public void shouldFallBackToSingleCompletionsIfBatchingIsNotSupported() {
+    // given
+    gateway.isBatchingSupported = false;
+    final JobCompletionBatcher batcher = newBatcher(Duration.ofHours(1), 2);
+
+    // when
+    final CompletionObserver first = complete(batcher, 1L);
+    final CompletionObserver second = complete(batcher, 2L);
+    final CompletionObserver third = complete(batcher, 3L);
+
+    // then
+    assertThat(gateway.batchRequests).isEmpty();
+    assertThat(gateway.singleRequests)
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L, 2L, 3L);
+    assertThat(first.result).isCompleted();
+    assertThat(second.result).isCompleted();
+    assertThat(third.result).isCompleted();
+  }
+
+  private JobCompletionBatcher newBatcher(final Duration window, final int maxBatchSize) {
+    return new JobCompletionBatcher(GatewayGrpc.newStub(channel), scheduler, window, maxBatchSize);
+  }
+
+  private CompletionObserver complete(final JobCompletionBatcher batcher, final long jobKey) {
+    final CompletionObserver observer = new CompletionObserver();
+    batcher.complete(
+        CompleteJobRequest.newBuilder().setJobKey(jobKey).build(), REQUEST_TIMEOUT, observer);
+    return observer;
+  }
+
+  private static final class CompletionObserver implements StreamObserver<CompleteJobResponse> {
+    private final CompletableFuture<CompleteJobResponse> result = new CompletableFuture<>();
+
+    @Override
+    public void onNext(final CompleteJobResponse value) {
+      result.complete(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      result.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {}
+  }
+
+  private static final class RecordingGateway extends GatewayImplBase {
+    private final List<CompleteJobsRequest> batchRequests = new CopyOnWriteArrayList<>();
+    private final List<CompleteJobRequest> singleRequests = new CopyOnWriteArrayList<>();
+    private volatile boolean isBatchingSupported = true;
+    private volatile long rejectedJobKey = -1L;
+
+    @Override
+    public void completeJob(
+        final CompleteJobRequest request,
+        final StreamObserver<CompleteJobResponse> responseObserver) {
+      singleRequests.add(request);
+      responseObserver.onNext(CompleteJobResponse.getDefaultInstance());
+      responseObserver.onCompleted();
+    }
+
+    @Override
+    public void completeJobs(
+        final CompleteJobsRequest request,
+        final StreamObserver<CompleteJobsResponse> responseObserver) {
+      if (!isBatchingSupported) {
+        super.completeJobs(request, responseObserver);
+        return;
+      }
+
+      batchRequests.add(request);
+      final CompleteJobsResponse.Builder response = CompleteJobsResponse.newBuilder();
+      for (final CompleteJobRequest completion : request.getRequestsList()) {
+        final CompleteJobsResult.Builder result =
+            CompleteJobsResult.newBuilder().setJobKey(completion.getJobKey());
+        if (completion.getJobKey() == rejectedJobKey) {
+          result.setCode(Code.NOT_FOUND.value()).setMessage("job not found");
+        }
+        response.addResults(result);
+      }
+      responseObserver.onNext(response.build());
+      responseObserver.onCompleted();
+    }
+  }
+}
@@ -25,6 +25,7 @@ import io.camunda.db.rdbms.read.service.UserTaskReader;
 import io.camunda.db.rdbms.read.service.VariableReader;
 import io.camunda.db.rdbms.write.RdbmsWriter;
 import io.camunda.db.rdbms.write.RdbmsWriterFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /** A holder for all rdbms services */
 public class RdbmsService {
@@ -155,4 +156,12 @@ public class RdbmsService {
   public RdbmsWriter createWriter(final long partitionId, final int queueSize) {
     return rdbmsWriterFactory.createWriter(partitionId, queueSize);
   }
+
+  public RdbmsWriter createWriter(
+      final long partitionId,
+      final int queueSize,
+      final int maxBatchSize,
+      final MeterRegistry meterRegistry) {
+    return rdbmsWriterFactory.createWriter(partitionId, queueSize, maxBatchSize, meterRegistry);
+  }
 }
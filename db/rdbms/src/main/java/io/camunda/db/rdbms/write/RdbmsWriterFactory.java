@@ -11,10 +11,15 @@ import io.camunda.db.rdbms.sql.ExporterPositionMapper;
 import io.camunda.db.rdbms.sql.PurgeMapper;
 import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
 import io.camunda.db.rdbms.write.service.ExporterPositionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.ibatis.session.SqlSessionFactory;
 
 public class RdbmsWriterFactory {
 
+  /** Maximum number of rows combined into a single multi-row insert by default */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
   private final SqlSessionFactory sqlSessionFactory;
   private final ExporterPositionMapper exporterPositionMapper;
   private final PurgeMapper purgeMapper;
@@ -29,7 +34,21 @@ public class RdbmsWriterFactory {
   }
 
   public RdbmsWriter createWriter(final long partitionId, final int queueSize) {
-    final var executionQueue = new DefaultExecutionQueue(sqlSessionFactory, partitionId, queueSize);
+    return createWriter(partitionId, queueSize, DEFAULT_MAX_BATCH_SIZE, new SimpleMeterRegistry());
+  }
+
+  public RdbmsWriter createWriter(
+      final long partitionId,
+      final int queueSize,
+      final int maxBatchSize,
+      final MeterRegistry meterRegistry) {
+    final var executionQueue =
+        new DefaultExecutionQueue(
+            sqlSessionFactory,
+            partitionId,
+            queueSize,
+            maxBatchSize,
+            new RdbmsWriterMetrics(meterRegistry));
     return new RdbmsWriter(
         executionQueue,
         new ExporterPositionService(executionQueue, exporterPositionMapper),
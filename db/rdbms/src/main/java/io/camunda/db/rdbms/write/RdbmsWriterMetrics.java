@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+
+public class RdbmsWriterMetrics {
+  private static final String NAMESPACE = "zeebe.rdbms.exporter";
+
+  private final MeterRegistry meterRegistry;
+  private final Timer flushDuration;
+  private final DistributionSummary flushedQueueItems;
+  private final DistributionSummary executedStatements;
+  private final Counter failedFlush;
+
+  public RdbmsWriterMetrics(final MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+
+    flushDuration =
+        Timer.builder(meterName("flush.duration.seconds"))
+            .description("Flush duration of the execution queue in seconds")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .register(meterRegistry);
+
+    flushedQueueItems =
+        DistributionSummary.builder(meterName("flush.queue.items"))
+            .description("Number of queue items flushed at once")
+            .serviceLevelObjectives(10, 100, 1_000, 10_000)
+            .register(meterRegistry);
+
+    executedStatements =
+        DistributionSummary.builder(meterName("flush.statements"))
+            .description(
+                "Number of statements executed per flush, after grouping inserts into multi-row inserts")
+            .serviceLevelObjectives(10, 100, 1_000, 10_000)
+            .register(meterRegistry);
+
+    failedFlush =
+        Counter.builder(meterName("failed.flush"))
+            .description("Number of failed flush operations")
+            .register(meterRegistry);
+  }
+
+  public Timer.Sample startFlushDurationMeasurement() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void stopFlushDurationMeasurement(final Timer.Sample flushDurationSample) {
+    flushDurationSample.stop(flushDuration);
+  }
+
+  public void recordFlushedQueueItems(final int queueItems) {
+    flushedQueueItems.record(queueItems);
+  }
+
+  public void recordExecutedStatements(final int statements) {
+    executedStatements.record(statements);
+  }
+
+  public void recordFailedFlush() {
+    failedFlush.increment();
+  }
+
+  private String meterName(final String name) {
+    return NAMESPACE + "." + name;
+  }
+}
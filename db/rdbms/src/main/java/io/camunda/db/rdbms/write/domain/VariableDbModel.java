@@ -26,10 +26,12 @@ public record VariableDbModel(
     Long scopeKey,
     Long processInstanceKey,
     String processDefinitionId,
-    String tenantId) {
+    String tenantId)
+    implements Copyable<VariableDbModel> {
 
   public static final int DEFAULT_VARIABLE_SIZE_THRESHOLD = 8191; // TODO make configurable
 
+  @Override
   public VariableDbModel copy(
       final Function<ObjectBuilder<VariableDbModel>, ObjectBuilder<VariableDbModel>>
           builderFunction) {
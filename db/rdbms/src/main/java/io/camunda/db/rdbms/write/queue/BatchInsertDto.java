@@ -0,0 +1,18 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import java.util.List;
+
+/**
+ * Parameter of a multi-row insert statement ({@code insertBatch}), which inserts all given models
+ * with a single statement.
+ *
+ * @param dbModels the parameters of the single-row inserts which are combined
+ */
+public record BatchInsertDto(List<Object> dbModels) {}
@@ -7,10 +7,15 @@
  */
 package io.camunda.db.rdbms.write.queue;
 
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
@@ -20,6 +25,8 @@ import org.slf4j.LoggerFactory;
 public class DefaultExecutionQueue implements ExecutionQueue {
 
   private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutionQueue.class);
+  private static final String INSERT_STATEMENT_SUFFIX = ".insert";
+  private static final String BATCH_INSERT_STATEMENT_SUFFIX = ".insertBatch";
 
   private final SqlSessionFactory sessionFactory;
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
@@ -29,12 +36,23 @@ public class DefaultExecutionQueue implements ExecutionQueue {
 
   private final long partitionId; // for addressing the logger
   private final int queueFlushLimit;
+  private final int maxBatchSize;
+  private final RdbmsWriterMetrics metrics;
+
+  // insert statement id -> multi-row insert statement id, if the mapper defines one
+  private final Map<String, Optional<String>> batchInsertStatements = new HashMap<>();
 
   public DefaultExecutionQueue(
-      final SqlSessionFactory sessionFactory, final long partitionId, final int queueFlushLimit) {
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final int queueFlushLimit,
+      final int maxBatchSize,
+      final RdbmsWriterMetrics metrics) {
     this.sessionFactory = sessionFactory;
     this.partitionId = partitionId;
     this.queueFlushLimit = queueFlushLimit;
+    this.maxBatchSize = maxBatchSize;
+    this.metrics = metrics;
   }
 
   @Override
@@ -76,19 +94,20 @@ public class DefaultExecutionQueue implements ExecutionQueue {
           queue.size());
 
       final var startMillis = System.currentTimeMillis();
+      final var flushDurationMeasurement = metrics.startFlushDurationMeasurement();
       final var session =
           sessionFactory.openSession(
               ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
 
-      var flushedElements = 0;
+      final var flushedElements = queue.size();
       try {
-        while (!queue.isEmpty()) {
-          final var entry = queue.peek();
-          LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
-          session.update(entry.statementId(), entry.parameter());
-          queue.remove();
-          flushedElements++;
+        final var statements = groupStatements(queue);
+        for (final var statement : statements) {
+          LOG.trace(
+              "[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, statement);
+          session.update(statement.statementId(), statement.parameter());
         }
+        queue.clear();
 
         if (!preFlushListeners.isEmpty()) {
           LOG.debug("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
@@ -102,15 +121,20 @@ public class DefaultExecutionQueue implements ExecutionQueue {
           postFlushListeners.forEach(PostFlushListener::onPostFlush);
         }
         LOG.debug(
-            "[RDBMS ExecutionQueue, Partition {}] Commit queue with {} entries in {}ms",
+            "[RDBMS ExecutionQueue, Partition {}] Commit queue with {} entries as {} statements in {}ms",
             partitionId,
             flushedElements,
+            statements.size(),
             System.currentTimeMillis() - startMillis);
 
+        metrics.stopFlushDurationMeasurement(flushDurationMeasurement);
+        metrics.recordFlushedQueueItems(flushedElements);
+        metrics.recordExecutedStatements(statements.size());
         return flushedElements;
       } catch (final Exception e) {
         LOG.error(
             "[RDBMS ExecutionQueue, Partition {}] Error while executing queue", partitionId, e);
+        metrics.recordFailedFlush();
         session.rollback();
 
         throw e;
@@ -146,6 +170,69 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
+  /**
+   * Groups the queued items into the statements to execute. Inserts are collected per statement and
+   * combined into multi-row inserts of up to {@code maxBatchSize} rows, if the mapper defines a
+   * corresponding {@code insertBatch} statement. Any other statement closes the collected groups
+   * first, such that it is still executed after all items queued before it, e.g. an update is never
+   * executed before the insert of the same entity.
+   */
+  private List<QueueItem> groupStatements(final List<QueueItem> items) {
+    final var statements = new ArrayList<QueueItem>(items.size());
+    final Map<String, List<QueueItem>> pendingInserts = new LinkedHashMap<>();
+
+    for (final var item : items) {
+      final var batchStatementId = batchInsertStatementFor(item.statementId());
+      if (batchStatementId.isEmpty()) {
+        pendingInserts.forEach((ignored, inserts) -> statements.add(combineInserts(inserts)));
+        pendingInserts.clear();
+        statements.add(item);
+        continue;
+      }
+
+      final var inserts =
+          pendingInserts.computeIfAbsent(item.statementId(), id -> new ArrayList<>());
+      inserts.add(item);
+      if (inserts.size() >= maxBatchSize) {
+        statements.add(combineInserts(inserts));
+        pendingInserts.remove(item.statementId());
+      }
+    }
+
+    pendingInserts.forEach((ignored, inserts) -> statements.add(combineInserts(inserts)));
+    return statements;
+  }
+
+  private Optional<String> batchInsertStatementFor(final String statementId) {
+    if (maxBatchSize <= 1 || !statementId.endsWith(INSERT_STATEMENT_SUFFIX)) {
+      return Optional.empty();
+    }
+
+    return batchInsertStatements.computeIfAbsent(
+        statementId,
+        id -> {
+          final var batchStatementId =
+              id.substring(0, id.length() - INSERT_STATEMENT_SUFFIX.length())
+                  + BATCH_INSERT_STATEMENT_SUFFIX;
+          return sessionFactory.getConfiguration().hasStatement(batchStatementId)
+              ? Optional.of(batchStatementId)
+              : Optional.empty();
+        });
+  }
+
+  private QueueItem combineInserts(final List<QueueItem> inserts) {
+    final var first = inserts.getFirst();
+    if (inserts.size() == 1) {
+      return first;
+    }
+
+    return new QueueItem(
+        first.contextType(),
+        inserts.stream().map(QueueItem::id).toList(),
+        batchInsertStatementFor(first.statementId()).orElseThrow(),
+        new BatchInsertDto(inserts.stream().map(QueueItem::parameter).toList()));
+  }
+
   LinkedList<QueueItem> getQueue() {
     return queue;
   }
@@ -8,9 +8,12 @@
 package io.camunda.db.rdbms.write.service;
 
 import io.camunda.db.rdbms.write.domain.VariableDbModel;
+import io.camunda.db.rdbms.write.domain.VariableDbModel.VariableDbModelBuilder;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.UpsertMerger;
+import java.util.function.Function;
 
 public class VariableWriter {
 
@@ -30,11 +33,24 @@ public class VariableWriter {
   }
 
   public void update(final VariableDbModel variable) {
-    executionQueue.executeInQueue(
-        new QueueItem(
-            ContextType.VARIABLE,
-            variable.variableKey(),
-            "io.camunda.db.rdbms.sql.VariableMapper.update",
-            variable));
+    // an update carries the complete variable, so it can be folded into a queued insert or update
+    final var value = variable.isPreview() ? variable.fullValue() : variable.value();
+    final boolean wasMerged = mergeToQueue(variable.variableKey(), b -> b.value(value));
+
+    if (!wasMerged) {
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.VARIABLE,
+              variable.variableKey(),
+              "io.camunda.db.rdbms.sql.VariableMapper.update",
+              variable));
+    }
+  }
+
+  private boolean mergeToQueue(
+      final long key,
+      final Function<VariableDbModelBuilder, VariableDbModelBuilder> mergeFunction) {
+    return executionQueue.tryMergeWithExistingQueueItem(
+        new UpsertMerger<>(ContextType.VARIABLE, key, VariableDbModel.class, mergeFunction));
   }
 }
@@ -9,12 +9,19 @@ package io.camunda.db.rdbms.write.queue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -25,8 +32,18 @@ import org.mockito.Mockito;
 
 class DefaultExecutionQueueTest {
 
+  private static final String FLOW_NODE_INSERT =
+      "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insert";
+  private static final String FLOW_NODE_INSERT_BATCH =
+      "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insertBatch";
+  private static final String VARIABLE_INSERT = "io.camunda.db.rdbms.sql.VariableMapper.insert";
+  private static final String VARIABLE_INSERT_BATCH =
+      "io.camunda.db.rdbms.sql.VariableMapper.insertBatch";
+
   private SqlSession session;
   private SqlSessionFactory sqlSessionFactory;
+  private Configuration configuration;
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   private DefaultExecutionQueue executionQueue;
 
@@ -37,8 +54,11 @@ class DefaultExecutionQueueTest {
     when(sqlSessionFactory.openSession(
             ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED))
         .thenReturn(session);
+    configuration = mock(Configuration.class);
+    when(sqlSessionFactory.getConfiguration()).thenReturn(configuration);
+    when(configuration.hasStatement(anyString())).thenReturn(true);
 
-    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 5);
+    executionQueue = createExecutionQueue(5, 3);
   }
 
   @Test
@@ -50,7 +70,7 @@ class DefaultExecutionQueueTest {
 
   @Test
   public void whenElementIsAddedNoFlushHappens() {
-    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0);
+    executionQueue = createExecutionQueue(0, 3);
 
     executionQueue.executeInQueue(mock(QueueItem.class));
 
@@ -197,4 +217,102 @@ class DefaultExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(0)).isSameAs(item1);
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
+
+  @Test
+  public void whenFlushIsCalledConsecutiveInsertsShouldBeCombined() {
+    final var item1 = new QueueItem(ContextType.FLOW_NODE, 1L, FLOW_NODE_INSERT, "flowNode1");
+    final var item2 = new QueueItem(ContextType.VARIABLE, 2L, VARIABLE_INSERT, "variable2");
+    final var item3 = new QueueItem(ContextType.FLOW_NODE, 3L, FLOW_NODE_INSERT, "flowNode3");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    executionQueue.executeInQueue(item3);
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(3);
+    verify(session)
+        .update(FLOW_NODE_INSERT_BATCH, new BatchInsertDto(List.of("flowNode1", "flowNode3")));
+    verify(session).update(VARIABLE_INSERT, "variable2");
+    verify(session, never()).update(eq(FLOW_NODE_INSERT), any());
+    assertThat(executionQueue.getQueue()).isEmpty();
+  }
+
+  @Test
+  public void whenFlushIsCalledInsertsShouldNotBeCombinedAcrossOtherStatements() {
+    final var insert1 = new QueueItem(ContextType.FLOW_NODE, 1L, FLOW_NODE_INSERT, "flowNode1");
+    final var update1 = new QueueItem(ContextType.FLOW_NODE, 1L, "flowNodeUpdate", "update1");
+    final var insert2 = new QueueItem(ContextType.FLOW_NODE, 2L, FLOW_NODE_INSERT, "flowNode2");
+    executionQueue.executeInQueue(insert1);
+    executionQueue.executeInQueue(update1);
+    executionQueue.executeInQueue(insert2);
+
+    // when
+    executionQueue.flush();
+
+    // then
+    final var inOrder = Mockito.inOrder(session);
+    inOrder.verify(session).update(FLOW_NODE_INSERT, "flowNode1");
+    inOrder.verify(session).update("flowNodeUpdate", "update1");
+    inOrder.verify(session).update(FLOW_NODE_INSERT, "flowNode2");
+  }
+
+  @Test
+  public void whenFlushIsCalledInsertsShouldBeCombinedUpToMaxBatchSize() {
+    executionQueue = createExecutionQueue(0, 2);
+    for (long key = 1; key <= 3; key++) {
+      executionQueue.executeInQueue(
+          new QueueItem(ContextType.FLOW_NODE, key, FLOW_NODE_INSERT, "flowNode" + key));
+    }
+
+    // when
+    executionQueue.flush();
+
+    // then
+    verify(session)
+        .update(FLOW_NODE_INSERT_BATCH, new BatchInsertDto(List.of("flowNode1", "flowNode2")));
+    verify(session).update(FLOW_NODE_INSERT, "flowNode3");
+  }
+
+  @Test
+  public void whenNoBatchStatementExistsInsertsShouldNotBeCombined() {
+    when(configuration.hasStatement(FLOW_NODE_INSERT_BATCH)).thenReturn(false);
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.FLOW_NODE, 1L, FLOW_NODE_INSERT, "flowNode1"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.FLOW_NODE, 2L, FLOW_NODE_INSERT, "flowNode2"));
+
+    // when
+    executionQueue.flush();
+
+    // then
+    verify(session).update(FLOW_NODE_INSERT, "flowNode1");
+    verify(session).update(FLOW_NODE_INSERT, "flowNode2");
+  }
+
+  @Test
+  public void whenFlushIsCalledMetricsShouldBeRecorded() {
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.FLOW_NODE, 1L, FLOW_NODE_INSERT, "flowNode1"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.FLOW_NODE, 2L, FLOW_NODE_INSERT, "flowNode2"));
+
+    // when
+    executionQueue.flush();
+
+    // then
+    assertThat(meterRegistry.get("zeebe.rdbms.exporter.flush.queue.items").summary().totalAmount())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get("zeebe.rdbms.exporter.flush.statements").summary().totalAmount())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("zeebe.rdbms.exporter.flush.duration.seconds").timer().count())
+        .isEqualTo(1);
+  }
+
+  private DefaultExecutionQueue createExecutionQueue(
+      final int queueFlushLimit, final int maxBatchSize) {
+    return new DefaultExecutionQueue(
+        sqlSessionFactory, 1, queueFlushLimit, maxBatchSize, new RdbmsWriterMetrics(meterRegistry));
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.db.rdbms.write.domain.VariableDbModel;
+import io.camunda.db.rdbms.write.domain.VariableDbModel.VariableDbModelBuilder;
+import io.camunda.db.rdbms.write.queue.ContextType;
+import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
+import io.camunda.db.rdbms.write.queue.ExecutionQueue;
+import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.UpsertMerger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class VariableWriterTest {
+
+  private ExecutionQueue executionQueue;
+  private VariableWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    executionQueue = mock(DefaultExecutionQueue.class);
+    writer = new VariableWriter(executionQueue);
+  }
+
+  @Test
+  void whenUpdateCanBeMergedWithInsertNoItemShouldBeEnqueued() {
+    when(executionQueue.tryMergeWithExistingQueueItem(any(UpsertMerger.class))).thenReturn(true);
+
+    writer.update(variable("\"updated\""));
+
+    verify(executionQueue, never()).executeInQueue(any(QueueItem.class));
+  }
+
+  @Test
+  void whenUpdateIsMergedWithInsertTheInsertShouldContainTheNewValue() {
+    final var mergerCaptor = ArgumentCaptor.forClass(UpsertMerger.class);
+    when(executionQueue.tryMergeWithExistingQueueItem(mergerCaptor.capture())).thenReturn(true);
+    final var insert =
+        new QueueItem(
+            ContextType.VARIABLE,
+            1L,
+            "io.camunda.db.rdbms.sql.VariableMapper.insert",
+            variable("\"created\""));
+
+    writer.update(variable("42"));
+
+    final var merger = mergerCaptor.getValue();
+    assertThat(merger.canBeMerged(insert)).isTrue();
+    assertThat(merger.merge(insert).parameter()).isEqualTo(variable("42"));
+    assertThat(merger.merge(insert).statementId())
+        .isEqualTo("io.camunda.db.rdbms.sql.VariableMapper.insert");
+  }
+
+  @Test
+  void whenUpdateCannotBeMergedItemShouldBeEnqueued() {
+    when(executionQueue.tryMergeWithExistingQueueItem(any(UpsertMerger.class))).thenReturn(false);
+    final var variable = variable("\"updated\"");
+
+    writer.update(variable);
+
+    verify(executionQueue)
+        .executeInQueue(
+            eq(
+                new QueueItem(
+                    ContextType.VARIABLE,
+                    1L,
+                    "io.camunda.db.rdbms.sql.VariableMapper.update",
+                    variable)));
+  }
+
+  private static VariableDbModel variable(final String value) {
+    return new VariableDbModelBuilder()
+        .variableKey(1L)
+        .name("var")
+        .value(value)
+        .scopeKey(2L)
+        .processInstanceKey(2L)
+        .processDefinitionId("process")
+        .tenantId("<default>")
+        .build();
+  }
+}
@@ -11,6 +11,8 @@ import io.atomix.cluster.AtomixCluster;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.impl.BrokerClientImpl;
+import io.camunda.zeebe.broker.client.impl.BrokerRequestCoalescingConfig;
+import io.camunda.zeebe.gateway.impl.configuration.RequestCoalescingCfg;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.time.Duration;
@@ -43,6 +45,7 @@ public final class BrokerClientConfiguration {
     final var brokerClient =
         new BrokerClientImpl(
             config.requestTimeout(),
+            config.requestCoalescing(),
             cluster.getMessagingService(),
             cluster.getEventService(),
             scheduler,
@@ -51,5 +54,17 @@ public final class BrokerClientConfiguration {
     return brokerClient;
   }
 
-  public static record BrokerClientTimeoutConfiguration(Duration requestTimeout) {}
+  public static record BrokerClientTimeoutConfiguration(
+      Duration requestTimeout, BrokerRequestCoalescingConfig requestCoalescing) {
+
+    public BrokerClientTimeoutConfiguration(
+        final Duration requestTimeout, final RequestCoalescingCfg requestCoalescing) {
+      this(
+          requestTimeout,
+          new BrokerRequestCoalescingConfig(
+              requestCoalescing.isEnabled(),
+              requestCoalescing.getWindow(),
+              requestCoalescing.getMaxRequests()));
+    }
+  }
 }
@@ -62,8 +62,9 @@ public class BrokerBasedConfiguration {
 
   @Bean
   public BrokerClientTimeoutConfiguration brokerClientConfig() {
+    final var clusterCfg = properties.getGateway().getCluster();
     return new BrokerClientTimeoutConfiguration(
-        properties.getGateway().getCluster().getRequestTimeout());
+        clusterCfg.getRequestTimeout(), clusterCfg.getRequestCoalescing());
   }
 
   @Bean
@@ -83,7 +83,9 @@ public final class GatewayBasedConfiguration {
 
   @Bean
   public BrokerClientTimeoutConfiguration brokerClientConfig() {
-    return new BrokerClientTimeoutConfiguration(properties.getCluster().getRequestTimeout());
+    final var clusterCfg = properties.getCluster();
+    return new BrokerClientTimeoutConfiguration(
+        clusterCfg.getRequestTimeout(), clusterCfg.getRequestCoalescing());
   }
 
   @Bean
@@ -12,6 +12,7 @@ import io.camunda.zeebe.gateway.impl.configuration.LongPollingCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
 import io.camunda.zeebe.gateway.rest.ConditionalOnRestGatewayEnabled;
 import io.camunda.zeebe.gateway.rest.ResponseMapper;
@@ -70,7 +71,9 @@ public class JobHandlerConfiguration {
           brokerClient,
           config.maxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          RuntimeException::new);
+          RuntimeException::new,
+          config.longPolling().getActivationFanOut(),
+          new LongPollingMetrics());
     }
   }
 
@@ -82,6 +85,7 @@ public class JobHandlerConfiguration {
         .setLongPollingTimeout(config.longPolling().getTimeout())
         .setProbeTimeoutMillis(config.longPolling().getProbeTimeout())
         .setMinEmptyResponses(config.longPolling().getMinEmptyResponses())
+        .setActivationFanOut(config.longPolling().getActivationFanOut())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(RuntimeException::new)
         .setRequestCanceledExceptionProvider(RuntimeException::new)
@@ -9,4 +9,13 @@ package io.camunda.document.api;
 
 import java.io.InputStream;
 
-public record DocumentContent(InputStream inputStream, String contentType) {}
+/**
+ * @param size the size of the content in bytes, or null if the store doesn't know it upfront; range
+ *     requests can only be served if it is known
+ */
+public record DocumentContent(InputStream inputStream, String contentType, Long size) {
+
+  public DocumentContent(final InputStream inputStream, final String contentType) {
+    this(inputStream, contentType, null);
+  }
+}
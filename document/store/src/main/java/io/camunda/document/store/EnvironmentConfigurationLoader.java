@@ -24,6 +24,8 @@ import java.util.regex.Pattern;
  * DOCUMENT_STORE_GCP_CLASS=io.camunda.document.store.gcp.GcpDocumentStoreProvider
  * DOCUMENT_STORE_GCP_BUCKET=my-bucket
  * DOCUMENT_STORE_INMEMORY_CLASS=io.camunda.document.store.inmemory.InMemoryDocumentStoreProvider
+ * DOCUMENT_STORE_LOCAL_CLASS=io.camunda.document.store.filesystem.FileSystemDocumentStoreProvider
+ * DOCUMENT_STORE_LOCAL_PATH=/usr/local/camunda/documents
  */
 public class EnvironmentConfigurationLoader implements DocumentStoreConfigurationLoader {
 
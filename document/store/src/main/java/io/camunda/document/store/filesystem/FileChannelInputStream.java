@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.document.store.filesystem;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Reads a document's content from a {@link FileChannel}. Skipping only moves the channel position,
+ * and {@link #transferTo(OutputStream)} uses {@link FileChannel#transferTo(long, long,
+ * WritableByteChannel)}, so the content is not copied through the heap when the target supports it.
+ */
+final class FileChannelInputStream extends InputStream {
+
+  private final FileChannel channel;
+  private final ByteBuffer singleByte = ByteBuffer.allocate(1);
+
+  FileChannelInputStream(final FileChannel channel) {
+    this.channel = channel;
+  }
+
+  @Override
+  public int read() throws IOException {
+    singleByte.clear();
+    final int read = channel.read(singleByte);
+    return read <= 0 ? -1 : singleByte.get(0) & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    return channel.read(ByteBuffer.wrap(bytes, offset, length));
+  }
+
+  @Override
+  public long skip(final long count) throws IOException {
+    if (count <= 0) {
+      return 0;
+    }
+
+    final long position = channel.position();
+    final long newPosition = Math.min(channel.size(), position + count);
+    channel.position(newPosition);
+    return newPosition - position;
+  }
+
+  @Override
+  public int available() throws IOException {
+    return (int) Math.min(Integer.MAX_VALUE, channel.size() - channel.position());
+  }
+
+  @Override
+  public long transferTo(final OutputStream out) throws IOException {
+    final WritableByteChannel target =
+        out instanceof final FileOutputStream fileOut
+            ? fileOut.getChannel()
+            : Channels.newChannel(out);
+    final long size = channel.size();
+    final long start = channel.position();
+
+    long position = start;
+    while (position < size) {
+      final long transferred = channel.transferTo(position, size - position, target);
+      if (transferred <= 0) {
+        break;
+      }
+      position += transferred;
+    }
+
+    channel.position(position);
+    return position - start;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
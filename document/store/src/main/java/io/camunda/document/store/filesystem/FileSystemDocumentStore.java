@@ -0,0 +1,406 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.document.store.filesystem;
+
+import io.camunda.document.api.DocumentContent;
+import io.camunda.document.api.DocumentCreationRequest;
+import io.camunda.document.api.DocumentError;
+import io.camunda.document.api.DocumentError.DocumentAlreadyExists;
+import io.camunda.document.api.DocumentError.DocumentHashMismatch;
+import io.camunda.document.api.DocumentError.DocumentNotFound;
+import io.camunda.document.api.DocumentError.InvalidInput;
+import io.camunda.document.api.DocumentError.OperationNotSupported;
+import io.camunda.document.api.DocumentError.UnknownDocumentError;
+import io.camunda.document.api.DocumentLink;
+import io.camunda.document.api.DocumentMetadataModel;
+import io.camunda.document.api.DocumentReference;
+import io.camunda.document.api.DocumentStore;
+import io.camunda.zeebe.util.Either;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DocumentStore} which keeps each document in its own directory below a root directory on
+ * the local file system, next to a small metadata file. Uploads are streamed to disk while the
+ * content hash is computed, so the content is never held in memory, and are published with an
+ * atomic rename so that readers never observe partially written documents. Expired documents are
+ * deleted lazily when accessed, and periodically by a background task.
+ *
+ * <p>The store is not multi-instance safe unless all instances share the same root directory on a
+ * file system which supports atomic renames.
+ */
+public class FileSystemDocumentStore implements DocumentStore, AutoCloseable {
+
+  static final String CONTENT_FILE = "content";
+  static final String METADATA_FILE = "metadata.properties";
+
+  private static final Logger LOG = LoggerFactory.getLogger(FileSystemDocumentStore.class);
+
+  private static final String UPLOAD_PREFIX = ".upload-";
+  private static final String DELETED_PREFIX = ".deleted-";
+  private static final Pattern VALID_DOCUMENT_ID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+  private static final String CONTENT_TYPE_METADATA_KEY = "contentType";
+  private static final String FILENAME_METADATA_KEY = "fileName";
+  private static final String EXPIRES_AT_METADATA_KEY = "expiresAt";
+  private static final String SIZE_METADATA_KEY = "size";
+  private static final String CONTENT_HASH_METADATA_KEY = "contentHash";
+  private static final String PROCESS_DEFINITION_ID_METADATA_KEY = "processDefinitionId";
+  private static final String PROCESS_INSTANCE_KEY_METADATA_KEY = "processInstanceKey";
+  private static final String CUSTOM_PROPERTY_PREFIX = "custom.";
+
+  private final Path root;
+  private final ExecutorService executor;
+  private final InstantSource clock;
+  private final ScheduledExecutorService expiryScheduler;
+
+  public FileSystemDocumentStore(
+      final Path root, final Duration expiryCheckInterval, final ExecutorService executor) {
+    this(root, expiryCheckInterval, executor, InstantSource.system());
+  }
+
+  FileSystemDocumentStore(
+      final Path root,
+      final Duration expiryCheckInterval,
+      final ExecutorService executor,
+      final InstantSource clock) {
+    this.root = root;
+    this.executor = executor;
+    this.clock = clock;
+
+    try {
+      Files.createDirectories(root);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to create document store directory " + root, e);
+    }
+    // no upload or deletion can be in progress yet, so anything left over is from a previous run
+    deleteLeftovers(UPLOAD_PREFIX);
+
+    expiryScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "document-store-expiry");
+              thread.setDaemon(true);
+              return thread;
+            });
+    expiryScheduler.scheduleWithFixedDelay(
+        this::deleteExpiredDocuments,
+        expiryCheckInterval.toMillis(),
+        expiryCheckInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public CompletableFuture<Either<DocumentError, DocumentReference>> createDocument(
+      final DocumentCreationRequest request) {
+    return CompletableFuture.supplyAsync(() -> createDocumentInternal(request), executor);
+  }
+
+  @Override
+  public CompletableFuture<Either<DocumentError, DocumentContent>> getDocument(
+      final String documentId) {
+    return CompletableFuture.supplyAsync(() -> getDocumentInternal(documentId), executor);
+  }
+
+  @Override
+  public CompletableFuture<Either<DocumentError, Void>> deleteDocument(final String documentId) {
+    return CompletableFuture.supplyAsync(() -> deleteDocumentInternal(documentId), executor);
+  }
+
+  @Override
+  public CompletableFuture<Either<DocumentError, DocumentLink>> createLink(
+      final String documentId, final long durationInMillis) {
+    return CompletableFuture.completedFuture(
+        Either.left(
+            new OperationNotSupported(
+                "The file system document store does not support creating links")));
+  }
+
+  @Override
+  public CompletableFuture<Either<DocumentError, Void>> verifyContentHash(
+      final String documentId, final String contentHash) {
+    return CompletableFuture.supplyAsync(
+        () -> verifyContentHashInternal(documentId, contentHash), executor);
+  }
+
+  @Override
+  public void close() {
+    expiryScheduler.shutdownNow();
+  }
+
+  private Either<DocumentError, DocumentReference> createDocumentInternal(
+      final DocumentCreationRequest request) {
+    final String documentId =
+        Objects.requireNonNullElse(request.documentId(), UUID.randomUUID().toString());
+    if (!isValidDocumentId(documentId)) {
+      return Either.left(
+          new InvalidInput(
+              "Document id '"
+                  + documentId
+                  + "' must only contain letters, digits, '.', '_' and '-', and must start with a letter or digit"));
+    }
+
+    final Path documentDirectory = root.resolve(documentId);
+    if (Files.exists(documentDirectory)) {
+      return Either.left(new DocumentAlreadyExists(documentId));
+    }
+
+    Path uploadDirectory = null;
+    try {
+      uploadDirectory = Files.createTempDirectory(root, UPLOAD_PREFIX);
+
+      final MessageDigest md = MessageDigest.getInstance(MessageDigestAlgorithms.SHA_256);
+      final long size;
+      try (final InputStream content = new DigestInputStream(request.contentInputStream(), md)) {
+        size = Files.copy(content, uploadDirectory.resolve(CONTENT_FILE));
+      }
+      final String contentHash = HexFormat.of().formatHex(md.digest());
+
+      final var metadata = resolveMetadata(request.metadata(), documentId, size);
+      writeMetadata(uploadDirectory.resolve(METADATA_FILE), metadata, contentHash);
+
+      Files.move(uploadDirectory, documentDirectory, StandardCopyOption.ATOMIC_MOVE);
+      return Either.right(new DocumentReference(documentId, contentHash, metadata));
+    } catch (final FileAlreadyExistsException | DirectoryNotEmptyException e) {
+      return Either.left(new DocumentAlreadyExists(documentId));
+    } catch (final Exception e) {
+      return Either.left(new UnknownDocumentError(e));
+    } finally {
+      if (uploadDirectory != null) {
+        deleteQuietly(uploadDirectory);
+      }
+    }
+  }
+
+  private Either<DocumentError, DocumentContent> getDocumentInternal(final String documentId) {
+    if (!isValidDocumentId(documentId)) {
+      return Either.left(new DocumentNotFound(documentId));
+    }
+
+    final Path documentDirectory = root.resolve(documentId);
+    try {
+      final Properties metadata = readMetadata(documentDirectory);
+      if (isExpired(metadata)) {
+        deleteDocumentDirectory(documentDirectory);
+        return Either.left(new DocumentNotFound(documentId));
+      }
+
+      final FileChannel channel =
+          FileChannel.open(documentDirectory.resolve(CONTENT_FILE), StandardOpenOption.READ);
+      return Either.right(
+          new DocumentContent(
+              new FileChannelInputStream(channel),
+              metadata.getProperty(CONTENT_TYPE_METADATA_KEY),
+              channel.size()));
+    } catch (final NoSuchFileException e) {
+      return Either.left(new DocumentNotFound(documentId));
+    } catch (final Exception e) {
+      return Either.left(new UnknownDocumentError(e));
+    }
+  }
+
+  private Either<DocumentError, Void> deleteDocumentInternal(final String documentId) {
+    if (!isValidDocumentId(documentId)) {
+      return Either.left(new DocumentNotFound(documentId));
+    }
+
+    try {
+      deleteDocumentDirectory(root.resolve(documentId));
+      return Either.right(null);
+    } catch (final NoSuchFileException e) {
+      return Either.left(new DocumentNotFound(documentId));
+    } catch (final Exception e) {
+      return Either.left(new UnknownDocumentError(e));
+    }
+  }
+
+  private Either<DocumentError, Void> verifyContentHashInternal(
+      final String documentId, final String contentHashToVerify) {
+    if (!isValidDocumentId(documentId)) {
+      return Either.left(new DocumentNotFound(documentId));
+    }
+
+    try {
+      final Properties metadata = readMetadata(root.resolve(documentId));
+      final String contentHash = metadata.getProperty(CONTENT_HASH_METADATA_KEY);
+      if (contentHash == null) {
+        return Either.left(new InvalidInput("No content hash found for document"));
+      }
+      if (!contentHash.equals(contentHashToVerify)) {
+        return Either.left(new DocumentHashMismatch(documentId, contentHashToVerify));
+      }
+      return Either.right(null);
+    } catch (final NoSuchFileException e) {
+      return Either.left(new DocumentNotFound(documentId));
+    } catch (final Exception e) {
+      return Either.left(new UnknownDocumentError(e));
+    }
+  }
+
+  /** Deletes all documents whose expiry date has passed. Runs periodically in the background. */
+  void deleteExpiredDocuments() {
+    try (final DirectoryStream<Path> documents = Files.newDirectoryStream(root)) {
+      for (final Path documentDirectory : documents) {
+        if (documentDirectory.getFileName().toString().startsWith(".")) {
+          continue;
+        }
+
+        try {
+          if (isExpired(readMetadata(documentDirectory))) {
+            deleteDocumentDirectory(documentDirectory);
+          }
+        } catch (final NoSuchFileException e) {
+          // deleted concurrently, nothing to do
+        } catch (final Exception e) {
+          LOG.warn("Failed to delete expired document {}", documentDirectory, e);
+        }
+      }
+    } catch (final Exception e) {
+      LOG.warn("Failed to delete expired documents in {}", root, e);
+    }
+
+    deleteLeftovers(DELETED_PREFIX);
+  }
+
+  private boolean isExpired(final Properties metadata) {
+    final String expiresAt = metadata.getProperty(EXPIRES_AT_METADATA_KEY);
+    return expiresAt != null
+        && OffsetDateTime.parse(expiresAt).toInstant().isBefore(clock.instant());
+  }
+
+  /**
+   * Renames the document directory out of the way first, so the document disappears atomically for
+   * readers, even if deleting its files takes a while or fails halfway through.
+   */
+  private void deleteDocumentDirectory(final Path documentDirectory) throws IOException {
+    final Path deletedDirectory = root.resolve(DELETED_PREFIX + UUID.randomUUID());
+    Files.move(documentDirectory, deletedDirectory, StandardCopyOption.ATOMIC_MOVE);
+    deleteQuietly(deletedDirectory);
+  }
+
+  private void deleteLeftovers(final String prefix) {
+    try (final DirectoryStream<Path> leftovers = Files.newDirectoryStream(root, prefix + "*")) {
+      leftovers.forEach(FileSystemDocumentStore::deleteQuietly);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete leftover directories in {}", root, e);
+    }
+  }
+
+  private static void deleteQuietly(final Path directory) {
+    if (!Files.exists(directory)) {
+      return;
+    }
+
+    try (final Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(FileSystemDocumentStore::deleteFileQuietly);
+    } catch (final IOException | UncheckedIOException e) {
+      LOG.warn("Failed to delete directory {}", directory, e);
+    }
+  }
+
+  private static void deleteFileQuietly(final Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete {}", path, e);
+    }
+  }
+
+  private static boolean isValidDocumentId(final String documentId) {
+    return documentId != null && VALID_DOCUMENT_ID.matcher(documentId).matches();
+  }
+
+  private static DocumentMetadataModel resolveMetadata(
+      final DocumentMetadataModel metadata, final String documentId, final long size) {
+    if (metadata == null) {
+      return new DocumentMetadataModel(null, documentId, null, size, null, null, Map.of());
+    }
+
+    return new DocumentMetadataModel(
+        metadata.contentType(),
+        metadata.fileName() != null ? metadata.fileName() : documentId,
+        metadata.expiresAt(),
+        size,
+        metadata.processDefinitionId(),
+        metadata.processInstanceKey(),
+        metadata.customProperties());
+  }
+
+  private static void writeMetadata(
+      final Path file, final DocumentMetadataModel metadata, final String contentHash)
+      throws IOException {
+    final Properties properties = new Properties();
+    putIfPresent(properties, CONTENT_TYPE_METADATA_KEY, metadata.contentType());
+    putIfPresent(properties, FILENAME_METADATA_KEY, metadata.fileName());
+    putIfPresent(properties, EXPIRES_AT_METADATA_KEY, metadata.expiresAt());
+    putIfPresent(properties, SIZE_METADATA_KEY, metadata.size());
+    putIfPresent(properties, PROCESS_DEFINITION_ID_METADATA_KEY, metadata.processDefinitionId());
+    putIfPresent(properties, PROCESS_INSTANCE_KEY_METADATA_KEY, metadata.processInstanceKey());
+    properties.setProperty(CONTENT_HASH_METADATA_KEY, contentHash);
+
+    if (metadata.customProperties() != null) {
+      metadata
+          .customProperties()
+          .forEach((key, value) -> putIfPresent(properties, CUSTOM_PROPERTY_PREFIX + key, value));
+    }
+
+    try (final Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      properties.store(writer, null);
+    }
+  }
+
+  private static Properties readMetadata(final Path documentDirectory) throws IOException {
+    final Properties properties = new Properties();
+    try (final Reader reader =
+        Files.newBufferedReader(documentDirectory.resolve(METADATA_FILE), StandardCharsets.UTF_8)) {
+      properties.load(reader);
+    }
+    return properties;
+  }
+
+  private static void putIfPresent(
+      final Properties properties, final String key, final Object value) {
+    if (value != null) {
+      properties.setProperty(key, value.toString());
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.document.store.filesystem;
+
+import io.camunda.document.api.DocumentStore;
+import io.camunda.document.api.DocumentStoreConfiguration.DocumentStoreConfigurationRecord;
+import io.camunda.document.api.DocumentStoreProvider;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+public class FileSystemDocumentStoreProvider implements DocumentStoreProvider {
+
+  private static final String PATH_PROPERTY = "PATH";
+  private static final String EXPIRY_CHECK_INTERVAL_PROPERTY = "EXPIRY_CHECK_INTERVAL";
+
+  private static final Duration DEFAULT_EXPIRY_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+  @Override
+  public DocumentStore createDocumentStore(
+      final DocumentStoreConfigurationRecord configuration, final ExecutorService executorService) {
+    final String path =
+        Optional.ofNullable(configuration.properties().get(PATH_PROPERTY))
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "Failed to configure document store with id '"
+                            + configuration.id()
+                            + "': missing required property '"
+                            + PATH_PROPERTY
+                            + "'"));
+
+    return new FileSystemDocumentStore(
+        Path.of(path), getExpiryCheckInterval(configuration), executorService);
+  }
+
+  private static Duration getExpiryCheckInterval(
+      final DocumentStoreConfigurationRecord configuration) {
+    final String interval = configuration.properties().get(EXPIRY_CHECK_INTERVAL_PROPERTY);
+    if (interval == null) {
+      return DEFAULT_EXPIRY_CHECK_INTERVAL;
+    }
+
+    try {
+      final Duration expiryCheckInterval = Duration.parse(interval);
+      if (expiryCheckInterval.isNegative() || expiryCheckInterval.isZero()) {
+        throw new IllegalArgumentException(
+            "Failed to configure document store with id '"
+                + configuration.id()
+                + "': property '"
+                + EXPIRY_CHECK_INTERVAL_PROPERTY
+                + "' must be positive");
+      }
+      return expiryCheckInterval;
+    } catch (final DateTimeParseException e) {
+      throw new IllegalArgumentException(
+          "Failed to configure document store with id '"
+              + configuration.id()
+              + "': property '"
+              + EXPIRY_CHECK_INTERVAL_PROPERTY
+              + "' must be an ISO-8601 duration, e.g. PT1M");
+    }
+  }
+}
@@ -99,7 +99,8 @@ public class InMemoryDocumentStore implements DocumentStore {
     }
     final var stream = new ByteArrayInputStream(content.content);
     return CompletableFuture.completedFuture(
-        Either.right(new DocumentContent(stream, content.contentType)));
+        Either.right(
+            new DocumentContent(stream, content.contentType, (long) content.content.length)));
   }
 
   @Override
@@ -0,0 +1,297 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.document.store.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.document.api.DocumentContent;
+import io.camunda.document.api.DocumentCreationRequest;
+import io.camunda.document.api.DocumentError;
+import io.camunda.document.api.DocumentMetadataModel;
+import io.camunda.document.api.DocumentReference;
+import io.camunda.zeebe.util.Either;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileSystemDocumentStoreTest {
+
+  private static final Instant NOW = Instant.parse("2024-10-01T12:00:00Z");
+
+  @TempDir private Path root;
+
+  private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+  private ExecutorService executor;
+  private FileSystemDocumentStore store;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newSingleThreadExecutor();
+    store = new FileSystemDocumentStore(root, Duration.ofHours(1), executor, now::get);
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.close();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void createDocumentShouldStoreContentAndMetadata() throws Exception {
+    // given
+    final var content = "content".getBytes(StandardCharsets.UTF_8);
+    final var metadata =
+        new DocumentMetadataModel(
+            "application/json", "hello.json", null, null, "process", 123L, Map.of("key", "value"));
+
+    // when
+    final var result =
+        store
+            .createDocument(
+                new DocumentCreationRequest("key", new ByteArrayInputStream(content), metadata))
+            .join();
+
+    // then
+    assertThat(result).isInstanceOf(Either.Right.class);
+    final var reference = ((Either.Right<DocumentError, DocumentReference>) result).value();
+    assertThat(reference.documentId()).isEqualTo("key");
+    assertThat(reference.contentHash()).isEqualTo(sha256(content));
+    assertThat(reference.metadata().size()).isEqualTo(content.length);
+    assertThat(reference.metadata().fileName()).isEqualTo("hello.json");
+    assertThat(
+            Files.readAllBytes(root.resolve("key").resolve(FileSystemDocumentStore.CONTENT_FILE)))
+        .isEqualTo(content);
+  }
+
+  @Test
+  public void createDocumentKeyExistsShouldFail() {
+    // given
+    createDocument("key", "content", null);
+
+    // when
+    final var result =
+        store
+            .createDocument(
+                new DocumentCreationRequest(
+                    "key", new ByteArrayInputStream("other".getBytes()), metadata(null)))
+            .join();
+
+    // then
+    assertThat(result).isInstanceOf(Either.Left.class);
+    assertThat(((Either.Left<DocumentError, DocumentReference>) result).value())
+        .isInstanceOf(DocumentError.DocumentAlreadyExists.class);
+  }
+
+  @Test
+  public void createDocumentWithInvalidIdShouldFail() {
+    // when
+    final var result =
+        store
+            .createDocument(
+                new DocumentCreationRequest(
+                    "../escape", new ByteArrayInputStream("content".getBytes()), metadata(null)))
+            .join();
+
+    // then
+    assertThat(result).isInstanceOf(Either.Left.class);
+    assertThat(((Either.Left<DocumentError, DocumentReference>) result).value())
+        .isInstanceOf(DocumentError.InvalidInput.class);
+    assertThat(root.getParent().resolve("escape")).doesNotExist();
+  }
+
+  @Test
+  public void createDocumentShouldNotLeaveUploadBehindOnFailure() throws IOException {
+    // given
+    final InputStream failingContent =
+        new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("connection reset");
+          }
+        };
+
+    // when
+    final var result =
+        store
+            .createDocument(new DocumentCreationRequest("key", failingContent, metadata(null)))
+            .join();
+
+    // then
+    assertThat(result).isInstanceOf(Either.Left.class);
+    try (final Stream<Path> files = Files.list(root)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  public void getDocumentShouldReturnContentAndSize() throws IOException {
+    // given
+    createDocument("key", "content", null);
+
+    // when
+    final var result = store.getDocument("key").join();
+
+    // then
+    assertThat(result).isInstanceOf(Either.Right.class);
+    final var documentContent = ((Either.Right<DocumentError, DocumentContent>) result).value();
+    assertThat(documentContent.contentType()).isEqualTo("text/plain");
+    assertThat(documentContent.size()).isEqualTo(7L);
+    try (final var stream = documentContent.inputStream()) {
+      assertThat(new String(stream.readAllBytes())).isEqualTo("content");
+    }
+  }
+
+  @Test
+  public void getDocumentShouldSupportSkippingAndTransferring() throws IOException {
+    // given
+    createDocument("key", "0123456789", null);
+    final var documentContent =
+        ((Either.Right<DocumentError, DocumentContent>) store.getDocument("key").join()).value();
+
+    // when
+    final var out = new ByteArrayOutputStream();
+    try (final var stream = documentContent.inputStream()) {
+      stream.skipNBytes(4);
+      assertThat(stream.read()).isEqualTo('4');
+      stream.transferTo(out);
+    }
+
+    // then
+    assertThat(out.toString()).isEqualTo("56789");
+  }
+
+  @Test
+  public void getDocumentShouldFailIfDocumentDoesNotExist() {
+    // when
+    final var result = store.getDocument("non-existing").join();
+
+    // then
+    assertThat(result).isInstanceOf(Either.Left.class);
+    assertThat(((Either.Left<DocumentError, DocumentContent>) result).value())
+        .isInstanceOf(DocumentError.DocumentNotFound.class);
+  }
+
+  @Test
+  public void getDocumentShouldFailAndDeleteIfDocumentExpired() {
+    // given
+    createDocument("key", "content", OffsetDateTime.ofInstant(NOW.plusSeconds(60), ZoneOffset.UTC));
+    now.set(NOW.plusSeconds(61));
+
+    // when
+    final var result = store.getDocument("key").join();
+
+    // then
+    assertThat(result).isInstanceOf(Either.Left.class);
+    assertThat(((Either.Left<DocumentError, DocumentContent>) result).value())
+        .isInstanceOf(DocumentError.DocumentNotFound.class);
+    assertThat(root.resolve("key")).doesNotExist();
+  }
+
+  @Test
+  public void shouldDeleteExpiredDocumentsInBackground() {
+    // given
+    createDocument(
+        "expired", "content", OffsetDateTime.ofInstant(NOW.plusSeconds(60), ZoneOffset.UTC));
+    createDocument(
+        "valid", "content", OffsetDateTime.ofInstant(NOW.plusSeconds(120), ZoneOffset.UTC));
+    createDocument("unbounded", "content", null);
+    now.set(NOW.plusSeconds(61));
+
+    // when
+    store.deleteExpiredDocuments();
+
+    // then
+    assertThat(root.resolve("expired")).doesNotExist();
+    assertThat(root.resolve("valid")).exists();
+    assertThat(root.resolve("unbounded")).exists();
+  }
+
+  @Test
+  public void deleteDocumentShouldSucceedOnlyIfDocumentExists() {
+    // given
+    createDocument("key", "content", null);
+
+    // when
+    final var result = store.deleteDocument("key").join();
+    final var result2 = store.deleteDocument("key").join();
+
+    // then
+    assertThat(result).isInstanceOf(Either.Right.class);
+    assertThat(result2).isInstanceOf(Either.Left.class);
+    assertThat(((Either.Left<DocumentError, Void>) result2).value())
+        .isInstanceOf(DocumentError.DocumentNotFound.class);
+    assertThat(root.resolve("key")).doesNotExist();
+  }
+
+  @Test
+  public void verifyContentHashShouldCompareWithStoredHash() throws Exception {
+    // given
+    createDocument("key", "content", null);
+
+    // when
+    final var matching = store.verifyContentHash("key", sha256("content".getBytes())).join();
+    final var mismatching = store.verifyContentHash("key", "invalid").join();
+
+    // then
+    assertThat(matching).isInstanceOf(Either.Right.class);
+    assertThat(mismatching).isInstanceOf(Either.Left.class);
+    assertThat(((Either.Left<DocumentError, Void>) mismatching).value())
+        .isInstanceOf(DocumentError.DocumentHashMismatch.class);
+  }
+
+  @Test
+  public void createLinkShouldFail() {
+    // when
+    final var result = store.createLink("key", 1000L).join();
+
+    // then
+    assertThat(result).isInstanceOf(Either.Left.class);
+    assertThat(result.getLeft()).isInstanceOf(DocumentError.OperationNotSupported.class);
+  }
+
+  private void createDocument(
+      final String documentId, final String content, final OffsetDateTime expiresAt) {
+    final var result =
+        store
+            .createDocument(
+                new DocumentCreationRequest(
+                    documentId,
+                    new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                    metadata(expiresAt)))
+            .join();
+    assertThat(result).isInstanceOf(Either.Right.class);
+  }
+
+  private static DocumentMetadataModel metadata(final OffsetDateTime expiresAt) {
+    return new DocumentMetadataModel("text/plain", null, expiresAt, null, null, null, Map.of());
+  }
+
+  private static String sha256(final byte[] content) throws NoSuchAlgorithmException {
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+  }
+}
@@ -150,6 +150,7 @@ public final class TestSupport {
             ValueType.NULL_VAL,
             ValueType.PROCESS_INSTANCE_RESULT,
             ValueType.CLOCK,
+            ValueType.BATCH_OPERATION,
             ValueType.SCALE,
             // these are not yet supported
             ValueType.ROLE,
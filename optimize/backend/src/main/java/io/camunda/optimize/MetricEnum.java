@@ -16,7 +16,9 @@ public enum MetricEnum {
       "Records the time spent indexing data from Zeebe into Optimize Elasticsearch indexes"),
   NEW_PAGE_FETCH_TIME_METRIC(
       "newPageFetchTime",
-      "Records the time spent for fetching next import page from Zeebe Elasticsearch");
+      "Records the time spent for fetching next import page from Zeebe Elasticsearch"),
+  IMPORTED_RECORDS_METRIC(
+      "importedRecords", "Counts the Zeebe records that were successfully imported to Optimize");
   private static final String IMPORT_METRICS_PREFIX = "optimize.import";
   private final String id;
   private final String name;
@@ -68,6 +68,7 @@ public abstract class ReportEvaluationHandler {
   private final ProcessVariableService processVariableService;
   private final DefinitionService definitionService;
   private final CollapsedSubprocessNodesService collapsedSubprocessNodesService;
+  private final ReportResultCache reportResultCache;
 
   public ReportEvaluationHandler(
       final ReportService reportService,
@@ -75,13 +76,15 @@ public abstract class ReportEvaluationHandler {
       final CombinedReportEvaluator combinedReportEvaluator,
       final ProcessVariableService processVariableService,
       final DefinitionService definitionService,
-      final CollapsedSubprocessNodesService collapsedSubprocessNodesService) {
+      final CollapsedSubprocessNodesService collapsedSubprocessNodesService,
+      final ReportResultCache reportResultCache) {
     this.reportService = reportService;
     this.singleReportEvaluator = singleReportEvaluator;
     this.combinedReportEvaluator = combinedReportEvaluator;
     this.processVariableService = processVariableService;
     this.definitionService = definitionService;
     this.collapsedSubprocessNodesService = collapsedSubprocessNodesService;
+    this.reportResultCache = reportResultCache;
   }
 
   public AuthorizedReportEvaluationResult evaluateReport(
@@ -240,7 +243,8 @@ public abstract class ReportEvaluationHandler {
     try {
       final ReportEvaluationContext<SingleReportDefinitionDto<SingleReportDataDto>> context =
           ReportEvaluationContext.fromReportEvaluation(evaluationInfo);
-      return singleReportEvaluator.evaluate(context);
+      return reportResultCache.getOrEvaluate(
+          evaluationInfo, () -> singleReportEvaluator.evaluate(context));
     } catch (final OptimizeException | OptimizeValidationException e) {
       final AuthorizedReportDefinitionResponseDto authorizedReportDefinitionDto =
           new AuthorizedReportDefinitionResponseDto(evaluationInfo.getReport(), currentUserRole);
@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.db.report;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.optimize.dto.optimize.query.report.CommandEvaluationResult;
+import io.camunda.optimize.dto.optimize.query.report.ReportDefinitionDto;
+import io.camunda.optimize.dto.optimize.query.report.SingleReportEvaluationResult;
+import io.camunda.optimize.service.db.report.result.RawDataCommandResult;
+import io.camunda.optimize.service.exceptions.OptimizeException;
+import io.camunda.optimize.service.importing.ImportIndexHandlerRegistry;
+import io.camunda.optimize.service.util.configuration.ConfigurationReloadable;
+import io.camunda.optimize.service.util.configuration.ConfigurationService;
+import io.camunda.optimize.service.util.configuration.ReportResultCacheConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the results of saved single reports. An entry stays valid until the import progress
+ * indicates that new data was persisted and the configured minimum refresh interval has passed
+ * since the entry was computed. Evaluations that depend on the request beyond the report itself
+ * (exports, paginated raw data) are never cached.
+ */
+@Component
+public class ReportResultCache implements ConfigurationReloadable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ReportResultCache.class);
+  private static final String METRIC_PREFIX = "optimize.report.result.cache";
+  private static final String RESULT_TAG = "result";
+
+  private final ImportIndexHandlerRegistry importIndexHandlerRegistry;
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final long minRefreshIntervalMillis;
+  private final Cache<String, CachedResult> cache;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter staleCounter;
+
+  public ReportResultCache(
+      final ConfigurationService configurationService,
+      final ImportIndexHandlerRegistry importIndexHandlerRegistry,
+      final ObjectMapper objectMapper) {
+    this(configurationService, importIndexHandlerRegistry, objectMapper, Metrics.globalRegistry);
+  }
+
+  ReportResultCache(
+      final ConfigurationService configurationService,
+      final ImportIndexHandlerRegistry importIndexHandlerRegistry,
+      final ObjectMapper objectMapper,
+      final MeterRegistry meterRegistry) {
+    this.importIndexHandlerRegistry = importIndexHandlerRegistry;
+    this.objectMapper = objectMapper;
+    final ReportResultCacheConfiguration cacheConfig =
+        configurationService.getCaches().getReportResults();
+    enabled = cacheConfig != null && cacheConfig.isEnabled();
+    minRefreshIntervalMillis = enabled ? cacheConfig.getMinRefreshIntervalMillis() : 0;
+    cache =
+        enabled
+            ? Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaxSize())
+                .expireAfterWrite(Duration.ofMillis(cacheConfig.getMaxAgeMillis()))
+                .build()
+            : Caffeine.newBuilder().maximumSize(0).build();
+    hitCounter = counter(meterRegistry, "hit");
+    missCounter = counter(meterRegistry, "miss");
+    staleCounter = counter(meterRegistry, "stale");
+    Gauge.builder(METRIC_PREFIX + ".size", cache, Cache::estimatedSize)
+        .description("Number of report results currently held in the report result cache")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void reloadConfiguration(final ApplicationContext context) {
+    cache.invalidateAll();
+  }
+
+  public SingleReportEvaluationResult<Object> getOrEvaluate(
+      final ReportEvaluationInfo evaluationInfo, final ReportEvaluation evaluation)
+      throws OptimizeException {
+    final Optional<String> cacheKey = createCacheKey(evaluationInfo);
+    if (cacheKey.isEmpty()) {
+      return evaluation.evaluate();
+    }
+
+    final long dataVersion = importIndexHandlerRegistry.getImportedDataVersion();
+    final CachedResult cachedResult = cache.getIfPresent(cacheKey.get());
+    if (cachedResult != null) {
+      if (cachedResult.isFresh(dataVersion, minRefreshIntervalMillis)) {
+        hitCounter.increment();
+        return new SingleReportEvaluationResult<>(
+            evaluationInfo.getReport(), cachedResult.commandEvaluationResults());
+      }
+      staleCounter.increment();
+    } else {
+      missCounter.increment();
+    }
+
+    final SingleReportEvaluationResult<Object> result = evaluation.evaluate();
+    if (isCacheable(result)) {
+      cache.put(
+          cacheKey.get(),
+          new CachedResult(
+              result.getCommandEvaluationResults(), dataVersion, System.currentTimeMillis()));
+    }
+    return result;
+  }
+
+  long size() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private Optional<String> createCacheKey(final ReportEvaluationInfo evaluationInfo) {
+    final ReportDefinitionDto<?> report = evaluationInfo.getReport();
+    if (!enabled
+        || evaluationInfo.getReportId() == null
+        || evaluationInfo.isCsvExport()
+        || evaluationInfo.isJsonExport()
+        || evaluationInfo.getPagination().isPresent()
+        || report == null) {
+      return Optional.empty();
+    }
+
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      // the report data includes any additional filters and the tenant selection at this point
+      updateDigest(digest, evaluationInfo.getReportId());
+      updateDigest(digest, evaluationInfo.getUserId());
+      updateDigest(digest, String.valueOf(evaluationInfo.isSharedReport()));
+      updateDigest(digest, String.valueOf(evaluationInfo.getTimezone()));
+      updateDigest(digest, String.valueOf(report.getLastModified()));
+      updateDigest(digest, objectMapper.writeValueAsString(report.getData()));
+      updateDigest(digest, objectMapper.writeValueAsString(evaluationInfo.getHiddenFlowNodeIds()));
+      return Optional.of(HexFormat.of().formatHex(digest.digest()));
+    } catch (final JsonProcessingException | NoSuchAlgorithmException e) {
+      LOG.debug("Could not create cache key for report [{}].", evaluationInfo.getReportId(), e);
+      return Optional.empty();
+    }
+  }
+
+  private static void updateDigest(final MessageDigest digest, final String value) {
+    if (value != null) {
+      digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+    // separator so that adjacent values cannot be confused with each other
+    digest.update((byte) 0);
+  }
+
+  private static boolean isCacheable(final SingleReportEvaluationResult<Object> result) {
+    return result.getCommandEvaluationResults().stream()
+        .noneMatch(RawDataCommandResult.class::isInstance);
+  }
+
+  private static Counter counter(final MeterRegistry meterRegistry, final String result) {
+    return Counter.builder(METRIC_PREFIX + ".requests")
+        .description("Number of report evaluations served by the report result cache")
+        .tag(RESULT_TAG, result)
+        .register(meterRegistry);
+  }
+
+  @FunctionalInterface
+  public interface ReportEvaluation {
+
+    SingleReportEvaluationResult<Object> evaluate() throws OptimizeException;
+  }
+
+  private record CachedResult(
+      List<CommandEvaluationResult<Object>> commandEvaluationResults,
+      long dataVersion,
+      long createdAtMillis) {
+
+    private boolean isFresh(final long currentDataVersion, final long minRefreshIntervalMillis) {
+      return dataVersion == currentDataVersion
+          || System.currentTimeMillis() - createdAtMillis < minRefreshIntervalMillis;
+    }
+  }
+}
@@ -74,7 +74,7 @@ public abstract class AbstractImportScheduler<T extends SchedulerConfig>
   public Future<Void> runImportRound(final boolean forceImport) {
     final List<ImportMediator> currentImportRound =
         importMediators.stream()
-            .filter(mediator -> forceImport || mediator.canImport())
+            .filter(mediator -> forceImport || canImport(mediator))
             .collect(Collectors.toList());
     if (nothingToBeImported(currentImportRound)) {
       isImporting = false;
@@ -131,6 +131,10 @@ public abstract class AbstractImportScheduler<T extends SchedulerConfig>
     return importMediators.stream().anyMatch(ImportMediator::hasPendingImportJobs);
   }
 
+  protected boolean canImport(final ImportMediator mediator) {
+    return mediator.canImport();
+  }
+
   protected boolean nothingToBeImported(final List<?> currentImportRound) {
     return currentImportRound.isEmpty();
   }
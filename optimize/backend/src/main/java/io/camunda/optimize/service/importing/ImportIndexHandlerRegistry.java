@@ -82,6 +82,32 @@ public class ImportIndexHandlerRegistry {
     return ingestedImportIndexHandlerProvider.getExternalVariableUpdateImportIndexHandler();
   }
 
+  /**
+   * Returns a value that changes whenever imported data was persisted, e.g. to detect whether
+   * results computed from the imported data may be outdated.
+   */
+  public long getImportedDataVersion() {
+    long version = 0;
+    for (final ZeebeImportIndexHandlerProvider provider :
+        zeebeImportIndexHandlerProviderMap.values()) {
+      for (final PositionBasedImportIndexHandler handler :
+          provider.getPositionBasedImportHandlers()) {
+        version += handler.getPersistedPositionOfLastEntity();
+      }
+    }
+    if (ingestedImportIndexHandlerProvider != null
+        && ingestedImportIndexHandlerProvider.getExternalVariableUpdateImportIndexHandler()
+            != null) {
+      version +=
+          ingestedImportIndexHandlerProvider
+              .getExternalVariableUpdateImportIndexHandler()
+              .getTimestampOfLastEntity()
+              .toInstant()
+              .toEpochMilli();
+    }
+    return version;
+  }
+
   public void reloadConfiguration() {
     ingestedImportIndexHandlerProvider = null;
     zeebeImportIndexHandlerProviderMap = new HashMap<>();
@@ -148,7 +148,8 @@ public class ImportSchedulerManagerService implements ConfigurationReloadable {
       final ZeebeImportScheduler zeebeImportScheduler =
           new ZeebeImportScheduler(
               zeebeMediatorList,
-              new ZeebeConfigDto(zeebeConfig.getName(), zeebeConfig.getPartitionCount()));
+              new ZeebeConfigDto(zeebeConfig.getName(), zeebeConfig.getPartitionCount()),
+              zeebeConfig.getImportConfig().getFetchThreadCount());
       schedulers.add(zeebeImportScheduler);
     }
     importSchedulers = schedulers;
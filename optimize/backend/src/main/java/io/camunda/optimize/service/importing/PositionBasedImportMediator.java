@@ -7,6 +7,7 @@
  */
 package io.camunda.optimize.service.importing;
 
+import static io.camunda.optimize.MetricEnum.IMPORTED_RECORDS_METRIC;
 import static io.camunda.optimize.MetricEnum.INDEXING_DURATION_METRIC;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
@@ -16,6 +17,7 @@ import io.camunda.optimize.service.importing.engine.service.ImportService;
 import io.camunda.optimize.service.security.util.LocalDateUtil;
 import io.camunda.optimize.service.util.BackoffCalculator;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import java.time.Instant;
 import java.time.OffsetDateTime;
@@ -140,6 +142,7 @@ public abstract class PositionBasedImportMediator<
                     Instant.ofEpochMilli(lastImportedEntity.getTimestamp()),
                     ZoneId.systemDefault()));
             OptimizeMetrics.recordOverallEntitiesImportTime(entitiesNextPage);
+            getImportedRecordsCounter().increment(entitiesNextPage.size());
             importCompleteCallback.run();
           });
       importIndexHandler.updatePendingLastEntityPositionAndSequence(
@@ -156,6 +159,10 @@ public abstract class PositionBasedImportMediator<
     return OptimizeMetrics.getTimer(INDEXING_DURATION_METRIC, getRecordType(), getPartitionId());
   }
 
+  public Counter getImportedRecordsCounter() {
+    return OptimizeMetrics.getCounter(IMPORTED_RECORDS_METRIC, getRecordType(), getPartitionId());
+  }
+
   protected abstract String getRecordType();
 
   protected abstract Integer getPartitionId();
@@ -7,18 +7,133 @@
  */
 package io.camunda.optimize.service.importing.zeebe;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.camunda.optimize.dto.optimize.ZeebeConfigDto;
 import io.camunda.optimize.service.importing.AbstractImportScheduler;
 import io.camunda.optimize.service.importing.ImportMediator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import org.slf4j.Logger;
 
 public class ZeebeImportScheduler extends AbstractImportScheduler<ZeebeConfigDto> {
 
   private static final Logger LOG = org.slf4j.LoggerFactory.getLogger(ZeebeImportScheduler.class);
+  private static final long MAX_FETCH_WAIT_MILLIS = 1000L;
+
+  private final ExecutorService fetchExecutor;
+  // the fetch of the next page of a mediator must not start before its previous fetch completed
+  private final Map<ImportMediator, CompletableFuture<CompletableFuture<Void>>> pendingFetches =
+      new ConcurrentHashMap<>();
 
   public ZeebeImportScheduler(
       final List<ImportMediator> importMediators, final ZeebeConfigDto dataImportSourceDto) {
+    this(importMediators, dataImportSourceDto, 0);
+  }
+
+  /**
+   * @param fetchThreadCount if greater than 0, the pages of all mediators are fetched concurrently
+   *     on that many threads instead of sequentially on the scheduler thread. As a mediator only
+   *     waits for the fetch of its previous page, fetching the next page overlaps with writing the
+   *     current one.
+   */
+  public ZeebeImportScheduler(
+      final List<ImportMediator> importMediators,
+      final ZeebeConfigDto dataImportSourceDto,
+      final int fetchThreadCount) {
     super(importMediators, dataImportSourceDto);
+    fetchExecutor =
+        fetchThreadCount > 0
+            ? Executors.newFixedThreadPool(
+                fetchThreadCount,
+                new ThreadFactoryBuilder().setNameFormat("ZeebeImportFetcher-%d").build())
+            : null;
+  }
+
+  @Override
+  public Future<Void> executeImportRound(final List<ImportMediator> currentImportRound) {
+    if (fetchExecutor == null) {
+      return super.executeImportRound(currentImportRound);
+    }
+
+    final CompletableFuture<?>[] importTaskFutures =
+        currentImportRound.stream()
+            .map(this::fetchAsync)
+            .map(fetch -> fetch.thenCompose(Function.identity()))
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(importTaskFutures);
+  }
+
+  @Override
+  public void shutdown() {
+    super.shutdown();
+    if (fetchExecutor != null) {
+      fetchExecutor.shutdownNow();
+    }
+  }
+
+  @Override
+  protected boolean canImport(final ImportMediator mediator) {
+    return !pendingFetches.containsKey(mediator) && super.canImport(mediator);
+  }
+
+  @Override
+  protected boolean hasActiveImportJobs() {
+    return !pendingFetches.isEmpty() || super.hasActiveImportJobs();
+  }
+
+  @Override
+  protected void doBackoff() {
+    if (pendingFetches.isEmpty()) {
+      super.doBackoff();
+      return;
+    }
+
+    // rather than spinning, wait until one of the mediators is ready to fetch its next page
+    try {
+      CompletableFuture.anyOf(pendingFetches.values().toArray(CompletableFuture[]::new))
+          .get(MAX_FETCH_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      LOG.error("Scheduler was interrupted while waiting for pending fetches.", e);
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException | TimeoutException e) {
+      // failures are handled by the fetch itself, and a timeout just triggers the next round
+    }
+  }
+
+  /**
+   * Returns a future that completes once the next page of the mediator was fetched and handed over
+   * for writing. Its value completes once that page was written.
+   */
+  private CompletableFuture<CompletableFuture<Void>> fetchAsync(final ImportMediator mediator) {
+    final CompletableFuture<CompletableFuture<Void>> fetch =
+        pendingFetches.compute(
+            mediator,
+            (key, previousFetch) ->
+                (previousFetch == null ? CompletableFuture.completedFuture(null) : previousFetch)
+                    .handleAsync((ignored, error) -> runImport(mediator), fetchExecutor)
+                    .exceptionally(error -> CompletableFuture.completedFuture(null)));
+    fetch.whenComplete((ignored, error) -> pendingFetches.remove(mediator, fetch));
+    return fetch;
+  }
+
+  private static CompletableFuture<Void> runImport(final ImportMediator mediator) {
+    try {
+      return mediator.runImport();
+    } catch (final IllegalStateException e) {
+      LOG.warn("Got into illegal state, will abort import of this mediator.", e);
+      throw e;
+    } catch (final Exception e) {
+      LOG.error("Was not able to execute import of [{}]", mediator.getClass().getSimpleName(), e);
+      return CompletableFuture.completedFuture(null);
+    }
   }
 }
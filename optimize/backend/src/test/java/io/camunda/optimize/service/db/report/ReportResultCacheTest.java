@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.db.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.optimize.dto.optimize.query.report.CommandEvaluationResult;
+import io.camunda.optimize.dto.optimize.query.report.SingleReportEvaluationResult;
+import io.camunda.optimize.dto.optimize.query.report.single.process.ProcessReportDataDto;
+import io.camunda.optimize.dto.optimize.query.report.single.process.ProcessVisualization;
+import io.camunda.optimize.dto.optimize.query.report.single.process.SingleProcessReportDefinitionRequestDto;
+import io.camunda.optimize.dto.optimize.rest.pagination.PaginationDto;
+import io.camunda.optimize.service.db.report.result.NumberCommandResult;
+import io.camunda.optimize.service.exceptions.OptimizeException;
+import io.camunda.optimize.service.importing.ImportIndexHandlerRegistry;
+import io.camunda.optimize.service.util.configuration.ConfigurationService;
+import io.camunda.optimize.service.util.configuration.ReportResultCacheConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReportResultCacheTest {
+
+  private static final String REPORT_ID = "reportId";
+
+  @Mock ImportIndexHandlerRegistry importIndexHandlerRegistry;
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  ConfigurationService configurationService;
+
+  private final ReportResultCacheConfiguration cacheConfiguration =
+      new ReportResultCacheConfiguration();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger evaluationCount = new AtomicInteger();
+
+  @BeforeEach
+  public void setup() {
+    cacheConfiguration.setEnabled(true);
+    cacheConfiguration.setMaxSize(10);
+    cacheConfiguration.setMaxAgeMillis(600000);
+    cacheConfiguration.setMinRefreshIntervalMillis(0);
+    when(configurationService.getCaches().getReportResults()).thenReturn(cacheConfiguration);
+    when(importIndexHandlerRegistry.getImportedDataVersion()).thenReturn(1L);
+  }
+
+  @Test
+  public void shouldReuseResultWhileNoNewDataWasImported() throws OptimizeException {
+    // given
+    final ReportResultCache underTest = createCache();
+    final ReportEvaluationInfo evaluationInfo = savedReportEvaluation();
+
+    // when
+    underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+    final SingleReportEvaluationResult<Object> result =
+        underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+
+    // then
+    assertThat(evaluationCount).hasValue(1);
+    assertThat(result.getReportDefinition()).isSameAs(evaluationInfo.getReport());
+    assertThat(requestCount("hit")).isEqualTo(1);
+    assertThat(requestCount("miss")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReevaluateAfterNewDataWasImported() throws OptimizeException {
+    // given
+    final ReportResultCache underTest = createCache();
+    final ReportEvaluationInfo evaluationInfo = savedReportEvaluation();
+    underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+
+    // when
+    when(importIndexHandlerRegistry.getImportedDataVersion()).thenReturn(2L);
+    underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+    underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+
+    // then
+    assertThat(evaluationCount).hasValue(2);
+    assertThat(requestCount("stale")).isEqualTo(1);
+    assertThat(requestCount("hit")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotReevaluateWithinMinRefreshInterval() throws OptimizeException {
+    // given
+    cacheConfiguration.setMinRefreshIntervalMillis(600000);
+    final ReportResultCache underTest = createCache();
+    final ReportEvaluationInfo evaluationInfo = savedReportEvaluation();
+    underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+
+    // when
+    when(importIndexHandlerRegistry.getImportedDataVersion()).thenReturn(2L);
+    underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+
+    // then
+    assertThat(evaluationCount).hasValue(1);
+  }
+
+  @Test
+  public void shouldSeparateEntriesByReportData() throws OptimizeException {
+    // given
+    final ReportResultCache underTest = createCache();
+    final ReportEvaluationInfo evaluationInfo = savedReportEvaluation();
+    final ReportEvaluationInfo otherEvaluationInfo = savedReportEvaluation();
+    ((ProcessReportDataDto) otherEvaluationInfo.getReport().getData())
+        .setVisualization(ProcessVisualization.TABLE);
+
+    // when
+    underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+    underTest.getOrEvaluate(otherEvaluationInfo, () -> evaluate(otherEvaluationInfo));
+
+    // then
+    assertThat(evaluationCount).hasValue(2);
+    assertThat(underTest.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotCachePaginatedOrUnsavedEvaluations() throws OptimizeException {
+    // given
+    final ReportResultCache underTest = createCache();
+    final ReportEvaluationInfo paginated =
+        ReportEvaluationInfo.builder(REPORT_ID).pagination(new PaginationDto(10, 0)).build();
+    paginated.setReport(new SingleProcessReportDefinitionRequestDto());
+    final ReportEvaluationInfo unsaved =
+        ReportEvaluationInfo.builder(new SingleProcessReportDefinitionRequestDto()).build();
+
+    // when
+    underTest.getOrEvaluate(paginated, () -> evaluate(paginated));
+    underTest.getOrEvaluate(paginated, () -> evaluate(paginated));
+    underTest.getOrEvaluate(unsaved, () -> evaluate(unsaved));
+    underTest.getOrEvaluate(unsaved, () -> evaluate(unsaved));
+
+    // then
+    assertThat(evaluationCount).hasValue(4);
+    assertThat(underTest.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotCacheWhenDisabled() throws OptimizeException {
+    // given
+    cacheConfiguration.setEnabled(false);
+    final ReportResultCache underTest = createCache();
+    final ReportEvaluationInfo evaluationInfo = savedReportEvaluation();
+
+    // when
+    underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+    underTest.getOrEvaluate(evaluationInfo, () -> evaluate(evaluationInfo));
+
+    // then
+    assertThat(evaluationCount).hasValue(2);
+  }
+
+  private ReportResultCache createCache() {
+    return new ReportResultCache(
+        configurationService, importIndexHandlerRegistry, new ObjectMapper(), meterRegistry);
+  }
+
+  private ReportEvaluationInfo savedReportEvaluation() {
+    final ReportEvaluationInfo evaluationInfo =
+        ReportEvaluationInfo.builder(REPORT_ID).userId("user").build();
+    evaluationInfo.setReport(new SingleProcessReportDefinitionRequestDto());
+    return evaluationInfo;
+  }
+
+  private SingleReportEvaluationResult<Object> evaluate(final ReportEvaluationInfo evaluationInfo) {
+    evaluationCount.incrementAndGet();
+    final CommandEvaluationResult<Object> result =
+        (CommandEvaluationResult)
+            new NumberCommandResult((ProcessReportDataDto) evaluationInfo.getReport().getData());
+    return new SingleReportEvaluationResult<>(evaluationInfo.getReport(), List.of(result));
+  }
+
+  private double requestCount(final String result) {
+    return meterRegistry
+        .get("optimize.report.result.cache.requests")
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.importing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.optimize.dto.optimize.ZeebeConfigDto;
+import io.camunda.optimize.service.importing.zeebe.ZeebeImportScheduler;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ZeebeImportSchedulerTest {
+
+  private final CountDownLatch fetchesStarted = new CountDownLatch(2);
+  private final CountDownLatch releaseFetches = new CountDownLatch(1);
+  private ZeebeImportScheduler underTest;
+
+  @AfterEach
+  public void tearDown() {
+    releaseFetches.countDown();
+    underTest.shutdown();
+  }
+
+  @Test
+  public void shouldFetchPagesOfAllMediatorsConcurrently() throws Exception {
+    // given
+    final ImportMediator first = blockingMediator();
+    final ImportMediator second = blockingMediator();
+    underTest = new ZeebeImportScheduler(List.of(first, second), new ZeebeConfigDto("zeebe", 2), 2);
+
+    // when
+    final Future<Void> importRound = underTest.runImportRound();
+
+    // then both fetches are in progress at the same time and the scheduler is not blocked
+    assertThat(fetchesStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(importRound).isNotDone();
+    assertThat(underTest.isImporting()).isTrue();
+
+    releaseFetches.countDown();
+    importRound.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shouldNotFetchNextPageBeforePreviousFetchCompleted() throws Exception {
+    // given
+    final ImportMediator first = blockingMediator();
+    final ImportMediator second = blockingMediator();
+    underTest = new ZeebeImportScheduler(List.of(first, second), new ZeebeConfigDto("zeebe", 2), 2);
+    final Future<Void> importRound = underTest.runImportRound();
+    assertThat(fetchesStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    underTest.runImportRound();
+
+    // then
+    verify(first, times(1)).runImport();
+    verify(second, times(1)).runImport();
+
+    releaseFetches.countDown();
+    importRound.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shouldFetchSequentiallyWithoutFetchThreads() throws Exception {
+    // given
+    final ImportMediator mediator = mock(ImportMediator.class);
+    when(mediator.canImport()).thenReturn(true);
+    when(mediator.runImport()).thenReturn(CompletableFuture.completedFuture(null));
+    underTest = new ZeebeImportScheduler(List.of(mediator), new ZeebeConfigDto("zeebe", 1));
+
+    // when
+    final Future<Void> importRound = underTest.runImportRound();
+
+    // then
+    assertThat(importRound).isDone();
+    verify(mediator, times(1)).runImport();
+  }
+
+  private ImportMediator blockingMediator() {
+    final ImportMediator mediator = mock(ImportMediator.class);
+    when(mediator.canImport()).thenReturn(true);
+    when(mediator.runImport())
+        .thenAnswer(
+            invocation -> {
+              fetchesStarted.countDown();
+              releaseFetches.await();
+              return CompletableFuture.completedFuture(null);
+            });
+    return mediator;
+  }
+}
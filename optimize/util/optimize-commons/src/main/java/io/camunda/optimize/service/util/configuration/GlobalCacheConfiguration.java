@@ -15,6 +15,7 @@ public class GlobalCacheConfiguration {
   private CloudUserCacheConfiguration cloudUsers;
   private CacheConfiguration cloudTenantAuthorizations;
   private CacheConfiguration users;
+  private ReportResultCacheConfiguration reportResults;
 
   public GlobalCacheConfiguration() {}
 
@@ -66,6 +67,14 @@ public class GlobalCacheConfiguration {
     this.users = users;
   }
 
+  public ReportResultCacheConfiguration getReportResults() {
+    return reportResults;
+  }
+
+  public void setReportResults(final ReportResultCacheConfiguration reportResults) {
+    this.reportResults = reportResults;
+  }
+
   protected boolean canEqual(final Object other) {
     return other instanceof GlobalCacheConfiguration;
   }
@@ -94,6 +103,8 @@ public class GlobalCacheConfiguration {
         + getCloudTenantAuthorizations()
         + ", users="
         + getUsers()
+        + ", reportResults="
+        + getReportResults()
         + ")";
   }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.util.configuration;
+
+public class ReportResultCacheConfiguration {
+
+  private boolean enabled;
+  private int maxSize;
+  private long maxAgeMillis;
+  private long minRefreshIntervalMillis;
+
+  public ReportResultCacheConfiguration() {}
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(final int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public long getMaxAgeMillis() {
+    return maxAgeMillis;
+  }
+
+  public void setMaxAgeMillis(final long maxAgeMillis) {
+    this.maxAgeMillis = maxAgeMillis;
+  }
+
+  public long getMinRefreshIntervalMillis() {
+    return minRefreshIntervalMillis;
+  }
+
+  public void setMinRefreshIntervalMillis(final long minRefreshIntervalMillis) {
+    this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+  }
+
+  protected boolean canEqual(final Object other) {
+    return other instanceof ReportResultCacheConfiguration;
+  }
+
+  @Override
+  public int hashCode() {
+    return org.apache.commons.lang3.builder.HashCodeBuilder.reflectionHashCode(this);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals(this, o);
+  }
+
+  @Override
+  public String toString() {
+    return "ReportResultCacheConfiguration(enabled="
+        + isEnabled()
+        + ", maxSize="
+        + getMaxSize()
+        + ", maxAgeMillis="
+        + getMaxAgeMillis()
+        + ", minRefreshIntervalMillis="
+        + getMinRefreshIntervalMillis()
+        + ")";
+  }
+}
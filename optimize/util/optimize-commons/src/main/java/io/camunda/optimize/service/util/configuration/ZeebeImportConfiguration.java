@@ -11,6 +11,7 @@ public class ZeebeImportConfiguration {
 
   private int dynamicBatchSuccessAttempts;
   private int maxEmptyPagesToImport;
+  private int fetchThreadCount;
 
   public ZeebeImportConfiguration(
       final int dynamicBatchSuccessAttempts, final int maxEmptyPagesToImport) {
@@ -36,6 +37,14 @@ public class ZeebeImportConfiguration {
     this.maxEmptyPagesToImport = maxEmptyPagesToImport;
   }
 
+  public int getFetchThreadCount() {
+    return fetchThreadCount;
+  }
+
+  public void setFetchThreadCount(final int fetchThreadCount) {
+    this.fetchThreadCount = fetchThreadCount;
+  }
+
   protected boolean canEqual(final Object other) {
     return other instanceof ZeebeImportConfiguration;
   }
@@ -56,6 +65,8 @@ public class ZeebeImportConfiguration {
         + getDynamicBatchSuccessAttempts()
         + ", maxEmptyPagesToImport="
         + getMaxEmptyPagesToImport()
+        + ", fetchThreadCount="
+        + getFetchThreadCount()
         + ")";
   }
 }
@@ -117,7 +117,9 @@ public class DocumentServices extends ApiServices<DocumentServices> {
         .thenApply(
             documentContent ->
                 new DocumentContentResponse(
-                    documentContent.inputStream(), documentContent.contentType()))
+                    documentContent.inputStream(),
+                    documentContent.contentType(),
+                    documentContent.size()))
         .join();
   }
 
@@ -203,7 +205,12 @@ public class DocumentServices extends ApiServices<DocumentServices> {
   public record DocumentReferenceResponse(
       String documentId, String storeId, String contentHash, DocumentMetadataModel metadata) {}
 
-  public record DocumentContentResponse(InputStream content, String contentType) {}
+  public record DocumentContentResponse(InputStream content, String contentType, Long size) {
+
+    public DocumentContentResponse(final InputStream content, final String contentType) {
+      this(content, contentType, null);
+    }
+  }
 
   public record DocumentLinkParams(Duration timeToLive) {}
 
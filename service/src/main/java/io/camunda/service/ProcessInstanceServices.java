@@ -21,10 +21,12 @@ import io.camunda.service.security.SecurityContextProvider;
 import io.camunda.util.ObjectBuilder;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateBatchOperationRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerMigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerModifyProcessInstanceRequest;
+import io.camunda.zeebe.protocol.impl.record.value.batchoperation.BatchOperationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationStartInstruction;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationMappingInstruction;
@@ -34,6 +36,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationTerminateInstruction;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -166,6 +169,28 @@ public final class ProcessInstanceServices
     return sendBrokerRequest(brokerRequest);
   }
 
+  public CompletableFuture<BatchOperationRecord> createBatchOperation(
+      final ProcessInstanceBatchOperationRequest request) {
+    final var brokerRequest =
+        new BrokerCreateBatchOperationRequest()
+            .setBatchOperationType(request.batchOperationType())
+            .setTenantId(request.tenantId());
+
+    if (request.processInstanceKeys() != null) {
+      brokerRequest.setProcessInstanceKeys(request.processInstanceKeys());
+    }
+    if (request.processDefinitionKey() != null) {
+      brokerRequest.setProcessDefinitionKey(request.processDefinitionKey());
+    }
+    if (request.targetProcessDefinitionKey() != null) {
+      brokerRequest.setTargetProcessDefinitionKey(request.targetProcessDefinitionKey());
+    }
+    if (request.mappingInstructions() != null) {
+      brokerRequest.setMappingInstructions(request.mappingInstructions());
+    }
+    return sendBrokerRequest(brokerRequest);
+  }
+
   public record ProcessInstanceCreateRequest(
       Long processDefinitionKey,
       String bpmnProcessId,
@@ -186,6 +211,14 @@ public final class ProcessInstanceServices
       List<ProcessInstanceMigrationMappingInstruction> mappingInstructions,
       Long operationReference) {}
 
+  public record ProcessInstanceBatchOperationRequest(
+      BatchOperationType batchOperationType,
+      List<Long> processInstanceKeys,
+      Long processDefinitionKey,
+      Long targetProcessDefinitionKey,
+      List<ProcessInstanceMigrationMappingInstruction> mappingInstructions,
+      String tenantId) {}
+
   public record ProcessInstanceModifyRequest(
       Long processInstanceKey,
       List<ProcessInstanceModificationActivateInstruction> activateInstructions,
@@ -160,6 +160,22 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
    */
   public <T extends Comparable<T>> Optional<T> getQuorumFor(
       final Function<RaftMemberContext, T> calculateMemberValue) {
+    return getQuorumFor(calculateMemberValue, null);
+  }
+
+  /**
+   * Calculates the smallest value that is reported for a majority of this cluster, where the local
+   * node reports the given value instead of being assumed to have the highest one.
+   *
+   * @param calculateMemberValue a function that calculates a value for a given member. Will be
+   *     evaluated at least once for every remote member.
+   * @param localMemberValue the value reported by the local member, or null if the local member is
+   *     assumed to always have the highest value
+   * @return empty when no remote members are present, otherwise the smallest value that is reported
+   *     by enough members to form a quorum.
+   */
+  public <T extends Comparable<T>> Optional<T> getQuorumFor(
+      final Function<RaftMemberContext, T> calculateMemberValue, final T localMemberValue) {
     final var contexts = new ArrayList<>(remoteActiveMembers);
 
     if (configuration.requiresJointConsensus()) {
@@ -176,9 +192,17 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
               .collect(Collectors.toCollection(ArrayList::new));
 
       final var oldQuorum =
-          getQuorumFor(oldContexts, calculateMemberValue, oldMembers.contains(localMember));
+          getQuorumFor(
+              oldContexts,
+              calculateMemberValue,
+              oldMembers.contains(localMember),
+              localMemberValue);
       final var newQuorum =
-          getQuorumFor(newContexts, calculateMemberValue, newMembers.contains(localMember));
+          getQuorumFor(
+              newContexts,
+              calculateMemberValue,
+              newMembers.contains(localMember),
+              localMemberValue);
       if (oldQuorum.isPresent() && newQuorum.isPresent()) {
         return Optional.of(Comparators.min(oldQuorum.get(), newQuorum.get()));
       } else if (oldQuorum.isPresent()) {
@@ -189,23 +213,37 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
     }
 
     return getQuorumFor(
-        contexts, calculateMemberValue, configuration.newMembers().contains(localMember));
+        contexts,
+        calculateMemberValue,
+        configuration.newMembers().contains(localMember),
+        localMemberValue);
   }
 
   private <T extends Comparable<T>> Optional<T> getQuorumFor(
       final List<RaftMemberContext> contexts,
       final Function<RaftMemberContext, T> calculateMemberValue,
-      final boolean includeLocalMemberInQuorum) {
+      final boolean includeLocalMemberInQuorum,
+      final T localMemberValue) {
     if (contexts.isEmpty()) {
       return Optional.empty();
     }
-    contexts.sort(Comparator.comparing(calculateMemberValue).reversed());
 
     final var remoteActiveMembers = contexts.size();
     final int includeLocalMember = includeLocalMemberInQuorum ? 1 : 0;
     final var totalActiveMembers = remoteActiveMembers + includeLocalMember;
     final var quorum = (totalActiveMembers / 2) + 1;
 
+    if (includeLocalMemberInQuorum && localMemberValue != null) {
+      // the local member is ranked like any other member, so it does not necessarily count towards
+      // the quorum
+      final var values = new ArrayList<T>(totalActiveMembers);
+      contexts.forEach(context -> values.add(calculateMemberValue.apply(context)));
+      values.add(localMemberValue);
+      values.sort(Comparator.reverseOrder());
+      return Optional.of(values.get(quorum - 1));
+    }
+
+    contexts.sort(Comparator.comparing(calculateMemberValue).reversed());
     final var remoteQuorumIndex = quorum - 1 - includeLocalMember;
     final var context = contexts.get(remoteQuorumIndex);
     return Optional.of(calculateMemberValue.apply(context));
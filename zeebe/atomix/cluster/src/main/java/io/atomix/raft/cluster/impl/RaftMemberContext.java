@@ -20,11 +20,14 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +35,8 @@ import org.slf4j.LoggerFactory;
 public final class RaftMemberContext {
 
   private static final int APPEND_WINDOW_SIZE = 8;
+  static final long MIN_APPEND_VERSION_PROBE_DELAY = Duration.ofSeconds(10).toMillis();
+  static final long MAX_APPEND_VERSION_PROBE_DELAY = Duration.ofMinutes(5).toMillis();
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
@@ -53,7 +58,11 @@ public final class RaftMemberContext {
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
+  private Map<String, Long> reusedSnapshotChunks = Map.of();
   private IndexedRaftLogEntry currentEntry;
+  private int appendVersion = VersionedAppendRequest.SBE_VERSION;
+  private long appendVersionProbeDelay = MIN_APPEND_VERSION_PROBE_DELAY;
+  private long appendVersionProbeTime;
 
   RaftMemberContext(
       final DefaultRaftMember member,
@@ -68,6 +77,7 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    reusedSnapshotChunks = Map.of();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
@@ -78,6 +88,10 @@ public final class RaftMemberContext {
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
+    // probe again whether the member supports the latest version, it may have been updated
+    appendVersion = VersionedAppendRequest.SBE_VERSION;
+    appendVersionProbeDelay = MIN_APPEND_VERSION_PROBE_DELAY;
+    appendVersionProbeTime = 0;
 
     if (reader != null) {
       closeReader();
@@ -279,6 +293,7 @@ public final class RaftMemberContext {
         .add("configuring", configuring)
         .add("installing", installing)
         .add("failures", failures)
+        .add("appendVersion", appendVersion)
         .toString();
   }
 
@@ -327,6 +342,55 @@ public final class RaftMemberContext {
     return failures;
   }
 
+  /**
+   * Returns the version of the append requests to send to the member. If the member fell back to an
+   * older version, the latest version is probed again once the probe delay has expired, as the
+   * member may have been updated or may have been missing a handler only temporarily.
+   *
+   * @param currentTime the current time in milliseconds
+   * @return the append request version
+   */
+  public int getAppendVersion(final long currentTime) {
+    if (appendVersion < VersionedAppendRequest.SBE_VERSION
+        && currentTime >= appendVersionProbeTime) {
+      appendVersion = VersionedAppendRequest.SBE_VERSION;
+    }
+    return appendVersion;
+  }
+
+  /**
+   * Falls back to an older version of the append requests, which the member understands. The latest
+   * version is probed again after a delay, which doubles with every consecutive fallback up to
+   * {@link #MAX_APPEND_VERSION_PROBE_DELAY}. Fallbacks caused by requests which were sent before
+   * the previous fallback are ignored.
+   *
+   * @param failedVersion the version of the request the member did not understand
+   * @param fallbackVersion the version to fall back to
+   * @param currentTime the current time in milliseconds
+   */
+  public void fallBackToAppendVersion(
+      final int failedVersion, final int fallbackVersion, final long currentTime) {
+    if (appendVersion != failedVersion) {
+      return;
+    }
+
+    appendVersion = fallbackVersion;
+    appendVersionProbeTime = currentTime + appendVersionProbeDelay;
+    appendVersionProbeDelay = Math.min(appendVersionProbeDelay * 2, MAX_APPEND_VERSION_PROBE_DELAY);
+  }
+
+  /**
+   * Marks the given append request version as supported by the member, which resets the delay after
+   * which the latest version is probed again on the next fallback.
+   *
+   * @param version the version of a request the member accepted
+   */
+  public void appendVersionSupported(final int version) {
+    if (version == VersionedAppendRequest.SBE_VERSION) {
+      appendVersionProbeDelay = MIN_APPEND_VERSION_PROBE_DELAY;
+    }
+  }
+
   /**
    * Returns the member failure time.
    *
@@ -462,6 +526,20 @@ public final class RaftMemberContext {
     this.snapshotChunkReader = snapshotChunkReader;
   }
 
+  /**
+   * Returns the chunks of the snapshot being installed which the member reuses from its own latest
+   * snapshot, and which it was not yet told about.
+   *
+   * @return the checksums of the reused chunks, by chunk name
+   */
+  public Map<String, Long> getReusedSnapshotChunks() {
+    return reusedSnapshotChunks;
+  }
+
+  public void setReusedSnapshotChunks(final Map<String, Long> reusedSnapshotChunks) {
+    this.reusedSnapshotChunks = reusedSnapshotChunks;
+  }
+
   public boolean hasNextEntry() {
     return reader.hasNext();
   }
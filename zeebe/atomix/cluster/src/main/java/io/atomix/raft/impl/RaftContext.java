@@ -114,6 +114,8 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
 
   protected final String name;
   protected final ThreadContext threadContext;
+  // only present if the leader flushes its log concurrently with the replication
+  private final ThreadContext groupCommitContext;
   protected final ClusterMembershipService membershipService;
   protected final RaftClusterContext cluster;
   protected final RaftServerProtocol protocol;
@@ -249,6 +251,12 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
 
     snapshotChunkSize = partitionConfig.getSnapshotChunkSize();
 
+    groupCommitContext =
+        partitionConfig.isGroupCommitEnabled() && raftLog.flushesDirectly()
+            ? createThreadContext(
+                "raft-flush", partitionId, threadContextFactory, localMemberId.id())
+            : null;
+
     this.partitionConfig = partitionConfig;
     cluster = new RaftClusterContext(localMemberId, this);
 
@@ -549,8 +557,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     checkArgument(commitIndex >= 0, "commitIndex must be positive");
     final long previousCommitIndex = this.commitIndex;
     if (commitIndex > previousCommitIndex) {
-      if (isLeader()) {
-        // leader counts itself in quorum, so in order to commit the leader must persist
+      if (isLeader() && !isGroupCommitEnabled()) {
+        // leader counts itself in quorum, so in order to commit the leader must persist; with group
+        // commit, it only counts itself up to the index it has already flushed
         try {
           raftLog.flush();
         } catch (final FlushException e) {
@@ -847,6 +856,11 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     // Unregister protocol listeners.
     unregisterHandlers(protocol);
 
+    // Stop flushing before closing the log.
+    if (groupCommitContext != null) {
+      groupCommitContext.close();
+    }
+
     // Close the log.
     try {
       raftLog.close();
@@ -1247,6 +1261,22 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     partitionConfig.setPreferSnapshotReplicationThreshold(snapshotReplicationThreshold);
   }
 
+  /**
+   * @return true if the leader flushes its log concurrently with the replication, instead of
+   *     flushing synchronously before committing
+   */
+  public boolean isGroupCommitEnabled() {
+    return groupCommitContext != null;
+  }
+
+  /**
+   * @return the thread context on which the leader flushes its log when group commit is enabled,
+   *     otherwise null
+   */
+  public ThreadContext getGroupCommitContext() {
+    return groupCommitContext;
+  }
+
   public CompletableFuture<Void> reconfigurePriority(final int newPriority) {
     final CompletableFuture<Void> configureFuture = new CompletableFuture<>();
     threadContext.execute(
@@ -69,13 +69,45 @@ public class LeaderMetrics extends RaftMetrics {
           .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
 
+  private static final Histogram GROUP_COMMIT_FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_flush_latency")
+          .help("Latency of a single flush of the leader's log when group commit is enabled")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+  private static final Histogram GROUP_COMMIT_FLUSH_ENTRIES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_flush_entries")
+          .help("The number of entries persisted by a single flush of the leader's log")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000)
+          .register();
+  private static final Counter GROUP_COMMIT_BEFORE_LOCAL_FLUSH =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_before_local_flush")
+          .help(
+              "The count of commits which were reached by the followers before the leader flushed"
+                  + " the committed entries")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
   private final Counter.Child commitRate;
   private final Gauge.Child nonCommittedEntries;
+  private final Histogram.Child groupCommitFlushLatency;
+  private final Histogram.Child groupCommitFlushEntries;
+  private final Counter.Child groupCommitBeforeLocalFlush;
 
   public LeaderMetrics(final String partitionName) {
     super(partitionName);
     commitRate = COMMIT_RATE.labels(partitionGroupName, partition);
     nonCommittedEntries = NON_COMMITTED_ENTRIES.labels(partitionGroupName, partition);
+    groupCommitFlushLatency = GROUP_COMMIT_FLUSH_LATENCY.labels(partitionGroupName, partition);
+    groupCommitFlushEntries = GROUP_COMMIT_FLUSH_ENTRIES.labels(partitionGroupName, partition);
+    groupCommitBeforeLocalFlush =
+        GROUP_COMMIT_BEFORE_LOCAL_FLUSH.labels(partitionGroupName, partition);
   }
 
   public void appendComplete(final long latencyms, final String memberId) {
@@ -92,6 +124,15 @@ public class LeaderMetrics extends RaftMetrics {
     commitRate.inc();
   }
 
+  public void observeGroupCommitFlush(final long flushedEntries, final long latencyNanos) {
+    groupCommitFlushEntries.observe(flushedEntries);
+    groupCommitFlushLatency.observe(latencyNanos / 1_000_000_000d);
+  }
+
+  public void observeCommitBeforeLocalFlush() {
+    groupCommitBeforeLocalFlush.inc();
+  }
+
   public void observeNonCommittedEntries(final long remainingEntries) {
     nonCommittedEntries.set(remainingEntries);
   }
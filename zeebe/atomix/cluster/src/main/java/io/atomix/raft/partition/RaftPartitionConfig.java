@@ -30,6 +30,7 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final boolean DEFAULT_GROUP_COMMIT = false;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
@@ -41,6 +42,7 @@ public class RaftPartitionConfig {
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int preferSnapshotReplicationThreshold = DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD;
+  private boolean groupCommitEnabled = DEFAULT_GROUP_COMMIT;
   private RaftStorageConfig storageConfig;
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
@@ -193,6 +195,24 @@ public class RaftPartitionConfig {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public boolean isGroupCommitEnabled() {
+    return groupCommitEnabled;
+  }
+
+  /**
+   * If enabled, the leader flushes its log on a separate thread while the entries are replicated to
+   * the followers, instead of flushing synchronously before committing. Entries appended while a
+   * flush is in progress are flushed together by the next one. The leader then only counts itself
+   * towards the commit quorum up to the index it has flushed.
+   *
+   * <p>This only has an effect if the log is configured to flush directly.
+   *
+   * @param groupCommitEnabled true to flush the leader's log concurrently with the replication
+   */
+  public void setGroupCommitEnabled(final boolean groupCommitEnabled) {
+    this.groupCommitEnabled = groupCommitEnabled;
+  }
+
   public RaftStorageConfig getStorageConfig() {
     return storageConfig;
   }
@@ -236,6 +256,8 @@ public class RaftPartitionConfig {
         + maxQuorumResponseTimeout
         + ", preferSnapshotReplicationThreshold="
         + preferSnapshotReplicationThreshold
+        + ", groupCommitEnabled="
+        + groupCommitEnabled
         + '}';
   }
 }
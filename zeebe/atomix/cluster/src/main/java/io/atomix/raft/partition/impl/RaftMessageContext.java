@@ -37,6 +37,7 @@ class RaftMessageContext {
   final String voteSubject;
   final String appendV1subject;
   final String appendV2subject;
+  final String appendV3subject;
   final String leaderHeartbeatSubject;
 
   RaftMessageContext(final String prefix) {
@@ -58,6 +59,7 @@ class RaftMessageContext {
     voteSubject = getSubject(prefix, "vote");
     appendV1subject = getSubject(prefix, "append");
     appendV2subject = getSubject(prefix, "append-versioned");
+    appendV3subject = getSubject(prefix, "append-v3");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
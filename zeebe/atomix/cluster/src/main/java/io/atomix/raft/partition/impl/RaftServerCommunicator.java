@@ -34,6 +34,7 @@ import io.atomix.raft.protocol.LeaveRequest;
 import io.atomix.raft.protocol.LeaveResponse;
 import io.atomix.raft.protocol.PollRequest;
 import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.protocol.RaftMessage;
 import io.atomix.raft.protocol.RaftServerProtocol;
 import io.atomix.raft.protocol.ReconfigureRequest;
@@ -43,6 +44,7 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -53,6 +55,7 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final RaftProtocolSBESerializer sbeSerializer = new RaftProtocolSBESerializer();
   private final ClusterCommunicationService clusterCommunicator;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
@@ -137,7 +140,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    if (request.version() >= VersionedAppendRequest.SBE_VERSION) {
+      return sendAndReceive(
+          context.appendV3subject,
+          request,
+          sbeSerializer::encodeAppendRequest,
+          sbeSerializer::decodeAppendResponse,
+          memberId,
+          requestTimeout);
+    }
+
+    return sendAndReceive(
+        context.appendV2subject, ProtocolVersionHandler.toKryoCompatible(request), memberId);
   }
 
   @Override
@@ -293,12 +307,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.appendV3subject,
+        sbeSerializer::decodeAppendRequest,
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        sbeSerializer::encodeAppendResponse);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendV3subject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -308,11 +328,21 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   private <T, U> CompletableFuture<U> sendAndReceive(
       final String subject, final T request, final MemberId memberId, final Duration timeout) {
-    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
-    return clusterCommunicator.send(
+    return sendAndReceive(
         subject, request, serializer::encode, serializer::decode, memberId, timeout);
   }
 
+  private <T, U> CompletableFuture<U> sendAndReceive(
+      final String subject,
+      final T request,
+      final Function<T, byte[]> encoder,
+      final Function<byte[], U> decoder,
+      final MemberId memberId,
+      final Duration timeout) {
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator.send(subject, request, encoder, decoder, memberId, timeout);
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
@@ -24,6 +24,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -58,6 +60,9 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the checksums of the chunks which the receiver should reuse from its latest snapshot, by name;
+  // null if sent by a node which does not support reusing chunks
+  private final Map<String, Long> reusedChunks;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +74,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final Map<String, Long> reusedChunks) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +86,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedChunks = reusedChunks;
   }
 
   /**
@@ -170,10 +177,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the chunks which the receiver should reuse from its latest snapshot, instead of
+   * receiving them.
+   *
+   * @return the checksums of the reused chunks, by chunk name
+   */
+  public Map<String, Long> reusedChunks() {
+    return reusedChunks == null ? Map.of() : reusedChunks;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedChunks());
   }
 
   @Override
@@ -194,7 +221,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(reusedChunks(), that.reusedChunks());
   }
 
   @Override
@@ -212,6 +240,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedChunks", reusedChunks().size())
         .toString();
   }
 
@@ -233,6 +262,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private Map<String, Long> reusedChunks = Map.of();
 
     /**
      * Sets the request current term.
@@ -346,14 +376,36 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the chunks which the receiver should reuse from its latest snapshot.
+     *
+     * @param reusedChunks the checksums of the reused chunks, by chunk name
+     * @return the request builder
+     */
+    public Builder withReusedChunks(final Map<String, Long> reusedChunks) {
+      this.reusedChunks = checkNotNull(reusedChunks, "reusedChunks cannot be null");
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
     @Override
     public InstallRequest build() {
       validate();
+      // copied into a HashMap, as only those are registered with the serializer
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          new HashMap<>(reusedChunks));
     }
 
     @Override
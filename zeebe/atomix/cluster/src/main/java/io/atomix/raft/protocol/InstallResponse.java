@@ -18,35 +18,58 @@ package io.atomix.raft.protocol;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response to the
+ * first chunk of a snapshot lists the checksums of the receiver's latest snapshot, such that the
+ * sender can skip the chunks which the receiver already has.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the checksums of the files of the receiver's latest snapshot, by name; null if sent by a node
+  // which does not support reusing chunks
+  protected Map<String, Long> snapshotChecksums;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final Map<String, Long> snapshotChecksums) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.snapshotChecksums = snapshotChecksums;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the checksums of the chunks of the receiver's latest snapshot, which the sender does
+   * not have to send again if they are part of the snapshot being installed.
+   *
+   * @return the checksums of the receiver's snapshot chunks, by chunk name
+   */
+  public Map<String, Long> snapshotChecksums() {
+    return snapshotChecksums == null ? Map.of() : snapshotChecksums;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("snapshotChecksums", snapshotChecksums().size())
         .toString();
   }
 
@@ -62,17 +85,25 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected Map<String, Long> snapshotChecksums = Map.of();
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      // copied into a HashMap, as only those are registered with the serializer
+      return new InstallResponse(
+          status, error, preferredChunkSize, new HashMap<>(snapshotChecksums));
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withSnapshotChecksums(final Map<String, Long> snapshotChecksums) {
+      this.snapshotChecksums = checkNotNull(snapshotChecksums, "snapshotChecksums cannot be null");
+      return this;
+    }
   }
 }
@@ -75,4 +75,10 @@ public class PersistedRaftRecord implements JournalRecord, ReplicatableRaftRecor
   public long term() {
     return term;
   }
+
+  @Override
+  public int approximateSize() {
+    // serializedRaftLogEntry + index + asqn + term + checksum
+    return serializedRaftLogEntry.length + (4 * Long.BYTES);
+  }
 }
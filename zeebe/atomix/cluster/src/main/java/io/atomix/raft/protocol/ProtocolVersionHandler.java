@@ -7,6 +7,8 @@
  */
 package io.atomix.raft.protocol;
 
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+
 public final class ProtocolVersionHandler {
 
   private ProtocolVersionHandler() {
@@ -32,4 +34,54 @@ public final class ProtocolVersionHandler {
         request.commitIndex(),
         request.entries());
   }
+
+  /**
+   * Converts the request into a request which can be sent to members which only understand {@link
+   * VersionedAppendRequest#KRYO_VERSION}. Entries which are views on a buffer are copied, as Kryo
+   * can only serialize {@link ReplicatableJournalRecord}.
+   */
+  public static VersionedAppendRequest toKryoCompatible(final VersionedAppendRequest request) {
+    if (request.version() == VersionedAppendRequest.KRYO_VERSION
+        && request.entries().stream().noneMatch(ReplicatableJournalRecordView.class::isInstance)) {
+      return request;
+    }
+
+    final var entries =
+        request.entries().stream()
+            .map(
+                entry ->
+                    entry instanceof final ReplicatableJournalRecordView view
+                        ? view.toReplicatableJournalRecord()
+                        : entry)
+            .toList();
+    return new VersionedAppendRequest(
+        VersionedAppendRequest.KRYO_VERSION,
+        request.term(),
+        request.leader().id(),
+        request.prevLogIndex(),
+        request.prevLogTerm(),
+        entries,
+        request.commitIndex());
+  }
+
+  /**
+   * Returns true if the request failed because the receiver has no handler for its version, e.g.
+   * because it was not yet updated during a rolling update. The sender should then fall back to
+   * {@link VersionedAppendRequest#KRYO_VERSION}.
+   */
+  public static boolean isUnsupportedVersion(
+      final VersionedAppendRequest request, final Throwable error) {
+    if (request.version() < VersionedAppendRequest.SBE_VERSION) {
+      return false;
+    }
+
+    Throwable cause = error;
+    while (cause != null) {
+      if (cause instanceof NoRemoteHandler) {
+        return true;
+      }
+      cause = cause.getCause();
+    }
+    return false;
+  }
 }
@@ -114,6 +114,15 @@ public interface RaftServerProtocol {
    */
   CompletableFuture<AppendResponse> append(MemberId memberId, AppendRequest request);
 
+  /**
+   * Sends a versioned append request to the given node. Requests of {@link
+   * VersionedAppendRequest#SBE_VERSION} or above may contain entries which are views on the
+   * leader's log, and must be serialized before this method returns.
+   *
+   * @param memberId the node to which to send the request
+   * @param request the request to send
+   * @return a future to be completed with the response
+   */
   CompletableFuture<AppendResponse> append(MemberId memberId, VersionedAppendRequest request);
 
   /**
@@ -199,6 +208,12 @@ public interface RaftServerProtocol {
    */
   void registerAppendV1Handler(Function<AppendRequest, CompletableFuture<AppendResponse>> handler);
 
+  /**
+   * Registers a versioned append request callback, which handles all request versions from {@link
+   * VersionedAppendRequest#KRYO_VERSION} on.
+   *
+   * @param handler the append request handler to register
+   */
   void registerAppendV2Handler(
       Function<VersionedAppendRequest, CompletableFuture<AppendResponse>> handler);
 
@@ -74,6 +74,7 @@ public record ReplicatableJournalRecord(
    *
    * @return approximate size
    */
+  @Override
   public int approximateSize() {
     // serializedJournalRecord + index + term + checksum
     return serializedJournalRecord.length + (3 * Long.BYTES);
@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+
+/**
+ * A {@link ReplicatableRaftRecord} whose serialized journal record is a view on an existing buffer,
+ * e.g. a mapped journal segment on the leader or the received message on the follower. In contrast
+ * to {@link ReplicatableJournalRecord}, the record is not copied into an intermediate array.
+ *
+ * <p>The view is only valid as long as the underlying buffer is. On the leader, it must be
+ * serialized before the segment it points to can be deleted, which is guaranteed as requests are
+ * encoded synchronously when they are sent.
+ */
+public record ReplicatableJournalRecordView(
+    long term, long index, long checksum, DirectBuffer serializedJournalRecord)
+    implements ReplicatableRaftRecord {
+
+  @Override
+  public int approximateSize() {
+    // serializedJournalRecord + index + term + checksum
+    return serializedJournalRecord.capacity() + (3 * Long.BYTES);
+  }
+
+  /**
+   * Copies the view into a {@link ReplicatableJournalRecord}, which can be serialized by protocol
+   * versions which do not support views.
+   *
+   * @return a copy of this record
+   */
+  public ReplicatableJournalRecord toReplicatableJournalRecord() {
+    return new ReplicatableJournalRecord(
+        term, index, checksum, BufferUtil.bufferAsArray(serializedJournalRecord));
+  }
+
+  @Override
+  public String toString() {
+    return "ReplicatableJournalRecordView{"
+        + "term="
+        + term
+        + ", index="
+        + index
+        + ", checksum="
+        + checksum
+        + ", length="
+        + serializedJournalRecord.capacity()
+        + '}';
+  }
+}
@@ -11,4 +11,12 @@ public interface ReplicatableRaftRecord {
   long index();
 
   long term();
+
+  /**
+   * Returns the approximate size needed when serializing this record. The exact size depends on the
+   * serializer.
+   *
+   * @return approximate size
+   */
+  int approximateSize();
 }
@@ -32,14 +32,23 @@ import java.util.List;
  */
 public class VersionedAppendRequest extends AbstractRaftRequest {
 
-  private static final int CURRENT_VERSION = 2;
+  /** Requests of this version are serialized with Kryo and only contain copied entries. */
+  public static final int KRYO_VERSION = 2;
+
+  /**
+   * Requests of this version are serialized with SBE, writing the entries straight from the buffers
+   * they are a view of.
+   */
+  public static final int SBE_VERSION = 3;
+
+  private static final int CURRENT_VERSION = SBE_VERSION;
 
   private final int version;
   private final long term;
   private final String leader;
   private final long prevLogIndex;
   private final long prevLogTerm;
-  private final List<ReplicatableJournalRecord> entries;
+  private final List<? extends ReplicatableRaftRecord> entries;
   private final long commitIndex;
 
   public VersionedAppendRequest(
@@ -48,7 +57,7 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
       final String leader,
       final long prevLogIndex,
       final long prevLogTerm,
-      final List<ReplicatableJournalRecord> entries,
+      final List<? extends ReplicatableRaftRecord> entries,
       final long commitIndex) {
     this.version = version;
     this.term = term;
@@ -109,7 +118,7 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
    *
    * @return A list of log entries.
    */
-  public List<ReplicatableJournalRecord> entries() {
+  public List<? extends ReplicatableRaftRecord> entries() {
     return entries;
   }
 
@@ -196,7 +205,7 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
     private String leader;
     private long logIndex;
     private long logTerm;
-    private List<ReplicatableJournalRecord> entries;
+    private List<? extends ReplicatableRaftRecord> entries;
     private long commitIndex = -1;
     private int version = CURRENT_VERSION;
 
@@ -271,7 +280,7 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
      * @return The append request builder.
      * @throws NullPointerException if {@code entries} is null
      */
-    public Builder withEntries(final List<ReplicatableJournalRecord> entries) {
+    public Builder withEntries(final List<? extends ReplicatableRaftRecord> entries) {
       this.entries = checkNotNull(entries, NULL_ENTRIES_ERR);
       return this;
     }
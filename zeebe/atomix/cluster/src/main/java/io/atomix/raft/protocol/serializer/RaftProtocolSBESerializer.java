@@ -0,0 +1,214 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecordView;
+import io.atomix.raft.protocol.ReplicatableRaftRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.serializer.AppendRequestEncoder.EntriesEncoder;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes append requests and responses of {@link VersionedAppendRequest#SBE_VERSION}.
+ *
+ * <p>Requests are encoded into an exactly sized array, copying each serialized journal record
+ * straight from the buffer it is a view of. Decoded requests contain {@link
+ * ReplicatableJournalRecordView}s on the received array, so a follower can append them to its
+ * journal without any intermediate copies.
+ *
+ * <p>The serializer holds no state and can be shared between threads.
+ */
+public final class RaftProtocolSBESerializer {
+
+  /** The maximum number of entries which can be encoded in a single append request. */
+  public static final int MAX_ENTRIES_PER_REQUEST = EntriesEncoder.countMaxValue();
+
+  private static final byte[] EMPTY = new byte[0];
+
+  public byte[] encodeAppendRequest(final VersionedAppendRequest request) {
+    final byte[] leader = request.leader().id().getBytes(UTF_8);
+    final List<? extends ReplicatableRaftRecord> entries = request.entries();
+
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    for (final ReplicatableRaftRecord entry : entries) {
+      length +=
+          EntriesEncoder.sbeBlockLength()
+              + EntriesEncoder.serializedJournalRecordHeaderLength()
+              + serializedJournalRecord(entry).capacity();
+    }
+
+    final var buffer = new UnsafeBuffer(new byte[length]);
+    final var encoder =
+        new AppendRequestEncoder()
+            .wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder())
+            .term(request.term())
+            .prevLogIndex(request.prevLogIndex())
+            .prevLogTerm(request.prevLogTerm())
+            .commitIndex(request.commitIndex());
+
+    final var entriesEncoder = encoder.entriesCount(entries.size());
+    for (final ReplicatableRaftRecord entry : entries) {
+      final DirectBuffer serializedRecord = serializedJournalRecord(entry);
+      entriesEncoder
+          .next()
+          .index(entry.index())
+          .term(entry.term())
+          .checksum(checksum(entry))
+          .putSerializedJournalRecord(serializedRecord, 0, serializedRecord.capacity());
+    }
+    encoder.putLeader(leader, 0, leader.length);
+
+    return buffer.byteArray();
+  }
+
+  public VersionedAppendRequest decodeAppendRequest(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = wrapHeader(buffer, AppendRequestDecoder.TEMPLATE_ID);
+    final var decoder =
+        new AppendRequestDecoder()
+            .wrap(
+                buffer,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final long term = decoder.term();
+    final long prevLogIndex = decoder.prevLogIndex();
+    final long prevLogTerm = decoder.prevLogTerm();
+    final long commitIndex = decoder.commitIndex();
+
+    final EntriesDecoder entriesDecoder = decoder.entries();
+    final List<ReplicatableJournalRecordView> entries = new ArrayList<>(entriesDecoder.count());
+    for (final EntriesDecoder entry : entriesDecoder) {
+      final long index = entry.index();
+      final long entryTerm = entry.term();
+      final long checksum = entry.checksum();
+      final var serializedRecord = new UnsafeBuffer();
+      entry.wrapSerializedJournalRecord(serializedRecord);
+      entries.add(new ReplicatableJournalRecordView(entryTerm, index, checksum, serializedRecord));
+    }
+
+    return new VersionedAppendRequest(
+        VersionedAppendRequest.SBE_VERSION,
+        term,
+        decoder.leader(),
+        prevLogIndex,
+        prevLogTerm,
+        entries,
+        commitIndex);
+  }
+
+  public byte[] encodeAppendResponse(final AppendResponse response) {
+    final RaftError error = response.error();
+    final byte[] errorType = error == null ? EMPTY : error.type().name().getBytes(UTF_8);
+    final byte[] errorMessage =
+        error == null || error.message() == null ? EMPTY : error.message().getBytes(UTF_8);
+
+    final int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendResponseEncoder.BLOCK_LENGTH
+            + AppendResponseEncoder.errorTypeHeaderLength()
+            + errorType.length
+            + AppendResponseEncoder.errorMessageHeaderLength()
+            + errorMessage.length;
+
+    final var buffer = new UnsafeBuffer(new byte[length]);
+    new AppendResponseEncoder()
+        .wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder())
+        .status(
+            response.status() == RaftResponse.Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR)
+        .term(response.term())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .configurationIndex(response.configurationIndex())
+        .putErrorType(errorType, 0, errorType.length)
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+
+    return buffer.byteArray();
+  }
+
+  public AppendResponse decodeAppendResponse(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = wrapHeader(buffer, AppendResponseDecoder.TEMPLATE_ID);
+    final var decoder =
+        new AppendResponseDecoder()
+            .wrap(
+                buffer,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final var status =
+        decoder.status() == ResponseStatus.OK ? RaftResponse.Status.OK : RaftResponse.Status.ERROR;
+    final long term = decoder.term();
+    final boolean succeeded = decoder.succeeded() == BooleanType.TRUE;
+    final long lastLogIndex = decoder.lastLogIndex();
+    final long lastSnapshotIndex = decoder.lastSnapshotIndex();
+    final long configurationIndex = decoder.configurationIndex();
+    final String errorType = decoder.errorType();
+    final String errorMessage = decoder.errorMessage();
+
+    final RaftError error =
+        errorType.isEmpty()
+            ? null
+            : new RaftError(
+                RaftError.Type.valueOf(errorType), errorMessage.isEmpty() ? null : errorMessage);
+    return new AppendResponse(
+        status, error, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+  }
+
+  private MessageHeaderDecoder wrapHeader(final DirectBuffer buffer, final int templateId) {
+    final var headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    if (headerDecoder.schemaId() != MessageHeaderDecoder.SCHEMA_ID
+        || headerDecoder.templateId() != templateId) {
+      throw new IllegalArgumentException(
+          "Expected message with schema %d and template %d, but got schema %d and template %d"
+              .formatted(
+                  MessageHeaderDecoder.SCHEMA_ID,
+                  templateId,
+                  headerDecoder.schemaId(),
+                  headerDecoder.templateId()));
+    }
+    return headerDecoder;
+  }
+
+  private static DirectBuffer serializedJournalRecord(final ReplicatableRaftRecord entry) {
+    if (entry instanceof final ReplicatableJournalRecordView view) {
+      return view.serializedJournalRecord();
+    } else if (entry instanceof final ReplicatableJournalRecord record) {
+      return new UnsafeBuffer(record.serializedJournalRecord());
+    }
+
+    throw new IllegalArgumentException(
+        "Expected to serialize ReplicatableJournalRecordView or ReplicatableJournalRecord, but found record of type %s"
+            .formatted(entry.getClass()));
+  }
+
+  private static long checksum(final ReplicatableRaftRecord entry) {
+    if (entry instanceof final ReplicatableJournalRecordView view) {
+      return view.checksum();
+    }
+    return ((ReplicatableJournalRecord) entry).checksum();
+  }
+}
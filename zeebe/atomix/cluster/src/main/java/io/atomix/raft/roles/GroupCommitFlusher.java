@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.metrics.LeaderMetrics;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import org.slf4j.Logger;
+
+/**
+ * Flushes the leader's log on a separate thread, so that the leader can replicate entries to its
+ * followers while they are being persisted locally.
+ *
+ * <p>At most one flush is in progress at any time. Entries appended while a flush is in progress
+ * are flushed together by the next one, such that a single flush may persist many entries. Once a
+ * flush completes, the given callback is invoked on the Raft thread, after which {@link
+ * #getFlushedIndex()} reflects the new durable index.
+ *
+ * <p>If a flush fails, the leader steps down, as it cannot guarantee anymore that the entries it
+ * counts towards the commit quorum are persisted.
+ *
+ * <p>NOTE: this class is not thread safe, and is expected to be called from the Raft thread.
+ */
+final class GroupCommitFlusher {
+
+  private final RaftContext raft;
+  private final ThreadContext flushContext;
+  private final LeaderMetrics metrics;
+  private final Logger log;
+  private final Runnable onFlushed;
+
+  private long flushedIndex;
+  private boolean flushInProgress;
+  private boolean flushPending;
+  private boolean closed;
+
+  GroupCommitFlusher(
+      final RaftContext raft,
+      final LeaderMetrics metrics,
+      final Logger log,
+      final Runnable onFlushed) {
+    this.raft = raft;
+    flushContext = raft.getGroupCommitContext();
+    this.metrics = metrics;
+    this.log = log;
+    this.onFlushed = onFlushed;
+  }
+
+  /**
+   * @return the index up to which the log is guaranteed to be persisted
+   */
+  long getFlushedIndex() {
+    return flushedIndex;
+  }
+
+  /**
+   * Signals that entries were appended to the log. Starts a new flush, unless one is already in
+   * progress, in which case the entries will be flushed by the next one.
+   */
+  void flush() {
+    raft.checkThread();
+    if (closed) {
+      return;
+    }
+
+    if (flushInProgress) {
+      flushPending = true;
+    } else {
+      startFlush();
+    }
+  }
+
+  void close() {
+    closed = true;
+  }
+
+  private void startFlush() {
+    final long flushIndex = raft.getLog().getLastIndex();
+    flushPending = false;
+    if (flushIndex <= flushedIndex) {
+      return;
+    }
+
+    flushInProgress = true;
+    final long startTime = System.nanoTime();
+    flushContext.execute(
+        () -> {
+          FlushException error = null;
+          try {
+            raft.getLog().forceFlush();
+          } catch (final FlushException e) {
+            error = e;
+          }
+
+          final var flushError = error;
+          raft.getThreadContext()
+              .execute(() -> onFlushCompleted(flushIndex, startTime, flushError));
+        });
+  }
+
+  private void onFlushCompleted(
+      final long flushIndex, final long startTime, final FlushException error) {
+    flushInProgress = false;
+    if (closed) {
+      return;
+    }
+
+    if (error != null) {
+      log.warn("Failed to flush log up to index {}, stepping down", flushIndex, error);
+      closed = true;
+      raft.transition(Role.FOLLOWER);
+      return;
+    }
+
+    metrics.observeGroupCommitFlush(flushIndex - flushedIndex, System.nanoTime() - startTime);
+    flushedIndex = flushIndex;
+    onFlushed.run();
+
+    if (flushPending) {
+      startFlush();
+    }
+  }
+}
@@ -33,10 +33,13 @@ import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftResponse;
-import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecordView;
+import io.atomix.raft.protocol.ReplicatableRaftRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.utils.logging.ContextualLoggerFactory;
@@ -50,6 +53,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -79,6 +83,8 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  // null unless the leader flushes its log concurrently with the replication
+  private final GroupCommitFlusher groupCommitFlusher;
 
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
@@ -97,6 +103,10 @@ final class LeaderAppender {
         raft.getMaxQuorumResponseTimeout().isZero()
             ? electionTimeout * 2
             : raft.getMaxQuorumResponseTimeout().toMillis();
+    groupCommitFlusher =
+        raft.isGroupCommitEnabled()
+            ? new GroupCommitFlusher(raft, metrics, log, this::commitEntries)
+            : null;
   }
 
   /**
@@ -133,6 +143,7 @@ final class LeaderAppender {
 
     final DefaultRaftMember leader = raft.getLeader();
     return builderWithPreviousEntry(prevEntry)
+        .withVersion(member.getAppendVersion(System.currentTimeMillis()))
         .withTerm(raft.getTerm())
         .withLeader(leader.memberId())
         .withEntries(Collections.emptyList())
@@ -166,12 +177,14 @@ final class LeaderAppender {
     final DefaultRaftMember leader = raft.getLeader();
     final VersionedAppendRequest.Builder builder =
         builderWithPreviousEntry(prevEntry)
+            .withVersion(member.getAppendVersion(System.currentTimeMillis()))
             .withTerm(raft.getTerm())
             .withLeader(leader.memberId())
             .withCommitIndex(raft.getCommitIndex());
 
-    // Build a list of entries to send to the member.
-    final List<ReplicatableJournalRecord> entries = new ArrayList<>();
+    // Build a list of entries to send to the member. The entries are views on the log, which are
+    // only copied when the request is serialized.
+    final List<ReplicatableJournalRecordView> entries = new ArrayList<>();
 
     // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
     // be null if they've been compacted and the member to which we're sending entries is just
@@ -185,10 +198,12 @@ final class LeaderAppender {
     while (hasMoreEntries(member)) {
       // Otherwise, read the next entry and add it to the batch.
       final IndexedRaftLogEntry entry = member.nextEntry();
-      final var replicatableRecord = entry.getReplicatableJournalRecord();
+      final var replicatableRecord = entry.getReplicatableJournalRecordView();
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex
+          || size >= maxBatchSizePerAppend
+          || entries.size() >= RaftProtocolSBESerializer.MAX_ENTRIES_PER_REQUEST) {
         break;
       }
     }
@@ -396,6 +411,7 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      member.setReusedSnapshotChunks(Map.of());
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -433,6 +449,7 @@ final class LeaderAppender {
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReusedChunks(member.getReusedSnapshotChunks())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -506,6 +523,11 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // The member was told which chunks to reuse, so they don't need to be sent again.
+    if (!request.reusedChunks().isEmpty()) {
+      member.setReusedSnapshotChunks(Map.of());
+    }
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -517,12 +539,32 @@ final class LeaderAppender {
     // If more install requests remain, increment the member's snapshot offset.
     else {
       member.setNextSnapshotChunkId(request.nextChunkId());
+      if (request.isInitial() && !response.snapshotChecksums().isEmpty()) {
+        skipSnapshotChunks(member, response.snapshotChecksums());
+      }
     }
 
     // Recursively append entries to the member.
     appendEntries(member);
   }
 
+  /**
+   * Skips the remaining chunks of the snapshot which the member already has in its own latest
+   * snapshot, e.g. the immutable files shared by consecutive snapshots. The member is told to reuse
+   * them with the next install request.
+   */
+  private void skipSnapshotChunks(
+      final RaftMemberContext member, final Map<String, Long> memberSnapshotChecksums) {
+    final var reusedChunks = member.getSnapshotChunkReader().skip(memberSnapshotChecksums);
+    if (!reusedChunks.isEmpty()) {
+      log.debug(
+          "Skipping {} snapshot chunks which {} already has",
+          reusedChunks.size(),
+          member.getMember().memberId());
+      member.setReusedSnapshotChunks(reusedChunks);
+    }
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   private void handleInstallResponseError(
@@ -556,11 +598,14 @@ final class LeaderAppender {
       return CompletableFuture.completedFuture(index);
     }
 
-    // If there are no other stateful servers in the cluster, immediately commit the index OR
-    // If there are no other active members in the cluster, update the commit index and complete the
-    // commit.
+    // With group commit, the leader flushes concurrently with the replication, and the entries are
+    // committed once a quorum, which may or may not include the leader, has persisted them.
+    // Otherwise, if there are no other active members in the cluster, update the commit index and
+    // complete the commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
-    if (raft.getCluster().isSingleMemberCluster()) {
+    if (groupCommitFlusher != null) {
+      groupCommitFlusher.flush();
+    } else if (raft.getCluster().isSingleMemberCluster()) {
       try {
         raft.setCommitIndex(index);
         completeCommits(index);
@@ -633,6 +678,16 @@ final class LeaderAppender {
 
   private void handleAppendResponseFailure(
       final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
+    if (ProtocolVersionHandler.isUnsupportedVersion(request, error)) {
+      log.info(
+          "{} does not support append requests of version {}, falling back to version {}",
+          member.getMember().memberId(),
+          request.version(),
+          VersionedAppendRequest.KRYO_VERSION);
+      member.fallBackToAppendVersion(
+          request.version(), VersionedAppendRequest.KRYO_VERSION, System.currentTimeMillis());
+    }
+
     failHeartbeat();
 
     // Log the failed attempt to contact the member.
@@ -693,6 +748,7 @@ final class LeaderAppender {
       final AppendResponse response) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
+    member.appendVersionSupported(request.version());
 
     updateConfigurationIndex(member, response);
 
@@ -703,7 +759,7 @@ final class LeaderAppender {
       metrics.observeAppend(
           member.getMember().memberId().id(),
           request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          request.entries().stream().mapToInt(ReplicatableRaftRecord::approximateSize).sum());
 
       commitEntries();
 
@@ -864,6 +920,9 @@ final class LeaderAppender {
 
   public void close() {
     open = false;
+    if (groupCommitFlusher != null) {
+      groupCommitFlusher.close();
+    }
     completeCommits(raft.getCommitIndex());
     appendFutures
         .values()
@@ -1010,11 +1069,17 @@ final class LeaderAppender {
   private void commitEntries() {
     raft.checkThread();
 
+    // With group commit, the leader only counts towards the quorum up to what it has flushed;
+    // otherwise it flushes synchronously on commit, and thus counts with its last index.
+    final long localIndex =
+        groupCommitFlusher != null
+            ? groupCommitFlusher.getFlushedIndex()
+            : raft.getLog().getLastIndex();
     final long commitIndex =
         raft.getCluster()
-            .getQuorumFor(RaftMemberContext::getMatchIndex)
-            // If there are no remote members, commit up to the last log index.
-            .orElseGet(() -> raft.getLog().getLastIndex());
+            .getQuorumFor(RaftMemberContext::getMatchIndex, localIndex)
+            // If there are no remote members, commit up to the local index.
+            .orElse(localIndex);
 
     // If the commit index has increased then update the commit index. Note that in order to ensure
     // the leader completeness property holds, we verify that the commit index is greater than or
@@ -1025,6 +1090,9 @@ final class LeaderAppender {
         && commitIndex > previousCommitIndex
         && (leaderIndex > 0 && commitIndex >= leaderIndex)) {
       log.trace("Committed entries up to {}", commitIndex);
+      if (groupCommitFlusher != null && commitIndex > groupCommitFlusher.getFlushedIndex()) {
+        metrics.observeCommitBeforeLocalFlush();
+      }
       raft.setCommitIndex(commitIndex);
       completeCommits(commitIndex);
     }
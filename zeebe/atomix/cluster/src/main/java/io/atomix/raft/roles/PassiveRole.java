@@ -39,6 +39,7 @@ import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReconfigureRequest;
 import io.atomix.raft.protocol.ReconfigureResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecordView;
 import io.atomix.raft.protocol.ReplicatableRaftRecord;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
@@ -61,6 +62,7 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -208,6 +210,27 @@ public class PassiveRole extends InactiveRole {
       raft.notifySnapshotReplicationStarted();
     }
 
+    if (!request.reusedChunks().isEmpty()) {
+      try {
+        pendingSnapshot.reuse(request.reusedChunks()).join();
+      } catch (final Exception e) {
+        log.warn(
+            "Failed to reuse chunks of the latest snapshot, rolling back snapshot {}",
+            pendingSnapshot,
+            e);
+
+        abortPendingSnapshots();
+        return CompletableFuture.completedFuture(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(RaftResponse.Status.ERROR)
+                    .withError(
+                        RaftError.Type.APPLICATION_ERROR,
+                        "Failed to reuse chunks of the latest snapshot")
+                    .build()));
+      }
+    }
+
     try {
       pendingSnapshot.apply(snapshotChunk).join();
     } catch (final Exception e) {
@@ -263,6 +286,17 @@ public class PassiveRole extends InactiveRole {
     } else {
       setNextExpected(request.nextChunkId());
       previouslyReceivedSnapshotChunkId = request.chunkId();
+
+      if (request.isInitial()) {
+        // let the leader skip the chunks which we already have in our latest snapshot
+        return CompletableFuture.completedFuture(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(RaftResponse.Status.OK)
+                    .withPreferredChunkSize(snapshotChunkSize)
+                    .withSnapshotChecksums(getCurrentSnapshotChecksums())
+                    .build()));
+      }
     }
 
     return CompletableFuture.completedFuture(
@@ -273,6 +307,11 @@ public class PassiveRole extends InactiveRole {
                 .build()));
   }
 
+  private Map<String, Long> getCurrentSnapshotChecksums() {
+    final var currentSnapshot = raft.getCurrentSnapshot();
+    return currentSnapshot == null ? Map.of() : currentSnapshot.getChecksums().getChecksums();
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -437,9 +476,12 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
-    // if null assume it is first chunk of file
+    // if null assume it is first chunk of file; the expected chunk may be skipped if it is reused
     if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
+        && !nextPendingSnapshotChunkId.equals(request.chunkId())
+        && !request
+            .reusedChunks()
+            .containsKey(new SnapshotChunkId(nextPendingSnapshotChunkId).fileName())) {
       final var errMsg =
           "Expected chunkId of ["
               + new SnapshotChunkId(nextPendingSnapshotChunkId)
@@ -895,9 +937,11 @@ public class PassiveRole extends InactiveRole {
         indexed = raft.getLog().append(raftRecord);
       } else if (entry instanceof final ReplicatableJournalRecord serializedJournalRecord) {
         indexed = raft.getLog().append(serializedJournalRecord);
+      } else if (entry instanceof final ReplicatableJournalRecordView journalRecordView) {
+        indexed = raft.getLog().append(journalRecordView);
       } else {
         throw new IllegalStateException(
-            "Expected to append PersistedRaftRecord or ReplicatableJournalRecord, but found record of type %s"
+            "Expected to append PersistedRaftRecord, ReplicatableJournalRecord or ReplicatableJournalRecordView, but found record of type %s"
                 .formatted(entry.getClass()));
       }
 
@@ -18,8 +18,10 @@ package io.atomix.raft.storage.log;
 
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecordView;
 import io.atomix.raft.storage.log.entry.ApplicationEntry;
 import io.atomix.raft.storage.log.entry.RaftEntry;
+import org.agrona.concurrent.UnsafeBuffer;
 
 /** Stores a state change in a {@link RaftLog}. */
 public interface IndexedRaftLogEntry {
@@ -65,4 +67,19 @@ public interface IndexedRaftLogEntry {
    * @return a record to replicate
    */
   ReplicatableJournalRecord getReplicatableJournalRecord();
+
+  /**
+   * Returns a record to replicate which is a view on the serialized record, e.g. on the mapped
+   * journal segment, instead of a copy of it. The view is only valid as long as the segment is.
+   *
+   * @return a record to replicate
+   */
+  default ReplicatableJournalRecordView getReplicatableJournalRecordView() {
+    final var record = getReplicatableJournalRecord();
+    return new ReplicatableJournalRecordView(
+        record.term(),
+        record.index(),
+        record.checksum(),
+        new UnsafeBuffer(record.serializedJournalRecord()));
+  }
 }
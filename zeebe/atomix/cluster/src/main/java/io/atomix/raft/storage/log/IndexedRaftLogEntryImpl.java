@@ -18,6 +18,7 @@ package io.atomix.raft.storage.log;
 
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecordView;
 import io.atomix.raft.storage.log.entry.ApplicationEntry;
 import io.atomix.raft.storage.log.entry.RaftEntry;
 import io.camunda.zeebe.journal.JournalRecord;
@@ -54,4 +55,10 @@ record IndexedRaftLogEntryImpl(long index, long term, RaftEntry entry, JournalRe
     record.serializedRecord().getBytes(0, serializedRecord);
     return new ReplicatableJournalRecord(term, index, record.checksum(), serializedRecord);
   }
+
+  @Override
+  public ReplicatableJournalRecordView getReplicatableJournalRecordView() {
+    return new ReplicatableJournalRecordView(
+        term, index, record.checksum(), record.serializedRecord());
+  }
 }
@@ -20,6 +20,7 @@ import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecordView;
 import io.atomix.raft.storage.log.RaftLogFlusher.Factory;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.raft.storage.serializer.RaftEntrySBESerializer;
@@ -169,6 +170,14 @@ public final class RaftLog implements Closeable {
     return lastAppendedEntry;
   }
 
+  public IndexedRaftLogEntry append(final ReplicatableJournalRecordView entry) {
+    final var writtenRecord = journal.append(entry.checksum(), entry.serializedJournalRecord());
+
+    final RaftLogEntry raftEntry = serializer.readRaftLogEntry(writtenRecord.data());
+    lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), writtenRecord);
+    return lastAppendedEntry;
+  }
+
   public void reset(final long index) {
     if (index < commitIndex) {
       throw new IllegalStateException(
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import java.util.ArrayList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class RaftGroupCommitTest {
+
+  @Rule @Parameter public RaftRule raftRule;
+
+  @Parameters(name = "{index}: {0}")
+  public static Object[][] raftConfigurations() {
+    return new Object[][] {
+      new Object[] {RaftRule.withBootstrappedNodes(1, new GroupCommitConfigurator())},
+      new Object[] {RaftRule.withBootstrappedNodes(3, new GroupCommitConfigurator())}
+    };
+  }
+
+  @Test
+  public void shouldEnableGroupCommitOnAllNodes() {
+    // then
+    assertThat(raftRule.getServers())
+        .allSatisfy(server -> assertThat(server.getContext().isGroupCommitEnabled()).isTrue());
+  }
+
+  @Test
+  public void shouldCommitConcurrentlyAppendedEntries() throws Exception {
+    // given
+    final var entryCount = 128;
+    final var listeners = new ArrayList<RaftRule.TestAppendListener>(entryCount);
+
+    // when
+    for (int i = 0; i < entryCount; i++) {
+      listeners.add(raftRule.appendEntryAsync());
+    }
+
+    // then
+    long lastIndex = 0;
+    for (final var listener : listeners) {
+      lastIndex = Math.max(lastIndex, listener.awaitCommit());
+    }
+
+    assertThat(lastIndex).isEqualTo(entryCount + 1);
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+  }
+
+  @Test
+  public void shouldKeepCommittedEntriesAfterLeaderRestart() throws Exception {
+    // given
+    final var lastIndex = raftRule.appendEntries(32);
+
+    // when
+    raftRule.restartLeader();
+
+    // then
+    raftRule.awaitNewLeader();
+    final var newIndex = raftRule.appendEntry();
+    raftRule.awaitSameLogSizeOnAllNodes(newIndex);
+    assertThat(raftRule.getMemberLogs().values())
+        .allSatisfy(
+            entries ->
+                assertThat(entries)
+                    .extracting(IndexedRaftLogEntry::index)
+                    .contains(lastIndex, newIndex));
+  }
+
+  private static final class GroupCommitConfigurator implements Configurator {
+
+    @Override
+    public void configure(final MemberId id, final Builder builder) {
+      builder.partitionConfig.setGroupCommitEnabled(true);
+    }
+  }
+}
@@ -260,6 +260,35 @@ final class RaftClusterContextTest {
     assertThat(context.getQuorumFor(RaftMemberContext::getMatchIndex)).hasValue(4L);
   }
 
+  @Test
+  void shouldCalculateQuorumWithLocalMemberValue() {
+    // given
+    final var localMember = new DefaultRaftMember(new MemberId("1"), Type.ACTIVE, Instant.now());
+    final var remoteMembers =
+        List.<RaftMember>of(
+            new DefaultRaftMember(new MemberId("2"), Type.ACTIVE, Instant.now()),
+            new DefaultRaftMember(new MemberId("3"), Type.ACTIVE, Instant.now()),
+            new DefaultRaftMember(new MemberId("4"), Type.ACTIVE, Instant.now()),
+            new DefaultRaftMember(new MemberId("5"), Type.ACTIVE, Instant.now()));
+    final var members = Stream.concat(Stream.of(localMember), remoteMembers.stream()).toList();
+
+    final var raft =
+        raftWithStoredConfiguration(new Configuration(1, 1, Instant.now().toEpochMilli(), members));
+    final var context = new RaftClusterContext(localMember.memberId(), raft);
+    context.bootstrap(List.of()).join();
+
+    // when
+    context.getMemberContext(new MemberId("2")).setMatchIndex(2);
+    context.getMemberContext(new MemberId("3")).setMatchIndex(3);
+    context.getMemberContext(new MemberId("4")).setMatchIndex(4);
+    context.getMemberContext(new MemberId("5")).setMatchIndex(5);
+
+    // then
+    assertThat(context.getQuorumFor(RaftMemberContext::getMatchIndex, 1L)).hasValue(3L);
+    assertThat(context.getQuorumFor(RaftMemberContext::getMatchIndex, 4L)).hasValue(4L);
+    assertThat(context.getQuorumFor(RaftMemberContext::getMatchIndex, 6L)).hasValue(4L);
+  }
+
   @Test
   void shouldNotIncludeLocalMemberInQuorumWhenItIsNotPartOfNewConfiguration() {
     // given
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static io.atomix.raft.cluster.impl.RaftMemberContext.MAX_APPEND_VERSION_PROBE_DELAY;
+import static io.atomix.raft.cluster.impl.RaftMemberContext.MIN_APPEND_VERSION_PROBE_DELAY;
+import static io.atomix.raft.protocol.VersionedAppendRequest.KRYO_VERSION;
+import static io.atomix.raft.protocol.VersionedAppendRequest.SBE_VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.storage.log.RaftLog;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private final RaftMemberContext member =
+      new RaftMemberContext(
+          new DefaultRaftMember(new MemberId("2"), Type.ACTIVE, Instant.now()),
+          mock(RaftClusterContext.class),
+          2);
+
+  @Test
+  void shouldUseLatestAppendVersionByDefault() {
+    // when - then
+    assertThat(member.getAppendVersion(0)).isEqualTo(SBE_VERSION);
+  }
+
+  @Test
+  void shouldProbeLatestAppendVersionAgainAfterDelay() {
+    // given
+    member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, 1_000);
+
+    // when - then
+    assertThat(member.getAppendVersion(1_000 + MIN_APPEND_VERSION_PROBE_DELAY - 1))
+        .isEqualTo(KRYO_VERSION);
+    assertThat(member.getAppendVersion(1_000 + MIN_APPEND_VERSION_PROBE_DELAY))
+        .isEqualTo(SBE_VERSION);
+  }
+
+  @Test
+  void shouldBackOffProbingOnConsecutiveFallbacks() {
+    // given
+    long now = 0;
+    member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, now);
+    now += MIN_APPEND_VERSION_PROBE_DELAY;
+    member.getAppendVersion(now);
+
+    // when
+    member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, now);
+
+    // then
+    assertThat(member.getAppendVersion(now + MIN_APPEND_VERSION_PROBE_DELAY))
+        .isEqualTo(KRYO_VERSION);
+    assertThat(member.getAppendVersion(now + 2 * MIN_APPEND_VERSION_PROBE_DELAY))
+        .isEqualTo(SBE_VERSION);
+  }
+
+  @Test
+  void shouldCapProbeDelay() {
+    // given
+    long now = 0;
+    for (int i = 0; i < 20; i++) {
+      member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, now);
+      now += MAX_APPEND_VERSION_PROBE_DELAY;
+      member.getAppendVersion(now);
+    }
+
+    // when
+    member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, now);
+
+    // then
+    assertThat(member.getAppendVersion(now + MAX_APPEND_VERSION_PROBE_DELAY))
+        .isEqualTo(SBE_VERSION);
+  }
+
+  @Test
+  void shouldIgnoreFallbackOfOutdatedRequests() {
+    // given
+    member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, 0);
+
+    // when - another in-flight request of the latest version fails
+    member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, 5_000);
+
+    // then - the probe delay was neither restarted nor doubled
+    assertThat(member.getAppendVersion(MIN_APPEND_VERSION_PROBE_DELAY)).isEqualTo(SBE_VERSION);
+  }
+
+  @Test
+  void shouldResetProbeDelayOnceLatestVersionIsSupported() {
+    // given
+    member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, 0);
+    final long probeTime = MIN_APPEND_VERSION_PROBE_DELAY;
+    member.getAppendVersion(probeTime);
+    member.appendVersionSupported(SBE_VERSION);
+
+    // when
+    member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, probeTime);
+
+    // then
+    assertThat(member.getAppendVersion(probeTime + MIN_APPEND_VERSION_PROBE_DELAY))
+        .isEqualTo(SBE_VERSION);
+  }
+
+  @Test
+  void shouldProbeLatestAppendVersionOnReset() {
+    // given
+    member.fallBackToAppendVersion(SBE_VERSION, KRYO_VERSION, 0);
+
+    // when
+    member.resetState(mock(RaftLog.class));
+
+    // then
+    assertThat(member.getAppendVersion(0)).isEqualTo(SBE_VERSION);
+  }
+}
@@ -17,6 +17,7 @@
 package io.atomix.raft.protocol;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import io.camunda.zeebe.util.collection.Tuple;
 import java.net.ConnectException;
 import java.time.Duration;
@@ -37,6 +38,7 @@ import org.slf4j.LoggerFactory;
  */
 public class ControllableRaftServerProtocol implements RaftServerProtocol {
   private static final Logger LOG = LoggerFactory.getLogger(ControllableRaftServerProtocol.class);
+  private static final RaftProtocolSBESerializer SBE_SERIALIZER = new RaftProtocolSBESerializer();
 
   private Function<ConfigureRequest, CompletableFuture<ConfigureResponse>> configureHandler;
   private Function<ReconfigureRequest, CompletableFuture<ReconfigureResponse>> reconfigureHandler;
@@ -287,11 +289,12 @@ public class ControllableRaftServerProtocol implements RaftServerProtocol {
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
     final var responseFuture = new CompletableFuture<AppendResponse>();
+    final var serializedRequest = serialize(request);
     send(
         memberId,
         () ->
             getServer(memberId)
-                .thenCompose(listener -> listener.append(request))
+                .thenCompose(listener -> listener.append(serializedRequest))
                 .thenAccept(
                     response -> send(localMemberId, () -> responseFuture.complete(response), null)),
         responseFuture);
@@ -500,4 +503,15 @@ public class ControllableRaftServerProtocol implements RaftServerProtocol {
       return CompletableFuture.failedFuture(new ConnectException());
     }
   }
+
+  /**
+   * Serializes SBE requests as the real protocol does, since their entries are views on the
+   * sender's log which must not be shared with the receiver.
+   */
+  private static VersionedAppendRequest serialize(final VersionedAppendRequest request) {
+    if (request.version() < VersionedAppendRequest.SBE_VERSION) {
+      return request;
+    }
+    return SBE_SERIALIZER.decodeAppendRequest(SBE_SERIALIZER.encodeAppendRequest(request));
+  }
 }
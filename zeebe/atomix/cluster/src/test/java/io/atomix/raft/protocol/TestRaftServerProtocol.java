@@ -18,6 +18,7 @@ package io.atomix.raft.protocol;
 
 import com.google.common.collect.Sets;
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import java.net.ConnectException;
 import java.util.Map;
 import java.util.Set;
@@ -33,6 +34,7 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
 
   private static final long REQUEST_TIMEOUT_MS = 1000;
   private static final long CONFIGURATION_REQUEST_TIMEOUT_MS = 4000;
+  private static final RaftProtocolSBESerializer SBE_SERIALIZER = new RaftProtocolSBESerializer();
 
   private Function<ConfigureRequest, CompletableFuture<ConfigureResponse>> configureHandler;
   private Function<ReconfigureRequest, CompletableFuture<ReconfigureResponse>> reconfigureHandler;
@@ -171,9 +173,11 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
+    final var serializedRequest = serialize(request);
     return getServer(memberId)
-        .thenCompose(listener -> intercept(listener, request, VersionedAppendRequest.class))
-        .thenCompose(listener -> listener.append(request))
+        .thenCompose(
+            listener -> intercept(listener, serializedRequest, VersionedAppendRequest.class))
+        .thenCompose(listener -> listener.append(serializedRequest))
         .thenCompose(response -> transformResponse(response, AppendResponse.class))
         .orTimeout(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
   }
@@ -439,4 +443,15 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
 
   @FunctionalInterface
   public interface ResponseInterceptor<T> extends Function<T, CompletableFuture<T>> {}
+
+  /**
+   * Serializes SBE requests as the real protocol does, since their entries are views on the
+   * sender's log which must not be shared with the receiver.
+   */
+  private static VersionedAppendRequest serialize(final VersionedAppendRequest request) {
+    if (request.version() < VersionedAppendRequest.SBE_VERSION) {
+      return request;
+    }
+    return SBE_SERIALIZER.decodeAppendRequest(SBE_SERIALIZER.encodeAppendRequest(request));
+  }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.RaftError.Type;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecordView;
+import io.atomix.raft.protocol.ReplicatableRaftRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class RaftProtocolSBESerializerTest {
+
+  private final RaftProtocolSBESerializer serializer = new RaftProtocolSBESerializer();
+
+  @Test
+  void shouldEncodeAndDecodeAppendRequest() {
+    // given
+    final var request =
+        appendRequest(
+            List.of(
+                new ReplicatableJournalRecordView(2, 11, 123, view("first")),
+                new ReplicatableJournalRecordView(2, 12, 456, view("second"))));
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded.version()).isEqualTo(VersionedAppendRequest.SBE_VERSION);
+    assertThat(decoded.term()).isEqualTo(2);
+    assertThat(decoded.leader()).isEqualTo(MemberId.from("leader"));
+    assertThat(decoded.prevLogIndex()).isEqualTo(10);
+    assertThat(decoded.prevLogTerm()).isEqualTo(1);
+    assertThat(decoded.commitIndex()).isEqualTo(9);
+    assertThat(entries(decoded)).containsExactlyElementsOf(entries(request));
+  }
+
+  @Test
+  void shouldEncodeEmptyAppendRequest() {
+    // given
+    final var request = appendRequest(List.of());
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldEncodeCopiedJournalRecords() {
+    // given
+    final var record = new ReplicatableJournalRecord(2, 11, 123, "data".getBytes());
+    final var request = appendRequest(List.of(record));
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(entries(decoded))
+        .singleElement()
+        .isInstanceOfSatisfying(
+            ReplicatableJournalRecordView.class,
+            view -> assertThat(view.toReplicatableJournalRecord()).isEqualTo(record));
+  }
+
+  @Test
+  void shouldDecodeEntriesAsViewsOnReceivedMessage() {
+    // given
+    final var request =
+        appendRequest(List.of(new ReplicatableJournalRecordView(2, 11, 123, view("data"))));
+    final byte[] message = serializer.encodeAppendRequest(request);
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(message);
+
+    // then
+    final var entry = (ReplicatableJournalRecordView) decoded.entries().getFirst();
+    assertThat(entry.serializedJournalRecord().byteArray()).isSameAs(message);
+  }
+
+  @Test
+  void shouldEncodeAndDecodeAppendResponse() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 3, true, 15, 7, 2);
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error()).isNull();
+  }
+
+  @Test
+  void shouldEncodeAndDecodeAppendResponseWithError() {
+    // given
+    final var response =
+        new AppendResponse(
+            Status.ERROR,
+            new RaftError(Type.ILLEGAL_MEMBER_STATE, "not a follower"),
+            3,
+            false,
+            15,
+            7,
+            2);
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error().type()).isEqualTo(Type.ILLEGAL_MEMBER_STATE);
+    assertThat(decoded.error().message()).isEqualTo("not a follower");
+  }
+
+  @Test
+  void shouldRejectMessageOfOtherTemplate() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 3, true, 15, 7, 2);
+    final byte[] message = serializer.encodeAppendResponse(response);
+
+    // when - then
+    assertThatThrownBy(() -> serializer.decodeAppendRequest(message))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldCopyViewsWhenConvertingToKryoCompatibleRequest() {
+    // given
+    final var request =
+        appendRequest(List.of(new ReplicatableJournalRecordView(2, 11, 123, view("data"))));
+
+    // when
+    final var kryoRequest = ProtocolVersionHandler.toKryoCompatible(request);
+
+    // then
+    assertThat(kryoRequest.version()).isEqualTo(VersionedAppendRequest.KRYO_VERSION);
+    assertThat(entries(kryoRequest))
+        .containsExactly(new ReplicatableJournalRecord(2, 11, 123, "data".getBytes()));
+  }
+
+  private static VersionedAppendRequest appendRequest(
+      final List<? extends ReplicatableRaftRecord> entries) {
+    return VersionedAppendRequest.builder()
+        .withTerm(2)
+        .withLeader(MemberId.from("leader"))
+        .withPrevLogIndex(10)
+        .withPrevLogTerm(1)
+        .withCommitIndex(9)
+        .withEntries(entries)
+        .build();
+  }
+
+  private static List<ReplicatableRaftRecord> entries(final VersionedAppendRequest request) {
+    return List.copyOf(request.entries());
+  }
+
+  private static UnsafeBuffer view(final String data) {
+    // wrap with an offset, as the views on a journal segment also start within a larger buffer
+    final byte[] bytes = ("prefix" + data).getBytes();
+    return new UnsafeBuffer(bytes, "prefix".length(), data.length());
+  }
+}
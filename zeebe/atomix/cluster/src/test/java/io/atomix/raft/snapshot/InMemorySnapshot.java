@@ -30,6 +30,7 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -212,6 +213,12 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final Map<String, Long> chunkChecksums) {
+    return CompletableActorFuture.completedExceptionally(
+        new UnsupportedOperationException("In-memory snapshots never skip chunks"));
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
@@ -8,8 +8,18 @@
 package io.camunda.zeebe.backup.common;
 
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /** FileSet use in Manifest serialization, in order to list all stored files. */
@@ -17,6 +27,7 @@ public record FileSet(List<NamedFile> files) {
 
   public static final String ERROR_MSG_UNIQUE_FILES =
       "Expected file name '%s' to be unique, but occurred '%s' times in %s";
+  private static final String CONTENT_KEY_ALGORITHM = "SHA-256";
 
   public FileSet {
     Objects.requireNonNull(files);
@@ -43,9 +54,57 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * Creates a file set in which every file is identified by the SHA-256 digest of its content, so
+   * that stores can keep a single copy of files which are shared by multiple backups.
+   */
+  public static FileSet contentAddressed(final NamedFileSet fileSet) {
+    if (fileSet == null) {
+      return new FileSet(List.of());
+    }
+
+    return new FileSet(
+        fileSet.namedFiles().entrySet().stream()
+            .map(file -> new NamedFile(file.getKey(), contentKey(file.getValue())))
+            .toList());
+  }
+
+  /** Returns the content keys of all content addressed files of this set. */
+  public Set<String> contentKeys() {
+    return files.stream()
+        .map(NamedFile::contentKey)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
+  private static String contentKey(final Path file) {
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final var digest = MessageDigest.getInstance(CONTENT_KEY_ALGORITHM);
+      final var buffer = ByteBuffer.allocate(64 * 1024);
+      while (channel.read(buffer) >= 0) {
+        digest.update(buffer.flip());
+        buffer.clear();
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * @param name the name of the file within the backup
+   * @param contentKey the digest of the file content if the file is stored content addressed,
+   *     otherwise null
+   */
+  public record NamedFile(String name, String contentKey) {
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null);
+    }
   }
 }
@@ -15,19 +15,25 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 
 @JsonSerialize(as = ManifestImpl.class)
 @JsonDeserialize(as = ManifestImpl.class)
 public sealed interface Manifest {
 
   static InProgressManifest createInProgress(final Backup backup) {
+    return createInProgress(backup, FileSet.of(backup.snapshot()), FileSet.of(backup.segments()));
+  }
+
+  static InProgressManifest createInProgress(
+      final Backup backup, final FileSet snapshot, final FileSet segments) {
     final var creationTime = Instant.now();
     return new ManifestImpl(
         BackupIdentifierImpl.from(backup.id()),
         BackupDescriptorImpl.from(backup.descriptor()),
         StatusCode.IN_PROGRESS,
-        FileSet.of(backup.snapshot()),
-        FileSet.of(backup.segments()),
+        snapshot,
+        segments,
         creationTime,
         creationTime);
   }
@@ -60,6 +66,12 @@ public sealed interface Manifest {
 
   FailedManifest asFailed();
 
+  /**
+   * Returns the content keys of all content addressed files referenced by this manifest, regardless
+   * of its status. See {@link FileSet#contentAddressed(io.camunda.zeebe.backup.api.NamedFileSet)}.
+   */
+  Set<String> contentKeys();
+
   static BackupStatus toStatus(final Manifest manifest) {
     return switch (manifest.statusCode()) {
       case IN_PROGRESS ->
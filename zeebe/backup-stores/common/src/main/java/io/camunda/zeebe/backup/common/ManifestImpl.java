@@ -14,6 +14,8 @@ import static io.camunda.zeebe.backup.common.Manifest.StatusCode.IN_PROGRESS;
 import io.camunda.zeebe.backup.common.BackupStoreException.InvalidPersistedManifestState;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
 
 public record ManifestImpl(
     BackupIdentifierImpl id,
@@ -59,6 +61,18 @@ public record ManifestImpl(
         id, descriptor, FAILED, snapshot, segments, createdAt, Instant.now(), failureReason);
   }
 
+  @Override
+  public Set<String> contentKeys() {
+    final var contentKeys = new HashSet<String>();
+    if (snapshot != null) {
+      contentKeys.addAll(snapshot.contentKeys());
+    }
+    if (segments != null) {
+      contentKeys.addAll(segments.contentKeys());
+    }
+    return contentKeys;
+  }
+
   @Override
   public InProgressManifest asInProgress() {
     if (statusCode != IN_PROGRESS) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.FileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the files of a backup as plain files. Files which did not change since the previous backup
+ * of the same partition and node are hard linked to the previous backup's copy instead of being
+ * copied again, so that taking a backup of a mostly unchanged snapshot is cheap in space and in
+ * writes. Whether a file changed is decided by the content digest recorded in the manifests, see
+ * {@link FileSet#contentAddressed(NamedFileSet)}. As the links share the same data, backup files
+ * must never be modified in place; restoring therefore always copies them.
+ */
+final class FileSetManager {
+  private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
+
+  // files are stored as contents/partitionId/checkpointId/nodeId/fileSetName/fileName
+  private static final String CONTENTS_DIRECTORY = "contents";
+
+  private final Path contentsDirectory;
+
+  FileSetManager(final Path basePath) {
+    contentsDirectory = basePath.resolve(CONTENTS_DIRECTORY);
+  }
+
+  /**
+   * Saves the given files. If {@code previousFileSet} is present, every file which has the same
+   * name, content digest and size in the previous backup is hard linked instead of copied.
+   *
+   * @param manifestFileSet the content addressed file set recorded in the manifest of this backup
+   */
+  void save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet manifestFileSet,
+      final Optional<PreviousFileSet> previousFileSet) {
+    final var fileSetPath = fileSetPath(id, fileSetName);
+    final var contentKeys = contentKeysByName(manifestFileSet);
+    final var previousContentKeys =
+        previousFileSet.map(previous -> contentKeysByName(previous.fileSet())).orElse(Map.of());
+    final var previousFileSetPath =
+        previousFileSet.map(previous -> fileSetPath(previous.id(), fileSetName));
+
+    try {
+      FileUtil.ensureDirectoryExists(fileSetPath);
+      for (final var namedFile : fileSet.namedFiles().entrySet()) {
+        final var fileName = namedFile.getKey();
+        final var target = fileSetPath.resolve(fileName);
+        final var source = namedFile.getValue();
+
+        final var contentKey = contentKeys.get(fileName);
+        final var previous = previousFileSetPath.map(path -> path.resolve(fileName));
+        if (previous.isPresent()
+            && contentKey != null
+            && contentKey.equals(previousContentKeys.get(fileName))
+            && hasSameSize(source, previous.get())
+            && tryLink(target, previous.get())) {
+          continue;
+        }
+
+        copy(source, target, StandardOpenOption.CREATE_NEW);
+      }
+      FileUtil.flushDirectory(fileSetPath);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void delete(final BackupIdentifier id, final String fileSetName) {
+    final var fileSetPath = fileSetPath(id, fileSetName);
+    try {
+      FileUtil.deleteFolderIfExists(fileSetPath);
+      Files.deleteIfExists(fileSetPath.getParent());
+    } catch (final DirectoryNotEmptyException e) {
+      // other file sets of the backup are still present
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  NamedFileSet restore(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    final var fileSetPath = fileSetPath(id, fileSetName);
+    final var pathByName =
+        fileSet.files().stream()
+            .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
+
+    try {
+      for (final var entry : pathByName.entrySet()) {
+        copy(
+            fileSetPath.resolve(entry.getKey()),
+            entry.getValue(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return new NamedFileSetImpl(pathByName);
+  }
+
+  /**
+   * Guards against linking to a previous copy which does not match its recorded digest, e.g.
+   * because it was truncated, or because the source changed while it was copied.
+   */
+  private boolean hasSameSize(final Path source, final Path previous) throws IOException {
+    try {
+      return Files.size(previous) == Files.size(source);
+    } catch (final NoSuchFileException e) {
+      return false;
+    }
+  }
+
+  private static Map<String, String> contentKeysByName(final FileSet fileSet) {
+    final var contentKeys = new HashMap<String, String>();
+    for (final var file : fileSet.files()) {
+      if (file.contentKey() != null) {
+        contentKeys.put(file.name(), file.contentKey());
+      }
+    }
+    return contentKeys;
+  }
+
+  private boolean tryLink(final Path target, final Path previous) {
+    try {
+      Files.createLink(target, previous);
+      return true;
+    } catch (final UnsupportedOperationException | FileSystemException e) {
+      // e.g. the file system does not support hard links, or the link count limit was reached
+      LOG.debug("Failed to link {} to {}, copying it instead", target, previous, e);
+      return false;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void copy(final Path source, final Path target, final StandardOpenOption... targetOptions)
+      throws IOException {
+    final var options = EnumSet.of(StandardOpenOption.WRITE, targetOptions);
+    try (final var sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+        final var targetChannel = FileChannel.open(target, options)) {
+      final var size = sourceChannel.size();
+      var position = 0L;
+      while (position < size) {
+        position += sourceChannel.transferTo(position, size - position, targetChannel);
+      }
+      targetChannel.force(true);
+    }
+  }
+
+  /**
+   * @param id the id of the previous completed backup
+   * @param fileSet the file set recorded in the manifest of the previous backup
+   */
+  record PreviousFileSet(BackupIdentifier id, FileSet fileSet) {}
+
+  private Path fileSetPath(final BackupIdentifier id, final String fileSetName) {
+    return contentsDirectory
+        .resolve(String.valueOf(id.partitionId()))
+        .resolve(String.valueOf(id.checkpointId()))
+        .resolve(String.valueOf(id.nodeId()))
+        .resolve(fileSetName);
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
+import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.CompletedManifest;
+import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
+import io.camunda.zeebe.backup.common.Manifest.StatusCode;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Manages the manifests of all backups below the base path. Manifests are never written in place:
+ * they are written to a temporary file in the same directory first, which is then linked (when
+ * creating) or moved (when updating) to the final path, such that readers always see a complete
+ * manifest.
+ */
+final class ManifestManager {
+
+  // manifests are stored as manifests/partitionId/checkpointId/nodeId/manifest.json
+  private static final String MANIFESTS_DIRECTORY = "manifests";
+
+  private static final String MANIFEST_FILE_NAME = "manifest.json";
+  private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+  private static final Pattern CHECKPOINT_ID_PATTERN = Pattern.compile("\\d+");
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .registerModule(new Jdk8Module())
+          .registerModule(new JavaTimeModule())
+          .disable(WRITE_DATES_AS_TIMESTAMPS)
+          .setSerializationInclusion(Include.NON_ABSENT);
+
+  private final Path manifestsDirectory;
+
+  ManifestManager(final Path basePath) {
+    manifestsDirectory = basePath.resolve(MANIFESTS_DIRECTORY);
+  }
+
+  InProgressManifest createInitialManifest(
+      final Backup backup, final FileSet snapshot, final FileSet segments) {
+    final var manifest = Manifest.createInProgress(backup, snapshot, segments);
+    final var path = manifestPath(manifest.id());
+
+    try {
+      FileUtil.ensureDirectoryExists(path.getParent());
+      final var temporary = writeTemporary(path, manifest);
+      try {
+        // unlike a move, linking fails if the target exists, which makes this an atomic
+        // create-if-absent
+        Files.createLink(path, temporary);
+      } catch (final FileAlreadyExistsException e) {
+        throw new UnexpectedManifestState("Manifest already exists.", e);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+      FileUtil.flushDirectory(path.getParent());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return manifest;
+  }
+
+  void completeManifest(final InProgressManifest inProgressManifest) {
+    final var id = inProgressManifest.id();
+    final var manifest = getManifest(id);
+    if (manifest == null) {
+      throw new UnexpectedManifestState("Manifest does not exist.");
+    } else if (manifest.statusCode() != StatusCode.IN_PROGRESS) {
+      throw new UnexpectedManifestState(
+          "Expected manifest to be in progress but was in %s"
+              .formatted(manifest.statusCode().name()));
+    }
+
+    replace(inProgressManifest.complete());
+  }
+
+  void markAsFailed(final BackupIdentifier id, final String failureReason) {
+    var manifest = getManifest(id);
+    if (manifest == null) {
+      manifest = Manifest.createFailed(id);
+    }
+
+    final var updatedManifest =
+        switch (manifest.statusCode()) {
+          case FAILED -> manifest.asFailed();
+          case COMPLETED -> manifest.asCompleted().fail(failureReason);
+          case IN_PROGRESS -> manifest.asInProgress().fail(failureReason);
+        };
+
+    if (manifest != updatedManifest) {
+      replace(updatedManifest);
+    }
+  }
+
+  void deleteManifest(final BackupIdentifier id) {
+    final Manifest manifest = getManifest(id);
+    if (manifest == null) {
+      return;
+    } else if (manifest.statusCode() == StatusCode.IN_PROGRESS) {
+      throw new UnexpectedManifestState(
+          "Cannot delete Backup with id '%s' while saving is in progress."
+              .formatted(id.toString()));
+    }
+
+    try {
+      final var path = manifestPath(id);
+      Files.deleteIfExists(path);
+      FileUtil.deleteFolderIfExists(path.getParent());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  Manifest getManifest(final BackupIdentifier id) {
+    return readManifest(manifestPath(id));
+  }
+
+  Collection<Manifest> listManifests(final BackupIdentifierWildcard wildcard) {
+    return directories(manifestsDirectory, wildcard.partitionId())
+        .flatMap(partition -> directories(partition, wildcard.checkpointId()))
+        .flatMap(checkpoint -> directories(checkpoint, wildcard.nodeId()))
+        .map(node -> readManifest(node.resolve(MANIFEST_FILE_NAME)))
+        .filter(manifest -> manifest != null && wildcard.matches(manifest.id()))
+        .toList();
+  }
+
+  /**
+   * Returns the manifest of the latest completed backup of the same partition and node which was
+   * taken before the given backup, if any.
+   */
+  Optional<CompletedManifest> findPreviousCompletedBackup(final BackupIdentifier id) {
+    return directories(manifestsDirectory, Optional.of(id.partitionId()))
+        .flatMap(partition -> directories(partition, Optional.empty()))
+        .map(checkpoint -> checkpoint.getFileName().toString())
+        .filter(checkpoint -> CHECKPOINT_ID_PATTERN.matcher(checkpoint).matches())
+        .map(Long::parseLong)
+        .filter(checkpointId -> checkpointId < id.checkpointId())
+        .sorted(Comparator.reverseOrder())
+        .map(
+            checkpointId ->
+                getManifest(new BackupIdentifierImpl(id.nodeId(), id.partitionId(), checkpointId)))
+        .filter(manifest -> manifest != null && manifest.statusCode() == StatusCode.COMPLETED)
+        .findFirst()
+        .map(Manifest::asCompleted);
+  }
+
+  private Manifest readManifest(final Path path) {
+    try {
+      return MAPPER.readValue(Files.readAllBytes(path), Manifest.class);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void replace(final Manifest manifest) {
+    final var path = manifestPath(manifest.id());
+    try {
+      FileUtil.ensureDirectoryExists(path.getParent());
+      final var temporary = writeTemporary(path, manifest);
+      FileUtil.moveDurably(
+          temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path writeTemporary(final Path path, final Manifest manifest) throws IOException {
+    final var temporary =
+        Files.createTempFile(path.getParent(), MANIFEST_FILE_NAME, TEMPORARY_FILE_SUFFIX);
+    Files.write(temporary, MAPPER.writeValueAsBytes(manifest), StandardOpenOption.WRITE);
+    FileUtil.flush(temporary);
+    return temporary;
+  }
+
+  private Path manifestPath(final BackupIdentifier id) {
+    return manifestsDirectory
+        .resolve(String.valueOf(id.partitionId()))
+        .resolve(String.valueOf(id.checkpointId()))
+        .resolve(String.valueOf(id.nodeId()))
+        .resolve(MANIFEST_FILE_NAME);
+  }
+
+  /**
+   * Returns the given directory's subdirectories; if the wildcard component is present, only the
+   * matching one.
+   */
+  private static Stream<Path> directories(
+      final Path directory, final Optional<? extends Number> component) {
+    if (component.isPresent()) {
+      final var child = directory.resolve(component.get().toString());
+      return Files.isDirectory(child) ? Stream.of(child) : Stream.empty();
+    }
+
+    try (final var children = Files.list(directory)) {
+      return children.filter(Files::isDirectory).toList().stream();
+    } catch (final NoSuchFileException e) {
+      return Stream.empty();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
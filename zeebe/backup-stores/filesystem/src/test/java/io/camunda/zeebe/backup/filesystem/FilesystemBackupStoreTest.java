@@ -0,0 +1,192 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FilesystemBackupStoreTest implements BackupStoreTestKit {
+
+  @TempDir private Path basePath;
+  private FilesystemBackupStore store;
+
+  @BeforeEach
+  void setup() {
+    store =
+        new FilesystemBackupStore(
+            new FilesystemBackupConfig.Builder().withBasePath(basePath.toString()).build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync().join();
+  }
+
+  @Override
+  public BackupStore getStore() {
+    return store;
+  }
+
+  @Override
+  public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
+    return UnexpectedManifestState.class;
+  }
+
+  @Override
+  public Class<? extends Exception> getFileNotFoundExceptionClass() {
+    return NoSuchFileException.class;
+  }
+
+  @Test
+  void shouldLinkUnchangedFilesOfPreviousBackup() throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    final var nextBackup = withCheckpointId(backup, backup.id().checkpointId() + 1);
+    store.save(backup).join();
+
+    // when
+    store.save(nextBackup).join();
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                storedFile(backup, "snapshot", "snapshot-file-1"),
+                storedFile(nextBackup, "snapshot", "snapshot-file-1")))
+        .isTrue();
+    assertThat(
+            Files.isSameFile(
+                storedFile(backup, "segments", "segment-file-1"),
+                storedFile(nextBackup, "segments", "segment-file-1")))
+        .isTrue();
+  }
+
+  @Test
+  void shouldCopyChangedFilesOfPreviousBackup() throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    final var nextBackup = withCheckpointId(backup, backup.id().checkpointId() + 1);
+    store.save(backup).join();
+
+    // when
+    Files.write(
+        nextBackup.segments().namedFiles().get("segment-file-1"),
+        new byte[] {1},
+        StandardOpenOption.APPEND);
+    store.save(nextBackup).join();
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                storedFile(backup, "segments", "segment-file-1"),
+                storedFile(nextBackup, "segments", "segment-file-1")))
+        .isFalse();
+    assertThat(
+            Files.isSameFile(
+                storedFile(backup, "segments", "segment-file-2"),
+                storedFile(nextBackup, "segments", "segment-file-2")))
+        .isTrue();
+  }
+
+  @Test
+  void shouldCopyFilesChangedWithSameSizeAndModificationTime(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    final var nextBackup = withCheckpointId(backup, backup.id().checkpointId() + 1);
+    store.save(backup).join();
+
+    // when
+    final var changedFile = nextBackup.segments().namedFiles().get("segment-file-1");
+    final var modifiedTime = Files.getLastModifiedTime(changedFile);
+    final var content = Files.readAllBytes(changedFile);
+    content[0]++;
+    Files.write(changedFile, content);
+    Files.setLastModifiedTime(changedFile, modifiedTime);
+    store.save(nextBackup).join();
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                storedFile(backup, "segments", "segment-file-1"),
+                storedFile(nextBackup, "segments", "segment-file-1")))
+        .isFalse();
+    final var restored = store.restore(nextBackup.id(), targetDir).join();
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(nextBackup);
+  }
+
+  @Test
+  void shouldRestoreLinkedBackupAfterDeletingPreviousBackup(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    final var nextBackup = withCheckpointId(backup, backup.id().checkpointId() + 1);
+    store.save(backup).join();
+    store.save(nextBackup).join();
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    final var restored = store.restore(nextBackup.id(), targetDir).join();
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(nextBackup).residesInPath(targetDir);
+  }
+
+  @Test
+  void shouldNotLinkFilesOfFailedBackup() throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    final var nextBackup = withCheckpointId(backup, backup.id().checkpointId() + 1);
+    store.save(backup).join();
+    store.markFailed(backup.id(), "failed for testing").join();
+
+    // when
+    store.save(nextBackup).join();
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                storedFile(backup, "segments", "segment-file-1"),
+                storedFile(nextBackup, "segments", "segment-file-1")))
+        .isFalse();
+  }
+
+  private Path storedFile(final Backup backup, final String fileSetName, final String fileName) {
+    return basePath
+        .resolve("contents")
+        .resolve(String.valueOf(backup.id().partitionId()))
+        .resolve(String.valueOf(backup.id().checkpointId()))
+        .resolve(String.valueOf(backup.id().nodeId()))
+        .resolve(fileSetName)
+        .resolve(fileName);
+  }
+
+  private static Backup withCheckpointId(final Backup backup, final long checkpointId) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(backup.id().nodeId(), backup.id().partitionId(), checkpointId),
+        backup.descriptor(),
+        backup.snapshot(),
+        backup.segments());
+  }
+}
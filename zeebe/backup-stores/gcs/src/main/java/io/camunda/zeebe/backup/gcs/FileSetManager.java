@@ -7,11 +7,14 @@
  */
 package io.camunda.zeebe.backup.gcs;
 
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.Storage.BlobSourceOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.FileSet;
@@ -20,6 +23,9 @@ import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 final class FileSetManager {
@@ -37,6 +43,28 @@ final class FileSetManager {
    */
   private static final String PATH_FORMAT = "%scontents/%s/%s/%s/%s/";
 
+  /**
+   * Content addressed files are stored once per partition, independently of the backups which
+   * reference them. The path format consists of the following elements:
+   *
+   * <ul>
+   *   <li>{@code basePath}
+   *   <li>{@code "objects"}
+   *   <li>{@code partitionId}
+   *   <li>{@code contentKey}
+   * </ul>
+   *
+   * The content itself is stored in the blob {@code "content"} below this path. Every backup which
+   * references the content creates an empty blob {@code "refs/<checkpointId>-<nodeId>"} next to it,
+   * and the content is deleted together with the last reference.
+   */
+  private static final String OBJECT_PATH_FORMAT = "%sobjects/%s/%s/";
+
+  private static final String OBJECT_CONTENT_BLOB_NAME = "content";
+  private static final String OBJECT_REFERENCES_PATH = "refs/";
+  private static final String LAST_REFERENCED_BY_METADATA = "lastReferencedBy";
+  private static final int NOT_FOUND = 404;
+
   private final Storage client;
   private final BucketInfo bucketInfo;
   private final String basePath;
@@ -48,18 +76,81 @@ final class FileSetManager {
   }
 
   void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+    save(id, fileSetName, fileSet, FileSet.of(fileSet));
+  }
+
+  /**
+   * Saves the given files. Files which have a content key in the given {@link FileSet} are stored
+   * content addressed, and only uploaded if no other backup of the partition contains them yet.
+   */
+  void save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet manifestFileSet) {
+    final var contentKeys = contentKeysByName(manifestFileSet);
     for (final var namedFile : fileSet.namedFiles().entrySet()) {
       final var fileName = namedFile.getKey();
       final var filePath = namedFile.getValue();
+      final var contentKey = contentKeys.get(fileName);
       try {
-        client.createFrom(
-            blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
+        if (contentKey != null) {
+          saveContent(id, contentKey, filePath);
+        } else {
+          client.createFrom(
+              blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
+        }
       } catch (final IOException e) {
         throw new UncheckedIOException(e);
       }
     }
   }
 
+  private void saveContent(final BackupIdentifier id, final String contentKey, final Path filePath)
+      throws IOException {
+    // the reference must exist before we check for the content, so that a concurrent deletion of
+    // another backup referencing the same content sees it and keeps the content
+    client.create(referenceBlobInfo(id, contentKey));
+
+    // checking for the content bumps its metageneration, such that a concurrent deletion which
+    // listed the references before ours was created fails its precondition and keeps the content
+    final var contentBlobInfo = contentBlobInfo(id.partitionId(), contentKey);
+    if (touch(contentBlobInfo, id)) {
+      return;
+    }
+
+    try {
+      client.createFrom(contentBlobInfo, filePath, BlobWriteOption.doesNotExist());
+    } catch (final StorageException e) {
+      // another backup uploaded the same content concurrently
+      if (e.getCode() != ManifestManager.PRECONDITION_FAILED) {
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Updates the metadata of the given content, which increments its metageneration.
+   *
+   * @return true if the content exists, false otherwise
+   */
+  private boolean touch(final BlobInfo contentBlobInfo, final BackupIdentifier id) {
+    try {
+      final var updated =
+          client.update(
+              contentBlobInfo.toBuilder()
+                  .setMetadata(
+                      Map.of(LAST_REFERENCED_BY_METADATA, id.checkpointId() + "-" + id.nodeId()))
+                  .build());
+      return updated != null;
+    } catch (final StorageException e) {
+      if (e.getCode() == NOT_FOUND) {
+        return false;
+      }
+      throw e;
+    }
+  }
+
   public void delete(final BackupIdentifier id, final String fileSetName) {
     for (final var blob :
         client
@@ -69,6 +160,45 @@ final class FileSetManager {
     }
   }
 
+  /**
+   * Removes the references of the given backup to the given content addressed files, and deletes
+   * every content which is not referenced by any other backup anymore. The content is only deleted
+   * if it was not touched by a backup which referenced it after the references were listed, see
+   * {@link #saveContent(BackupIdentifier, String, Path)}.
+   */
+  public void deleteContents(final BackupIdentifier id, final Collection<String> contentKeys) {
+    for (final var contentKey : contentKeys) {
+      client.delete(referenceBlobInfo(id, contentKey).getBlobId());
+
+      final var content = client.get(contentBlobInfo(id.partitionId(), contentKey).getBlobId());
+      if (content == null) {
+        continue;
+      }
+
+      final var remainingReferences =
+          client.list(
+              bucketInfo.getName(),
+              BlobListOption.prefix(
+                  objectPath(id.partitionId(), contentKey) + OBJECT_REFERENCES_PATH),
+              BlobListOption.pageSize(1));
+      if (!remainingReferences.getValues().iterator().hasNext()) {
+        deleteUnchangedContent(content);
+      }
+    }
+  }
+
+  private void deleteUnchangedContent(final Blob content) {
+    try {
+      client.delete(
+          content.getBlobId(), BlobSourceOption.metagenerationMatch(content.getMetageneration()));
+    } catch (final StorageException e) {
+      // a new backup referenced the content after we listed the references
+      if (e.getCode() != ManifestManager.PRECONDITION_FAILED) {
+        throw e;
+      }
+    }
+  }
+
   public NamedFileSet restore(
       final BackupIdentifier id,
       final String filesetName,
@@ -78,10 +208,12 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, (f) -> targetFolder.resolve(f.name())));
 
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      client.downloadTo(blobInfo(id, filesetName, fileName).getBlobId(), filePath);
+    for (final var file : fileSet.files()) {
+      final var blobInfo =
+          file.contentKey() != null
+              ? contentBlobInfo(id.partitionId(), file.contentKey())
+              : blobInfo(id, filesetName, file.name());
+      client.downloadTo(blobInfo.getBlobId(), pathByName.get(file.name()));
     }
 
     return new NamedFileSetImpl(pathByName);
@@ -92,6 +224,38 @@ final class FileSetManager {
         basePath, id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
   }
 
+  private String objectPath(final int partitionId, final String contentKey) {
+    return OBJECT_PATH_FORMAT.formatted(basePath, partitionId, contentKey);
+  }
+
+  private BlobInfo contentBlobInfo(final int partitionId, final String contentKey) {
+    return BlobInfo.newBuilder(
+            bucketInfo, objectPath(partitionId, contentKey) + OBJECT_CONTENT_BLOB_NAME)
+        .setContentType("application/octet-stream")
+        .build();
+  }
+
+  private BlobInfo referenceBlobInfo(final BackupIdentifier id, final String contentKey) {
+    return BlobInfo.newBuilder(
+            bucketInfo,
+            objectPath(id.partitionId(), contentKey)
+                + OBJECT_REFERENCES_PATH
+                + id.checkpointId()
+                + "-"
+                + id.nodeId())
+        .build();
+  }
+
+  private static Map<String, String> contentKeysByName(final FileSet fileSet) {
+    final var contentKeys = new HashMap<String, String>();
+    for (final var file : fileSet.files()) {
+      if (file.contentKey() != null) {
+        contentKeys.put(file.name(), file.contentKey());
+      }
+    }
+    return contentKeys;
+  }
+
   private BlobInfo blobInfo(
       final BackupIdentifier id, final String fileSetName, final String fileName) {
     return BlobInfo.newBuilder(bucketInfo, fileSetPath(id, fileSetName) + fileName)
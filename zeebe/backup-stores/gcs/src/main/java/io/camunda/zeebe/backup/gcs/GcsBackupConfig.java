@@ -12,11 +12,26 @@ import static java.util.Objects.requireNonNull;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException;
 import io.camunda.zeebe.backup.gcs.GcsConnectionConfig.Authentication.Auto;
 
-public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionConfig connection) {
-  public GcsBackupConfig(String bucketName, String basePath, GcsConnectionConfig connection) {
+/**
+ * @param contentAddressed if true, files are stored once per partition by the digest of their
+ *     content and shared by all backups which contain them, instead of once per backup
+ */
+public record GcsBackupConfig(
+    String bucketName, String basePath, GcsConnectionConfig connection, boolean contentAddressed) {
+  public GcsBackupConfig(
+      String bucketName,
+      String basePath,
+      GcsConnectionConfig connection,
+      boolean contentAddressed) {
     this.bucketName = requireBucketName(bucketName);
     this.basePath = sanitizeBasePath(basePath);
     this.connection = requireNonNull(connection);
+    this.contentAddressed = contentAddressed;
+  }
+
+  public GcsBackupConfig(
+      final String bucketName, final String basePath, final GcsConnectionConfig connection) {
+    this(bucketName, basePath, connection, false);
   }
 
   private static String requireBucketName(final String bucketName) {
@@ -57,6 +72,7 @@ public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionC
     private String basePath;
     private String host;
     private GcsConnectionConfig.Authentication auth;
+    private boolean contentAddressed;
 
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
@@ -83,8 +99,14 @@ public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionC
       return this;
     }
 
+    public Builder withContentAddressing(final boolean contentAddressed) {
+      this.contentAddressed = contentAddressed;
+      return this;
+    }
+
     public GcsBackupConfig build() {
-      return new GcsBackupConfig(bucketName, basePath, new GcsConnectionConfig(host, auth));
+      return new GcsBackupConfig(
+          bucketName, basePath, new GcsConnectionConfig(host, auth), contentAddressed);
     }
   }
 }
@@ -17,8 +17,10 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException;
 import java.nio.file.Path;
@@ -45,6 +47,7 @@ public final class GcsBackupStore implements BackupStore {
   private final ManifestManager manifestManager;
   private final FileSetManager fileSetManager;
   private final Storage client;
+  private final boolean contentAddressed;
 
   public GcsBackupStore(final GcsBackupConfig config) {
     this(config, buildClient(config));
@@ -54,6 +57,7 @@ public final class GcsBackupStore implements BackupStore {
     final var bucketInfo = BucketInfo.of(config.bucketName());
     final var basePath = Optional.ofNullable(config.basePath()).map(s -> s + "/").orElse("");
     this.client = client;
+    contentAddressed = config.contentAddressed();
     executor = Executors.newWorkStealingPool(4);
     manifestManager = new ManifestManager(client, bucketInfo, basePath);
     fileSetManager = new FileSetManager(client, bucketInfo, basePath);
@@ -63,10 +67,13 @@ public final class GcsBackupStore implements BackupStore {
   public CompletableFuture<Void> save(final Backup backup) {
     return CompletableFuture.runAsync(
         () -> {
-          final var persistedManifest = manifestManager.createInitialManifest(backup);
+          final var snapshot = toFileSet(backup.snapshot());
+          final var segments = toFileSet(backup.segments());
+          final var persistedManifest =
+              manifestManager.createInitialManifest(backup, snapshot, segments);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot(), snapshot);
+            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments(), segments);
             manifestManager.completeManifest(persistedManifest);
           } catch (final Exception e) {
             manifestManager.markAsFailed(persistedManifest.manifest(), e.getMessage());
@@ -100,9 +107,15 @@ public final class GcsBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
-          manifestManager.deleteManifest(id);
+          // the manifest is deleted last, so that a failed deletion can be retried without leaving
+          // behind content which is not referenced by any manifest
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest != null) {
+            fileSetManager.deleteContents(id, manifest.contentKeys());
+          }
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          manifestManager.deleteManifest(id);
         },
         executor);
   }
@@ -162,6 +175,10 @@ public final class GcsBackupStore implements BackupStore {
         });
   }
 
+  private FileSet toFileSet(final NamedFileSet files) {
+    return contentAddressed ? FileSet.contentAddressed(files) : FileSet.of(files);
+  }
+
   public static Storage buildClient(final GcsBackupConfig config) {
     return StorageOptions.newBuilder()
         .setHost(config.connection().host())
@@ -25,6 +25,7 @@ import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
 import java.io.IOException;
@@ -89,8 +90,14 @@ public final class ManifestManager {
   }
 
   PersistedManifest createInitialManifest(final Backup backup) {
+    return createInitialManifest(
+        backup, FileSet.of(backup.snapshot()), FileSet.of(backup.segments()));
+  }
+
+  PersistedManifest createInitialManifest(
+      final Backup backup, final FileSet snapshot, final FileSet segments) {
     final var manifestBlobInfo = manifestBlobInfo(backup.id());
-    final var manifest = Manifest.createInProgress(backup);
+    final var manifest = Manifest.createInProgress(backup, snapshot, segments);
     try {
       final var blob =
           client.create(
@@ -12,8 +12,11 @@ import static org.mockito.Mockito.*;
 
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobSourceOption;
 import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.FileSet;
@@ -63,6 +66,170 @@ final class FileSetManagerTest {
         .hasMessageContaining("expected");
   }
 
+  @Test
+  void shouldNotUploadContentWhichAlreadyExists() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath/");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var namedFileSet = new NamedFileSetImpl(Map.of("segment", Path.of("file1")));
+    final var fileSet = new FileSet(List.of(new NamedFile("segment", "key")));
+    when(mockClient.update(any(BlobInfo.class))).thenReturn(mock(Blob.class));
+
+    // when
+    manager.save(backupIdentifier, "filesetName", namedFileSet, fileSet);
+
+    // then
+    final var inOrder = inOrder(mockClient);
+    inOrder
+        .verify(mockClient)
+        .create(
+            argThat((BlobInfo info) -> info.getName().equals("basePath/objects/2/key/refs/3-1")));
+    inOrder
+        .verify(mockClient)
+        .update(
+            argThat(
+                (BlobInfo info) ->
+                    info.getName().equals("basePath/objects/2/key/content")
+                        && info.getMetadata().get("lastReferencedBy").equals("3-1")));
+    verify(mockClient, never()).createFrom(any(), any(Path.class), any());
+  }
+
+  @Test
+  void shouldUploadContentWhichWasDeletedConcurrently() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath/");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var namedFileSet = new NamedFileSetImpl(Map.of("segment", Path.of("file1")));
+    final var fileSet = new FileSet(List.of(new NamedFile("segment", "key")));
+    when(mockClient.update(any(BlobInfo.class))).thenThrow(new StorageException(404, "expected"));
+
+    // when
+    manager.save(backupIdentifier, "filesetName", namedFileSet, fileSet);
+
+    // then
+    verify(mockClient)
+        .createFrom(
+            argThat(info -> info.getName().equals("basePath/objects/2/key/content")),
+            eq(Path.of("file1")),
+            any());
+  }
+
+  @Test
+  void shouldUploadContentWhichDoesNotExist() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath/");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var namedFileSet = new NamedFileSetImpl(Map.of("segment", Path.of("file1")));
+    final var fileSet = new FileSet(List.of(new NamedFile("segment", "key")));
+
+    // when
+    manager.save(backupIdentifier, "filesetName", namedFileSet, fileSet);
+
+    // then
+    verify(mockClient)
+        .createFrom(
+            argThat(info -> info.getName().equals("basePath/objects/2/key/content")),
+            eq(Path.of("file1")),
+            any());
+  }
+
+  @Test
+  void shouldIgnoreContentUploadedConcurrently() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath/");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var namedFileSet = new NamedFileSetImpl(Map.of("segment", Path.of("file1")));
+    final var fileSet = new FileSet(List.of(new NamedFile("segment", "key")));
+    when(mockClient.createFrom(any(), any(Path.class), any()))
+        .thenThrow(new StorageException(412, "expected"));
+
+    // when - then
+    Assertions.assertThatCode(
+            () -> manager.save(backupIdentifier, "filesetName", namedFileSet, fileSet))
+        .doesNotThrowAnyException();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void shouldDeleteContentWithoutRemainingReferences() {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath/");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var contentBlobId = BlobId.of("bucket", "basePath/objects/2/key/content");
+    mockContent(mockClient, contentBlobId, 5L);
+    final var mockPage = mock(Page.class);
+    when(mockPage.getValues()).thenReturn(List.of());
+    when(mockClient.list(eq("bucket"), any(), any())).thenReturn(mockPage);
+
+    // when
+    manager.deleteContents(backupIdentifier, List.of("key"));
+
+    // then
+    verify(mockClient).delete(BlobId.of("bucket", "basePath/objects/2/key/refs/3-1"));
+    verify(mockClient).delete(contentBlobId, BlobSourceOption.metagenerationMatch(5L));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void shouldKeepContentWithRemainingReferences() {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath/");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var contentBlobId = BlobId.of("bucket", "basePath/objects/2/key/content");
+    mockContent(mockClient, contentBlobId, 5L);
+    final var mockPage = mock(Page.class);
+    when(mockPage.getValues()).thenReturn(List.of(mock(Blob.class)));
+    when(mockClient.list(eq("bucket"), any(), any())).thenReturn(mockPage);
+
+    // when
+    manager.deleteContents(backupIdentifier, List.of("key"));
+
+    // then
+    verify(mockClient).delete(BlobId.of("bucket", "basePath/objects/2/key/refs/3-1"));
+    verify(mockClient, never()).delete(eq(contentBlobId), any(BlobSourceOption.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void shouldKeepContentReferencedConcurrently() {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath/");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var contentBlobId = BlobId.of("bucket", "basePath/objects/2/key/content");
+    mockContent(mockClient, contentBlobId, 5L);
+    final var mockPage = mock(Page.class);
+    when(mockPage.getValues()).thenReturn(List.of());
+    when(mockClient.list(eq("bucket"), any(), any())).thenReturn(mockPage);
+    when(mockClient.delete(contentBlobId, BlobSourceOption.metagenerationMatch(5L)))
+        .thenThrow(new StorageException(412, "expected"));
+
+    // when - then
+    Assertions.assertThatCode(() -> manager.deleteContents(backupIdentifier, List.of("key")))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void shouldIgnoreContentWhichDoesNotExistOnDelete() {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath/");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+
+    // when
+    manager.deleteContents(backupIdentifier, List.of("key"));
+
+    // then
+    verify(mockClient).delete(BlobId.of("bucket", "basePath/objects/2/key/refs/3-1"));
+    verify(mockClient, never()).list(eq("bucket"), any(), any());
+  }
+
   @SuppressWarnings("unchecked")
   @Test
   void shouldDeleteFileSet() {
@@ -159,4 +326,12 @@ final class FileSetManagerTest {
         .isInstanceOf(StorageException.class)
         .hasMessageContaining("expected");
   }
+
+  private static void mockContent(
+      final Storage mockClient, final BlobId contentBlobId, final long metageneration) {
+    final var content = mock(Blob.class);
+    when(content.getBlobId()).thenReturn(contentBlobId);
+    when(content.getMetageneration()).thenReturn(metageneration);
+    when(mockClient.get(contentBlobId)).thenReturn(content);
+  }
 }
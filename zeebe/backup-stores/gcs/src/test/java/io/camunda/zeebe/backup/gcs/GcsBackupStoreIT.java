@@ -122,4 +122,49 @@ public class GcsBackupStoreIT {
       return NoSuchFileException.class;
     }
   }
+
+  @Nested
+  final class WithContentAddressing implements BackupStoreTestKit {
+
+    private GcsBackupStore store;
+
+    @BeforeEach
+    void setup() throws Exception {
+      final var bucketName = RandomStringUtils.randomAlphabetic(10).toLowerCase();
+
+      final var config =
+          new GcsBackupConfig.Builder()
+              .withBucketName(bucketName)
+              .withHost(GCS.externalEndpoint())
+              .withoutAuthentication()
+              .withContentAddressing(true)
+              .build();
+
+      try (final var client = GcsBackupStore.buildClient(config)) {
+        client.create(BucketInfo.of(bucketName));
+      }
+
+      store = new GcsBackupStore(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+      store.closeAsync().join();
+    }
+
+    @Override
+    public BackupStore getStore() {
+      return store;
+    }
+
+    @Override
+    public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
+      return UnexpectedManifestState.class;
+    }
+
+    @Override
+    public Class<? extends Exception> getFileNotFoundExceptionClass() {
+      return NoSuchFileException.class;
+    }
+  }
 }
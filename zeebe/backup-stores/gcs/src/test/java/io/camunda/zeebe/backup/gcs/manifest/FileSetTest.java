@@ -10,11 +10,14 @@ package io.camunda.zeebe.backup.gcs.manifest;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 final class FileSetTest {
   @Test
@@ -41,4 +44,40 @@ final class FileSetTest {
     Assertions.assertThat(fileSet.files())
         .containsExactlyInAnyOrder(new NamedFile("file1"), new NamedFile("file2"));
   }
+
+  @Test
+  void shouldIdentifyFilesByContent(@TempDir final Path tempDir) throws IOException {
+    // given
+    final var file1 = Files.writeString(tempDir.resolve("file1"), "content");
+    final var file2 = Files.writeString(tempDir.resolve("file2"), "content");
+    final var file3 = Files.writeString(tempDir.resolve("file3"), "other content");
+    final var namedFileSet =
+        new NamedFileSetImpl(Map.of("file1", file1, "file2", file2, "file3", file3));
+
+    // when
+    final var fileSet = FileSet.contentAddressed(namedFileSet);
+
+    // then
+    Assertions.assertThat(fileSet.files())
+        .containsExactlyInAnyOrder(
+            new NamedFile(
+                "file1", "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73"),
+            new NamedFile(
+                "file2", "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73"),
+            new NamedFile(
+                "file3", "923b805711041e23a99f07e146591c500261d1c289f62a9d39f8581ceb8a10ca"));
+    Assertions.assertThat(fileSet.contentKeys()).hasSize(2);
+  }
+
+  @Test
+  void shouldNotHaveContentKeysIfNotContentAddressed() {
+    // given
+    final var namedFileSet = new NamedFileSetImpl(Map.of("file1", Path.of("path1")));
+
+    // when
+    final var fileSet = FileSet.of(namedFileSet);
+
+    // then
+    Assertions.assertThat(fileSet.contentKeys()).isEmpty();
+  }
 }
@@ -344,4 +344,27 @@ final class ManifestSerializationTest {
     final JsonNode expectedJson = MAPPER.readTree(expectedJsonString);
     assertThat(actualJson).isEqualTo(expectedJson);
   }
+
+  @Test
+  void shouldSerializeContentKeys() throws JsonProcessingException {
+    // given
+    final var manifest =
+        new ManifestImpl(
+            new BackupIdentifierImpl(1, 2, 43),
+            new BackupDescriptorImpl(Optional.empty(), 2345234L, 3, "1.2.0-SNAPSHOT"),
+            IN_PROGRESS,
+            new FileSet(List.of(new NamedFile("snapshotFile1", "key1"))),
+            new FileSet(List.of(new NamedFile("segmentFile1", "key2"))),
+            Instant.ofEpochMilli(1678790708000L),
+            Instant.ofEpochMilli(1678790708000L));
+
+    // when
+    final var deserialized =
+        MAPPER.readValue(MAPPER.writeValueAsString(manifest), ManifestImpl.class);
+
+    // then
+    assertThat(deserialized.contentKeys()).containsExactlyInAnyOrder("key1", "key2");
+    assertThat(deserialized.snapshot().files())
+        .containsExactly(new NamedFile("snapshotFile1", "key1"));
+  }
 }
@@ -10,25 +10,32 @@ package io.camunda.zeebe.backup.s3;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCompressionFailed;
+import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCorruptedException;
+import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
 import io.camunda.zeebe.backup.s3.util.CompletableFutureUtils;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -39,21 +46,27 @@ final class FileSetManager {
   private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
   private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
   private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
-  private static final String TMP_DECOMPRESSION_PREFIX = "zb-backup-decompress-";
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
+  private final Executor executor;
   private final Semaphore uploadLimit;
+  private final Semaphore downloadLimit;
 
-  public FileSetManager(final S3AsyncClient client, final S3BackupConfig config) {
+  public FileSetManager(
+      final S3AsyncClient client, final S3BackupConfig config, final Executor executor) {
     this.client = client;
     this.config = config;
+    this.executor = executor;
 
     // We try not to exhaust the available connections by restricting the number of
     // concurrent uploads to half of the number of available connections.
     // This should prevent ConnectionAcquisitionTimeout for backups with many and/or large files
     // where we would otherwise occupy all connections, preventing some uploads from starting.
     uploadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
+    // The same applies to downloads. Additionally, a started download occupies its connection until
+    // the response is read, so we only start as many downloads as we read at the same time.
+    downloadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
   }
 
   CompletableFuture<FileSet> save(final String prefix, final NamedFileSet files) {
@@ -75,30 +88,48 @@ final class FileSetManager {
           .thenCompose(
               (compressedFile) -> {
                 LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
+                    "Saving compressed file {}({}) in prefix {}",
+                    fileName,
+                    compressedFile.path(),
+                    prefix);
                 return client
                     .putObject(
                         put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
+                        AsyncRequestBody.fromFile(compressedFile.path()))
+                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile.path()))
+                    .thenApply(
+                        unused ->
+                            FileSet.FileMetadata.withCompression(
+                                algorithm, compressedFile.checksum()));
               })
           .whenComplete((success, error) -> uploadLimit.release());
     }
 
     return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
+        .thenApply((success) -> checksum(filePath))
         .thenCompose(
-            (nothing) -> {
+            (checksum) -> {
               LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
               return client
                   .putObject(
                       put -> put.bucket(config.bucketName()).key(prefix + fileName),
                       AsyncRequestBody.fromFile(filePath))
-                  .thenApply(unused -> FileSet.FileMetadata.none());
+                  .thenApply(unused -> FileSet.FileMetadata.withChecksum(checksum));
             })
         .whenComplete((success, error) -> uploadLimit.release());
   }
 
+  private long checksum(final Path file) {
+    final var checksum = new CRC32C();
+    try (final var input =
+        new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), checksum)) {
+      input.transferTo(OutputStream.nullOutputStream());
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to compute checksum of file %s".formatted(file), e);
+    }
+    return checksum.getValue();
+  }
+
   private void cleanupCompressedFile(final Path compressedFile) {
     try {
       Files.delete(compressedFile);
@@ -118,11 +149,14 @@ final class FileSetManager {
     }
   }
 
-  private Path compressFile(final Path file, final String algorithm) {
+  private CompressedFile compressFile(final Path file, final String algorithm) {
     try {
       final var compressedFile = Files.createTempFile(TMP_COMPRESSION_PREFIX, null);
       LOG.trace("Compressing file {} to {} using {}", file, compressedFile, algorithm);
-      try (final var input = new BufferedInputStream(Files.newInputStream(file));
+      final var checksum = new CRC32C();
+      try (final var input =
+              new CheckedInputStream(
+                  new BufferedInputStream(Files.newInputStream(file)), checksum);
           final var output = new BufferedOutputStream(Files.newOutputStream(compressedFile));
           final var compressedOutput =
               new CompressorStreamFactory().createCompressorOutputStream(algorithm, output)) {
@@ -135,8 +169,8 @@ final class FileSetManager {
               Files.size(file),
               Files.size(compressedFile));
         }
-        return compressedFile;
       }
+      return new CompressedFile(compressedFile, checksum.getValue());
     } catch (final IOException | CompressorException e) {
       throw new BackupCompressionFailed(
           "Failed to compress file %s using %s".formatted(file, algorithm), e);
@@ -150,11 +184,21 @@ final class FileSetManager {
         fileSet.files().size(),
         sourcePrefix,
         targetFolder);
+    final var restoredFiles = new AtomicInteger();
     return CompletableFutureUtils.mapAsync(
             fileSet.files().entrySet(),
             Entry::getKey,
             namedFile ->
-                restoreFile(sourcePrefix, targetFolder, namedFile.getKey(), namedFile.getValue()))
+                restoreFile(sourcePrefix, targetFolder, namedFile.getKey(), namedFile.getValue())
+                    .thenApply(
+                        path -> {
+                          LOG.info(
+                              "Restored {}/{} files from prefix {}",
+                              restoredFiles.incrementAndGet(),
+                              fileSet.files().size(),
+                              sourcePrefix);
+                          return path;
+                        }))
         .thenApply(NamedFileSetImpl::new);
   }
 
@@ -163,62 +207,89 @@ final class FileSetManager {
       final Path targetFolder,
       final String fileName,
       final FileMetadata metadata) {
-    final var compressionAlgorithm = metadata.compressionAlgorithm();
-    if (compressionAlgorithm.isPresent()) {
-      final var decompressed = targetFolder.resolve(fileName);
-      LOG.trace(
-          "Restoring compressed file {} from prefix {} to {}",
-          fileName,
-          sourcePrefix,
-          targetFolder);
-      try {
-        final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
-        return client
+    // reading the response blocks until the file is downloaded, so it's done on the executor
+    return CompletableFuture.supplyAsync(
+        () -> {
+          downloadLimit.acquireUninterruptibly();
+          try {
+            return downloadFile(sourcePrefix, targetFolder, fileName, metadata);
+          } finally {
+            downloadLimit.release();
+          }
+        },
+        executor);
+  }
+
+  private Path downloadFile(
+      final String sourcePrefix,
+      final Path targetFolder,
+      final String fileName,
+      final FileMetadata metadata) {
+    final var path = targetFolder.resolve(fileName);
+    if (metadata.compressionAlgorithm().isEmpty() && metadata.checksum().isEmpty()) {
+      // written by an older version, there is nothing to decompress or verify
+      LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
+      client
+          .getObject(req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
+          .join();
+      return path;
+    }
+
+    LOG.trace(
+        "Restoring file {} from prefix {} to {} using {}",
+        fileName,
+        sourcePrefix,
+        targetFolder,
+        metadata);
+    // the response is decompressed and verified while it is being downloaded, straight into the
+    // target file
+    final var response =
+        client
             .getObject(
                 req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
-                AsyncResponseTransformer.toFile(
-                    compressed,
-                    cfg ->
-                        cfg.fileWriteOption(FileWriteOption.CREATE_OR_REPLACE_EXISTING)
-                            .failureBehavior(FailureBehavior.DELETE)))
-            .thenApplyAsync(
-                response -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
-
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
+                AsyncResponseTransformer.toBlockingInputStream())
+            .join();
+    return restoreVerified(response, path, metadata.compressionAlgorithm(), metadata.checksum());
+  }
+
+  private Path restoreVerified(
+      final InputStream source,
+      final Path target,
+      final Optional<String> compressionAlgorithm,
+      final Optional<Long> expectedChecksum) {
+    final var checksum = new CRC32C();
+    final long restoredSize;
+    try (final var input = new BufferedInputStream(source);
+        final var output = new BufferedOutputStream(Files.newOutputStream(target));
+        final var restoredInput =
+            new CheckedInputStream(decompressed(input, compressionAlgorithm), checksum)) {
+      restoredSize = IOUtils.copy(restoredInput, output);
+    } catch (final IOException | CompressorException e) {
+      if (compressionAlgorithm.isPresent()) {
+        throw new BackupCompressionFailed(
+            "Failed to decompress to %s using %s".formatted(target, compressionAlgorithm.get()), e);
       }
+      throw new BackupReadException("Failed to restore %s".formatted(target), e);
     }
 
-    LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
-    final var path = targetFolder.resolve(fileName);
-    return client
-        .getObject(req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
-        .thenApply(response -> path);
+    LOG.trace("Restored file {}. Uncompressed: {} bytes", target, restoredSize);
+    if (expectedChecksum.isPresent() && expectedChecksum.get() != checksum.getValue()) {
+      throw new BackupCorruptedException(
+          "Expected restored file %s to have checksum %d, but has %d"
+              .formatted(target, expectedChecksum.get(), checksum.getValue()));
+    }
+    return target;
   }
 
-  private Path decompressFile(
-      final Path compressed, final Path decompressed, final String algorithm) {
-    try (final var input = new BufferedInputStream(Files.newInputStream(compressed));
-        final var output = new BufferedOutputStream(Files.newOutputStream(decompressed));
-        final var decompressedOutput =
-            new CompressorStreamFactory().createCompressorInputStream(algorithm, input)) {
-      IOUtils.copy(decompressedOutput, output);
-      if (LOG.isTraceEnabled()) {
-        LOG.trace(
-            "Decompressed file {} to {} using {}. Compressed: {} bytes, uncompressed: {} bytes",
-            compressed,
-            decompressed,
-            algorithm,
-            Files.size(compressed),
-            Files.size(decompressed));
-      }
-      cleanupCompressedFile(compressed);
-      return decompressed;
-    } catch (final IOException | CompressorException e) {
-      throw new BackupCompressionFailed(
-          "Failed to decompress from %s to %s using %s"
-              .formatted(compressed, decompressed, algorithm),
-          e);
+  private InputStream decompressed(
+      final InputStream input, final Optional<String> compressionAlgorithm)
+      throws CompressorException {
+    if (compressionAlgorithm.isEmpty()) {
+      return input;
     }
+    return new CompressorStreamFactory()
+        .createCompressorInputStream(compressionAlgorithm.get(), input);
   }
+
+  private record CompressedFile(Path path, long checksum) {}
 }
@@ -35,6 +35,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -83,6 +86,7 @@ public final class S3BackupStore implements BackupStore {
   private final Pattern backupIdentifierPattern;
   private final S3BackupConfig config;
   private final S3AsyncClient client;
+  private final ExecutorService executor;
   private final FileSetManager fileSetManager;
 
   public S3BackupStore(final S3BackupConfig config) {
@@ -92,7 +96,8 @@ public final class S3BackupStore implements BackupStore {
   public S3BackupStore(final S3BackupConfig config, final S3AsyncClient client) {
     this.config = config;
     this.client = client;
-    fileSetManager = new FileSetManager(client, config);
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    fileSetManager = new FileSetManager(client, config, executor);
     final var basePath = config.basePath();
     backupIdentifierPattern =
         Pattern.compile(
@@ -255,8 +260,22 @@ public final class S3BackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> closeAsync() {
-    client.close();
-    return CompletableFuture.completedFuture(null);
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            executor.shutdown();
+            final var closed = executor.awaitTermination(1, TimeUnit.MINUTES);
+            if (!closed) {
+              LOG.warn("Failed to orderly shutdown S3 Store Executor within one minute.");
+              executor.shutdownNow();
+            }
+          } catch (final Exception e) {
+            LOG.error("Failed to shutdown of S3 Store Executor.");
+            throw new RuntimeException(e);
+          } finally {
+            client.close();
+          }
+        });
   }
 
   private CompletableFuture<List<ObjectIdentifier>> listBackupObjects(final BackupIdentifier id) {
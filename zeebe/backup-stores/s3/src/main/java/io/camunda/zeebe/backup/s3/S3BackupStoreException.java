@@ -75,4 +75,15 @@ public abstract sealed class S3BackupStoreException extends RuntimeException {
       super(message, cause);
     }
   }
+
+  /**
+   * Thrown when the checksum of restored contents does not match the checksum recorded when saving
+   * them. This indicates a corrupted backup.
+   */
+  public static final class BackupCorruptedException extends S3BackupStoreException {
+
+    public BackupCorruptedException(final String message) {
+      super(message, null);
+    }
+  }
 }
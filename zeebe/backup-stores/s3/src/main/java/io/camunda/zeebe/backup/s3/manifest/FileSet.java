@@ -47,14 +47,27 @@ public record FileSet(Map<String, FileMetadata> files) {
     return files.keySet();
   }
 
+  /**
+   * @param compressionAlgorithm the algorithm the file was compressed with, if any
+   * @param checksum the CRC32C checksum of the uncompressed file contents, if known. Allows
+   *     verifying the contents while restoring them, without reading the restored file again.
+   */
   @JsonInclude(Include.NON_EMPTY)
-  public record FileMetadata(Optional<String> compressionAlgorithm) {
+  public record FileMetadata(Optional<String> compressionAlgorithm, Optional<Long> checksum) {
     public static FileMetadata withCompression(final String algorithm) {
-      return new FileMetadata(Optional.of(algorithm));
+      return new FileMetadata(Optional.of(algorithm), Optional.empty());
+    }
+
+    public static FileMetadata withCompression(final String algorithm, final long checksum) {
+      return new FileMetadata(Optional.of(algorithm), Optional.of(checksum));
+    }
+
+    public static FileMetadata withChecksum(final long checksum) {
+      return new FileMetadata(Optional.empty(), Optional.of(checksum));
     }
 
     public static FileMetadata none() {
-      return new FileMetadata(Optional.empty());
+      return new FileMetadata(Optional.empty(), Optional.empty());
     }
   }
 
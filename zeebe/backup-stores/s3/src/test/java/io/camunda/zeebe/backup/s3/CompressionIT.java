@@ -13,7 +13,9 @@ import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.backup.s3.S3BackupConfig.Builder;
+import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCorruptedException;
 import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -23,6 +25,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.RandomUtils;
@@ -36,7 +40,9 @@ import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 
 @Testcontainers
@@ -62,11 +68,13 @@ final class CompressionIT {
                   .forPort(DEFAULT_PORT)
                   .withStartupTimeout(Duration.ofMinutes(1)));
 
+  private S3BackupConfig config;
+  private S3AsyncClient client;
   private S3BackupStore store;
 
   @BeforeEach
   void setupBucket() {
-    final var config =
+    config =
         new Builder()
             .withBucketName(RandomStringUtils.randomAlphabetic(10).toLowerCase())
             .withEndpoint("http://%s:%d".formatted(S3.getHost(), S3.getMappedPort(DEFAULT_PORT)))
@@ -75,7 +83,7 @@ final class CompressionIT {
             .forcePathStyleAccess(true)
             .withCompressionAlgorithm("zstd")
             .build();
-    final var client = S3BackupStore.buildClient(config);
+    client = S3BackupStore.buildClient(config);
     store = new S3BackupStore(config, client);
     client.createBucket(CreateBucketRequest.builder().bucket(config.bucketName()).build()).join();
   }
@@ -107,6 +115,56 @@ final class CompressionIT {
         .hasSameContentsAs(backup);
   }
 
+  @Test
+  void shouldRestoreCompressedFilesDirectlyIntoTargetFolder(@TempDir final Path target)
+      throws IOException {
+    // given
+    final var backup = compressibleBackup();
+    Assertions.assertThat(store.save(backup)).succeedsWithin(Duration.ofSeconds(30));
+
+    // when
+    final var restored = store.restore(backup.id(), target).join();
+
+    // then - no intermediate files were left behind next to the decompressed files
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup).residesInPath(target);
+    try (final var files = Files.list(target)) {
+      Assertions.assertThat(files.map(file -> file.getFileName().toString()))
+          .containsExactlyInAnyOrder(
+              "segment-file-1", "segment-file-2", "snapshot-file-1", "snapshot-file-2");
+    }
+  }
+
+  @Test
+  void shouldFailRestoreIfDecompressedFileIsCorrupted(@TempDir final Path target)
+      throws IOException, CompressorException {
+    // given
+    final var backup = compressibleBackup();
+    Assertions.assertThat(store.save(backup)).succeedsWithin(Duration.ofSeconds(30));
+
+    // when - the object is replaced by validly compressed, but different contents
+    final var corrupted = new ByteArrayOutputStream();
+    try (final var output =
+        new CompressorStreamFactory().createCompressorOutputStream("zstd", corrupted)) {
+      output.write(compressibleBytes());
+    }
+    client
+        .putObject(
+            req ->
+                req.bucket(config.bucketName())
+                    .key(
+                        store.objectPrefix(backup.id())
+                            + S3BackupStore.SNAPSHOT_PREFIX
+                            + "snapshot-file-1"),
+            AsyncRequestBody.fromBytes(corrupted.toByteArray()))
+        .join();
+
+    // then
+    Assertions.assertThat(store.restore(backup.id(), target))
+        .failsWithin(Duration.ofSeconds(30))
+        .withThrowableOfType(Throwable.class)
+        .withRootCauseInstanceOf(BackupCorruptedException.class);
+  }
+
   private Backup compressibleBackup() throws IOException {
     final var tempDir = Files.createTempDirectory("backup");
     Files.createDirectory(tempDir.resolve("segments/"));
@@ -10,6 +10,7 @@ package io.camunda.zeebe.backup.s3;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCorruptedException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
 import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
@@ -17,11 +18,13 @@ import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
@@ -243,4 +246,55 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
         .withThrowableOfType(Throwable.class)
         .withRootCauseInstanceOf(BackupInInvalidStateException.class);
   }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void savesChecksumOfEveryFile(final Backup backup) throws IOException {
+    // when
+    getStore().save(backup).join();
+
+    // then
+    final var manifestObject =
+        getClient()
+            .getObject(
+                GetObjectRequest.builder()
+                    .bucket(getConfig().bucketName())
+                    .key(getStore().objectPrefix(backup.id()) + S3BackupStore.MANIFEST_OBJECT_KEY)
+                    .build(),
+                AsyncResponseTransformer.toBytes())
+            .join();
+    final var readManifest =
+        S3BackupStore.MAPPER.readValue(manifestObject.asByteArray(), CompletedBackupManifest.class);
+
+    assertThat(readManifest.snapshotFiles().files().values())
+        .allSatisfy(metadata -> assertThat(metadata.checksum()).isPresent());
+    assertThat(readManifest.segmentFiles().files().values())
+        .allSatisfy(metadata -> assertThat(metadata.checksum()).isPresent());
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void restoreFailsIfFileIsCorrupted(final Backup backup, @TempDir final Path targetDir) {
+    // given
+    getStore().save(backup).join();
+
+    // when
+    final var segmentName = backup.segments().names().iterator().next();
+    getClient()
+        .putObject(
+            req ->
+                req.bucket(getConfig().bucketName())
+                    .key(
+                        getStore().objectPrefix(backup.id())
+                            + S3BackupStore.SEGMENTS_PREFIX
+                            + segmentName),
+            AsyncRequestBody.fromString("corrupted"))
+        .join();
+
+    // then
+    assertThat(getStore().restore(backup.id(), targetDir))
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Throwable.class)
+        .withRootCauseInstanceOf(BackupCorruptedException.class);
+  }
 }
@@ -12,10 +12,14 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.nio.file.Path;
 import java.time.Duration;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
@@ -44,4 +48,46 @@ public interface DeletingBackup {
     Assertions.assertThat(getStore().getStatus(backup.id()).join())
         .returns(BackupStatusCode.DOES_NOT_EXIST, Assertions.from(BackupStatus::statusCode));
   }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void deletingBackupDoesNotAffectBackupWithSameContents(
+      final Backup backup, @TempDir final Path targetDir) {
+    // given
+    final var otherBackup = withCheckpointId(backup, backup.id().checkpointId() + 1);
+    getStore().save(backup).join();
+    getStore().save(otherBackup).join();
+
+    // when
+    getStore().delete(backup.id()).join();
+
+    // then
+    final var restored = getStore().restore(otherBackup.id(), targetDir).join();
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(otherBackup).residesInPath(targetDir);
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void canSaveBackupWithSameContentsAfterDeleting(
+      final Backup backup, @TempDir final Path targetDir) {
+    // given
+    final var otherBackup = withCheckpointId(backup, backup.id().checkpointId() + 1);
+    getStore().save(backup).join();
+    getStore().delete(backup.id()).join();
+
+    // when
+    getStore().save(otherBackup).join();
+
+    // then
+    final var restored = getStore().restore(otherBackup.id(), targetDir).join();
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(otherBackup).residesInPath(targetDir);
+  }
+
+  private static Backup withCheckpointId(final Backup backup, final long checkpointId) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(backup.id().nodeId(), backup.id().partitionId(), checkpointId),
+        backup.descriptor(),
+        backup.snapshot(),
+        backup.segments());
+  }
 }
@@ -306,6 +306,20 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows reading a {@link BpmnModelInstance} from an {@link InputStream} which is known to
+   * contain a valid model, e.g. because it was read with {@link #readModelFromStream(InputStream)}
+   * before. The model is not validated a second time against the BPMN schema, which makes reading
+   * it considerably cheaper.
+   *
+   * @param stream the {@link InputStream} to read the {@link BpmnModelInstance} from
+   * @return the model read
+   * @throws ModelParseException if the model cannot be read
+   */
+  public static BpmnModelInstance readTrustedModelFromStream(final InputStream stream) {
+    return INSTANCE.doReadTrustedModelFromInputStream(stream);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be validated before writing.
    *
@@ -411,6 +425,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadTrustedModelFromInputStream(final InputStream is) {
+    return bpmnParser.parseTrustedModelFromStream(is);
+  }
+
   protected void doWriteModelToFile(final File file, final BpmnModelInstance modelInstance) {
     OutputStream os = null;
     try {
@@ -20,13 +20,20 @@ import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN20_NS;
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_20_SCHEMA_LOCATION;
 
 import io.camunda.zeebe.model.bpmn.Bpmn;
+import java.io.IOException;
 import java.io.InputStream;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.validation.SchemaFactory;
+import org.camunda.bpm.model.xml.ModelParseException;
 import org.camunda.bpm.model.xml.impl.ModelImpl;
+import org.camunda.bpm.model.xml.impl.instance.DomDocumentImpl;
 import org.camunda.bpm.model.xml.impl.parser.AbstractModelParser;
+import org.camunda.bpm.model.xml.impl.util.DomUtil.DomErrorHandler;
 import org.camunda.bpm.model.xml.impl.util.ReflectUtil;
 import org.camunda.bpm.model.xml.instance.DomDocument;
+import org.xml.sax.SAXException;
 
 /**
  * The parser used when parsing BPMN Files
@@ -42,6 +49,14 @@ public class BpmnParser extends AbstractModelParser {
 
   private static final String W3C_XML_SCHEMA = "http://www.w3.org/2001/XMLSchema";
 
+  /**
+   * Document builders used to read models which were already validated, e.g. resources of a
+   * deployment that was accepted before. A builder is not thread-safe, so each thread gets its own
+   * one instead of synchronizing on the shared factory of {@link AbstractModelParser}.
+   */
+  private final ThreadLocal<DocumentBuilder> trustedDocumentBuilder =
+      ThreadLocal.withInitial(this::newTrustedDocumentBuilder);
+
   public BpmnParser() {
     schemaFactory = SchemaFactory.newInstance(W3C_XML_SCHEMA);
     addSchema(BPMN20_NS, createSchema(BPMN_20_SCHEMA_LOCATION, BpmnParser.class.getClassLoader()));
@@ -62,6 +77,31 @@ public class BpmnParser extends AbstractModelParser {
     return (BpmnModelInstanceImpl) super.parseModelFromStream(inputStream);
   }
 
+  /**
+   * Parses a model which is known to be valid. In contrast to {@link
+   * #parseModelFromStream(InputStream)}, the parsed document is not validated a second time against
+   * the BPMN schema and parsing doesn't lock the shared document builder factory. The document is
+   * still read by a schema-aware parser, so default attribute values are filled in the same way.
+   *
+   * @param inputStream the stream to read the model from
+   * @return the model read
+   * @throws ModelParseException if the model cannot be read
+   */
+  public BpmnModelInstanceImpl parseTrustedModelFromStream(final InputStream inputStream) {
+    final DocumentBuilder documentBuilder = trustedDocumentBuilder.get();
+    documentBuilder.setErrorHandler(new DomErrorHandler());
+    try {
+      final DomDocument document = new DomDocumentImpl(documentBuilder.parse(inputStream));
+      return createModelInstance(document);
+    } catch (final SAXException e) {
+      throw new ModelParseException("SAXException while parsing input stream", e);
+    } catch (final IOException e) {
+      throw new ModelParseException("IOException while parsing input stream", e);
+    } finally {
+      documentBuilder.reset();
+    }
+  }
+
   @Override
   public BpmnModelInstanceImpl getEmptyModel() {
     return (BpmnModelInstanceImpl) super.getEmptyModel();
@@ -72,4 +112,14 @@ public class BpmnParser extends AbstractModelParser {
     return new BpmnModelInstanceImpl(
         (ModelImpl) Bpmn.INSTANCE.getBpmnModel(), Bpmn.INSTANCE.getBpmnModelBuilder(), document);
   }
+
+  private DocumentBuilder newTrustedDocumentBuilder() {
+    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    configureFactory(factory);
+    try {
+      return factory.newDocumentBuilder();
+    } catch (final ParserConfigurationException e) {
+      throw new ModelParseException("ParserConfigurationException while creating parser", e);
+    }
+  }
 }
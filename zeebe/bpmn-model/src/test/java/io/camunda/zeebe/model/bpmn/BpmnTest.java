@@ -20,9 +20,14 @@ import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_EXECUTION
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_EXPORTER;
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.MODELER_NS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.model.bpmn.instance.Definitions;
+import io.camunda.zeebe.model.bpmn.instance.ServiceTask;
 import io.camunda.zeebe.model.bpmn.util.VersionUtil;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.camunda.bpm.model.xml.ModelParseException;
 import org.junit.Test;
 
 /**
@@ -46,4 +51,36 @@ public class BpmnTest {
     assertThat(definitions.getAttributeValueNs(MODELER_NS, "executionPlatformVersion"))
         .isEqualTo(VersionUtil.getVersion());
   }
+
+  @Test
+  public void shouldReadTrustedModelFromStream() {
+    // given
+    final BpmnModelInstance model =
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .serviceTask("task", t -> t.zeebeJobType("type"))
+            .endEvent()
+            .done();
+    final byte[] xml = Bpmn.convertToString(model).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final BpmnModelInstance trustedModel =
+        Bpmn.readTrustedModelFromStream(new ByteArrayInputStream(xml));
+
+    // then
+    final BpmnModelInstance validatedModel =
+        Bpmn.readModelFromStream(new ByteArrayInputStream(xml));
+    assertThat(Bpmn.convertToString(trustedModel)).isEqualTo(Bpmn.convertToString(validatedModel));
+    assertThat(trustedModel.<ServiceTask>getModelElementById("task")).isNotNull();
+  }
+
+  @Test
+  public void shouldRejectMalformedTrustedModel() {
+    // given
+    final byte[] xml = "<definitions".getBytes(StandardCharsets.UTF_8);
+
+    // when - then
+    assertThatThrownBy(() -> Bpmn.readTrustedModelFromStream(new ByteArrayInputStream(xml)))
+        .isInstanceOf(ModelParseException.class);
+  }
 }
@@ -78,6 +78,15 @@ public abstract class BrokerRequest<T> implements ClientRequest {
     return Optional.empty();
   }
 
+  /**
+   * @return true if the broker answers the request only once something else happened, e.g. the
+   *     created process instance completed, so that it must not be sent together with other
+   *     requests
+   */
+  public boolean isLongLived() {
+    return false;
+  }
+
   public BrokerResponse<T> getResponse(final DirectBuffer responseBuffer) {
     try {
       if (isValidResponse(responseBuffer)) {
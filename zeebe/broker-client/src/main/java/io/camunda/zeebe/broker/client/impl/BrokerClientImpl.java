@@ -44,6 +44,22 @@ public final class BrokerClientImpl implements BrokerClient {
       final ClusterEventService eventService,
       final ActorSchedulingService schedulingService,
       final BrokerTopologyManager topologyManager) {
+    this(
+        requestTimeout,
+        BrokerRequestCoalescingConfig.DISABLED,
+        messagingService,
+        eventService,
+        schedulingService,
+        topologyManager);
+  }
+
+  public BrokerClientImpl(
+      final Duration requestTimeout,
+      final BrokerRequestCoalescingConfig requestCoalescing,
+      final MessagingService messagingService,
+      final ClusterEventService eventService,
+      final ActorSchedulingService schedulingService,
+      final BrokerTopologyManager topologyManager) {
     this.eventService = eventService;
     this.schedulingService = schedulingService;
 
@@ -54,7 +70,8 @@ public final class BrokerClientImpl implements BrokerClient {
             atomixTransportAdapter,
             topologyManager,
             new RoundRobinDispatchStrategy(),
-            requestTimeout);
+            requestTimeout,
+            requestCoalescing);
   }
 
   @Override
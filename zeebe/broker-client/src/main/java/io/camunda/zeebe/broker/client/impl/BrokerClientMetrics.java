@@ -36,6 +36,24 @@ public final class BrokerClientMetrics {
           .labelNames("partition", "requestType")
           .register();
 
+  private static final Histogram REQUEST_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("gateway_request_batch_size")
+          .help("Number of commands packed into one message to the partition leader")
+          .labelNames("partition")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .register();
+
+  private static final Histogram REQUEST_BATCH_QUEUE_DELAY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("gateway_request_batch_queue_delay")
+          .help("Time a command waits for other commands to be packed with, in seconds")
+          .labelNames("partition")
+          .buckets(0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025)
+          .register();
+
   private BrokerClientMetrics() {}
 
   public static void registerSuccessfulRequest(
@@ -49,4 +67,12 @@ public final class BrokerClientMetrics {
     FAILED_REQUESTS.labels(Long.toString(partition), requestType, error).inc();
     TOTAL_REQUESTS.labels(Long.toString(partition), requestType).inc();
   }
+
+  public static void observeRequestBatchSize(final long partition, final int batchSize) {
+    REQUEST_BATCH_SIZE.labels(Long.toString(partition)).observe(batchSize);
+  }
+
+  public static void observeRequestBatchQueueDelay(final long partition, final long delayNanos) {
+    REQUEST_BATCH_QUEUE_DELAY.labels(Long.toString(partition)).observe(delayNanos / 1e9);
+  }
 }
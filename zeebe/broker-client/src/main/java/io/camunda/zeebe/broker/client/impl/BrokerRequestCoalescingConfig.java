@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.impl;
+
+import java.time.Duration;
+
+/**
+ * Configures whether commands sent to the same partition within a short window are packed into one
+ * transport message.
+ *
+ * @param enabled whether commands are coalesced at all
+ * @param window how long the first command of a batch waits for others to join it
+ * @param maxRequests how many commands are packed into one message at most
+ */
+public record BrokerRequestCoalescingConfig(boolean enabled, Duration window, int maxRequests) {
+
+  public static final BrokerRequestCoalescingConfig DISABLED =
+      new BrokerRequestCoalescingConfig(false, Duration.ZERO, 1);
+
+  public BrokerRequestCoalescingConfig {
+    if (window.isNegative()) {
+      throw new IllegalArgumentException(
+          "Expected request coalescing window to be non-negative, but was " + window);
+    }
+    if (maxRequests < 1) {
+      throw new IllegalArgumentException(
+          "Expected request coalescing max requests to be at least 1, but was " + maxRequests);
+    }
+  }
+}
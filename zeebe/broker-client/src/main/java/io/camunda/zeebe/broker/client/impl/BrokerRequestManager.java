@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.client.impl;
 
+import io.atomix.cluster.messaging.MessagingException;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerErrorException;
 import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
@@ -23,35 +24,75 @@ import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.ClientRequest;
 import io.camunda.zeebe.transport.ClientTransport;
+import io.camunda.zeebe.transport.RequestType;
+import java.net.ConnectException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 
 final class BrokerRequestManager extends Actor {
 
   private static final TransportRequestSender SENDER_WITH_RETRY =
       (c, s, r, t) -> c.sendRequestWithRetry(s, BrokerRequestManager::responseValidation, r, t);
   private static final TransportRequestSender SENDER_WITHOUT_RETRY = ClientTransport::sendRequest;
+
+  // keeps batches well below the default max message size of the messaging service
+  private static final int MAX_BATCH_LENGTH = 512 * 1024;
+  // brokers which don't know request batches are asked again after this interval, e.g. after they
+  // were updated
+  private static final Duration BATCHING_PROBE_INTERVAL = Duration.ofMinutes(1);
+
   private final ClientTransport clientTransport;
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManager topologyManager;
   private final Duration requestTimeout;
+  private final BrokerRequestCoalescingConfig coalescing;
+  private final Int2ObjectHashMap<RequestBatch> pendingBatches = new Int2ObjectHashMap<>();
+  private final Long2LongHashMap batchingUnsupportedUntil = new Long2LongHashMap(0);
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManager topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
       final Duration requestTimeout) {
+    this(
+        clientTransport,
+        topologyManager,
+        dispatchStrategy,
+        requestTimeout,
+        BrokerRequestCoalescingConfig.DISABLED);
+  }
+
+  BrokerRequestManager(
+      final ClientTransport clientTransport,
+      final BrokerTopologyManager topologyManager,
+      final RequestDispatchStrategy dispatchStrategy,
+      final Duration requestTimeout,
+      final BrokerRequestCoalescingConfig coalescing) {
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    this.coalescing = coalescing;
+  }
+
+  @Override
+  protected void onActorClosing() {
+    new ArrayList<>(pendingBatches.values()).forEach(this::flush);
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -129,36 +170,242 @@ final class BrokerRequestManager extends Actor {
       return;
     }
 
+    if (shouldCoalesce(request)) {
+      enqueue(new PendingRequest<>(request, returnFuture, sender, requestTimeout));
+      return;
+    }
+
+    send(request, returnFuture, sender, nodeIdProvider, requestTimeout);
+  }
+
+  private <T> void send(
+      final BrokerRequest<T> request,
+      final CompletableFuture<BrokerResponse<T>> returnFuture,
+      final TransportRequestSender sender,
+      final Supplier<String> nodeIdProvider,
+      final Duration requestTimeout) {
     final ActorFuture<DirectBuffer> responseFuture =
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
     final long startTime = System.currentTimeMillis();
 
     actor.runOnCompletion(
         responseFuture,
-        (clientResponse, error) -> {
-          RequestResult result = null;
-          try {
-            if (error == null) {
-              final BrokerResponse<T> response = request.getResponse(clientResponse);
-
-              result = handleResponse(response, returnFuture);
-              if (result.wasProcessed()) {
-                final long elapsedTime = System.currentTimeMillis() - startTime;
-                BrokerClientMetrics.registerSuccessfulRequest(
-                    request.getPartitionId(), request.getType(), elapsedTime);
-                return;
-              }
-            } else {
-              returnFuture.completeExceptionally(error);
-            }
-          } catch (final RuntimeException e) {
-            returnFuture.completeExceptionally(new BrokerResponseException(e));
-          }
+        (clientResponse, error) ->
+            handleTransportResponse(request, returnFuture, startTime, clientResponse, error));
+  }
 
-          registerFailure(request, result, error);
+  private <T> void handleTransportResponse(
+      final BrokerRequest<T> request,
+      final CompletableFuture<BrokerResponse<T>> returnFuture,
+      final long startTime,
+      final DirectBuffer clientResponse,
+      final Throwable error) {
+    RequestResult result = null;
+    try {
+      if (error == null) {
+        final BrokerResponse<T> response = request.getResponse(clientResponse);
+
+        result = handleResponse(response, returnFuture);
+        if (result.wasProcessed()) {
+          final long elapsedTime = System.currentTimeMillis() - startTime;
+          BrokerClientMetrics.registerSuccessfulRequest(
+              request.getPartitionId(), request.getType(), elapsedTime);
+          return;
+        }
+      } else {
+        returnFuture.completeExceptionally(error);
+      }
+    } catch (final RuntimeException e) {
+      returnFuture.completeExceptionally(new BrokerResponseException(e));
+    }
+
+    registerFailure(request, result, error);
+  }
+
+  /**
+   * Commands for a partition are coalesced if enabled, and if its leader is not known to reject
+   * request batches. Commands which don't fit into a batch, or whose leader is unknown, are sent on
+   * their own, since only then they are retried until a leader is found. Long-lived commands are
+   * sent on their own too, as they would only keep the batch open on the leader.
+   */
+  private boolean shouldCoalesce(final BrokerRequest<?> request) {
+    if (!coalescing.enabled()
+        || request.getRequestType() != RequestType.COMMAND
+        || request.isLongLived()
+        || request.getBrokerId().isPresent()
+        || request.getLength() > MAX_BATCH_LENGTH / 2) {
+      return false;
+    }
+
+    final int leader = leaderOf(request.getPartitionId());
+    return leader != BrokerClusterState.NODE_ID_NULL
+        && batchingUnsupportedUntil.get(leader) <= System.currentTimeMillis();
+  }
+
+  private void enqueue(final PendingRequest<?> pendingRequest) {
+    final int partitionId = pendingRequest.request().getPartitionId();
+    RequestBatch batch = pendingBatches.get(partitionId);
+    if (batch != null && !batch.canAdd(pendingRequest)) {
+      flush(batch);
+      batch = null;
+    }
+
+    if (batch == null) {
+      final var newBatch = new RequestBatch(partitionId);
+      if (coalescing.window().isZero()) {
+        actor.submit(() -> flush(newBatch));
+      } else {
+        newBatch.flushTimer = actor.schedule(coalescing.window(), () -> flush(newBatch));
+      }
+      pendingBatches.put(partitionId, newBatch);
+      batch = newBatch;
+    }
+
+    batch.add(pendingRequest);
+    if (batch.size() >= coalescing.maxRequests()) {
+      flush(batch);
+    }
+  }
+
+  private void flush(final RequestBatch batch) {
+    if (pendingBatches.get(batch.partitionId) != batch) {
+      // already flushed because it was full
+      return;
+    }
+    pendingBatches.remove(batch.partitionId);
+    if (batch.flushTimer != null) {
+      batch.flushTimer.cancel();
+    }
+
+    final long now = System.nanoTime();
+    BrokerClientMetrics.observeRequestBatchSize(batch.partitionId, batch.size());
+    for (final PendingRequest<?> pendingRequest : batch.requests) {
+      BrokerClientMetrics.observeRequestBatchQueueDelay(
+          batch.partitionId, now - pendingRequest.enqueuedNanos());
+    }
+
+    if (batch.size() == 1) {
+      sendAlone(batch.requests.getFirst());
+      return;
+    }
+    batch.timeoutTimers = new ScheduledTimer[batch.size()];
+
+    // the batch is sent without retries, so that a broker which doesn't know request batches can
+    // be detected; the single commands are retried on their own if necessary
+    final int leader = leaderOf(batch.partitionId);
+    final long nowMillis = System.currentTimeMillis();
+    long batchTimeout = 1;
+    for (int i = 0; i < batch.size(); i++) {
+      final int index = i;
+      final long remainingTimeout = Math.max(1, batch.requests.get(i).deadlineMillis() - nowMillis);
+      batch.timeoutTimers[i] =
+          actor.schedule(
+              Duration.ofMillis(remainingTimeout), () -> handleBatchRequestTimeout(batch, index));
+      batchTimeout = Math.max(batchTimeout, remainingTimeout);
+    }
+
+    final ActorFuture<Void> acceptedFuture =
+        clientTransport.sendRequestBatch(
+            new BrokerAddressProvider(batch.partitionId),
+            batch.partitionId,
+            batch.brokerRequests,
+            (index, response, error) ->
+                actor.run(() -> handleBatchResponse(batch, index, response, error)),
+            Duration.ofMillis(batchTimeout));
+    actor.runOnCompletion(
+        acceptedFuture,
+        (ok, error) -> {
+          if (error != null) {
+            handleBatchFailure(batch, leader, error);
+          }
         });
   }
 
+  /**
+   * Each command of a batch is answered on its own, as soon as the leader handled it, so a command
+   * which was already answered is not affected by the others.
+   */
+  private void handleBatchResponse(
+      final RequestBatch batch,
+      final int index,
+      final DirectBuffer response,
+      final Throwable error) {
+    if (!batch.markAnswered(index)) {
+      // timed out already
+      return;
+    }
+
+    final PendingRequest<?> pendingRequest = batch.requests.get(index);
+    if (error != null) {
+      pendingRequest.complete(this, null, error);
+    } else if (pendingRequest.sender() == SENDER_WITH_RETRY && !responseValidation(response)) {
+      // the leader changed in the meantime, retry like a command which was sent on its own
+      sendAlone(pendingRequest);
+    } else {
+      pendingRequest.complete(this, response, null);
+    }
+  }
+
+  private void handleBatchRequestTimeout(final RequestBatch batch, final int index) {
+    if (batch.markAnswered(index)) {
+      batch
+          .requests
+          .get(index)
+          .complete(
+              this,
+              null,
+              new TimeoutException(
+                  "Request timed out after waiting for the response to a batch of commands"));
+    }
+  }
+
+  /** The batch wasn't accepted, so none of its commands which is still waiting gets an answer. */
+  private void handleBatchFailure(
+      final RequestBatch batch, final int leader, final Throwable error) {
+    if (isCausedBy(error, MessagingException.NoRemoteHandler.class)) {
+      // either the leader doesn't know request batches, or it just stepped down
+      if (leader != BrokerClusterState.NODE_ID_NULL) {
+        batchingUnsupportedUntil.put(
+            leader, System.currentTimeMillis() + BATCHING_PROBE_INTERVAL.toMillis());
+      }
+      batch.forEachUnanswered(this::sendAlone);
+    } else if (isCausedBy(error, ConnectException.class)) {
+      batch.forEachUnanswered(this::sendAlone);
+    } else {
+      batch.forEachUnanswered(pendingRequest -> pendingRequest.complete(this, null, error));
+    }
+  }
+
+  private <T> void sendAlone(final PendingRequest<T> pendingRequest) {
+    final long remainingTimeout = pendingRequest.deadlineMillis() - System.currentTimeMillis();
+    if (remainingTimeout <= 0) {
+      pendingRequest.complete(
+          this,
+          null,
+          new TimeoutException("Request timed out after waiting to be sent with other commands"));
+      return;
+    }
+
+    send(
+        pendingRequest.request(),
+        pendingRequest.returnFuture(),
+        pendingRequest.sender(),
+        new BrokerAddressProvider(pendingRequest.request().getPartitionId()),
+        Duration.ofMillis(remainingTimeout));
+  }
+
+  private int leaderOf(final int partitionId) {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    return topology == null
+        ? BrokerClusterState.NODE_ID_NULL
+        : topology.getLeaderForPartition(partitionId);
+  }
+
+  private static boolean isCausedBy(
+      final Throwable error, final Class<? extends Throwable> causeType) {
+    return causeType.isInstance(error) || causeType.isInstance(error.getCause());
+  }
+
   private <T> void registerFailure(
       final BrokerRequest<T> request, final RequestResult result, final Throwable error) {
     if (result != null && result.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED) {
@@ -280,6 +527,92 @@ final class BrokerRequestManager extends Actor {
     }
   }
 
+  /** A command waiting to be sent together with other commands for the same partition. */
+  private record PendingRequest<T>(
+      BrokerRequest<T> request,
+      CompletableFuture<BrokerResponse<T>> returnFuture,
+      TransportRequestSender sender,
+      long enqueuedNanos,
+      long enqueuedMillis,
+      long deadlineMillis) {
+
+    PendingRequest(
+        final BrokerRequest<T> request,
+        final CompletableFuture<BrokerResponse<T>> returnFuture,
+        final TransportRequestSender sender,
+        final Duration timeout) {
+      this(
+          request,
+          returnFuture,
+          sender,
+          System.nanoTime(),
+          System.currentTimeMillis(),
+          System.currentTimeMillis() + timeout.toMillis());
+    }
+
+    void complete(
+        final BrokerRequestManager manager, final DirectBuffer response, final Throwable error) {
+      manager.handleTransportResponse(request, returnFuture, enqueuedMillis, response, error);
+    }
+  }
+
+  /**
+   * Commands for the same partition which are sent as one {@link RequestType#COMMAND_BATCH}
+   * message. The leader answers each command on its own, see {@link
+   * ClientTransport#sendRequestBatch}.
+   */
+  private static final class RequestBatch {
+
+    private final int partitionId;
+    private final List<PendingRequest<?>> requests = new ArrayList<>();
+    private final List<BrokerRequest<?>> brokerRequests = new ArrayList<>();
+    private final BitSet answered = new BitSet();
+    private int length = BitUtil.SIZE_OF_INT;
+    private ScheduledTimer flushTimer;
+    private ScheduledTimer[] timeoutTimers;
+
+    private RequestBatch(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    private boolean canAdd(final PendingRequest<?> pendingRequest) {
+      return length + BitUtil.SIZE_OF_INT + pendingRequest.request().getLength()
+          <= MAX_BATCH_LENGTH;
+    }
+
+    private void add(final PendingRequest<?> pendingRequest) {
+      requests.add(pendingRequest);
+      brokerRequests.add(pendingRequest.request());
+      length += BitUtil.SIZE_OF_INT + pendingRequest.request().getLength();
+    }
+
+    private int size() {
+      return requests.size();
+    }
+
+    /**
+     * @return false if the command was already answered, e.g. because it timed out
+     */
+    private boolean markAnswered(final int index) {
+      if (index < 0 || index >= requests.size() || answered.get(index)) {
+        return false;
+      }
+      answered.set(index);
+      if (timeoutTimers[index] != null) {
+        timeoutTimers[index].cancel();
+      }
+      return true;
+    }
+
+    private void forEachUnanswered(final Consumer<PendingRequest<?>> action) {
+      for (int i = 0; i < requests.size(); i++) {
+        if (markAnswered(i)) {
+          action.accept(requests.get(i));
+        }
+      }
+    }
+  }
+
   private interface TransportRequestSender {
 
     ActorFuture<DirectBuffer> send(
@@ -21,6 +21,7 @@ import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.broker.client.impl.BrokerClientImpl;
+import io.camunda.zeebe.broker.client.impl.BrokerRequestCoalescingConfig;
 import io.camunda.zeebe.broker.client.impl.BrokerTopologyManagerImpl;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
@@ -446,6 +447,13 @@ public final class BrokerClientTest {
       this(record, Protocol.encodePartitionId(1, 1));
     }
 
+    private TestCommand(final Intent intent) {
+      super(VALUE_TYPE, intent);
+      record = new UnifiedRecordValue(10);
+      key = Protocol.encodePartitionId(1, 1);
+      dispatchStrategy = null;
+    }
+
     private TestCommand(final UnifiedRecordValue record, final long key) {
       this(record, key, null);
     }
@@ -483,6 +491,20 @@ public final class BrokerClientTest {
     }
   }
 
+  /** Like a command which creates a process instance and awaits its result. */
+  private static final class LongLivedTestCommand extends TestCommand {
+    private static final Intent LONG_LIVED_INTENT = JobIntent.COMPLETE;
+
+    private LongLivedTestCommand() {
+      super(LONG_LIVED_INTENT);
+    }
+
+    @Override
+    public boolean isLongLived() {
+      return true;
+    }
+  }
+
   @Nested
   final class RoutingTest {
     @Test
@@ -571,4 +593,112 @@ public final class BrokerClientTest {
       assertThat(response.isResponse()).isTrue();
     }
   }
+
+  @Nested
+  final class RequestCoalescingTest {
+
+    @Test
+    void shouldSendCommandsTogetherOnceBatchIsFull() throws Exception {
+      // given - a window which is longer than the request timeout, so the commands can only
+      // succeed if they are sent as soon as the batch is full
+      registerSuccessResponse(broker);
+      try (final var coalescingClient =
+          newCoalescingClient(new BrokerRequestCoalescingConfig(true, Duration.ofHours(1), 2))) {
+
+        // when
+        final var first = coalescingClient.sendRequestWithRetry(commandForPartition(1));
+        final var second = coalescingClient.sendRequestWithRetry(commandForPartition(1));
+
+        // then
+        assertThat(first.join().isResponse()).isTrue();
+        assertThat(second.join().isResponse()).isTrue();
+        assertThat(broker.getReceivedCommandRequests()).hasSize(2);
+      }
+    }
+
+    @Test
+    void shouldSendSingleCommandAfterWindow() throws Exception {
+      // given
+      registerSuccessResponse(broker);
+      try (final var coalescingClient =
+          newCoalescingClient(new BrokerRequestCoalescingConfig(true, Duration.ofMillis(10), 32))) {
+
+        // when
+        final var response = coalescingClient.sendRequest(commandForPartition(1));
+
+        // then
+        assertThat(response.join().isResponse()).isTrue();
+        assertThat(broker.getReceivedCommandRequests()).hasSize(1);
+      }
+    }
+
+    @Test
+    void shouldReturnErrorOfEachCommandInBatch() throws Exception {
+      // given
+      registerError(broker, ErrorCode.INTERNAL_ERROR, "test");
+      try (final var coalescingClient =
+          newCoalescingClient(new BrokerRequestCoalescingConfig(true, Duration.ofHours(1), 2))) {
+
+        // when
+        final Future<?> first = coalescingClient.sendRequestWithRetry(commandForPartition(1));
+        final Future<?> second = coalescingClient.sendRequestWithRetry(commandForPartition(1));
+
+        // then
+        final var expectedError =
+            new BrokerErrorException(new BrokerError(ErrorCode.INTERNAL_ERROR, "test"));
+        assertThat(first)
+            .failsWithin(Duration.ofSeconds(10))
+            .withThrowableThat()
+            .withCause(expectedError);
+        assertThat(second)
+            .failsWithin(Duration.ofSeconds(10))
+            .withThrowableThat()
+            .withCause(expectedError);
+      }
+    }
+
+    @Test
+    void shouldNotHoldBackCommandsByLongLivedCommand() throws Exception {
+      // given - the long-lived command is never answered, and the window is longer than the
+      // request timeout, so the plain commands can only succeed if they fill a batch on their own
+      registerSuccessResponse(broker);
+      broker
+          .onExecuteCommandRequest(TestCommand.VALUE_TYPE, LongLivedTestCommand.LONG_LIVED_INTENT)
+          .doNotRespond();
+      try (final var coalescingClient =
+          newCoalescingClient(new BrokerRequestCoalescingConfig(true, Duration.ofHours(1), 2))) {
+
+        // when
+        final var first = coalescingClient.sendRequestWithRetry(commandForPartition(1));
+        final var longLived = new LongLivedTestCommand();
+        longLived.setPartitionId(1);
+        final var withResult = coalescingClient.sendRequestWithRetry(longLived);
+        final var second = coalescingClient.sendRequestWithRetry(commandForPartition(1));
+
+        // then
+        assertThat(first).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(second).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(withResult).isNotDone();
+      }
+    }
+
+    private TestCommand commandForPartition(final int partitionId) {
+      final var command = new TestCommand();
+      command.setPartitionId(partitionId);
+      return command;
+    }
+
+    private BrokerClient newCoalescingClient(final BrokerRequestCoalescingConfig coalescing) {
+      final var coalescingClient =
+          new BrokerClientImpl(
+              Duration.ofSeconds(5),
+              coalescing,
+              atomixCluster.getMessagingService(),
+              atomixCluster.getEventService(),
+              actorScheduler,
+              topologyManager);
+      coalescingClient.start().forEach(ActorFuture::join);
+      return coalescingClient;
+    }
+  }
 }
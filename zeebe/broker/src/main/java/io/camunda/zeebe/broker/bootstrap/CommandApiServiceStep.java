@@ -65,7 +65,11 @@ final class CommandApiServiceStep extends AbstractBrokerStartupStep {
 
     final var commandApiService =
         new CommandApiServiceImpl(
-            serverTransport, schedulingService, brokerCfg.getExperimental().getQueryApi());
+            serverTransport,
+            schedulingService,
+            brokerCfg.getExperimental().getQueryApi(),
+            brokerCfg.getExperimental().getCommandBatching(),
+            brokerCfg.getExperimental().getDeploymentPreValidation());
 
     concurrencyControl.runOnCompletion(
         schedulingService.submitActor(commandApiService),
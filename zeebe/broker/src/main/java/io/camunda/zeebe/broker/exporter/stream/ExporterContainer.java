@@ -192,6 +192,11 @@ final class ExporterContainer implements Controller {
     return scheduledTimer::cancel;
   }
 
+  @Override
+  public void submit(final Runnable task) {
+    actor.run(task);
+  }
+
   @Override
   public Optional<byte[]> readMetadata() {
     return Optional.ofNullable(exportersState.getExporterMetadata(getId()))
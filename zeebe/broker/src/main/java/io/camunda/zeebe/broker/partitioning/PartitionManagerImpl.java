@@ -29,6 +29,9 @@ import io.camunda.zeebe.broker.system.monitoring.BrokerHealthCheckService;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.system.partitions.ZeebePartition;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiService;
+import io.camunda.zeebe.db.impl.rocksdb.MemoryAllocationStrategy;
+import io.camunda.zeebe.db.impl.rocksdb.SharedRocksDbResources;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDBMetricExporter;
 import io.camunda.zeebe.dynamic.config.changes.PartitionChangeExecutor;
 import io.camunda.zeebe.dynamic.config.changes.PartitionScalingChangeExecutor;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
@@ -38,12 +41,14 @@ import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.ActorFutureCollector;
 import io.camunda.zeebe.scheduler.startup.StartupProcessShutdownException;
 import io.camunda.zeebe.transport.impl.AtomixServerTransport;
 import io.camunda.zeebe.util.health.HealthStatus;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,6 +57,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +67,7 @@ public final class PartitionManagerImpl
   public static final String GROUP_NAME = "raft-partition";
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PartitionManagerImpl.class);
+  private static final Duration SHARED_ROCKSDB_METRICS_INTERVAL = Duration.ofSeconds(5);
   private final ConcurrencyControl concurrencyControl;
 
   private final BrokerHealthCheckService healthCheckService;
@@ -74,6 +81,8 @@ public final class PartitionManagerImpl
   private final ZeebePartitionFactory zeebePartitionFactory;
   private final RaftPartitionFactory raftPartitionFactory;
   private final ClusterConfigurationService clusterConfigurationService;
+  private final SharedRocksDbResources sharedRocksDbResources;
+  private ScheduledTimer sharedRocksDbMetricsTimer;
 
   public PartitionManagerImpl(
       final ConcurrencyControl concurrencyControl,
@@ -107,6 +116,7 @@ public final class PartitionManagerImpl
     final List<PartitionListener> listeners = new ArrayList<>(partitionListeners);
     listeners.add(topologyManager);
 
+    sharedRocksDbResources = allocateSharedRocksDbResources(brokerCfg);
     zeebePartitionFactory =
         new ZeebePartitionFactory(
             actorSchedulingService,
@@ -123,15 +133,53 @@ public final class PartitionManagerImpl
             topologyManager,
             featureFlags,
             meterRegistry,
-            securityConfig);
+            securityConfig,
+            sharedRocksDbResources);
     managementService =
         new DefaultPartitionManagementService(
             clusterServices.getMembershipService(), clusterServices.getCommunicationService());
     raftPartitionFactory = new RaftPartitionFactory(brokerCfg);
   }
 
+  /**
+   * With the broker-wide memory allocation, the databases of all partitions hosted by this broker
+   * share a single memory pool, sized from the partitions the broker is expected to host.
+   * Partitions joining or leaving later share the same pool, without resizing it.
+   */
+  private static SharedRocksDbResources allocateSharedRocksDbResources(final BrokerCfg brokerCfg) {
+    final var rocksdbCfg = brokerCfg.getExperimental().getRocksdb();
+    if (rocksdbCfg.getMemoryAllocationStrategy() != MemoryAllocationStrategy.BROKER) {
+      return null;
+    }
+
+    final var clusterCfg = brokerCfg.getCluster();
+    final int partitionsPerBroker =
+        (int)
+            Math.ceil(
+                (double) clusterCfg.getPartitionsCount()
+                    * clusterCfg.getReplicationFactor()
+                    / clusterCfg.getClusterSize());
+    final var resources =
+        SharedRocksDbResources.allocate(rocksdbCfg.getMemoryLimit().toBytes(), partitionsPerBroker);
+    LOGGER.info(
+        "Allocated RocksDB memory pool of {} bytes shared by the {} partitions of this broker",
+        resources.getMemoryLimit(),
+        partitionsPerBroker);
+    return resources;
+  }
+
+  private void exportSharedRocksDbMetrics() {
+    ZeebeRocksDBMetricExporter.exportSharedMemoryMetrics(sharedRocksDbResources);
+    sharedRocksDbMetricsTimer =
+        concurrencyControl.schedule(
+            SHARED_ROCKSDB_METRICS_INTERVAL, this::exportSharedRocksDbMetrics);
+  }
+
   public void start() {
     actorSchedulingService.submitActor(topologyManager);
+    if (sharedRocksDbResources != null) {
+      concurrencyControl.run(this::exportSharedRocksDbMetrics);
+    }
     final var localMemberId = managementService.getMembershipService().getLocalMember().id();
     final var memberPartitions =
         clusterConfigurationService.getPartitionDistribution().partitions().stream()
@@ -245,6 +293,10 @@ public final class PartitionManagerImpl
 
   public ActorFuture<Void> stop() {
     final var result = concurrencyControl.<Void>createFuture();
+    if (sharedRocksDbMetricsTimer != null) {
+      sharedRocksDbMetricsTimer.cancel();
+      sharedRocksDbMetricsTimer = null;
+    }
     final var stop =
         partitions.values().stream()
             .map(Partition::stop)
@@ -257,6 +309,9 @@ public final class PartitionManagerImpl
             result.completeExceptionally(error);
           } else {
             partitions.clear();
+            // only safe once all databases using the shared memory pool are closed, so it's left to
+            // the OS if stopping the partitions failed
+            CloseHelper.quietClose(sharedRocksDbResources);
             topologyManager.closeAsync().onComplete(result);
           }
         });
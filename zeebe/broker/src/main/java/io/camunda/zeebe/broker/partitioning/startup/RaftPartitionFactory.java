@@ -103,6 +103,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setGroupCommitEnabled(
+        brokerCfg.getExperimental().getRaft().isEnableGroupCommit());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
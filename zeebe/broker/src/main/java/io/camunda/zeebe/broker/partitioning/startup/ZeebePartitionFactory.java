@@ -48,6 +48,7 @@ import io.camunda.zeebe.broker.system.partitions.impl.steps.ZeebeDbPartitionTran
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiService;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiServiceTransitionStep;
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.SharedRocksDbResources;
 import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
@@ -108,6 +109,7 @@ public final class ZeebePartitionFactory {
   private final List<PartitionRaftListener> partitionRaftListeners;
   private final MeterRegistry meterRegistry;
   private final SecurityConfiguration securityConfig;
+  private final SharedRocksDbResources sharedRocksDbResources;
 
   public ZeebePartitionFactory(
       final ActorSchedulingService actorSchedulingService,
@@ -124,7 +126,8 @@ public final class ZeebePartitionFactory {
       final TopologyManagerImpl topologyManager,
       final FeatureFlags featureFlags,
       final MeterRegistry meterRegistry,
-      final SecurityConfiguration securityConfig) {
+      final SecurityConfiguration securityConfig,
+      final SharedRocksDbResources sharedRocksDbResources) {
     this.actorSchedulingService = actorSchedulingService;
     this.brokerCfg = brokerCfg;
     this.localBroker = localBroker;
@@ -140,6 +143,7 @@ public final class ZeebePartitionFactory {
     this.featureFlags = featureFlags;
     this.meterRegistry = meterRegistry;
     this.securityConfig = securityConfig;
+    this.sharedRocksDbResources = sharedRocksDbResources;
   }
 
   public ZeebePartition constructPartition(
@@ -208,8 +212,8 @@ public final class ZeebePartitionFactory {
         new ZeebeRocksDbFactory<>(
             databaseCfg.createRocksDbConfiguration(),
             consistencyChecks.getSettings(),
-            new AccessMetricsConfiguration(
-                databaseCfg.getAccessMetrics(), raftPartition.id().id())),
+            new AccessMetricsConfiguration(databaseCfg.getAccessMetrics(), raftPartition.id().id()),
+            sharedRocksDbResources),
         snapshotStore,
         runtimeDirectory,
         new AtomixRecordEntrySupplierImpl(raftPartition.getServer()),
@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configures coalescing of user commands into shared log append batches. When enabled, commands for
+ * the same partition and with the same intent are collected and appended together as a single
+ * batch, i.e. as a single Raft entry, instead of one entry per command.
+ */
+public final class CommandBatchingCfg {
+
+  public static final boolean DEFAULT_ENABLED = false;
+  public static final int DEFAULT_MAX_COMMANDS = 32;
+  public static final DataSize DEFAULT_MAX_SIZE = DataSize.ofKilobytes(256);
+  public static final Duration DEFAULT_MAX_DELAY = Duration.ZERO;
+
+  private boolean enabled = DEFAULT_ENABLED;
+  private int maxCommands = DEFAULT_MAX_COMMANDS;
+  private DataSize maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+   * How long the first command of a batch may wait for further commands. With a delay of zero, a
+   * batch only collects the commands that are already queued for the command API, which adds no
+   * latency when the broker is idle.
+   */
+  private Duration maxDelay = DEFAULT_MAX_DELAY;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxCommands() {
+    return maxCommands;
+  }
+
+  public void setMaxCommands(final int maxCommands) {
+    this.maxCommands = maxCommands;
+  }
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(final DataSize maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  public void setMaxDelay(final Duration maxDelay) {
+    this.maxDelay = maxDelay;
+  }
+
+  @Override
+  public String toString() {
+    return "CommandBatchingCfg{"
+        + "enabled="
+        + enabled
+        + ", maxCommands="
+        + maxCommands
+        + ", maxSize="
+        + maxSize
+        + ", maxDelay="
+        + maxDelay
+        + '}';
+  }
+}
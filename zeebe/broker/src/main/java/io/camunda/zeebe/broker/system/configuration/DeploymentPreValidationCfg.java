@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configures the pre-validation of deployments. When enabled, the command API parses, validates and
+ * transforms the BPMN resources of a deployment on a separate thread pool before writing the
+ * command, so the stream processor can reuse the result instead of doing this work itself.
+ */
+public final class DeploymentPreValidationCfg {
+
+  public static final boolean DEFAULT_ENABLED = false;
+  public static final int DEFAULT_THREAD_COUNT = 2;
+  public static final DataSize DEFAULT_CACHE_MAX_SIZE = DataSize.ofMegabytes(64);
+  public static final Duration DEFAULT_CACHE_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+  private boolean enabled = DEFAULT_ENABLED;
+  private int threadCount = DEFAULT_THREAD_COUNT;
+
+  /**
+   * The maximum estimated memory of the validated resources which wait to be picked up by the
+   * processor. The estimate is a multiple of the resources' size, as the parsed models are much
+   * larger than the XML they were read from.
+   */
+  private DataSize cacheMaxSize = DEFAULT_CACHE_MAX_SIZE;
+
+  /**
+   * How long a validated resource waits to be picked up by the processor, before it is dropped. A
+   * resource which is not picked up in time, e.g. because the command was rejected or written to
+   * another partition, is simply validated again by the processor.
+   */
+  private Duration cacheTimeToLive = DEFAULT_CACHE_TIME_TO_LIVE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getThreadCount() {
+    return threadCount;
+  }
+
+  public void setThreadCount(final int threadCount) {
+    this.threadCount = threadCount;
+  }
+
+  public DataSize getCacheMaxSize() {
+    return cacheMaxSize;
+  }
+
+  public void setCacheMaxSize(final DataSize cacheMaxSize) {
+    this.cacheMaxSize = cacheMaxSize;
+  }
+
+  public Duration getCacheTimeToLive() {
+    return cacheTimeToLive;
+  }
+
+  public void setCacheTimeToLive(final Duration cacheTimeToLive) {
+    this.cacheTimeToLive = cacheTimeToLive;
+  }
+
+  @Override
+  public String toString() {
+    return "DeploymentPreValidationCfg{"
+        + "enabled="
+        + enabled
+        + ", threadCount="
+        + threadCount
+        + ", cacheMaxSize="
+        + cacheMaxSize
+        + ", cacheTimeToLive="
+        + cacheTimeToLive
+        + '}';
+  }
+}
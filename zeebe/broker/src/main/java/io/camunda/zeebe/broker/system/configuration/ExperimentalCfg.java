@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.broker.system.configuration.RaftCfg.FlushConfig;
 import io.camunda.zeebe.broker.system.configuration.engine.EngineCfg;
+import io.camunda.zeebe.snapshots.SnapshotVerification;
 import java.util.Optional;
 import org.springframework.util.unit.DataSize;
 
@@ -23,6 +24,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   public static final boolean DEFAULT_VERSION_CHECK_ENABLED = true;
+  public static final SnapshotVerification DEFAULT_SNAPSHOT_VERIFICATION =
+      SnapshotVerification.FULL;
 
   /**
    * Allows to enable/disable the version check, that prevents us on migrating to alpha versions,
@@ -33,10 +36,15 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private SnapshotVerification snapshotVerification = DEFAULT_SNAPSHOT_VERIFICATION;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
   private QueryApiCfg queryApi = new QueryApiCfg();
+  private CommandBatchingCfg commandBatching = new CommandBatchingCfg();
+  private InterPartitionCommandBatchingCfg interPartitionCommandBatching =
+      new InterPartitionCommandBatchingCfg();
+  private DeploymentPreValidationCfg deploymentPreValidation = new DeploymentPreValidationCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
   private EngineCfg engine = new EngineCfg();
   private FeatureFlagsCfg features = new FeatureFlagsCfg();
@@ -95,6 +103,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.disableExplicitRaftFlush = disableExplicitRaftFlush;
   }
 
+  public SnapshotVerification getSnapshotVerification() {
+    return snapshotVerification;
+  }
+
+  public void setSnapshotVerification(final SnapshotVerification snapshotVerification) {
+    this.snapshotVerification = snapshotVerification;
+  }
+
   public RocksdbCfg getRocksdb() {
     return rocksdb;
   }
@@ -127,6 +143,31 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.queryApi = queryApi;
   }
 
+  public CommandBatchingCfg getCommandBatching() {
+    return commandBatching;
+  }
+
+  public void setCommandBatching(final CommandBatchingCfg commandBatching) {
+    this.commandBatching = commandBatching;
+  }
+
+  public InterPartitionCommandBatchingCfg getInterPartitionCommandBatching() {
+    return interPartitionCommandBatching;
+  }
+
+  public void setInterPartitionCommandBatching(
+      final InterPartitionCommandBatchingCfg interPartitionCommandBatching) {
+    this.interPartitionCommandBatching = interPartitionCommandBatching;
+  }
+
+  public DeploymentPreValidationCfg getDeploymentPreValidation() {
+    return deploymentPreValidation;
+  }
+
+  public void setDeploymentPreValidation(final DeploymentPreValidationCfg deploymentPreValidation) {
+    this.deploymentPreValidation = deploymentPreValidation;
+  }
+
   public ConsistencyCheckCfg getConsistencyChecks() {
     return consistencyChecks;
   }
@@ -160,12 +201,20 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", snapshotVerification="
+        + snapshotVerification
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
         + partitioning
         + ", queryApi="
         + queryApi
+        + ", commandBatching="
+        + commandBatching
+        + ", interPartitionCommandBatching="
+        + interPartitionCommandBatching
+        + ", deploymentPreValidation="
+        + deploymentPreValidation
         + ", consistencyChecks="
         + consistencyChecks
         + ", engineCfg="
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configures coalescing of inter-partition commands, e.g. message subscription and command
+ * distribution commands. When enabled, commands which are queued together for the same receiver
+ * partition are sent as a single message and appended on the receiver side as a single batch.
+ *
+ * <p>Receivers always accept batched messages, but brokers running an older version do not. Only
+ * enable this once all brokers of the cluster have been updated.
+ */
+public final class InterPartitionCommandBatchingCfg {
+
+  public static final boolean DEFAULT_ENABLED = false;
+  public static final int DEFAULT_MAX_COMMANDS = 64;
+  public static final DataSize DEFAULT_MAX_SIZE = DataSize.ofKilobytes(512);
+
+  private boolean enabled = DEFAULT_ENABLED;
+  private int maxCommands = DEFAULT_MAX_COMMANDS;
+  private DataSize maxSize = DEFAULT_MAX_SIZE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxCommands() {
+    return maxCommands;
+  }
+
+  public void setMaxCommands(final int maxCommands) {
+    this.maxCommands = maxCommands;
+  }
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(final DataSize maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public String toString() {
+    return "InterPartitionCommandBatchingCfg{"
+        + "enabled="
+        + enabled
+        + ", maxCommands="
+        + maxCommands
+        + ", maxSize="
+        + maxSize
+        + '}';
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.MemoryAllocationStrategy;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -21,6 +22,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private boolean enableStatistics = RocksDbConfiguration.DEFAULT_STATISTICS_ENABLED;
   private AccessMetricsConfiguration.Kind accessMetrics = AccessMetricsConfiguration.Kind.NONE;
   private DataSize memoryLimit = DataSize.ofBytes(RocksDbConfiguration.DEFAULT_MEMORY_LIMIT);
+  private MemoryAllocationStrategy memoryAllocationStrategy =
+      RocksDbConfiguration.DEFAULT_MEMORY_ALLOCATION_STRATEGY;
   private int maxOpenFiles = RocksDbConfiguration.DEFAULT_UNLIMITED_MAX_OPEN_FILES;
   private int maxWriteBufferNumber = RocksDbConfiguration.DEFAULT_MAX_WRITE_BUFFER_NUMBER;
   private int minWriteBufferNumberToMerge =
@@ -73,6 +76,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.memoryLimit = memoryLimit;
   }
 
+  public MemoryAllocationStrategy getMemoryAllocationStrategy() {
+    return memoryAllocationStrategy;
+  }
+
+  public void setMemoryAllocationStrategy(final MemoryAllocationStrategy memoryAllocationStrategy) {
+    this.memoryAllocationStrategy = memoryAllocationStrategy;
+  }
+
   public int getMaxOpenFiles() {
     return maxOpenFiles;
   }
@@ -135,6 +146,7 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setMaxOpenFiles(maxOpenFiles)
         .setMaxWriteBufferNumber(maxWriteBufferNumber)
         .setMemoryLimit(memoryLimit.toBytes())
+        .setMemoryAllocationStrategy(memoryAllocationStrategy)
         .setMinWriteBufferNumberToMerge(minWriteBufferNumberToMerge)
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
@@ -153,6 +165,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + accessMetrics
         + ", memoryLimit="
         + memoryLimit
+        + ", memoryAllocationStrategy="
+        + memoryAllocationStrategy
         + ", maxOpenFiles="
         + maxOpenFiles
         + ", maxWriteBufferNumber="
@@ -17,6 +17,8 @@ public final class EngineCfg implements ConfigurationEntry {
   private CachesCfg caches = new CachesCfg();
   private JobsCfg jobs = new JobsCfg();
   private ValidatorsCfg validators = new ValidatorsCfg();
+  private BatchOperationsCfg batchOperations = new BatchOperationsCfg();
+  private ProcessInstancesCfg processInstances = new ProcessInstancesCfg();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -24,6 +26,8 @@ public final class EngineCfg implements ConfigurationEntry {
     caches.init(globalConfig, brokerBase);
     jobs.init(globalConfig, brokerBase);
     validators.init(globalConfig, brokerBase);
+    batchOperations.init(globalConfig, brokerBase);
+    processInstances.init(globalConfig, brokerBase);
   }
 
   public MessagesCfg getMessages() {
@@ -58,6 +62,22 @@ public final class EngineCfg implements ConfigurationEntry {
     this.validators = validators;
   }
 
+  public BatchOperationsCfg getBatchOperations() {
+    return batchOperations;
+  }
+
+  public void setBatchOperations(final BatchOperationsCfg batchOperations) {
+    this.batchOperations = batchOperations;
+  }
+
+  public ProcessInstancesCfg getProcessInstances() {
+    return processInstances;
+  }
+
+  public void setProcessInstances(final ProcessInstancesCfg processInstances) {
+    this.processInstances = processInstances;
+  }
+
   @Override
   public String toString() {
     return "EngineCfg{"
@@ -69,6 +89,10 @@ public final class EngineCfg implements ConfigurationEntry {
         + jobs
         + ", validators="
         + validators
+        + ", batchOperations="
+        + batchOperations
+        + ", processInstances="
+        + processInstances
         + '}';
   }
 
@@ -82,6 +106,8 @@ public final class EngineCfg implements ConfigurationEntry {
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
-        .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
+        .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize())
+        .setBatchOperationChunkSize(batchOperations.getChunkSize())
+        .setEnableBulkTermination(processInstances.isEnableBulkTermination());
   }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+
+public class ProcessInstancesCfg implements ConfigurationEntry {
+
+  private boolean enableBulkTermination = EngineConfiguration.DEFAULT_ENABLE_BULK_TERMINATION;
+
+  public boolean isEnableBulkTermination() {
+    return enableBulkTermination;
+  }
+
+  public void setEnableBulkTermination(final boolean enableBulkTermination) {
+    this.enableBulkTermination = enableBulkTermination;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessInstancesCfg{" + "enableBulkTermination=" + enableBulkTermination + '}';
+  }
+}
@@ -134,6 +134,11 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
 
     final var experimentalCfg = context.getBrokerCfg().getExperimental();
     final var engineCfg = experimentalCfg.getEngine().createEngineConfiguration();
+    engineCfg.setValidatedBpmnResources(
+        context
+            .getCommandApiService()
+            .registerDeploymentValidation(
+                context.getPartitionId(), engineCfg, context.getStreamClock()));
 
     final var engine =
         new Engine(
@@ -8,13 +8,12 @@
 package io.camunda.zeebe.broker.transport.commandapi;
 
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.system.configuration.CommandBatchingCfg;
 import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler;
 import io.camunda.zeebe.broker.transport.ErrorResponseWriter;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -32,11 +31,22 @@ final class CommandApiRequestHandler
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
 
   private final Int2ObjectHashMap<LogStreamWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<CommandBatcher> commandBatchers = new Int2ObjectHashMap<>();
   private boolean isDiskSpaceAvailable = true;
   private final Map<Integer, Boolean> processingPaused = new HashMap<>();
+  private final CommandBatchingCfg commandBatchingCfg;
+  private final DeploymentPreValidator deploymentPreValidator;
 
   CommandApiRequestHandler() {
+    this(new CommandBatchingCfg(), DeploymentPreValidator.disabled());
+  }
+
+  CommandApiRequestHandler(
+      final CommandBatchingCfg commandBatchingCfg,
+      final DeploymentPreValidator deploymentPreValidator) {
     super(CommandApiRequestReader::new, CommandApiResponseWriter::new);
+    this.commandBatchingCfg = commandBatchingCfg;
+    this.deploymentPreValidator = deploymentPreValidator;
   }
 
   @Override
@@ -46,8 +56,23 @@ final class CommandApiRequestHandler
       final CommandApiRequestReader requestReader,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
-    return CompletableActorFuture.completed(
-        handle(partitionId, requestId, requestReader, responseWriter, errorWriter));
+    final var preparedCommand = prepareCommand(partitionId, requestId, requestReader, errorWriter);
+    if (preparedCommand.isLeft()) {
+      return CompletableActorFuture.completed(Either.left(preparedCommand.getLeft()));
+    }
+
+    final var appendEntry = preparedCommand.get();
+    if (deploymentPreValidator.accepts(appendEntry)) {
+      return preValidateAndWrite(partitionId, appendEntry, responseWriter, errorWriter);
+    }
+    return writeCommand(partitionId, appendEntry, responseWriter, errorWriter);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    // pending requests would otherwise block closing the actor
+    commandBatchers.values().forEach(CommandBatcher::flush);
+    commandBatchers.clear();
   }
 
   public void onRecovered(final int partitionId) {
@@ -62,21 +87,103 @@ final class CommandApiRequestHandler
     actor.run(() -> processingPaused.put(partitionId, false));
   }
 
-  private Either<ErrorResponseWriter, CommandApiResponseWriter> handle(
+  private ActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>> preValidateAndWrite(
       final int partitionId,
-      final long requestId,
-      final CommandApiRequestReader requestReader,
+      final LogAppendEntry appendEntry,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+    final var result =
+        new CompletableActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>>();
+    // the request's buffers are not touched by the actor until the pre-validation is done
+    deploymentPreValidator
+        .preValidate(partitionId, appendEntry)
+        .whenComplete(
+            (ok, error) ->
+                actor.run(
+                    () ->
+                        writeCommand(partitionId, appendEntry, responseWriter, errorWriter)
+                            .onComplete(
+                                (written, writeError) -> {
+                                  if (writeError != null) {
+                                    result.completeExceptionally(writeError);
+                                  } else {
+                                    result.complete(written);
+                                  }
+                                })));
+    return result;
+  }
+
+  private ActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>> writeCommand(
+      final int partitionId,
+      final LogAppendEntry appendEntry,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
-    return handleExecuteCommandRequest(
-        partitionId, requestId, requestReader, responseWriter, errorWriter);
+    final var batcher = commandBatchers.get(partitionId);
+    if (batcher != null) {
+      return writeBatched(batcher, partitionId, appendEntry, responseWriter, errorWriter);
+    }
+    return CompletableActorFuture.completed(
+        write(partitionId, appendEntry, responseWriter, errorWriter));
+  }
+
+  private ActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>> writeBatched(
+      final CommandBatcher batcher,
+      final int partitionId,
+      final LogAppendEntry appendEntry,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+    final var result =
+        new CompletableActorFuture<Either<ErrorResponseWriter, CommandApiResponseWriter>>();
+    batcher.add(
+        appendEntry.recordMetadata().getIntent(),
+        appendEntry,
+        (writeResult, error) -> {
+          if (error != null) {
+            final String errorMessage =
+                "Failed to write client request to partition '%d', %s"
+                    .formatted(partitionId, error);
+            LOG.error(errorMessage);
+            result.complete(Either.left(errorWriter.internalError(errorMessage)));
+          } else {
+            result.complete(
+                writeResult
+                    .map(position -> responseWriter)
+                    .mapLeft(failure -> errorWriter.mapWriteError(partitionId, failure)));
+          }
+        });
+    return result;
+  }
+
+  private Either<ErrorResponseWriter, CommandApiResponseWriter> write(
+      final int partitionId,
+      final LogAppendEntry appendEntry,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+    final var logStreamWriter = leadingStreams.get(partitionId);
+    if (logStreamWriter == null) {
+      // the partition may have been removed while the command was pre-validated
+      errorWriter.partitionLeaderMismatch(partitionId);
+      return Either.left(errorWriter);
+    }
+
+    try {
+      return logStreamWriter
+          .tryWrite(WriteContext.userCommand(appendEntry.recordMetadata().getIntent()), appendEntry)
+          .map(position -> responseWriter)
+          .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
+
+    } catch (final Exception error) {
+      final String errorMessage =
+          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
+      LOG.error(errorMessage);
+      return Either.left(errorWriter.internalError(errorMessage));
+    }
   }
 
-  private Either<ErrorResponseWriter, CommandApiResponseWriter> handleExecuteCommandRequest(
+  private Either<ErrorResponseWriter, LogAppendEntry> prepareCommand(
       final int partitionId,
       final long requestId,
       final CommandApiRequestReader reader,
-      final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
 
     if (!isDiskSpaceAvailable) {
@@ -116,26 +223,7 @@ final class CommandApiRequestHandler
       return Either.left(errorWriter);
     }
 
-    try {
-      return writeCommand(command.key(), metadata, value, logStreamWriter, errorWriter, partitionId)
-          .map(b -> responseWriter)
-          .mapLeft(failure -> errorWriter);
-
-    } catch (final Exception error) {
-      final String errorMessage =
-          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
-      LOG.error(errorMessage);
-      return Either.left(errorWriter.internalError(errorMessage));
-    }
-  }
-
-  private Either<ErrorResponseWriter, Boolean> writeCommand(
-      final long key,
-      final RecordMetadata metadata,
-      final UnifiedRecordValue value,
-      final LogStreamWriter logStreamWriter,
-      final ErrorResponseWriter errorWriter,
-      final int partitionId) {
+    final long key = command.key();
     final LogAppendEntry appendEntry;
     if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
       appendEntry = LogAppendEntry.of(key, metadata, value);
@@ -143,25 +231,41 @@ final class CommandApiRequestHandler
       appendEntry = LogAppendEntry.of(metadata, value);
     }
 
-    if (logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
-      return logStreamWriter
-          .tryWrite(WriteContext.userCommand(metadata.getIntent()), appendEntry)
-          .map(ignore -> true)
-          .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
-    } else {
+    if (!logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
       return Either.left(
           errorWriter
               .errorCode(ErrorCode.MALFORMED_REQUEST)
               .errorMessage("Request size is above configured maxMessageSize."));
     }
+
+    return Either.right(appendEntry);
   }
 
   void addPartition(final int partitionId, final LogStreamWriter logStreamWriter) {
-    actor.submit(() -> leadingStreams.put(partitionId, logStreamWriter));
+    actor.submit(
+        () -> {
+          leadingStreams.put(partitionId, logStreamWriter);
+          if (commandBatchingCfg.isEnabled()) {
+            final var previousBatcher =
+                commandBatchers.put(
+                    partitionId,
+                    new CommandBatcher(partitionId, logStreamWriter, commandBatchingCfg, actor));
+            if (previousBatcher != null) {
+              previousBatcher.flush();
+            }
+          }
+        });
   }
 
   void removePartition(final int partitionId) {
-    actor.submit(() -> leadingStreams.remove(partitionId));
+    actor.submit(
+        () -> {
+          final var batcher = commandBatchers.remove(partitionId);
+          if (batcher != null) {
+            batcher.flush();
+          }
+          leadingStreams.remove(partitionId);
+        });
   }
 
   void onDiskSpaceNotAvailable() {
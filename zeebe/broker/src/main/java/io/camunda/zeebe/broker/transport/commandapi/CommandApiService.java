@@ -7,15 +7,29 @@
  */
 package io.camunda.zeebe.broker.transport.commandapi;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.deployment.transform.ValidatedBpmnResources;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
+import java.time.InstantSource;
 
 public interface CommandApiService {
 
   CommandResponseWriter newCommandResponseWriter();
 
+  /**
+   * Registers the engine of the given partition for the pre-validation of deployments, so they are
+   * validated with the engine's clock and validator settings. Returns the deployment resources
+   * which were validated before the command was written, to be picked up by the engine's deployment
+   * processors.
+   */
+  ValidatedBpmnResources registerDeploymentValidation(
+      final int partitionId,
+      final EngineConfiguration engineConfiguration,
+      final InstantSource clock);
+
   void onRecovered(final int partitionId);
 
   void onPaused(final int partitionId);
@@ -8,9 +8,13 @@
 package io.camunda.zeebe.broker.transport.commandapi;
 
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.system.configuration.CommandBatchingCfg;
+import io.camunda.zeebe.broker.system.configuration.DeploymentPreValidationCfg;
 import io.camunda.zeebe.broker.system.configuration.QueryApiCfg;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.camunda.zeebe.broker.transport.queryapi.QueryApiRequestHandler;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.deployment.transform.ValidatedBpmnResources;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.Actor;
@@ -19,6 +23,7 @@ import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.transport.ServerTransport;
+import java.time.InstantSource;
 import org.agrona.collections.IntHashSet;
 
 public final class CommandApiServiceImpl extends Actor
@@ -29,14 +34,18 @@ public final class CommandApiServiceImpl extends Actor
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
   private final ActorSchedulingService scheduler;
+  private final DeploymentPreValidator deploymentPreValidator;
 
   public CommandApiServiceImpl(
       final ServerTransport serverTransport,
       final ActorSchedulingService scheduler,
-      final QueryApiCfg queryApiCfg) {
+      final QueryApiCfg queryApiCfg,
+      final CommandBatchingCfg commandBatchingCfg,
+      final DeploymentPreValidationCfg deploymentPreValidationCfg) {
     this.serverTransport = serverTransport;
     this.scheduler = scheduler;
-    commandHandler = new CommandApiRequestHandler();
+    deploymentPreValidator = DeploymentPreValidator.of(deploymentPreValidationCfg);
+    commandHandler = new CommandApiRequestHandler(commandBatchingCfg, deploymentPreValidator);
     queryHandler = new QueryApiRequestHandler(queryApiCfg);
   }
 
@@ -63,6 +72,7 @@ public final class CommandApiServiceImpl extends Actor
           if (error != null) {
             Loggers.TRANSPORT_LOGGER.error("Error closing command api request handler", error);
           }
+          deploymentPreValidator.close();
         });
     actor.runOnCompletion(
         queryHandler.closeAsync(),
@@ -78,6 +88,15 @@ public final class CommandApiServiceImpl extends Actor
     return new CommandResponseWriterImpl(serverTransport);
   }
 
+  @Override
+  public ValidatedBpmnResources registerDeploymentValidation(
+      final int partitionId,
+      final EngineConfiguration engineConfiguration,
+      final InstantSource clock) {
+    deploymentPreValidator.register(partitionId, engineConfiguration, clock);
+    return deploymentPreValidator.validatedResources();
+  }
+
   @Override
   public void onRecovered(final int partitionId) {
     commandHandler.onRecovered(partitionId);
@@ -115,6 +134,7 @@ public final class CommandApiServiceImpl extends Actor
         () -> {
           commandHandler.removePartition(partitionId);
           queryHandler.removePartition(partitionId);
+          deploymentPreValidator.unregister(partitionId);
           leadPartitions.remove(partitionId);
           serverTransport.unsubscribe(partitionId, RequestType.COMMAND);
           serverTransport.unsubscribe(partitionId, RequestType.QUERY);
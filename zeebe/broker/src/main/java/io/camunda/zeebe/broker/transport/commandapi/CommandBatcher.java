@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.camunda.zeebe.broker.system.configuration.CommandBatchingCfg;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects the user commands of a single partition and appends them as one batch. A batch is
+ * appended once it reaches the configured number of commands or size, when its maximum delay
+ * expired, or when a command with a different intent arrives. The latter keeps the request limit,
+ * which is acquired for every command of an append but depends on the intent, correct for every
+ * command.
+ *
+ * <p>Responses are still routed per command, as every command keeps its own request metadata.
+ * Appending a batch is atomic, so all of its commands are either written or rejected together.
+ *
+ * <p>Not thread-safe; must only be used from the actor of the command API request handler.
+ */
+final class CommandBatcher {
+
+  private final LogStreamWriter logStreamWriter;
+  private final CommandBatchingCfg config;
+  private final ActorControl actor;
+  private final CommandBatchingMetrics metrics;
+  private final long maxSizeInBytes;
+
+  private final List<LogAppendEntry> entries = new ArrayList<>();
+  private final List<BiConsumer<Either<WriteFailure, Long>, Throwable>> callbacks =
+      new ArrayList<>();
+  private Intent batchIntent;
+  private int batchLength;
+  private long batchStartNanos;
+  private long batchSequence;
+
+  CommandBatcher(
+      final int partitionId,
+      final LogStreamWriter logStreamWriter,
+      final CommandBatchingCfg config,
+      final ActorControl actor) {
+    this.logStreamWriter = logStreamWriter;
+    this.config = config;
+    this.actor = actor;
+    metrics = new CommandBatchingMetrics(partitionId);
+    maxSizeInBytes = config.getMaxSize().toBytes();
+  }
+
+  /**
+   * Adds the entry to the current batch. The callback is invoked with the result of appending the
+   * batch, or with the error that occurred while appending it.
+   */
+  void add(
+      final Intent intent,
+      final LogAppendEntry entry,
+      final BiConsumer<Either<WriteFailure, Long>, Throwable> callback) {
+    if (!entries.isEmpty() && !fitsIntoBatch(intent, entry)) {
+      flush();
+    }
+
+    if (entries.isEmpty()) {
+      startBatch(intent);
+    }
+    entries.add(entry);
+    callbacks.add(callback);
+    batchLength += entry.getLength();
+
+    if (entries.size() >= config.getMaxCommands() || batchLength >= maxSizeInBytes) {
+      flush();
+    }
+  }
+
+  /** Appends all collected commands immediately. */
+  void flush() {
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    final var batchEntries = List.copyOf(entries);
+    final var batchCallbacks = List.copyOf(callbacks);
+    final var intent = batchIntent;
+    metrics.observeBatch(batchEntries.size(), System.nanoTime() - batchStartNanos);
+    entries.clear();
+    callbacks.clear();
+    batchIntent = null;
+    batchLength = 0;
+    batchSequence++;
+
+    Either<WriteFailure, Long> result = null;
+    Throwable error = null;
+    try {
+      result = logStreamWriter.tryWrite(WriteContext.userCommand(intent), batchEntries);
+    } catch (final Exception e) {
+      error = e;
+    }
+
+    for (final var callback : batchCallbacks) {
+      callback.accept(result, error);
+    }
+  }
+
+  private boolean fitsIntoBatch(final Intent intent, final LogAppendEntry entry) {
+    return intent == batchIntent
+        && logStreamWriter.canWriteEvents(entries.size() + 1, batchLength + entry.getLength());
+  }
+
+  private void startBatch(final Intent intent) {
+    batchIntent = intent;
+    batchStartNanos = System.nanoTime();
+    final long sequence = batchSequence;
+    final Runnable flushBatch =
+        () -> {
+          // the batch may have been flushed already because it was full
+          if (sequence == batchSequence) {
+            flush();
+          }
+        };
+
+    if (config.getMaxDelay().isZero()) {
+      actor.submit(flushBatch);
+    } else {
+      actor.schedule(config.getMaxDelay(), flushBatch);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.prometheus.client.Histogram;
+
+final class CommandBatchingMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_PARTITION = "partition";
+
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("command_api_batch_size")
+          .help("Number of user commands appended together as a single batch")
+          .labelNames(LABEL_NAME_PARTITION)
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+
+  private static final Histogram BATCH_DELAY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("command_api_batch_delay")
+          .help(
+              "Time the first command of a batch waited for further commands before the batch was"
+                  + " appended (in seconds)")
+          .labelNames(LABEL_NAME_PARTITION)
+          .buckets(0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05)
+          .register();
+
+  private final Histogram.Child batchSize;
+  private final Histogram.Child batchDelay;
+
+  CommandBatchingMetrics(final int partitionId) {
+    final var partitionLabel = String.valueOf(partitionId);
+    batchSize = BATCH_SIZE.labels(partitionLabel);
+    batchDelay = BATCH_DELAY.labels(partitionLabel);
+  }
+
+  void observeBatch(final int commandCount, final long delayNanos) {
+    batchSize.observe(commandCount);
+    batchDelay.observe(delayNanos / 1_000_000_000.0);
+  }
+}
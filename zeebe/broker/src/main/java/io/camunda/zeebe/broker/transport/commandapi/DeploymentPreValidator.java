@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.system.configuration.DeploymentPreValidationCfg;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.deployment.transform.BpmnResourcePreValidator;
+import io.camunda.zeebe.engine.processing.deployment.transform.ValidatedBpmnResources;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.InstantSource;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.slf4j.Logger;
+
+/**
+ * Pre-validates the BPMN resources of deployment commands on a dedicated thread pool, before the
+ * command is written. The results are handed over to the deployment processors of all partitions
+ * via {@link #validatedResources()}, so the expensive parsing and validation does not block the
+ * stream processor.
+ *
+ * <p>Pre-validation never rejects a command. Invalid resources are simply not handed over, and the
+ * processor rejects them as before.
+ *
+ * <p>The resources are validated with the same clock and validator settings as the engine of the
+ * partition the command is written to, see {@link #register(int, EngineConfiguration,
+ * InstantSource)}. Commands for partitions whose engine is not registered are not pre-validated.
+ */
+final class DeploymentPreValidator implements AutoCloseable {
+
+  private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
+
+  private final ValidatedBpmnResources validatedResources;
+  private final ExecutorService executor;
+  private final Map<Integer, ValidationSettings> partitionSettings = new ConcurrentHashMap<>();
+  private final ThreadLocal<Int2ObjectHashMap<PartitionValidator>> validators =
+      ThreadLocal.withInitial(Int2ObjectHashMap::new);
+
+  private DeploymentPreValidator(
+      final ValidatedBpmnResources validatedResources, final ExecutorService executor) {
+    this.validatedResources = validatedResources;
+    this.executor = executor;
+  }
+
+  static DeploymentPreValidator disabled() {
+    return new DeploymentPreValidator(ValidatedBpmnResources.none(), null);
+  }
+
+  static DeploymentPreValidator of(final DeploymentPreValidationCfg cfg) {
+    if (!cfg.isEnabled()) {
+      return disabled();
+    }
+
+    final var threadCounter = new AtomicInteger();
+    final var executor =
+        Executors.newFixedThreadPool(
+            cfg.getThreadCount(),
+            runnable -> {
+              final var thread =
+                  new Thread(
+                      runnable, "zb-deployment-pre-validation-" + threadCounter.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+    return new DeploymentPreValidator(
+        new ValidatedBpmnResources(cfg.getCacheMaxSize().toBytes(), cfg.getCacheTimeToLive()),
+        executor);
+  }
+
+  ValidatedBpmnResources validatedResources() {
+    return validatedResources;
+  }
+
+  /**
+   * Registers the engine of the given partition, so its deployments are pre-validated with the
+   * engine's clock and validator settings. Replaces any previously registered engine.
+   */
+  void register(
+      final int partitionId,
+      final EngineConfiguration engineConfiguration,
+      final InstantSource clock) {
+    partitionSettings.put(
+        partitionId,
+        new ValidationSettings(clock, engineConfiguration.getValidatorsResultsOutputMaxSize()));
+  }
+
+  void unregister(final int partitionId) {
+    partitionSettings.remove(partitionId);
+  }
+
+  boolean accepts(final LogAppendEntry appendEntry) {
+    final var metadata = appendEntry.recordMetadata();
+    return executor != null
+        && metadata.getValueType() == ValueType.DEPLOYMENT
+        && metadata.getIntent() == DeploymentIntent.CREATE;
+  }
+
+  /**
+   * Pre-validates the given deployment command. The returned future always completes normally, also
+   * if the resources could not be validated.
+   */
+  CompletableFuture<Void> preValidate(final int partitionId, final LogAppendEntry appendEntry) {
+    final var settings = partitionSettings.get(partitionId);
+    if (settings == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var deployment = (DeploymentRecord) appendEntry.recordValue();
+    try {
+      return CompletableFuture.runAsync(
+          () -> preValidate(partitionId, settings, deployment), executor);
+    } catch (final RejectedExecutionException e) {
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
+  private void preValidate(
+      final int partitionId, final ValidationSettings settings, final DeploymentRecord deployment) {
+    try {
+      getValidator(partitionId, settings).preValidate(deployment);
+    } catch (final RuntimeException e) {
+      LOG.debug("Failed to pre-validate deployment, leaving it to the processor", e);
+    }
+  }
+
+  private BpmnResourcePreValidator getValidator(
+      final int partitionId, final ValidationSettings settings) {
+    final var partitionValidators = validators.get();
+    final var partitionValidator = partitionValidators.get(partitionId);
+    if (partitionValidator != null && partitionValidator.settings() == settings) {
+      return partitionValidator.validator();
+    }
+
+    // the partition's engine was replaced, e.g. after a leader change
+    final var validator =
+        new BpmnResourcePreValidator(
+            settings.clock(), settings.validatorsResultsOutputMaxSize(), validatedResources);
+    partitionValidators.put(partitionId, new PartitionValidator(settings, validator));
+    return validator;
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      // let already submitted pre-validations finish, their commands are still awaited
+      executor.shutdown();
+    }
+  }
+
+  private record ValidationSettings(InstantSource clock, int validatorsResultsOutputMaxSize) {}
+
+  private record PartitionValidator(
+      ValidationSettings settings, BpmnResourcePreValidator validator) {}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.partitionapi;
+
+import io.prometheus.client.Histogram;
+
+final class InterPartitionCommandMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_PARTITION = "partition";
+  private static final String LABEL_NAME_RECEIVER_PARTITION = "receiverPartition";
+
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("inter_partition_command_batch_size")
+          .help(
+              "Number of inter-partition commands coalesced into a single message. The ratio of"
+                  + " sum and count is the average coalescing ratio.")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_RECEIVER_PARTITION)
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 254)
+          .register();
+
+  private final String partitionLabel;
+
+  InterPartitionCommandMetrics(final int partitionId) {
+    partitionLabel = String.valueOf(partitionId);
+  }
+
+  void observeBatch(final int receiverPartitionId, final int commandCount) {
+    BATCH_SIZE.labels(partitionLabel, String.valueOf(receiverPartitionId)).observe(commandCount);
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionBatchMessageDecoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageDecoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderDecoder;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
@@ -26,6 +27,8 @@ import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -56,7 +59,7 @@ final class InterPartitionCommandReceiverImpl {
       return;
     }
 
-    final var checkpointWritten = writeCheckpoint(decoded);
+    final var checkpointWritten = writeCheckpoint(decoded.checkpointId);
     if (checkpointWritten.isLeft()) {
       // It's unsafe to write this record without first writing the checkpoint, bail out early.
       logCheckpointFailure(memberId, decoded, checkpointWritten);
@@ -66,6 +69,65 @@ final class InterPartitionCommandReceiverImpl {
     writeCommand(decoded).ifLeft(failure -> logWriteFailure(memberId, decoded, failure));
   }
 
+  void handleBatchMessage(final MemberId memberId, final byte[] message) {
+    LOG.trace("Received batch message from {}", memberId);
+
+    final var decoded = decoder.decodeBatchMessage(message);
+
+    if (!diskSpaceAvailable) {
+      LOG.warn(
+          "Ignoring {} commands from {}, checkpoint {}, no disk space available",
+          decoded.commands().size(),
+          memberId,
+          decoded.checkpointId());
+      return;
+    }
+
+    final var checkpointWritten = writeCheckpoint(decoded.checkpointId());
+    if (checkpointWritten.isLeft()) {
+      // It's unsafe to write these records without first writing the checkpoint, bail out early.
+      LOG.warn(
+          "Failed to write new command for checkpoint {} (currently at {}), ignoring {} commands from {} (error = {})",
+          decoded.checkpointId(),
+          checkpointId,
+          decoded.commands().size(),
+          memberId,
+          checkpointWritten.getLeft());
+      return;
+    }
+
+    // the sender may have been configured with a larger batch size than this log stream accepts,
+    // so the commands are appended in as many batches as needed
+    final var appendEntries = new ArrayList<LogAppendEntry>();
+    int appendLength = 0;
+    for (final var command : decoded.commands()) {
+      final var appendEntry = toAppendEntry(command);
+      final var entryLength = appendEntry.getLength();
+      if (!appendEntries.isEmpty()
+          && !logStreamWriter.canWriteEvents(
+              appendEntries.size() + 1, appendLength + entryLength)) {
+        writeCommands(memberId, appendEntries);
+        appendEntries.clear();
+        appendLength = 0;
+      }
+      appendEntries.add(appendEntry);
+      appendLength += entryLength;
+    }
+    writeCommands(memberId, appendEntries);
+  }
+
+  private void writeCommands(final MemberId memberId, final List<LogAppendEntry> appendEntries) {
+    logStreamWriter
+        .tryWrite(WriteContext.interPartition(), List.copyOf(appendEntries))
+        .ifLeft(
+            failure ->
+                LOG.warn(
+                    "Failed to write {} commands from {} to logstream (error = {})",
+                    appendEntries.size(),
+                    memberId,
+                    failure));
+  }
+
   private void logCheckpointFailure(
       final MemberId memberId,
       final DecodedMessage decoded,
@@ -90,34 +152,35 @@ final class InterPartitionCommandReceiverImpl {
         failure);
   }
 
-  private Either<WriteFailure, Long> writeCheckpoint(final DecodedMessage decoded) {
-    if (decoded.checkpointId <= checkpointId) {
+  private Either<WriteFailure, Long> writeCheckpoint(final long receivedCheckpointId) {
+    if (receivedCheckpointId <= checkpointId) {
       // No need to write a new checkpoint create record
       return Either.right(checkpointId);
     }
 
     LOG.debug(
         "Received command with checkpoint {}, current checkpoint is {}",
-        decoded.checkpointId,
+        receivedCheckpointId,
         checkpointId);
     final var metadata =
         new RecordMetadata()
             .recordType(RecordType.COMMAND)
             .intent(CheckpointIntent.CREATE)
             .valueType(ValueType.CHECKPOINT);
-    final var checkpointRecord = new CheckpointRecord().setCheckpointId(decoded.checkpointId);
+    final var checkpointRecord = new CheckpointRecord().setCheckpointId(receivedCheckpointId);
     return logStreamWriter.tryWrite(
         WriteContext.interPartition(), LogAppendEntry.of(metadata, checkpointRecord));
   }
 
   private Either<WriteFailure, Long> writeCommand(final DecodedMessage decoded) {
-    final var appendEntry =
-        decoded
-            .recordKey()
-            .map(key -> LogAppendEntry.of(key, decoded.metadata(), decoded.command()))
-            .orElseGet(() -> LogAppendEntry.of(decoded.metadata(), decoded.command()));
+    return logStreamWriter.tryWrite(WriteContext.interPartition(), toAppendEntry(decoded));
+  }
 
-    return logStreamWriter.tryWrite(WriteContext.interPartition(), appendEntry);
+  private LogAppendEntry toAppendEntry(final DecodedMessage decoded) {
+    return decoded
+        .recordKey()
+        .map(key -> LogAppendEntry.of(key, decoded.metadata(), decoded.command()))
+        .orElseGet(() -> LogAppendEntry.of(decoded.metadata(), decoded.command()));
   }
 
   void setDiskSpaceAvailable(final boolean available) {
@@ -134,8 +197,12 @@ final class InterPartitionCommandReceiverImpl {
       RecordMetadata metadata,
       UnifiedRecordValue command) {}
 
+  private record DecodedBatchMessage(long checkpointId, List<DecodedMessage> commands) {}
+
   private static final class Decoder {
     private final InterPartitionMessageDecoder messageDecoder = new InterPartitionMessageDecoder();
+    private final InterPartitionBatchMessageDecoder batchMessageDecoder =
+        new InterPartitionBatchMessageDecoder();
     private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
     DecodedMessage decodeMessage(final byte[] message) {
@@ -164,15 +231,50 @@ final class InterPartitionCommandReceiverImpl {
           messageDecoder.limit() + InterPartitionMessageDecoder.commandHeaderLength();
       final var commandLength = messageDecoder.commandLength();
 
+      final var value = newValue(valueType);
+
+      value.wrap(messageBuffer, commandOffset, commandLength);
+      return new DecodedMessage(checkpointId, recordKey, recordMetadata, value);
+    }
+
+    DecodedBatchMessage decodeBatchMessage(final byte[] message) {
+      final var messageBuffer = new UnsafeBuffer(message);
+      batchMessageDecoder.wrapAndApplyHeader(messageBuffer, 0, headerDecoder);
+
+      final var checkpointId = batchMessageDecoder.checkpointId();
+      final var commandsDecoder = batchMessageDecoder.commands();
+      final var commands = new ArrayList<DecodedMessage>(commandsDecoder.count());
+      for (final var commandDecoder : commandsDecoder) {
+        Optional<Long> recordKey = Optional.empty();
+        if (commandDecoder.recordKey()
+            != InterPartitionBatchMessageDecoder.CommandsDecoder.recordKeyNullValue()) {
+          recordKey = Optional.of(commandDecoder.recordKey());
+        }
+
+        final var valueType = ValueType.get(commandDecoder.valueType());
+        final var intent = Intent.fromProtocolValue(valueType, commandDecoder.intent());
+        final var recordMetadata =
+            new RecordMetadata().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+
+        // as for single messages, the command bytes are wrapped without parsing them
+        final var commandBuffer = new UnsafeBuffer();
+        commandDecoder.wrapCommand(commandBuffer);
+        final var value = newValue(valueType);
+        value.wrap(commandBuffer, 0, commandBuffer.capacity());
+
+        commands.add(new DecodedMessage(checkpointId, recordKey, recordMetadata, value));
+      }
+
+      return new DecodedBatchMessage(checkpointId, commands);
+    }
+
+    private UnifiedRecordValue newValue(final ValueType valueType) {
       final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
       if (valueClass == null) {
         throw new IllegalArgumentException(
             "No value type mapped to %s, can't decode message".formatted(valueType));
       }
-      final var value = ReflectUtil.newInstance(valueClass);
-
-      value.wrap(messageBuffer, commandOffset, commandLength);
-      return new DecodedMessage(checkpointId, recordKey, recordMetadata, value);
+      return ReflectUtil.newInstance(valueClass);
     }
   }
 }
@@ -12,21 +12,29 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.utils.serializer.serializers.DefaultSerializers;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionBatchMessageEncoder;
+import io.camunda.zeebe.broker.protocol.InterPartitionBatchMessageEncoder.CommandsEncoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderEncoder;
+import io.camunda.zeebe.broker.system.configuration.InterPartitionCommandBatchingCfg;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.util.Arrays;
 import java.util.Objects;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 final class InterPartitionCommandSenderImpl implements InterPartitionCommandSender {
 
   public static final String TOPIC_PREFIX = "inter-partition-";
+  public static final String BATCH_TOPIC_PREFIX = "inter-partition-batch-";
 
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private final ClusterCommunicationService communicationService;
@@ -34,8 +42,30 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
   private final Int2IntHashMap partitionLeaders = new Int2IntHashMap(-1);
   private long checkpointId = CheckpointState.NO_CHECKPOINT;
 
+  private final boolean batchingEnabled;
+  private final int maxBatchCommands;
+  private final long maxBatchSize;
+  private final Int2ObjectHashMap<Outbox> outboxes = new Int2ObjectHashMap<>();
+  private final InterPartitionCommandMetrics metrics;
+
   public InterPartitionCommandSenderImpl(final ClusterCommunicationService communicationService) {
+    this(communicationService, 0, new InterPartitionCommandBatchingCfg(), Long.MAX_VALUE);
+  }
+
+  /**
+   * @param maxMessageSize the maximum size of a message the receiving brokers accept; batches are
+   *     capped at this size, even if the configured maximum batch size is larger
+   */
+  InterPartitionCommandSenderImpl(
+      final ClusterCommunicationService communicationService,
+      final int partitionId,
+      final InterPartitionCommandBatchingCfg batchingCfg,
+      final long maxMessageSize) {
     this.communicationService = communicationService;
+    batchingEnabled = batchingCfg.isEnabled();
+    maxBatchCommands = Math.min(batchingCfg.getMaxCommands(), CommandsEncoder.countMaxValue());
+    maxBatchSize = Math.min(batchingCfg.getMaxSize().toBytes(), maxMessageSize);
+    metrics = new InterPartitionCommandMetrics(partitionId);
   }
 
   @Override
@@ -64,6 +94,21 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
     }
     final int partitionLeader = partitionLeaders.get(receiverPartitionId);
 
+    if (batchingEnabled) {
+      final var outbox = outboxes.computeIfAbsent(receiverPartitionId, Outbox::new);
+      if (outbox.size() > 0
+          && outbox.messageLength(outbox.size() + 1, outbox.length() + command.getLength())
+              > maxBatchSize) {
+        // the command doesn't fit anymore, so it starts the next batch
+        flush(outbox);
+      }
+      outbox.add(valueType, intent, recordKey, command);
+      if (outbox.size() >= maxBatchCommands || outbox.length() >= maxBatchSize) {
+        flush(outbox);
+      }
+      return;
+    }
+
     LOG.trace(
         "Sending command {} {} to partition {}, leader {}",
         valueType,
@@ -73,9 +118,65 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
 
     final var message =
         Encoder.encode(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
+    send(TOPIC_PREFIX, receiverPartitionId, partitionLeader, message);
+  }
+
+  /**
+   * Sends all commands which were queued since the last flush, one message per receiver partition.
+   * Has no effect if batching is disabled, as commands are then sent immediately.
+   */
+  void flush() {
+    outboxes.values().forEach(this::flush);
+  }
+
+  boolean hasPendingCommands() {
+    for (final var outbox : outboxes.values()) {
+      if (outbox.size() > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void flush(final Outbox outbox) {
+    if (outbox.size() == 0) {
+      return;
+    }
+
+    final var receiverPartitionId = outbox.receiverPartitionId;
+    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
+    if (partitionLeader == partitionLeaders.missingValue()) {
+      LOG.warn(
+          "Not sending {} commands to {}, no known leader for this partition",
+          outbox.size(),
+          receiverPartitionId);
+      outbox.clear();
+      return;
+    }
+
+    LOG.trace(
+        "Sending {} commands to partition {}, leader {}",
+        outbox.size(),
+        receiverPartitionId,
+        partitionLeader);
+
+    metrics.observeBatch(receiverPartitionId, outbox.size());
+    if (outbox.size() == 1) {
+      // a single command is sent as a regular message, which every broker version understands
+      send(TOPIC_PREFIX, receiverPartitionId, partitionLeader, outbox.encodeSingle(checkpointId));
+    } else {
+      send(BATCH_TOPIC_PREFIX, receiverPartitionId, partitionLeader, outbox.encode(checkpointId));
+    }
+    outbox.clear();
+  }
 
+  private void send(
+      final String topicPrefix,
+      final int receiverPartitionId,
+      final int partitionLeader,
+      final byte[] message) {
     communicationService.unicast(
-        TOPIC_PREFIX + receiverPartitionId,
+        topicPrefix + receiverPartitionId,
         message,
         DefaultSerializers.BASIC::encode,
         MemberId.from("" + partitionLeader),
@@ -83,6 +184,8 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
   }
 
   void setCheckpointId(final long checkpointId) {
+    // queued commands were created before the new checkpoint and must be sent with the old id
+    flush();
     this.checkpointId = checkpointId;
   }
 
@@ -125,4 +228,107 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
       return messageBuffer.byteArray();
     }
   }
+
+  /**
+   * Collects the commands for one receiver partition. The serialized commands are kept back to back
+   * in a single buffer, so queueing a command does not allocate once the buffer has grown.
+   */
+  private static final class Outbox {
+    private final int receiverPartitionId;
+    private final ExpandableArrayBuffer commandsBuffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer commandView = new UnsafeBuffer();
+    private ValueType[] valueTypes = new ValueType[8];
+    private Intent[] intents = new Intent[8];
+    private long[] recordKeys = new long[8];
+    private int[] lengths = new int[8];
+    private int size;
+    private int length;
+
+    private Outbox(final int receiverPartitionId) {
+      this.receiverPartitionId = receiverPartitionId;
+    }
+
+    private void add(
+        final ValueType valueType,
+        final Intent intent,
+        final Long recordKey,
+        final BufferWriter command) {
+      if (size == lengths.length) {
+        final var capacity = size * 2;
+        valueTypes = Arrays.copyOf(valueTypes, capacity);
+        intents = Arrays.copyOf(intents, capacity);
+        recordKeys = Arrays.copyOf(recordKeys, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+      }
+
+      final var commandLength = command.getLength();
+      command.write(commandsBuffer, length);
+      valueTypes[size] = valueType;
+      intents[size] = intent;
+      recordKeys[size] =
+          Objects.requireNonNullElseGet(recordKey, CommandsEncoder::recordKeyNullValue);
+      lengths[size] = commandLength;
+      length += commandLength;
+      size++;
+    }
+
+    private int size() {
+      return size;
+    }
+
+    private int length() {
+      return length;
+    }
+
+    private void clear() {
+      size = 0;
+      length = 0;
+    }
+
+    private byte[] encodeSingle(final long checkpointId) {
+      final var recordKey =
+          recordKeys[0] == CommandsEncoder.recordKeyNullValue() ? null : recordKeys[0];
+      commandView.wrap(commandsBuffer, 0, lengths[0]);
+      return Encoder.encode(
+          checkpointId,
+          receiverPartitionId,
+          valueTypes[0],
+          intents[0],
+          recordKey,
+          new DirectBufferWriter().wrap(commandView));
+    }
+
+    /** Returns the length of a batch message with the given number and length of commands. */
+    private int messageLength(final int commandCount, final int commandsLength) {
+      return MessageHeaderEncoder.ENCODED_LENGTH
+          + InterPartitionBatchMessageEncoder.BLOCK_LENGTH
+          + CommandsEncoder.sbeHeaderSize()
+          + commandCount
+              * (CommandsEncoder.sbeBlockLength() + CommandsEncoder.commandHeaderLength())
+          + commandsLength;
+    }
+
+    private byte[] encode(final long checkpointId) {
+      final var messageBuffer = new UnsafeBuffer(new byte[messageLength(size, length)]);
+      final var commandsEncoder =
+          new InterPartitionBatchMessageEncoder()
+              .wrapAndApplyHeader(messageBuffer, 0, new MessageHeaderEncoder())
+              .receiverPartitionId(receiverPartitionId)
+              .checkpointId(checkpointId)
+              .commandsCount(size);
+
+      int commandOffset = 0;
+      for (int i = 0; i < size; i++) {
+        commandsEncoder
+            .next()
+            .valueType(valueTypes[i].value())
+            .intent(intents[i].value())
+            .recordKey(recordKeys[i])
+            .putCommand(commandsBuffer, commandOffset, lengths[i]);
+        commandOffset += lengths[i];
+      }
+
+      return messageBuffer.byteArray();
+    }
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.backup.api.CheckpointListener;
 import io.camunda.zeebe.broker.partitioning.topology.TopologyPartitionListener;
+import io.camunda.zeebe.broker.system.configuration.InterPartitionCommandBatchingCfg;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -22,11 +23,29 @@ public final class InterPartitionCommandSenderService extends Actor
 
   final InterPartitionCommandSenderImpl commandSender;
   final int partitionId;
+  private final boolean batchingEnabled;
+  private boolean flushScheduled;
 
   public InterPartitionCommandSenderService(
       final ClusterCommunicationService communicationService, final int partitionId) {
-    commandSender = new InterPartitionCommandSenderImpl(communicationService);
+    this(communicationService, partitionId, new InterPartitionCommandBatchingCfg(), Long.MAX_VALUE);
+  }
+
+  public InterPartitionCommandSenderService(
+      final ClusterCommunicationService communicationService,
+      final int partitionId,
+      final InterPartitionCommandBatchingCfg batchingCfg,
+      final long maxMessageSize) {
+    commandSender =
+        new InterPartitionCommandSenderImpl(
+            communicationService, partitionId, batchingCfg, maxMessageSize);
     this.partitionId = partitionId;
+    batchingEnabled = batchingCfg.isEnabled();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    commandSender.flush();
   }
 
   @Override
@@ -40,7 +59,11 @@ public final class InterPartitionCommandSenderService extends Actor
       final ValueType valueType,
       final Intent intent,
       final UnifiedRecordValue command) {
-    actor.submit(() -> commandSender.sendCommand(receiverPartitionId, valueType, intent, command));
+    actor.submit(
+        () -> {
+          commandSender.sendCommand(receiverPartitionId, valueType, intent, command);
+          scheduleFlush();
+        });
   }
 
   @Override
@@ -51,12 +74,30 @@ public final class InterPartitionCommandSenderService extends Actor
       final Long recordKey,
       final UnifiedRecordValue command) {
     actor.submit(
-        () ->
-            commandSender.sendCommand(receiverPartitionId, valueType, intent, recordKey, command));
+        () -> {
+          commandSender.sendCommand(receiverPartitionId, valueType, intent, recordKey, command);
+          scheduleFlush();
+        });
   }
 
   @Override
   public void onPartitionLeaderUpdated(final int partitionId, final BrokerInfo member) {
     actor.submit(() -> commandSender.setCurrentLeader(partitionId, member.getNodeId()));
   }
+
+  /**
+   * Flushes the queued commands once all jobs which are already queued on this actor have run. The
+   * commands produced by one processing batch are submitted back to back, so they end up in the
+   * same message without delaying the send any further.
+   */
+  private void scheduleFlush() {
+    if (batchingEnabled && !flushScheduled && commandSender.hasPendingCommands()) {
+      flushScheduled = true;
+      actor.submit(
+          () -> {
+            flushScheduled = false;
+            commandSender.flush();
+          });
+    }
+  }
 }
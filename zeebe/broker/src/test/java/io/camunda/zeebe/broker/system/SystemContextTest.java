@@ -337,6 +337,20 @@ final class SystemContextTest {
         .hasMessageContaining("Failed configuring backup store S3");
   }
 
+  @Test
+  void shouldThrowExceptionWhenFilesystemBasePathIsNotProvided() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getData().getBackup().setStore(BackupStoreType.FILESYSTEM);
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(InvalidConfigurationException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class)
+        .cause()
+        .hasMessageContaining("Base path cannot be null or empty");
+  }
+
   @RegressionTest("https://github.com/camunda/camunda/issues/12678")
   void shouldThrowExceptionWithInvalidExporters() {
     // given
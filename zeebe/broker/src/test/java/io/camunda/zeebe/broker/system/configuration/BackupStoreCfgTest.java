@@ -71,6 +71,24 @@ final class BackupStoreCfgTest {
     assertThat(cfg.getData().getBackup().getGcs().getHost()).isEqualTo(configuredHost);
   }
 
+  @Test
+  void canConfigureFilesystemBasePath() {
+    // given
+    final var env =
+        Map.of(
+            "zeebe.broker.data.backup.store",
+            "filesystem",
+            "zeebe.broker.data.backup.filesystem.basePath",
+            "/mnt/backups");
+
+    // when
+    final var cfg = TestConfigReader.readConfig("empty", env);
+
+    // then
+    assertThat(cfg.getData().getBackup().getStore()).isEqualTo(BackupStoreType.FILESYSTEM);
+    assertThat(cfg.getData().getBackup().getFilesystem().getBasePath()).isEqualTo("/mnt/backups");
+  }
+
   @Test
   void shouldSetPartialS3Config() {
     // given
@@ -40,6 +40,10 @@ final class EngineCfgTest {
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
     assertThat(configuration.getValidatorsResultsOutputMaxSize())
         .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE);
+    assertThat(configuration.getBatchOperationChunkSize())
+        .isEqualTo(EngineConfiguration.DEFAULT_BATCH_OPERATION_CHUNK_SIZE);
+    assertThat(configuration.isEnableBulkTermination())
+        .isEqualTo(EngineConfiguration.DEFAULT_ENABLE_BULK_TERMINATION);
   }
 
   @Test
@@ -60,5 +64,7 @@ final class EngineCfgTest {
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getValidatorsResultsOutputMaxSize()).isEqualTo(2000);
+    assertThat(configuration.getBatchOperationChunkSize()).isEqualTo(50);
+    assertThat(configuration.isEnableBulkTermination()).isTrue();
   }
 }
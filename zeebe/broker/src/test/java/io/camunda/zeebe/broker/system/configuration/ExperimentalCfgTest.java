@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.snapshots.SnapshotVerification;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -182,6 +183,29 @@ final class ExperimentalCfgTest {
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
 
+  @Test
+  void shouldSetEnableGroupCommitFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.enableGroupCommit", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isEnableGroupCommit()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableGroupCommitFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isEnableGroupCommit()).isTrue();
+  }
+
   @Test
   void shouldHaveDefaultVersionCheckRestriction() {
     // given
@@ -216,4 +240,29 @@ final class ExperimentalCfgTest {
     // then
     assertThat(experimental.isVersionCheckRestrictionEnabled()).isFalse();
   }
+
+  @Test
+  void shouldSetSnapshotVerificationFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getSnapshotVerification())
+        .isEqualTo(SnapshotVerification.FINGERPRINT);
+  }
+
+  @Test
+  void shouldSetSnapshotVerificationFromEnv() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.snapshotVerification",
+        "FINGERPRINT_WITH_BACKGROUND_VERIFICATION");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getSnapshotVerification())
+        .isEqualTo(SnapshotVerification.FINGERPRINT_WITH_BACKGROUND_VERIFICATION);
+  }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.MemoryAllocationStrategy;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -181,6 +182,33 @@ public final class RocksdbCfgTest {
     assertThat(rocksdb.getMemoryLimit()).isEqualTo(DataSize.ofKilobytes(16));
   }
 
+  @Test
+  public void shouldAllocateMemoryPerPartitionByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getMemoryAllocationStrategy()).isEqualTo(MemoryAllocationStrategy.PARTITION);
+    assertThat(rocksdb.createRocksDbConfiguration().getMemoryAllocationStrategy())
+        .isEqualTo(MemoryAllocationStrategy.PARTITION);
+  }
+
+  @Test
+  public void shouldSetMemoryAllocationStrategyViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.memoryAllocationStrategy", "BROKER");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getMemoryAllocationStrategy()).isEqualTo(MemoryAllocationStrategy.BROKER);
+    assertThat(rocksdb.createRocksDbConfiguration().getMemoryAllocationStrategy())
+        .isEqualTo(MemoryAllocationStrategy.BROKER);
+  }
+
   @Test
   public void shouldSetMaxOpenFilesViaEnvironmentVariables() {
     // given
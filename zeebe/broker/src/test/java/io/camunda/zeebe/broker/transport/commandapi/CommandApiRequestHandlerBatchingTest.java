@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.broker.system.configuration.CommandBatchingCfg;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerRule;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.util.Either;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CommandApiRequestHandlerBatchingTest {
+  @Rule public final ControlledActorSchedulerRule scheduler = new ControlledActorSchedulerRule();
+
+  private final CommandBatchingCfg batchingCfg = new CommandBatchingCfg();
+  private LogStreamWriter logStreamWriter;
+  private CommandApiRequestHandler handler;
+
+  @Before
+  public void setup() {
+    batchingCfg.setEnabled(true);
+    batchingCfg.setMaxCommands(3);
+    logStreamWriter = mock(LogStreamWriter.class);
+    when(logStreamWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logStreamWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    handler = new CommandApiRequestHandler(batchingCfg, DeploymentPreValidator.disabled());
+    scheduler.submitActor(handler);
+    handler.addPartition(0, logStreamWriter);
+    scheduler.workUntilDone();
+  }
+
+  @Test
+  public void shouldAppendQueuedCommandsAsSingleBatch() {
+    // when
+    final var responses = sendRequests(2);
+
+    // then
+    verify(logStreamWriter, times(1)).tryWrite(any(WriteContext.class), batchOfSize(2));
+    assertThat(responses).allSatisfy(response -> assertThat(response).isNotDone());
+  }
+
+  @Test
+  public void shouldSplitBatchesAtMaxCommands() {
+    // when
+    sendRequests(5);
+
+    // then
+    verify(logStreamWriter, times(1)).tryWrite(any(WriteContext.class), batchOfSize(3));
+    verify(logStreamWriter, times(1)).tryWrite(any(WriteContext.class), batchOfSize(2));
+  }
+
+  @Test
+  public void shouldRespondToEveryCommandIfBatchIsRejected() {
+    // given
+    when(logStreamWriter.tryWrite(any(WriteContext.class), anyList()))
+        .thenReturn(Either.left(WriteFailure.CLOSED));
+
+    // when
+    final var responses = sendRequests(2);
+
+    // then
+    assertThat(responses)
+        .hasSize(2)
+        .allSatisfy(
+            response ->
+                assertThat(response)
+                    .succeedsWithin(Duration.ofSeconds(5))
+                    .extracting(ErrorResponse::getErrorCode)
+                    .isEqualTo(ErrorCode.PARTITION_LEADER_MISMATCH));
+  }
+
+  @Test
+  public void shouldAppendPendingCommandsWhenPartitionIsRemoved() {
+    // given
+    batchingCfg.setMaxDelay(Duration.ofHours(1));
+    sendRequests(1);
+
+    // when
+    handler.removePartition(0);
+    scheduler.workUntilDone();
+
+    // then
+    verify(logStreamWriter, times(1)).tryWrite(any(WriteContext.class), batchOfSize(1));
+  }
+
+  private static List<LogAppendEntry> batchOfSize(final int size) {
+    return argThat(entries -> entries.size() == size);
+  }
+
+  private List<CompletableFuture<ErrorResponse>> sendRequests(final int count) {
+    final var responses = new ArrayList<CompletableFuture<ErrorResponse>>();
+    for (int i = 0; i < count; i++) {
+      final var request =
+          new BrokerPublishMessageRequest("test", String.valueOf(i))
+              .setMessageId(String.valueOf(i))
+              .setTimeToLive(0);
+      request.serializeValue();
+      final var response = new CompletableFuture<ErrorResponse>();
+      final var requestBuffer = new UnsafeBuffer(new byte[request.getLength()]);
+      request.write(requestBuffer, 0);
+      handler.onRequest(errorOutput(response), 0, i, requestBuffer, 0, request.getLength());
+      responses.add(response);
+    }
+    scheduler.workUntilDone();
+    return responses;
+  }
+
+  private ServerOutput errorOutput(final CompletableFuture<ErrorResponse> future) {
+    return serverResponse -> {
+      final var buffer = new ExpandableArrayBuffer();
+      serverResponse.write(buffer, 0);
+
+      final var error = new ErrorResponse();
+      if (error.tryWrap(buffer)) {
+        error.wrap(buffer, 0, serverResponse.getLength());
+        future.complete(error);
+      }
+    };
+  }
+}
@@ -17,6 +17,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.raft.RaftServer.Role;
+import io.camunda.zeebe.broker.system.configuration.CommandBatchingCfg;
+import io.camunda.zeebe.broker.system.configuration.DeploymentPreValidationCfg;
 import io.camunda.zeebe.broker.system.configuration.QueryApiCfg;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.logstreams.log.LogStream;
@@ -50,7 +52,12 @@ public class CommandApiServiceImplTest {
     final ConcurrencyControl cc = mock();
     when(cc.createCompletedFuture()).thenReturn(CompletableActorFuture.completed(null));
     commandApiService =
-        new CommandApiServiceImpl(serverTransport, scheduler.getActorScheduler(), queryApi);
+        new CommandApiServiceImpl(
+            serverTransport,
+            scheduler.getActorScheduler(),
+            queryApi,
+            new CommandBatchingCfg(),
+            new DeploymentPreValidationCfg());
     when(transitionContext.getCommandApiService()).thenReturn(commandApiService);
     when(transitionContext.getConcurrencyControl()).thenReturn(cc);
     scheduler.submitActor(commandApiService);
@@ -7,11 +7,17 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -19,6 +25,7 @@ import static org.mockito.Mockito.withSettings;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.broker.system.configuration.InterPartitionCommandBatchingCfg;
 import io.camunda.zeebe.logstreams.impl.log.LogEntryDescriptor;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -31,6 +38,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.camunda.zeebe.util.Either;
+import java.util.List;
 import org.agrona.ExpandableArrayBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -70,6 +78,8 @@ final class InterPartitionCommandReceiverTest {
         mock(LogStreamWriter.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
     when(logStreamWriter.tryWrite(any(WriteContext.class), any(LogAppendEntry.class)))
         .thenReturn(Either.right(1L));
+    when(logStreamWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    when(logStreamWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
     return logStreamWriter;
   }
 
@@ -220,6 +230,184 @@ final class InterPartitionCommandReceiverTest {
     assertThat(entryCaptor.getValue().key()).isEqualTo(LogEntryDescriptor.KEY_NULL_VALUE);
   }
 
+  @Test
+  void shouldWriteBatchedCommandsAsSingleAppend() {
+    // given
+    final var receiverPartitionId = 5;
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var sender = newBatchingSender(communicationService);
+    sender.setCurrentLeader(receiverPartitionId, 3);
+
+    final var firstValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1);
+    final var secondValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(2).setElementInstanceKey(2);
+    sender.sendCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        10L,
+        firstValue);
+    sender.sendCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.REJECT,
+        secondValue);
+    sender.flush();
+
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(
+            eq(BATCH_TOPIC_PREFIX + receiverPartitionId),
+            messageCaptor.capture(),
+            any(),
+            any(),
+            eq(true));
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+
+    // when
+    receiver.handleBatchMessage(new MemberId("0"), messageCaptor.getValue());
+
+    // then
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<LogAppendEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter).tryWrite(any(WriteContext.class), entriesCaptor.capture());
+    final var entries = entriesCaptor.getValue();
+    assertThat(entries).hasSize(2);
+    assertThat(entries.get(0).key()).isEqualTo(10L);
+    assertThat(entries.get(0).recordValue()).isEqualTo(firstValue);
+    assertThat(entries.get(0).recordMetadata().getIntent())
+        .isEqualTo(MessageSubscriptionIntent.CORRELATE);
+    assertThat(entries.get(1).key()).isEqualTo(LogEntryDescriptor.KEY_NULL_VALUE);
+    assertThat(entries.get(1).recordValue()).isEqualTo(secondValue);
+    assertThat(entries.get(1).recordMetadata().getIntent())
+        .isEqualTo(MessageSubscriptionIntent.REJECT);
+  }
+
+  @Test
+  void shouldSplitBatchedCommandsIntoWritableAppends() {
+    // given
+    final var receiverPartitionId = 5;
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var sender = newBatchingSender(communicationService);
+    sender.setCurrentLeader(receiverPartitionId, 3);
+    for (int i = 1; i <= 3; i++) {
+      sender.sendCommand(
+          receiverPartitionId,
+          ValueType.MESSAGE_SUBSCRIPTION,
+          MessageSubscriptionIntent.CORRELATE,
+          new MessageSubscriptionRecord().setProcessInstanceKey(i).setElementInstanceKey(i));
+    }
+    sender.flush();
+
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(
+            eq(BATCH_TOPIC_PREFIX + receiverPartitionId),
+            messageCaptor.capture(),
+            any(),
+            any(),
+            eq(true));
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    // only two commands fit into a single append
+    when(logStreamWriter.canWriteEvents(anyInt(), anyInt()))
+        .thenAnswer(invocation -> invocation.<Integer>getArgument(0) <= 2);
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+
+    // when
+    receiver.handleBatchMessage(new MemberId("0"), messageCaptor.getValue());
+
+    // then
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<LogAppendEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter, times(2)).tryWrite(any(WriteContext.class), entriesCaptor.capture());
+    assertThat(entriesCaptor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+  }
+
+  @Test
+  void shouldStartNewBatchIfCommandExceedsMaxMessageSize() {
+    // given
+    final var receiverPartitionId = 5;
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var recordValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1);
+    final var batchingCfg = new InterPartitionCommandBatchingCfg();
+    batchingCfg.setEnabled(true);
+    // large enough for the first command, but not for a second one
+    final var sender =
+        new InterPartitionCommandSenderImpl(
+            communicationService, 1, batchingCfg, recordValue.getLength() + 100L);
+    sender.setCurrentLeader(receiverPartitionId, 3);
+
+    // when
+    sender.sendCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        recordValue);
+    sender.sendCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        recordValue);
+    sender.flush();
+
+    // then - both commands were sent on their own
+    verify(communicationService, times(2))
+        .unicast(eq(TOPIC_PREFIX + receiverPartitionId), any(byte[].class), any(), any(), eq(true));
+    verify(communicationService, never())
+        .unicast(eq(BATCH_TOPIC_PREFIX + receiverPartitionId), any(), any(), any(), anyBoolean());
+  }
+
+  @Test
+  void shouldSendSingleQueuedCommandAsRegularMessage() {
+    // given
+    final var receiverPartitionId = 5;
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var sender = newBatchingSender(communicationService);
+    sender.setCurrentLeader(receiverPartitionId, 3);
+
+    final var recordValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1);
+    sender.sendCommand(
+        receiverPartitionId,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        recordValue);
+
+    // when
+    sender.flush();
+
+    // then
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(
+            eq(TOPIC_PREFIX + receiverPartitionId),
+            messageCaptor.capture(),
+            any(),
+            any(),
+            eq(true));
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    receiver.handleMessage(new MemberId("0"), messageCaptor.getValue());
+
+    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
+    verify(logStreamWriter).tryWrite(any(WriteContext.class), entryCaptor.capture());
+    assertThat(entryCaptor.getValue().recordValue()).isEqualTo(recordValue);
+  }
+
+  private static InterPartitionCommandSenderImpl newBatchingSender(
+      final ClusterCommunicationService communicationService) {
+    final var batchingCfg = new InterPartitionCommandBatchingCfg();
+    batchingCfg.setEnabled(true);
+    return new InterPartitionCommandSenderImpl(
+        communicationService, 1, batchingCfg, Long.MAX_VALUE);
+  }
+
   private byte[] sendCommand(
       final Integer receiverBrokerId,
       final Integer receiverPartitionId,
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine;
 
+import io.camunda.zeebe.engine.processing.deployment.transform.ValidatedBpmnResources;
 import java.time.Duration;
 
 public final class EngineConfiguration {
@@ -27,6 +28,8 @@ public final class EngineConfiguration {
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
+  public static final int DEFAULT_BATCH_OPERATION_CHUNK_SIZE = 100;
+  public static final boolean DEFAULT_ENABLE_BULK_TERMINATION = false;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
@@ -42,6 +45,12 @@ public final class EngineConfiguration {
 
   private boolean enableAuthorization = DEFAULT_ENABLE_AUTHORIZATION_CHECKS;
 
+  private int batchOperationChunkSize = DEFAULT_BATCH_OPERATION_CHUNK_SIZE;
+
+  private boolean enableBulkTermination = DEFAULT_ENABLE_BULK_TERMINATION;
+
+  private ValidatedBpmnResources validatedBpmnResources = ValidatedBpmnResources.none();
+
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
   }
@@ -135,4 +144,32 @@ public final class EngineConfiguration {
     this.enableAuthorization = enableAuthorization;
     return this;
   }
+
+  public int getBatchOperationChunkSize() {
+    return batchOperationChunkSize;
+  }
+
+  public EngineConfiguration setBatchOperationChunkSize(final int batchOperationChunkSize) {
+    this.batchOperationChunkSize = batchOperationChunkSize;
+    return this;
+  }
+
+  public boolean isEnableBulkTermination() {
+    return enableBulkTermination;
+  }
+
+  public EngineConfiguration setEnableBulkTermination(final boolean enableBulkTermination) {
+    this.enableBulkTermination = enableBulkTermination;
+    return this;
+  }
+
+  public ValidatedBpmnResources getValidatedBpmnResources() {
+    return validatedBpmnResources;
+  }
+
+  public EngineConfiguration setValidatedBpmnResources(
+      final ValidatedBpmnResources validatedBpmnResources) {
+    this.validatedBpmnResources = validatedBpmnResources;
+    return this;
+  }
 }
@@ -124,7 +124,8 @@ public final class BpmnProcessors {
         routingInfo,
         authCheckBehavior,
         keyGenerator);
-    addProcessInstanceBatchStreamProcessors(typedRecordProcessors, processingState, writers);
+    addProcessInstanceBatchStreamProcessors(
+        typedRecordProcessors, processingState, writers, bpmnStreamProcessor, config);
 
     return bpmnStreamProcessor;
   }
@@ -305,7 +306,9 @@ public final class BpmnProcessors {
   private static void addProcessInstanceBatchStreamProcessors(
       final TypedRecordProcessors typedRecordProcessors,
       final MutableProcessingState processingState,
-      final Writers writers) {
+      final Writers writers,
+      final BpmnStreamProcessor bpmnStreamProcessor,
+      final EngineConfiguration config) {
     typedRecordProcessors
         .onCommand(
             ValueType.PROCESS_INSTANCE_BATCH,
@@ -313,7 +316,14 @@ public final class BpmnProcessors {
             new ProcessInstanceBatchTerminateProcessor(
                 writers,
                 processingState.getKeyGenerator(),
-                processingState.getElementInstanceState()))
+                processingState.getElementInstanceState(),
+                processingState.getJobState(),
+                processingState.getIncidentState(),
+                processingState.getTimerState(),
+                processingState.getProcessMessageSubscriptionState(),
+                processingState.getSignalSubscriptionState(),
+                bpmnStreamProcessor,
+                config.isEnableBulkTermination()))
         .onCommand(
             ValueType.PROCESS_INSTANCE_BATCH,
             ProcessInstanceBatchIntent.ACTIVATE,
@@ -13,6 +13,7 @@ import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
+import io.camunda.zeebe.engine.processing.batchoperation.BatchOperationProcessors;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviorsImpl;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnJobActivationBehavior;
@@ -251,6 +252,15 @@ public final class EngineProcessors {
         commandDistributionBehavior,
         authCheckBehavior);
 
+    BatchOperationProcessors.addBatchOperationProcessors(
+        typedRecordProcessors,
+        writers,
+        keyGenerator,
+        processingState,
+        commandDistributionBehavior,
+        authCheckBehavior,
+        config);
+
     AuthorizationProcessors.addAuthorizationProcessors(
         keyGenerator,
         typedRecordProcessors,
@@ -0,0 +1,216 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.batchoperation;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import io.camunda.zeebe.engine.processing.Rejection;
+import io.camunda.zeebe.engine.processing.distribution.CommandDistributionBehavior;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior.AuthorizationRequest;
+import io.camunda.zeebe.engine.processing.streamprocessor.DistributedTypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.ProcessState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.batchoperation.BatchOperationRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.BatchOperationIntent;
+import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
+import io.camunda.zeebe.protocol.record.value.PermissionType;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.util.Either;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Creates a batch operation on all partitions that own one of the selected process instances. Each
+ * partition only keeps the process instance keys it owns, and starts to work through them by
+ * appending an {@link BatchOperationIntent#EXECUTE} command.
+ *
+ * <p>The commands that apply the operation to the process instances are written by the engine, so
+ * they are not authorized again. Therefore, the permissions needed to apply the operation to the
+ * selected process instances are checked here, when the batch operation is created.
+ */
+public final class BatchOperationCreateProcessor
+    implements DistributedTypedRecordProcessor<BatchOperationRecord> {
+
+  private static final String EXPECTED_SELECTION_MESSAGE =
+      "Expected to select process instances either by process instance keys or by process definition key, but %s";
+  private static final String EXPECTED_TARGET_DEFINITION_MESSAGE =
+      "Expected a target process definition key for a process migration batch operation, but none was given";
+  private static final String PROCESS_DEFINITION_NOT_FOUND_MESSAGE =
+      "Expected to create a batch operation for process definition with key '%d', but no such process definition was found";
+
+  private final StateWriter stateWriter;
+  private final TypedCommandWriter commandWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+  private final KeyGenerator keyGenerator;
+  private final CommandDistributionBehavior commandDistributionBehavior;
+  private final AuthorizationCheckBehavior authCheckBehavior;
+  private final ProcessState processState;
+  private final int partitionId;
+
+  public BatchOperationCreateProcessor(
+      final Writers writers,
+      final KeyGenerator keyGenerator,
+      final CommandDistributionBehavior commandDistributionBehavior,
+      final AuthorizationCheckBehavior authCheckBehavior,
+      final ProcessState processState,
+      final int partitionId) {
+    stateWriter = writers.state();
+    commandWriter = writers.command();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+    this.keyGenerator = keyGenerator;
+    this.commandDistributionBehavior = commandDistributionBehavior;
+    this.authCheckBehavior = authCheckBehavior;
+    this.processState = processState;
+    this.partitionId = partitionId;
+  }
+
+  @Override
+  public void processNewCommand(final TypedRecord<BatchOperationRecord> command) {
+    final var authRequest =
+        new AuthorizationRequest(command, AuthorizationResourceType.BATCH, PermissionType.CREATE);
+    final var isAuthorized = authCheckBehavior.isAuthorized(authRequest);
+    if (isAuthorized.isLeft()) {
+      final var rejection = isAuthorized.getLeft();
+      rejectionWriter.appendRejection(command, rejection.type(), rejection.reason());
+      responseWriter.writeRejectionOnCommand(command, rejection.type(), rejection.reason());
+      return;
+    }
+
+    final var record = command.getValue();
+    final var validationError = validate(record);
+    if (validationError != null) {
+      rejectionWriter.appendRejection(command, RejectionType.INVALID_ARGUMENT, validationError);
+      responseWriter.writeRejectionOnCommand(
+          command, RejectionType.INVALID_ARGUMENT, validationError);
+      return;
+    }
+
+    final var isAuthorizedForProcessInstances = isAuthorizedForProcessInstances(command);
+    if (isAuthorizedForProcessInstances.isLeft()) {
+      final var rejection = isAuthorizedForProcessInstances.getLeft();
+      rejectionWriter.appendRejection(command, rejection.type(), rejection.reason());
+      responseWriter.writeRejectionOnCommand(command, rejection.type(), rejection.reason());
+      return;
+    }
+
+    final long key = keyGenerator.nextKey();
+    record.setBatchOperationKey(key).setProcessedItems(0).setIndex(0);
+
+    createOnLocalPartition(key, record);
+    responseWriter.writeEventOnCommand(key, BatchOperationIntent.CREATED, record, command);
+
+    if (record.hasProcessInstanceKeys()) {
+      // only the partitions that own one of the process instances have something to do
+      commandDistributionBehavior
+          .withKey(key)
+          .unordered()
+          .forPartitions(getPartitionsOf(record))
+          .distribute(command.getValueType(), command.getIntent(), record);
+    } else {
+      commandDistributionBehavior
+          .withKey(key)
+          .unordered()
+          .distribute(command.getValueType(), command.getIntent(), record);
+    }
+  }
+
+  @Override
+  public void processDistributedCommand(final TypedRecord<BatchOperationRecord> command) {
+    createOnLocalPartition(command.getKey(), command.getValue());
+    commandDistributionBehavior.acknowledgeCommand(command);
+  }
+
+  private void createOnLocalPartition(final long key, final BatchOperationRecord record) {
+    final var localRecord = record.copy();
+    if (record.hasProcessInstanceKeys()) {
+      localRecord.resetProcessInstanceKeys();
+      record
+          .processInstanceKeys()
+          .forEach(
+              processInstanceKey -> {
+                if (Protocol.decodePartitionId(processInstanceKey.getValue()) == partitionId) {
+                  localRecord.addProcessInstanceKey(processInstanceKey.getValue());
+                }
+              });
+    }
+
+    stateWriter.appendFollowUpEvent(key, BatchOperationIntent.CREATED, localRecord);
+    commandWriter.appendFollowUpCommand(
+        key,
+        BatchOperationIntent.EXECUTE,
+        new BatchOperationRecord()
+            .setBatchOperationKey(key)
+            .setBatchOperationType(localRecord.getBatchOperationType()));
+  }
+
+  /**
+   * Checks that the requester may update the selected process instances, like cancelling or
+   * migrating them one by one would. Process instances selected by their keys may belong to any
+   * process definition, so this requires the permission for all process definitions of the tenant.
+   */
+  private Either<Rejection, Void> isAuthorizedForProcessInstances(
+      final TypedRecord<BatchOperationRecord> command) {
+    final var record = command.getValue();
+    final var request =
+        new AuthorizationRequest(
+            command,
+            AuthorizationResourceType.PROCESS_DEFINITION,
+            PermissionType.UPDATE_PROCESS_INSTANCE,
+            record.getTenantId());
+
+    if (!record.hasProcessInstanceKeys()) {
+      final var processDefinition =
+          processState.getProcessByKeyAndTenant(
+              record.getProcessDefinitionKey(), record.getTenantId());
+      if (processDefinition == null) {
+        return Either.left(
+            new Rejection(
+                RejectionType.NOT_FOUND,
+                PROCESS_DEFINITION_NOT_FOUND_MESSAGE.formatted(record.getProcessDefinitionKey())));
+      }
+      request.addResourceId(bufferAsString(processDefinition.getBpmnProcessId()));
+    }
+
+    return authCheckBehavior.isAuthorized(request);
+  }
+
+  private String validate(final BatchOperationRecord record) {
+    final boolean hasProcessInstanceKeys = record.hasProcessInstanceKeys();
+    final boolean hasProcessDefinitionKey = record.getProcessDefinitionKey() > 0;
+    if (hasProcessInstanceKeys && hasProcessDefinitionKey) {
+      return EXPECTED_SELECTION_MESSAGE.formatted("both were given");
+    }
+    if (!hasProcessInstanceKeys && !hasProcessDefinitionKey) {
+      return EXPECTED_SELECTION_MESSAGE.formatted("none was given");
+    }
+    if (record.getBatchOperationType() == BatchOperationType.PROCESS_MIGRATION
+        && record.getTargetProcessDefinitionKey() <= 0) {
+      return EXPECTED_TARGET_DEFINITION_MESSAGE;
+    }
+    return null;
+  }
+
+  private static Set<Integer> getPartitionsOf(final BatchOperationRecord record) {
+    final Set<Integer> partitions = new HashSet<>();
+    record
+        .processInstanceKeys()
+        .forEach(key -> partitions.add(Protocol.decodePartitionId(key.getValue())));
+    return partitions;
+  }
+}
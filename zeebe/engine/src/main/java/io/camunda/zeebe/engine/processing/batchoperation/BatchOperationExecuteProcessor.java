@@ -0,0 +1,263 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.batchoperation;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.ExcludeAuthorizationCheck;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.batchoperation.PersistedBatchOperation;
+import io.camunda.zeebe.engine.state.immutable.BatchOperationState;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.batchoperation.BatchOperationRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.BatchOperationIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceMigrationIntent;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+
+/**
+ * Applies the next chunk of a batch operation on this partition. A chunk ends when the configured
+ * chunk size is reached, when the result batch is full, or when a multiple of the chunk size of
+ * process instances was scanned without finding enough to apply it to. If there are items left
+ * afterward, it appends another {@link BatchOperationIntent#EXECUTE} command, otherwise the batch
+ * operation is completed on this partition.
+ *
+ * <p>Splitting the work into follow-up commands keeps each processing step short, so other commands
+ * on the partition are not blocked by a large batch operation.
+ *
+ * <p>The commands are not authorized here, because the permissions to update the selected process
+ * instances are checked when the batch operation is created.
+ */
+@ExcludeAuthorizationCheck
+public final class BatchOperationExecuteProcessor
+    implements TypedRecordProcessor<BatchOperationRecord> {
+
+  private static final String BATCH_OPERATION_NOT_FOUND_MESSAGE =
+      "Expected to execute batch operation with key '%d', but no such batch operation was found";
+  private static final long NO_NEXT_CHUNK = -1L;
+
+  /**
+   * Bounds the number of process instances scanned per chunk, relative to the chunk size, as
+   * process instances the batch operation doesn't apply to don't count towards the chunk size.
+   */
+  private static final int MAX_SCANNED_ITEMS_PER_CHUNK_ITEM = 10;
+
+  /** The longest encoding of a process instance key added to the EXECUTED event. */
+  private static final int MAX_KEY_LENGTH = Long.BYTES + 1;
+
+  private final StateWriter stateWriter;
+  private final TypedCommandWriter commandWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final BatchOperationState batchOperationState;
+  private final ElementInstanceState elementInstanceState;
+  private final int chunkSize;
+  private final int maxScannedItems;
+
+  public BatchOperationExecuteProcessor(
+      final Writers writers,
+      final BatchOperationState batchOperationState,
+      final ElementInstanceState elementInstanceState,
+      final EngineConfiguration config) {
+    stateWriter = writers.state();
+    commandWriter = writers.command();
+    rejectionWriter = writers.rejection();
+    this.batchOperationState = batchOperationState;
+    this.elementInstanceState = elementInstanceState;
+    chunkSize = Math.max(1, config.getBatchOperationChunkSize());
+    maxScannedItems = chunkSize * MAX_SCANNED_ITEMS_PER_CHUNK_ITEM;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<BatchOperationRecord> command) {
+    final long batchOperationKey = command.getKey();
+    final var batchOperation = batchOperationState.get(batchOperationKey);
+    if (batchOperation.isEmpty()) {
+      rejectionWriter.appendRejection(
+          command,
+          RejectionType.NOT_FOUND,
+          BATCH_OPERATION_NOT_FOUND_MESSAGE.formatted(batchOperationKey));
+      return;
+    }
+
+    final var chunk =
+        new BatchOperationRecord()
+            .setBatchOperationKey(batchOperationKey)
+            .setBatchOperationType(batchOperation.get().getType());
+    final long nextIndex =
+        batchOperation.get().isSelectedByProcessDefinition()
+            ? executeChunkByProcessDefinition(command, batchOperation.get(), chunk)
+            : executeChunkByPendingItems(command, batchOperation.get(), chunk);
+
+    final long processedItems =
+        batchOperation.get().getProcessedItems() + chunk.processInstanceKeys().stream().count();
+    chunk.setProcessedItems(processedItems).setIndex(nextIndex);
+    stateWriter.appendFollowUpEvent(batchOperationKey, BatchOperationIntent.EXECUTED, chunk);
+
+    final var next =
+        new BatchOperationRecord()
+            .setBatchOperationKey(batchOperationKey)
+            .setBatchOperationType(chunk.getBatchOperationType())
+            .setProcessedItems(processedItems)
+            .setIndex(nextIndex);
+    if (nextIndex == NO_NEXT_CHUNK) {
+      stateWriter.appendFollowUpEvent(batchOperationKey, BatchOperationIntent.COMPLETED, next);
+    } else {
+      commandWriter.appendFollowUpCommand(batchOperationKey, BatchOperationIntent.EXECUTE, next);
+    }
+  }
+
+  /**
+   * Walks the process instances of the selected process definition, starting at the index of the
+   * batch operation.
+   *
+   * @return the key of the first process instance of the next chunk, or -1 if there is none
+   */
+  private long executeChunkByProcessDefinition(
+      final TypedRecord<BatchOperationRecord> command,
+      final PersistedBatchOperation batchOperation,
+      final BatchOperationRecord chunk) {
+    final var nextIndex = new long[] {NO_NEXT_CHUNK};
+    final var itemCount = new int[] {0};
+    final var scannedCount = new int[] {0};
+    elementInstanceState.forEachProcessInstanceKeyByDefinitionKey(
+        batchOperation.getProcessDefinitionKey(),
+        batchOperation.getIndex(),
+        processInstanceKey -> {
+          if (scannedCount[0] >= maxScannedItems) {
+            nextIndex[0] = processInstanceKey;
+            return false;
+          }
+          scannedCount[0]++;
+
+          if (!isApplicable(batchOperation, processInstanceKey)) {
+            return true;
+          }
+          if (itemCount[0] >= chunkSize) {
+            nextIndex[0] = processInstanceKey;
+            return false;
+          }
+          if (!tryApply(command, batchOperation, chunk, processInstanceKey)) {
+            // if it doesn't fit into an otherwise empty batch, it never will, so skip it
+            nextIndex[0] = itemCount[0] == 0 ? processInstanceKey + 1 : processInstanceKey;
+            return false;
+          }
+          chunk.addProcessInstanceKey(processInstanceKey);
+          itemCount[0]++;
+          return true;
+        });
+    return nextIndex[0];
+  }
+
+  /**
+   * Takes the next process instance keys that were given explicitly when the batch operation was
+   * created. The keys of the chunk are removed from the state when the EXECUTED event is applied.
+   *
+   * @return 0 if there are keys left for another chunk, or -1 if there are none
+   */
+  private long executeChunkByPendingItems(
+      final TypedRecord<BatchOperationRecord> command,
+      final PersistedBatchOperation batchOperation,
+      final BatchOperationRecord chunk) {
+    final var nextIndex = new long[] {NO_NEXT_CHUNK};
+    final var itemCount = new int[] {0};
+    batchOperationState.forEachPendingItem(
+        batchOperation.getKey(),
+        processInstanceKey -> {
+          if (itemCount[0] >= chunkSize) {
+            nextIndex[0] = 0;
+            return false;
+          }
+          if (isApplicable(batchOperation, processInstanceKey)
+              && !tryApply(command, batchOperation, chunk, processInstanceKey)) {
+            nextIndex[0] = 0;
+            if (itemCount[0] > 0) {
+              return false;
+            }
+            // it doesn't fit into an otherwise empty batch, so it never will; it's removed with
+            // the chunk instead of being retried forever
+            chunk.addProcessInstanceKey(processInstanceKey);
+            return false;
+          }
+          // keys that are not applicable are part of the chunk too, so they are removed as well
+          chunk.addProcessInstanceKey(processInstanceKey);
+          itemCount[0]++;
+          return true;
+        });
+    return nextIndex[0];
+  }
+
+  private boolean isApplicable(
+      final PersistedBatchOperation batchOperation, final long processInstanceKey) {
+    final var processInstance = elementInstanceState.getInstance(processInstanceKey);
+    if (processInstance == null) {
+      // the process instance was completed or cancelled in the meantime
+      return false;
+    }
+
+    // the batch operation was only authorized for the process instances of its tenant
+    if (!processInstance.getValue().getTenantId().equals(batchOperation.getTenantId())) {
+      return false;
+    }
+
+    // child process instances are cancelled together with their root process instance
+    return batchOperation.getType() != BatchOperationType.PROCESS_CANCELLATION
+        || processInstance.getValue().getParentProcessInstanceKey() <= 0;
+  }
+
+  private boolean tryApply(
+      final TypedRecord<BatchOperationRecord> command,
+      final PersistedBatchOperation batchOperation,
+      final BatchOperationRecord chunk,
+      final long processInstanceKey) {
+    final Intent intent;
+    final UnifiedRecordValue value;
+    switch (batchOperation.getType()) {
+      case PROCESS_CANCELLATION -> {
+        intent = ProcessInstanceIntent.CANCEL;
+        value = new ProcessInstanceRecord().setProcessInstanceKey(processInstanceKey);
+      }
+      case PROCESS_MIGRATION -> {
+        intent = ProcessInstanceMigrationIntent.MIGRATE;
+        final var migrationRecord =
+            new ProcessInstanceMigrationRecord()
+                .setProcessInstanceKey(processInstanceKey)
+                .setTargetProcessDefinitionKey(batchOperation.getTargetProcessDefinitionKey());
+        batchOperation.getMappingInstructions().forEach(migrationRecord::addMappingInstruction);
+        value = migrationRecord;
+      }
+      default ->
+          throw new IllegalStateException(
+              "Expected a known batch operation type, but got " + batchOperation.getType());
+    }
+
+    // We must have space in the batch to write the command, the EXECUTED event that lists the
+    // process instance keys of the chunk including this one, and the follow-up EXECUTE command. The
+    // buffer accounts for metadata.
+    final var expectedLength =
+        value.getLength()
+            + chunk.getLength()
+            + MAX_KEY_LENGTH
+            + command.getLength()
+            + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+    if (!commandWriter.canWriteCommandOfLength(expectedLength)) {
+      return false;
+    }
+
+    commandWriter.appendFollowUpCommand(processInstanceKey, intent, value);
+    return true;
+  }
+}
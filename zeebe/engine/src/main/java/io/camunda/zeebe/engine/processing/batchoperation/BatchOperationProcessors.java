@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.batchoperation;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.distribution.CommandDistributionBehavior;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.BatchOperationIntent;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+
+public final class BatchOperationProcessors {
+  private BatchOperationProcessors() {}
+
+  public static void addBatchOperationProcessors(
+      final TypedRecordProcessors typedRecordProcessors,
+      final Writers writers,
+      final KeyGenerator keyGenerator,
+      final MutableProcessingState processingState,
+      final CommandDistributionBehavior commandDistributionBehavior,
+      final AuthorizationCheckBehavior authCheckBehavior,
+      final EngineConfiguration config) {
+    typedRecordProcessors
+        .onCommand(
+            ValueType.BATCH_OPERATION,
+            BatchOperationIntent.CREATE,
+            new BatchOperationCreateProcessor(
+                writers,
+                keyGenerator,
+                commandDistributionBehavior,
+                authCheckBehavior,
+                processingState.getProcessState(),
+                processingState.getPartitionId()))
+        .onCommand(
+            ValueType.BATCH_OPERATION,
+            BatchOperationIntent.EXECUTE,
+            new BatchOperationExecuteProcessor(
+                writers,
+                processingState.getBatchOperationState(),
+                processingState.getElementInstanceState(),
+                config));
+  }
+}
@@ -116,6 +116,34 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<ProcessIn
                     record, RejectionType.INVALID_STATE, violation.getMessage()));
   }
 
+  /**
+   * Terminates the given element instance the same way as processing a {@code TERMINATE_ELEMENT}
+   * command for it would, but without writing and processing that command. This allows terminating
+   * many element instances within a single processing step.
+   *
+   * @param elementInstanceKey the key of the element instance to terminate
+   * @param elementInstanceRecord the record of the element instance; it must not be changed while
+   *     the element instance is terminated
+   */
+  public void terminateElement(
+      final long elementInstanceKey, final ProcessInstanceRecord elementInstanceRecord) {
+    context.init(
+        elementInstanceKey, elementInstanceRecord, ProcessInstanceIntent.TERMINATE_ELEMENT);
+
+    final var processor = processors.getProcessor(elementInstanceRecord.getBpmnElementType());
+    final ExecutableFlowElement element = getElement(elementInstanceRecord, processor);
+
+    stateTransitionGuard
+        .isValidStateTransition(context, element)
+        .ifRightOrLeft(
+            ok -> processEvent(ProcessInstanceIntent.TERMINATE_ELEMENT, processor, element),
+            violation ->
+                LOGGER.debug(
+                    "Skip terminating element instance, because the state transition is invalid [context: {}]: {}",
+                    context,
+                    violation.getMessage()));
+  }
+
   @Override
   public ProcessingError tryHandleError(
       final TypedRecord<ProcessInstanceRecord> command, final Throwable error) {
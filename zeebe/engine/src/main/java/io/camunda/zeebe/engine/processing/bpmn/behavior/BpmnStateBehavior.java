@@ -21,6 +21,7 @@ import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.engine.state.variable.VariableInstance;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
 import io.camunda.zeebe.util.Either;
@@ -199,6 +200,54 @@ public final class BpmnStateBehavior {
     return variablesState.getVariableLocal(context.getElementInstanceKey(), variableName);
   }
 
+  public VariableInstance getLocalVariableInstance(
+      final BpmnElementContext context, final DirectBuffer variableName) {
+    return variablesState.getVariableInstanceLocal(context.getElementInstanceKey(), variableName);
+  }
+
+  public VariableInstance getStoredLocalVariableInstance(
+      final BpmnElementContext context, final DirectBuffer variableName) {
+    return variablesState.getStoredVariableInstanceLocal(
+        context.getElementInstanceKey(), variableName);
+  }
+
+  public boolean hasOutputElements(
+      final BpmnElementContext context, final DirectBuffer variableName) {
+    return variablesState.hasOutputElements(context.getElementInstanceKey(), variableName);
+  }
+
+  public void collectOutputElement(
+      final BpmnElementContext innerInstanceContext,
+      final BpmnElementContext context,
+      final DirectBuffer variableName,
+      final DirectBuffer outputElement) {
+    variableBehavior.collectOutputElement(
+        innerInstanceContext.getElementInstanceKey(),
+        context.getElementInstanceKey(),
+        context.getProcessDefinitionKey(),
+        context.getProcessInstanceKey(),
+        context.getBpmnProcessId(),
+        context.getTenantId(),
+        variableName,
+        outputElement);
+  }
+
+  public void updateLocalVariable(
+      final BpmnElementContext context,
+      final long variableKey,
+      final DirectBuffer variableName,
+      final DirectBuffer variableValue) {
+    variableBehavior.updateLocalVariable(
+        variableKey,
+        context.getElementInstanceKey(),
+        context.getProcessDefinitionKey(),
+        context.getProcessInstanceKey(),
+        context.getBpmnProcessId(),
+        context.getTenantId(),
+        variableName,
+        variableValue);
+  }
+
   public void setLocalVariable(
       final BpmnElementContext context,
       final DirectBuffer variableName,
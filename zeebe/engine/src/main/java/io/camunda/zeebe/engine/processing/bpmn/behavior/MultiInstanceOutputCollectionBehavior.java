@@ -22,14 +22,22 @@ import io.camunda.zeebe.util.Either;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Maintains the output collection of a multi-instance body, which holds the output element of each
+ * inner instance at the index of its loop counter.
+ *
+ * <p>The collection is a single variable of the body. When an inner instance completes, its output
+ * element is collected by a VARIABLE OUTPUT_ELEMENT_COLLECTED event, which stores only the element
+ * at its index. Reading the collection merges the collected elements into it. When the body
+ * completes, the merged collection is written once by a VARIABLE UPDATED event. Hence, completing
+ * the inner instances of a large multi-instance body doesn't write the whole collection each time.
+ */
 public final class MultiInstanceOutputCollectionBehavior {
 
   private final MsgPackReader outputCollectionReader = new MsgPackReader();
   private final MsgPackWriter outputCollectionWriter = new MsgPackWriter();
   private final ExpandableArrayBuffer outputCollectionBuffer = new ExpandableArrayBuffer();
-  private final DirectBuffer updatedOutputCollectionBuffer = new UnsafeBuffer(0, 0);
 
   private final BpmnStateBehavior stateBehavior;
   private final ExpressionProcessor expressionProcessor;
@@ -70,6 +78,25 @@ public final class MultiInstanceOutputCollectionBehavior {
         .orElse(Either.right(null));
   }
 
+  /**
+   * Writes the output collection of the completing multi-instance body with all collected output
+   * elements, if any element was collected since the collection was set.
+   */
+  public void completeOutputCollection(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+    element
+        .getLoopCharacteristics()
+        .getOutputCollection()
+        .filter(variableName -> stateBehavior.hasOutputElements(context, variableName))
+        .ifPresent(
+            variableName -> {
+              final var outputCollection =
+                  stateBehavior.getLocalVariableInstance(context, variableName);
+              stateBehavior.updateLocalVariable(
+                  context, outputCollection.getKey(), variableName, outputCollection.getValue());
+            });
+  }
+
   private Either<Failure, Void> updateOutputCollection(
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext childContext,
@@ -82,12 +109,10 @@ public final class MultiInstanceOutputCollectionBehavior {
     return readOutputElementVariable(element, childContext)
         .flatMap(
             elementVariable -> {
-              // we need to read the output element variable before the current collection
-              // is read, because readOutputElementVariable(Context) uses the same
-              // buffer as getVariableLocal this could also be avoided by cloning the current
-              // collection, but that is slower.
+              // the collection is only read to verify that the element fits into it, so the
+              // elements collected so far don't need to be merged into it
               final var currentCollection =
-                  stateBehavior.getLocalVariable(flowScopeContext, variableName);
+                  stateBehavior.getStoredLocalVariableInstance(flowScopeContext, variableName);
               if (currentCollection == null) {
                 return Either.left(
                     new Failure(
@@ -96,18 +121,21 @@ public final class MultiInstanceOutputCollectionBehavior {
                         ErrorType.EXTRACT_VALUE_ERROR,
                         flowScopeContext.getElementInstanceKey()));
               }
-              return replaceAt(
-                      currentCollection,
-                      loopCounter,
-                      elementVariable,
-                      flowScopeContext.getElementInstanceKey(),
-                      variableName)
-                  .map(
-                      updatedCollection -> {
-                        stateBehavior.setLocalVariable(
-                            flowScopeContext, variableName, updatedCollection);
-                        return null;
-                      });
+
+              final var currentValue = currentCollection.getValue();
+              outputCollectionReader.wrap(currentValue, 0, currentValue.capacity());
+              final var token = outputCollectionReader.readToken();
+
+              final var optValidationFailure =
+                  validateIsCollectionAndHasAppropriateSIze(
+                      loopCounter, flowScopeContext.getElementInstanceKey(), variableName, token);
+              if (optValidationFailure.isPresent()) {
+                return Either.left(optValidationFailure.get());
+              }
+
+              stateBehavior.collectOutputElement(
+                  childContext, flowScopeContext, variableName, elementVariable);
+              return Either.right(null);
             });
   }
 
@@ -117,39 +145,6 @@ public final class MultiInstanceOutputCollectionBehavior {
     return expressionProcessor.evaluateAnyExpression(expression, context.getElementInstanceKey());
   }
 
-  private Either<Failure, DirectBuffer> replaceAt(
-      final DirectBuffer array,
-      final int index,
-      final DirectBuffer element,
-      final long variableScopeKey,
-      final DirectBuffer variableName) {
-
-    outputCollectionReader.wrap(array, 0, array.capacity());
-    final var token = outputCollectionReader.readToken();
-
-    final var optValidationFailure =
-        validateIsCollectionAndHasAppropriateSIze(index, variableScopeKey, variableName, token);
-    if (optValidationFailure.isPresent()) {
-      return Either.left(optValidationFailure.get());
-    }
-
-    outputCollectionReader.skipValues((long) index - 1L);
-
-    final var offsetBefore = outputCollectionReader.getOffset();
-    outputCollectionReader.skipValue();
-    final var offsetAfter = outputCollectionReader.getOffset();
-
-    outputCollectionWriter.wrap(outputCollectionBuffer, 0);
-    outputCollectionWriter.writeRaw(array, 0, offsetBefore);
-    outputCollectionWriter.writeRaw(element);
-    outputCollectionWriter.writeRaw(array, offsetAfter, array.capacity() - offsetAfter);
-
-    final var length = outputCollectionWriter.getOffset();
-
-    updatedOutputCollectionBuffer.wrap(outputCollectionBuffer, 0, length);
-    return Either.right(updatedOutputCollectionBuffer);
-  }
-
   private Optional<Failure> validateIsCollectionAndHasAppropriateSIze(
       final int index,
       final long variableScopeKey,
@@ -102,6 +102,7 @@ public final class MultiInstanceBodyProcessor
 
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
 
+    multiInstanceOutputCollectionBehavior.completeOutputCollection(element, context);
     element
         .getLoopCharacteristics()
         .getOutputCollection()
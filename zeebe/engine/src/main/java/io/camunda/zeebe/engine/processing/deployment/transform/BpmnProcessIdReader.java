@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN20_NS;
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_ATTRIBUTE_ID;
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_ATTRIBUTE_IS_EXECUTABLE;
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_PROCESS;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.agrona.DirectBuffer;
+import org.agrona.io.DirectBufferInputStream;
+
+/**
+ * Reads the id of an executable process of a BPMN resource with a streaming parser, without
+ * building the model. This is much cheaper than reading the model, but doesn't validate the
+ * resource in any way.
+ *
+ * <p>This class is not thread-safe.
+ */
+final class BpmnProcessIdReader {
+
+  private final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+
+  BpmnProcessIdReader() {
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+  }
+
+  /**
+   * Returns the id of the first executable process of the resource. The rest of the resource is not
+   * read.
+   *
+   * @return the process id, or {@code null} if the resource has no executable process or can't be
+   *     read, leaving it to the model parser to report why
+   */
+  String readFirstExecutableProcessId(final DirectBuffer resource) {
+    XMLStreamReader reader = null;
+    try {
+      reader = inputFactory.createXMLStreamReader(new DirectBufferInputStream(resource));
+      while (reader.hasNext()) {
+        if (reader.next() == XMLStreamConstants.START_ELEMENT && isExecutableProcess(reader)) {
+          return reader.getAttributeValue(null, BPMN_ATTRIBUTE_ID);
+        }
+      }
+      return null;
+    } catch (final XMLStreamException e) {
+      return null;
+    } finally {
+      close(reader);
+    }
+  }
+
+  private static boolean isExecutableProcess(final XMLStreamReader reader) {
+    return BPMN_ELEMENT_PROCESS.equals(reader.getLocalName())
+        && BPMN20_NS.equals(reader.getNamespaceURI())
+        && Boolean.parseBoolean(reader.getAttributeValue(null, BPMN_ATTRIBUTE_IS_EXECUTABLE))
+        && reader.getAttributeValue(null, BPMN_ATTRIBUTE_ID) != null;
+  }
+
+  private static void close(final XMLStreamReader reader) {
+    if (reader == null) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (final XMLStreamException e) {
+      // nothing to release, the stream is backed by a buffer
+    }
+  }
+}
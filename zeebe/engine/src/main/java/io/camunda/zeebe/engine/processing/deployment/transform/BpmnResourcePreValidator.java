@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.deployment.ChecksumGenerator;
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.processing.deployment.transform.ValidatedBpmnResources.ValidatedBpmnResource;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
+import java.time.InstantSource;
+import org.agrona.io.DirectBufferInputStream;
+import org.camunda.bpm.model.xml.ModelParseException;
+import org.slf4j.Logger;
+
+/**
+ * Parses, validates and transforms the BPMN resources of a deployment outside of the stream
+ * processor, and hands the valid ones over to the deployment processor via {@link
+ * ValidatedBpmnResources}. This covers only the checks which do not depend on the state. Invalid
+ * resources are skipped, so the processor rejects them with the same reason as before.
+ *
+ * <p>This class is not thread-safe; use one instance per thread.
+ */
+public final class BpmnResourcePreValidator {
+
+  private static final Logger LOG = Loggers.STREAM_PROCESSING;
+
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final BpmnTransformer bpmnTransformer;
+  private final BpmnValidator validator;
+  private final ValidatedBpmnResources validatedResources;
+
+  public BpmnResourcePreValidator(
+      final InstantSource clock,
+      final int validatorResultsOutputMaxSize,
+      final ValidatedBpmnResources validatedResources) {
+    this.validatedResources = validatedResources;
+    bpmnTransformer = BpmnFactory.createTransformer(clock);
+    // the validator only evaluates static expressions, which never look up any variables
+    final var expressionProcessor =
+        new ExpressionProcessor(
+            ExpressionLanguageFactory.createExpressionLanguage(new ZeebeFeelEngineClock(clock)),
+            scopeKey -> variableName -> null);
+    validator =
+        BpmnFactory.createValidator(clock, expressionProcessor, validatorResultsOutputMaxSize);
+  }
+
+  /** Pre-validates all BPMN resources of the given deployment. */
+  public void preValidate(final DeploymentRecord deployment) {
+    for (final DeploymentResource resource : deployment.resources()) {
+      if (DeploymentTransformer.isBpmnResource(resource)) {
+        preValidate(resource);
+      }
+    }
+  }
+
+  private void preValidate(final DeploymentResource resource) {
+    try {
+      final var resourceBuffer = resource.getResourceBuffer();
+      final var definition = Bpmn.readModelFromStream(new DirectBufferInputStream(resourceBuffer));
+      if (validator.validate(definition) != null) {
+        return;
+      }
+
+      final var executableProcesses = bpmnTransformer.transformDefinitions(definition);
+      validatedResources.put(
+          checksumGenerator.checksum(resourceBuffer),
+          resourceBuffer.capacity(),
+          new ValidatedBpmnResource(definition, executableProcesses));
+    } catch (final ModelParseException e) {
+      // the processor rejects the deployment with the parse failure
+    } catch (final RuntimeException e) {
+      LOG.debug(
+          "Failed to pre-validate resource '{}', leaving it to the processor",
+          resource.getResourceName(),
+          e);
+    }
+  }
+}
@@ -14,9 +14,11 @@ import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.ChecksumGenerator;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
 import io.camunda.zeebe.engine.processing.deployment.model.validation.StraightThroughProcessingLoopValidator;
 import io.camunda.zeebe.engine.processing.deployment.model.validation.UnsupportedMultiTenantFeaturesValidator;
+import io.camunda.zeebe.engine.processing.deployment.transform.ValidatedBpmnResources.ValidatedBpmnResource;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
@@ -46,8 +48,10 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
   private final KeyGenerator keyGenerator;
   private final StateWriter stateWriter;
   private final ChecksumGenerator checksumGenerator;
+  private final BpmnProcessIdReader processIdReader = new BpmnProcessIdReader();
 
   private final BpmnValidator validator;
+  private final ValidatedBpmnResources validatedResources;
   private final ProcessState processState;
   private final boolean enableStraightThroughProcessingLoopDetector;
 
@@ -68,6 +72,7 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
     validator =
         BpmnFactory.createValidator(
             clock, expressionProcessor, config.getValidatorsResultsOutputMaxSize());
+    validatedResources = config.getValidatedBpmnResources();
     this.enableStraightThroughProcessingLoopDetector = enableStraightThroughProcessingLoopDetector;
   }
 
@@ -77,7 +82,21 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
       final DeploymentRecord deployment,
       final DeploymentResourceContext context) {
 
-    return readProcessDefinition(resource)
+    final ValidatedBpmnResource validatedResource =
+        validatedResources.isEnabled()
+            ? validatedResources.take(checksumGenerator.checksum(resource.getResourceBuffer()))
+            : null;
+    if (validatedResource != null) {
+      // the resource was already parsed, validated and transformed before the command was written
+      return createMetadata(
+          resource,
+          deployment,
+          context,
+          validatedResource.model(),
+          validatedResource.executableProcesses());
+    }
+
+    return readProcessDefinition(resource, deployment.getTenantId())
         .flatMap(
             definition -> {
               final String validationError = validator.validate(definition);
@@ -87,24 +106,8 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
                 // validator
                 final var executableProcesses = bpmnTransformer.transformDefinitions(definition);
 
-                return checkForDuplicateBpmnId(definition, resource, deployment)
-                    .flatMap(
-                        ok ->
-                            UnsupportedMultiTenantFeaturesValidator.validate(
-                                resource, executableProcesses, deployment.getTenantId()))
-                    .flatMap(
-                        ok -> {
-                          if (enableStraightThroughProcessingLoopDetector) {
-                            return StraightThroughProcessingLoopValidator.validate(
-                                resource, executableProcesses);
-                          }
-                          return Either.right(null);
-                        })
-                    .map(
-                        ok -> {
-                          createProcessMetadata(deployment, resource, definition, context);
-                          return null;
-                        });
+                return createMetadata(
+                    resource, deployment, context, definition, executableProcesses);
 
               } else {
                 final var failureMessage =
@@ -114,6 +117,32 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
             });
   }
 
+  private Either<Failure, Void> createMetadata(
+      final DeploymentResource resource,
+      final DeploymentRecord deployment,
+      final DeploymentResourceContext context,
+      final BpmnModelInstance definition,
+      final List<ExecutableProcess> executableProcesses) {
+    return checkForDuplicateBpmnId(definition, resource, deployment)
+        .flatMap(
+            ok ->
+                UnsupportedMultiTenantFeaturesValidator.validate(
+                    resource, executableProcesses, deployment.getTenantId()))
+        .flatMap(
+            ok -> {
+              if (enableStraightThroughProcessingLoopDetector) {
+                return StraightThroughProcessingLoopValidator.validate(
+                    resource, executableProcesses);
+              }
+              return Either.right(null);
+            })
+        .map(
+            ok -> {
+              createProcessMetadata(deployment, resource, definition, context);
+              return null;
+            });
+  }
+
   @Override
   public void writeRecords(final DeploymentResource resource, final DeploymentRecord deployment) {
     if (deployment.hasDuplicatesOnly()) {
@@ -145,10 +174,14 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
   }
 
   private Either<Failure, BpmnModelInstance> readProcessDefinition(
-      final DeploymentResource deploymentResource) {
+      final DeploymentResource deploymentResource, final String tenantId) {
     try {
       final DirectBuffer resource = deploymentResource.getResourceBuffer();
       final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
+      if (isLatestVersionOfProcess(resource, tenantId)) {
+        // the same resource passed the schema validation when it was deployed before
+        return Either.right(Bpmn.readTrustedModelFromStream(resourceStream));
+      }
       return Either.right(Bpmn.readModelFromStream(resourceStream));
     } catch (final ModelParseException e) {
       final var failureMessage =
@@ -158,6 +191,22 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
     }
   }
 
+  /**
+   * Returns true if the resource is byte-identical to the latest deployed version of its first
+   * process, as it is the case when the same resources are deployed again. Only the id of the first
+   * process is read to find out, which is much cheaper than reading the model.
+   */
+  private boolean isLatestVersionOfProcess(final DirectBuffer resource, final String tenantId) {
+    final String processId = processIdReader.readFirstExecutableProcessId(resource);
+    if (processId == null) {
+      return false;
+    }
+
+    final DirectBuffer latestDigest =
+        processState.getLatestVersionDigest(wrapString(processId), tenantId);
+    return latestDigest != null && latestDigest.equals(checksumGenerator.checksum(resource));
+  }
+
   private Either<Failure, ?> checkForDuplicateBpmnId(
       final BpmnModelInstance process,
       final DeploymentResource resource,
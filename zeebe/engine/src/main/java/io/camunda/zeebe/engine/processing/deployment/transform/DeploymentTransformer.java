@@ -151,7 +151,7 @@ public final class DeploymentTransformer {
     return Either.right(null);
   }
 
-  private boolean isBpmnResource(final DeploymentResource resource) {
+  static boolean isBpmnResource(final DeploymentResource resource) {
     return resource.getResourceName().endsWith(".bpmn")
         || resource.getResourceName().endsWith(".xml");
   }
@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+
+/**
+ * Hands over BPMN resources which were already parsed, validated and transformed outside of the
+ * stream processor, e.g. by the command API before the deployment command is written. The
+ * deployment processor takes a resource by its checksum and only falls back to parsing it itself if
+ * it is not present, e.g. on replay or after a leader change.
+ *
+ * <p>Every resource can be taken only once, so a model instance is never shared between threads. If
+ * the processor never takes a resource (e.g. because the command was not written), it is evicted
+ * once it expires, or earlier if the estimated memory of all resources exceeds the maximum size.
+ * The memory of a resource is estimated from its size, as the parsed model is many times larger
+ * than the XML it was read from.
+ */
+public final class ValidatedBpmnResources {
+
+  /** The estimated ratio between the memory of a parsed and transformed model and its XML size. */
+  static final int ESTIMATED_MEMORY_FACTOR = 20;
+
+  private static final ValidatedBpmnResources NONE =
+      new ValidatedBpmnResources(0, Duration.ZERO, InstantSource.system());
+
+  private final long maxSize;
+  private final long timeToLiveMillis;
+  private final InstantSource clock;
+  private final Map<DirectBuffer, Entry> resources = new LinkedHashMap<>();
+  private long size;
+
+  public ValidatedBpmnResources(final long maxSize, final Duration timeToLive) {
+    this(maxSize, timeToLive, InstantSource.system());
+  }
+
+  ValidatedBpmnResources(final long maxSize, final Duration timeToLive, final InstantSource clock) {
+    this.maxSize = maxSize;
+    timeToLiveMillis = timeToLive.toMillis();
+    this.clock = clock;
+  }
+
+  /** Returns an instance which never holds any resource. */
+  public static ValidatedBpmnResources none() {
+    return NONE;
+  }
+
+  public boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  synchronized void put(
+      final DirectBuffer checksum, final int resourceSize, final ValidatedBpmnResource resource) {
+    final long estimatedSize = (long) resourceSize * ESTIMATED_MEMORY_FACTOR;
+    if (!isEnabled() || estimatedSize > maxSize) {
+      return;
+    }
+
+    // remove a previous entry first, so the new one is moved to the end of the insertion order
+    final var previous = resources.remove(checksum);
+    if (previous != null) {
+      size -= previous.estimatedSize();
+    }
+
+    final var now = clock.millis();
+    resources.put(
+        BufferUtil.cloneBuffer(checksum),
+        new Entry(resource, estimatedSize, now + timeToLiveMillis));
+    size += estimatedSize;
+    evict(now);
+  }
+
+  /**
+   * Removes and returns the resource with the given checksum.
+   *
+   * @return the validated resource, or {@code null} if there is none or it expired
+   */
+  synchronized ValidatedBpmnResource take(final DirectBuffer checksum) {
+    if (resources.isEmpty()) {
+      return null;
+    }
+
+    evict(clock.millis());
+    final var entry = resources.remove(checksum);
+    if (entry == null) {
+      return null;
+    }
+    size -= entry.estimatedSize();
+    return entry.resource();
+  }
+
+  synchronized int size() {
+    return resources.size();
+  }
+
+  /**
+   * Evicts expired resources and, if the maximum size is still exceeded, the oldest ones. Resources
+   * are kept in insertion order and all live equally long, so the expired ones come first.
+   */
+  private void evict(final long now) {
+    final Iterator<Entry> entries = resources.values().iterator();
+    while (entries.hasNext()) {
+      final var entry = entries.next();
+      if (entry.expiresAt() > now && size <= maxSize) {
+        return;
+      }
+      entries.remove();
+      size -= entry.estimatedSize();
+    }
+  }
+
+  /**
+   * A BPMN resource which passed the {@link BpmnValidator} and could be transformed.
+   *
+   * @param model the parsed model
+   * @param executableProcesses the result of transforming the model
+   */
+  record ValidatedBpmnResource(
+      BpmnModelInstance model, List<ExecutableProcess> executableProcesses) {}
+
+  private record Entry(ValidatedBpmnResource resource, long estimatedSize, long expiresAt) {}
+}
@@ -9,68 +9,249 @@ package io.camunda.zeebe.engine.processing.processinstance;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.ExcludeAuthorizationCheck;
+import io.camunda.zeebe.engine.processing.bpmn.BpmnStreamProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.immutable.IncidentState;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.immutable.ProcessMessageSubscriptionState;
+import io.camunda.zeebe.engine.state.immutable.SignalSubscriptionState;
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.RecordMetadataEncoder;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.agrona.collections.MutableInteger;
 
+/**
+ * Terminates the child instances of an element instance in batches. Each batch terminates as many
+ * child instances as fit into a single processing result, and writes a follow-up command to
+ * continue with the next batch.
+ *
+ * <p>By default, a child instance is terminated by writing a {@code TERMINATE_ELEMENT} command for
+ * it. If bulk termination is enabled, child instances that are leaves of a simple type are instead
+ * terminated directly within this processing step. They go through the same element processors, but
+ * without writing and processing a command for each of them, which is considerably faster when
+ * terminating many child instances, e.g. of a large multi-instance body. As their follow-up records
+ * are written into the same processing result, the space for all records written by their
+ * termination is reserved up front.
+ */
 @ExcludeAuthorizationCheck
 public final class ProcessInstanceBatchTerminateProcessor
     implements TypedRecordProcessor<ProcessInstanceBatchRecord> {
 
+  /** Leaf element types without side effects on termination besides the events they write. */
+  private static final Set<BpmnElementType> BULK_TERMINABLE_ELEMENT_TYPES =
+      EnumSet.of(
+          BpmnElementType.TASK,
+          BpmnElementType.MANUAL_TASK,
+          BpmnElementType.SERVICE_TASK,
+          BpmnElementType.SEND_TASK,
+          BpmnElementType.SCRIPT_TASK,
+          BpmnElementType.BUSINESS_RULE_TASK,
+          BpmnElementType.RECEIVE_TASK,
+          BpmnElementType.INTERMEDIATE_CATCH_EVENT);
+
+  /** The log stream frames each record with a header, and aligns the frames. */
+  private static final int LOG_FRAME_HEADER_LENGTH = 12;
+
+  private static final int LOG_FRAME_ALIGNMENT = 8;
+
+  /**
+   * The length a record takes in the batch besides its value: the key, the source index and the
+   * metadata, without rejection reason and authorizations as follow-up records have none, and the
+   * framing of the log stream.
+   */
+  private static final int RECORD_OVERHEAD_LENGTH =
+      Long.BYTES
+          + Integer.BYTES
+          + RecordMetadata.BLOCK_LENGTH
+          + RecordMetadataEncoder.rejectionReasonHeaderLength()
+          + RecordMetadataEncoder.authorizationHeaderLength()
+          + LOG_FRAME_HEADER_LENGTH
+          + LOG_FRAME_ALIGNMENT;
+
   private final TypedCommandWriter commandWriter;
   private final KeyGenerator keyGenerator;
   private final ElementInstanceState elementInstanceState;
+  private final JobState jobState;
+  private final IncidentState incidentState;
+  private final TimerInstanceState timerInstanceState;
+  private final ProcessMessageSubscriptionState processMessageSubscriptionState;
+  private final SignalSubscriptionState signalSubscriptionState;
+  private final BpmnStreamProcessor bpmnStreamProcessor;
+  private final boolean enableBulkTermination;
+
+  private final List<BulkTerminatedChild> bulkTerminatedChildren = new ArrayList<>();
 
   public ProcessInstanceBatchTerminateProcessor(
       final Writers writers,
       final KeyGenerator keyGenerator,
-      final ElementInstanceState elementInstanceState) {
+      final ElementInstanceState elementInstanceState,
+      final JobState jobState,
+      final IncidentState incidentState,
+      final TimerInstanceState timerInstanceState,
+      final ProcessMessageSubscriptionState processMessageSubscriptionState,
+      final SignalSubscriptionState signalSubscriptionState,
+      final BpmnStreamProcessor bpmnStreamProcessor,
+      final boolean enableBulkTermination) {
     commandWriter = writers.command();
     this.keyGenerator = keyGenerator;
     this.elementInstanceState = elementInstanceState;
+    this.jobState = jobState;
+    this.incidentState = incidentState;
+    this.timerInstanceState = timerInstanceState;
+    this.processMessageSubscriptionState = processMessageSubscriptionState;
+    this.signalSubscriptionState = signalSubscriptionState;
+    this.bpmnStreamProcessor = bpmnStreamProcessor;
+    this.enableBulkTermination = enableBulkTermination;
   }
 
   @Override
   public void processRecord(final TypedRecord<ProcessInstanceBatchRecord> record) {
     final var recordValue = record.getValue();
+    final var reservedLength = new MutableInteger();
+    bulkTerminatedChildren.clear();
+    // terminating the last child inline also terminates its flow scopes inline
+    final var flowScopeTerminationLength =
+        enableBulkTermination
+            ? getExpectedFlowScopeTerminationLength(recordValue.getBatchElementInstanceKey())
+            : 0;
 
     elementInstanceState.forEachChild(
         recordValue.getBatchElementInstanceKey(),
         recordValue.getIndex(),
         (childKey, childInstance) -> {
-          if (canWriteCommand(record, childInstance)) {
+          if (isBulkTerminable(childInstance)) {
+            var expectedLength = getExpectedBulkTerminationLength(childKey, childInstance);
+            if (bulkTerminatedChildren.isEmpty()) {
+              expectedLength += flowScopeTerminationLength;
+            }
+            if (canWrite(record, reservedLength.get() + expectedLength)) {
+              // the element instance is terminated after the iteration, as terminating it
+              // changes the state we're iterating over
+              bulkTerminatedChildren.add(
+                  new BulkTerminatedChild(childKey, copyRecord(childInstance.getValue())));
+              reservedLength.addAndGet(expectedLength);
+              return true;
+            }
+          }
+
+          if (canWrite(record, reservedLength.get() + childInstance.getValue().getLength())) {
             terminateChildInstance(childInstance);
             return true;
-          } else {
-            final var nextBatchRecord =
-                new ProcessInstanceBatchRecord()
-                    .setProcessInstanceKey(recordValue.getProcessInstanceKey())
-                    .setBatchElementInstanceKey(recordValue.getBatchElementInstanceKey())
-                    .setIndex(childKey);
-            final long key = keyGenerator.nextKey();
-            commandWriter.appendFollowUpCommand(
-                key, ProcessInstanceBatchIntent.TERMINATE, nextBatchRecord);
-            return false;
           }
+
+          final var nextBatchRecord =
+              new ProcessInstanceBatchRecord()
+                  .setProcessInstanceKey(recordValue.getProcessInstanceKey())
+                  .setBatchElementInstanceKey(recordValue.getBatchElementInstanceKey())
+                  .setIndex(childKey);
+          final long key = keyGenerator.nextKey();
+          commandWriter.appendFollowUpCommand(
+              key, ProcessInstanceBatchIntent.TERMINATE, nextBatchRecord);
+          return false;
+        });
+
+    bulkTerminatedChildren.forEach(
+        child -> bpmnStreamProcessor.terminateElement(child.key(), child.record()));
+  }
+
+  private boolean isBulkTerminable(final ElementInstance childInstance) {
+    return enableBulkTermination
+        && childInstance.canTerminate()
+        && childInstance.getNumberOfActiveElementInstances() == 0
+        && BULK_TERMINABLE_ELEMENT_TYPES.contains(childInstance.getValue().getBpmnElementType());
+  }
+
+  /**
+   * Returns the length of the records written when terminating the child instance inline: its
+   * TERMINATING and TERMINATED events, the cancellation of its job, its timer, message and signal
+   * subscriptions, and the resolution of its incidents.
+   */
+  private int getExpectedBulkTerminationLength(
+      final long childKey, final ElementInstance childInstance) {
+    final var expectedLength =
+        new MutableInteger(2 * (childInstance.getValue().getLength() + RECORD_OVERHEAD_LENGTH));
+
+    final var jobKey = childInstance.getJobKey();
+    if (jobKey > 0) {
+      final var job = jobState.getJob(jobKey);
+      if (job != null) {
+        expectedLength.addAndGet(job.getLength() + RECORD_OVERHEAD_LENGTH);
+      }
+      final var jobIncidentKey = incidentState.getJobIncidentKey(jobKey);
+      if (jobIncidentKey != IncidentState.MISSING_INCIDENT) {
+        final var incident = incidentState.getIncidentRecord(jobIncidentKey);
+        if (incident != null) {
+          expectedLength.addAndGet(incident.getLength() + RECORD_OVERHEAD_LENGTH);
+        }
+      }
+    }
+
+    incidentState.forExistingProcessIncident(
+        childKey,
+        (incident, incidentKey) ->
+            expectedLength.addAndGet(incident.getLength() + RECORD_OVERHEAD_LENGTH));
+    timerInstanceState.forEachTimerForElementInstance(
+        childKey, timer -> expectedLength.addAndGet(timer.getLength() + RECORD_OVERHEAD_LENGTH));
+    processMessageSubscriptionState.visitElementSubscriptions(
+        childKey,
+        subscription -> {
+          // the subscription is deleted, and closed by a command if it's on this partition
+          expectedLength.addAndGet(
+              2 * (subscription.getRecord().getLength() + RECORD_OVERHEAD_LENGTH));
+          return true;
         });
+    signalSubscriptionState.visitByElementInstanceKey(
+        childKey,
+        subscription ->
+            expectedLength.addAndGet(
+                subscription.getRecord().getLength() + RECORD_OVERHEAD_LENGTH));
+
+    return expectedLength.get();
   }
 
-  private boolean canWriteCommand(
-      final TypedRecord<ProcessInstanceBatchRecord> record, final ElementInstance childInstance) {
-    // We must have space in the batch to write both the TERMINATE command as the potential
-    // follow-up batch command. An excessive 8Kb is added to account for metadata. This is way
-    // more than will be necessary.
+  /**
+   * Returns the length of the TERMINATED events of the given element instance and the flow scopes
+   * it's contained in, including the elements calling its process instance. They are written inline
+   * if the last child instance is terminated inline.
+   */
+  private int getExpectedFlowScopeTerminationLength(final long elementInstanceKey) {
+    var expectedLength = 0;
+    var instance = elementInstanceState.getInstance(elementInstanceKey);
+    while (instance != null) {
+      expectedLength += instance.getValue().getLength() + RECORD_OVERHEAD_LENGTH;
+
+      final var parentKey =
+          instance.getParentKey() > 0
+              ? instance.getParentKey()
+              : instance.getValue().getParentElementInstanceKey();
+      instance = parentKey > 0 ? elementInstanceState.getInstance(parentKey) : null;
+    }
+    return expectedLength;
+  }
+
+  private boolean canWrite(
+      final TypedRecord<ProcessInstanceBatchRecord> record, final int expectedLength) {
+    // We must have space in the batch to write the records for the child instance as well as the
+    // potential follow-up batch command. An excessive 8Kb is added to account for metadata. This
+    // is way more than will be necessary.
     final var expectedCommandLength =
-        childInstance.getValue().getLength()
-            + record.getLength()
-            + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+        expectedLength + record.getLength() + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
     return commandWriter.canWriteCommandOfLength(expectedCommandLength);
   }
 
@@ -82,4 +263,12 @@ public final class ProcessInstanceBatchTerminateProcessor
           childInstance.getValue());
     }
   }
+
+  private static ProcessInstanceRecord copyRecord(final ProcessInstanceRecord record) {
+    final var copy = new ProcessInstanceRecord();
+    copy.wrap(BufferUtil.createCopy(record));
+    return copy;
+  }
+
+  private record BulkTerminatedChild(long key, ProcessInstanceRecord record) {}
 }
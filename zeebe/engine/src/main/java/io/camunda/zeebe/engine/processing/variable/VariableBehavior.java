@@ -188,6 +188,79 @@ public final class VariableBehavior {
     setLocalVariable(variableRecord);
   }
 
+  /**
+   * Updates a local variable which is known to exist, because the caller just read it from the
+   * state. Unlike {@link #setLocalVariable(long, long, long, DirectBuffer, String, DirectBuffer,
+   * DirectBuffer, int, int)}, it doesn't read the variable again to compare its value, so the
+   * caller is responsible to only call it if the value changed.
+   *
+   * @param variableKey the key of the existing variable
+   * @param scopeKey the scope key of the variable
+   * @param processDefinitionKey the process key to be associated with the variable
+   * @param processInstanceKey the process instance key to be associated with the variable
+   * @param bpmnProcessId the BPMN process id to be associated with the variable
+   * @param tenantId the tenant which owns the process instance of the variable
+   * @param name the name of the variable
+   * @param value the new value of the variable
+   */
+  public void updateLocalVariable(
+      final long variableKey,
+      final long scopeKey,
+      final long processDefinitionKey,
+      final long processInstanceKey,
+      final DirectBuffer bpmnProcessId,
+      final String tenantId,
+      final DirectBuffer name,
+      final DirectBuffer value) {
+    variableRecord
+        .setScopeKey(scopeKey)
+        .setProcessDefinitionKey(processDefinitionKey)
+        .setProcessInstanceKey(processInstanceKey)
+        .setBpmnProcessId(bpmnProcessId)
+        .setTenantId(tenantId)
+        .setName(name)
+        .setValue(value, 0, value.capacity());
+
+    stateWriter.appendFollowUpEvent(variableKey, VariableIntent.UPDATED, variableRecord);
+  }
+
+  /**
+   * Collects the output element of an inner instance of a multi-instance body. The element is
+   * stored at the index of the loop counter of the inner instance and merged into the output
+   * collection when the collection is read, so that collecting an element doesn't write the whole
+   * collection.
+   *
+   * @param innerInstanceKey the key of the inner instance which collects the element
+   * @param scopeKey the scope key of the output collection
+   * @param processDefinitionKey the process key to be associated with the element
+   * @param processInstanceKey the process instance key to be associated with the element
+   * @param bpmnProcessId the BPMN process id to be associated with the element
+   * @param tenantId the tenant which owns the process instance of the element
+   * @param name the name of the output collection
+   * @param value the value of the element
+   */
+  public void collectOutputElement(
+      final long innerInstanceKey,
+      final long scopeKey,
+      final long processDefinitionKey,
+      final long processInstanceKey,
+      final DirectBuffer bpmnProcessId,
+      final String tenantId,
+      final DirectBuffer name,
+      final DirectBuffer value) {
+    variableRecord
+        .setScopeKey(scopeKey)
+        .setProcessDefinitionKey(processDefinitionKey)
+        .setProcessInstanceKey(processInstanceKey)
+        .setBpmnProcessId(bpmnProcessId)
+        .setTenantId(tenantId)
+        .setName(name)
+        .setValue(value, 0, value.capacity());
+
+    stateWriter.appendFollowUpEvent(
+        innerInstanceKey, VariableIntent.OUTPUT_ELEMENT_COLLECTED, variableRecord);
+  }
+
   private void setLocalVariable(final VariableRecord record) {
     final VariableInstance variableInstance =
         variableState.getVariableInstanceLocal(record.getScopeKey(), record.getNameBuffer());
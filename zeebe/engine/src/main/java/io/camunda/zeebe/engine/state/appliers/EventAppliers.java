@@ -21,6 +21,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.RecordValue;
 import io.camunda.zeebe.protocol.record.intent.AuthorizationIntent;
+import io.camunda.zeebe.protocol.record.intent.BatchOperationIntent;
 import io.camunda.zeebe.protocol.record.intent.ClockIntent;
 import io.camunda.zeebe.protocol.record.intent.CommandDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.CompensationSubscriptionIntent;
@@ -132,6 +133,7 @@ public final class EventAppliers implements EventApplier {
     registerTenantAppliers(state);
     registerMappingAppliers(state);
     registerIdentitySetupAppliers();
+    registerBatchOperationAppliers(state);
 
     return this;
   }
@@ -178,6 +180,10 @@ public final class EventAppliers implements EventApplier {
     register(VariableIntent.CREATED, variableApplier);
     register(VariableIntent.UPDATED, variableApplier);
     register(VariableIntent.MIGRATED, new VariableMigratedApplier());
+    register(
+        VariableIntent.OUTPUT_ELEMENT_COLLECTED,
+        new VariableOutputElementCollectedApplier(
+            state.getElementInstanceState(), state.getVariableState()));
     register(VariableDocumentIntent.UPDATED, NOOP_EVENT_APPLIER);
   }
 
@@ -556,6 +562,14 @@ public final class EventAppliers implements EventApplier {
     register(IdentitySetupIntent.INITIALIZED, NOOP_EVENT_APPLIER);
   }
 
+  private void registerBatchOperationAppliers(final MutableProcessingState state) {
+    final var batchOperationState = state.getBatchOperationState();
+    register(BatchOperationIntent.CREATED, new BatchOperationCreatedApplier(batchOperationState));
+    register(BatchOperationIntent.EXECUTED, new BatchOperationExecutedApplier(batchOperationState));
+    register(
+        BatchOperationIntent.COMPLETED, new BatchOperationCompletedApplier(batchOperationState));
+  }
+
   private <I extends Intent> void register(final I intent, final TypedEventApplier<I, ?> applier) {
     register(intent, RecordMetadata.DEFAULT_RECORD_VERSION, applier);
   }
@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.appliers;
+
+import io.camunda.zeebe.engine.state.TypedEventApplier;
+import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+
+/**
+ * Stores the output element of an inner instance of a multi-instance body at the index of its loop
+ * counter. The key of the event is the key of the inner instance, which is still active when the
+ * event is applied.
+ */
+final class VariableOutputElementCollectedApplier
+    implements TypedEventApplier<VariableIntent, VariableRecord> {
+
+  private final MutableElementInstanceState elementInstanceState;
+  private final MutableVariableState variableState;
+
+  public VariableOutputElementCollectedApplier(
+      final MutableElementInstanceState elementInstanceState,
+      final MutableVariableState variableState) {
+    this.elementInstanceState = elementInstanceState;
+    this.variableState = variableState;
+  }
+
+  @Override
+  public void applyState(final long key, final VariableRecord value) {
+    final var innerInstance = elementInstanceState.getInstance(key);
+    variableState.setOutputElement(
+        key,
+        value.getScopeKey(),
+        value.getNameBuffer(),
+        innerInstance.getMultiInstanceLoopCounter(),
+        value.getValueBuffer());
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.batchoperation;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.mutable.MutableBatchOperationState;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.batchoperation.BatchOperationRecord;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+public class DbBatchOperationState implements MutableBatchOperationState {
+
+  private final PersistedBatchOperation persistedBatchOperation = new PersistedBatchOperation();
+
+  private final DbLong batchOperationKey;
+  private final DbLong processInstanceKey;
+  private final DbCompositeKey<DbLong, DbLong> batchOperationKeyAndProcessInstanceKey;
+  private final ColumnFamily<DbLong, PersistedBatchOperation> batchOperationColumnFamily;
+  private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> pendingItemsColumnFamily;
+
+  public DbBatchOperationState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    batchOperationKey = new DbLong();
+    processInstanceKey = new DbLong();
+    batchOperationKeyAndProcessInstanceKey =
+        new DbCompositeKey<>(batchOperationKey, processInstanceKey);
+    batchOperationColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.BATCH_OPERATION,
+            transactionContext,
+            batchOperationKey,
+            new PersistedBatchOperation());
+    pendingItemsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.BATCH_OPERATION_PENDING_ITEMS,
+            transactionContext,
+            batchOperationKeyAndProcessInstanceKey,
+            DbNil.INSTANCE);
+  }
+
+  @Override
+  public Optional<PersistedBatchOperation> get(final long batchOperationKey) {
+    this.batchOperationKey.wrapLong(batchOperationKey);
+    final var batchOperation = batchOperationColumnFamily.get(this.batchOperationKey);
+    return Optional.ofNullable(batchOperation).map(PersistedBatchOperation::copy);
+  }
+
+  @Override
+  public void forEachPendingItem(final long batchOperationKey, final Predicate<Long> visitor) {
+    this.batchOperationKey.wrapLong(batchOperationKey);
+    pendingItemsColumnFamily.whileEqualPrefix(
+        this.batchOperationKey,
+        (key, nil) -> {
+          return visitor.test(key.second().getValue());
+        });
+  }
+
+  @Override
+  public void create(final long batchOperationKey, final BatchOperationRecord record) {
+    this.batchOperationKey.wrapLong(batchOperationKey);
+    batchOperationColumnFamily.insert(this.batchOperationKey, persistedBatchOperation.wrap(record));
+
+    record
+        .processInstanceKeys()
+        .forEach(
+            key -> {
+              processInstanceKey.wrapLong(key.getValue());
+              pendingItemsColumnFamily.upsert(
+                  batchOperationKeyAndProcessInstanceKey, DbNil.INSTANCE);
+            });
+  }
+
+  @Override
+  public void markProcessed(final long batchOperationKey, final BatchOperationRecord record) {
+    this.batchOperationKey.wrapLong(batchOperationKey);
+    final var batchOperation = batchOperationColumnFamily.get(this.batchOperationKey);
+    if (batchOperation == null) {
+      return;
+    }
+
+    batchOperation.setProcessedItems(record.getProcessedItems()).setIndex(record.getIndex());
+    batchOperationColumnFamily.update(this.batchOperationKey, batchOperation);
+
+    record
+        .processInstanceKeys()
+        .forEach(
+            key -> {
+              processInstanceKey.wrapLong(key.getValue());
+              pendingItemsColumnFamily.deleteIfExists(batchOperationKeyAndProcessInstanceKey);
+            });
+  }
+
+  @Override
+  public void delete(final long batchOperationKey) {
+    this.batchOperationKey.wrapLong(batchOperationKey);
+    pendingItemsColumnFamily.whileEqualPrefix(
+        this.batchOperationKey,
+        (key, nil) -> {
+          pendingItemsColumnFamily.deleteExisting(key);
+        });
+    batchOperationColumnFamily.deleteIfExists(this.batchOperationKey);
+  }
+}
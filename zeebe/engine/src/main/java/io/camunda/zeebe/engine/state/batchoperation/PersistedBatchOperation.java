@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.batchoperation;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.EnumProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.ValueArray;
+import io.camunda.zeebe.protocol.impl.record.value.batchoperation.BatchOperationRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationMappingInstruction;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+
+/**
+ * A batch operation as it is stored on a partition. The keys of the process instances it is applied
+ * to are not part of it, they are stored separately as pending items.
+ */
+public class PersistedBatchOperation extends UnpackedObject implements DbValue {
+
+  private final LongProperty keyProp = new LongProperty("key", -1L);
+  private final EnumProperty<BatchOperationType> typeProp =
+      new EnumProperty<>("type", BatchOperationType.class, BatchOperationType.PROCESS_CANCELLATION);
+  private final LongProperty processDefinitionKeyProp =
+      new LongProperty("processDefinitionKey", -1L);
+  private final LongProperty targetProcessDefinitionKeyProp =
+      new LongProperty("targetProcessDefinitionKey", -1L);
+  private final ArrayProperty<ProcessInstanceMigrationMappingInstruction> mappingInstructionsProp =
+      new ArrayProperty<>("mappingInstructions", ProcessInstanceMigrationMappingInstruction::new);
+  private final LongProperty processedItemsProp = new LongProperty("processedItems", 0L);
+  private final LongProperty indexProp = new LongProperty("index", 0L);
+  private final StringProperty tenantIdProp =
+      new StringProperty("tenantId", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+  public PersistedBatchOperation() {
+    super(8);
+    declareProperty(keyProp)
+        .declareProperty(typeProp)
+        .declareProperty(processDefinitionKeyProp)
+        .declareProperty(targetProcessDefinitionKeyProp)
+        .declareProperty(mappingInstructionsProp)
+        .declareProperty(processedItemsProp)
+        .declareProperty(indexProp)
+        .declareProperty(tenantIdProp);
+  }
+
+  public PersistedBatchOperation wrap(final BatchOperationRecord record) {
+    reset();
+    keyProp.setValue(record.getBatchOperationKey());
+    typeProp.setValue(record.getBatchOperationType());
+    processDefinitionKeyProp.setValue(record.getProcessDefinitionKey());
+    targetProcessDefinitionKeyProp.setValue(record.getTargetProcessDefinitionKey());
+    record
+        .mappingInstructions()
+        .forEach(instruction -> mappingInstructionsProp.add().copy(instruction));
+    processedItemsProp.setValue(record.getProcessedItems());
+    indexProp.setValue(record.getIndex());
+    tenantIdProp.setValue(record.getTenantId());
+    return this;
+  }
+
+  public PersistedBatchOperation copy() {
+    final var copy = new PersistedBatchOperation();
+    copy.copyFrom(this);
+    return copy;
+  }
+
+  public long getKey() {
+    return keyProp.getValue();
+  }
+
+  public BatchOperationType getType() {
+    return typeProp.getValue();
+  }
+
+  /** Returns true if the process instances are selected by their process definition. */
+  public boolean isSelectedByProcessDefinition() {
+    return processDefinitionKeyProp.getValue() > 0;
+  }
+
+  public long getProcessDefinitionKey() {
+    return processDefinitionKeyProp.getValue();
+  }
+
+  public long getTargetProcessDefinitionKey() {
+    return targetProcessDefinitionKeyProp.getValue();
+  }
+
+  public ValueArray<ProcessInstanceMigrationMappingInstruction> getMappingInstructions() {
+    return mappingInstructionsProp;
+  }
+
+  public long getProcessedItems() {
+    return processedItemsProp.getValue();
+  }
+
+  public PersistedBatchOperation setProcessedItems(final long processedItems) {
+    processedItemsProp.setValue(processedItems);
+    return this;
+  }
+
+  public long getIndex() {
+    return indexProp.getValue();
+  }
+
+  public PersistedBatchOperation setIndex(final long index) {
+    indexProp.setValue(index);
+    return this;
+  }
+
+  public String getTenantId() {
+    return bufferAsString(tenantIdProp.getValue());
+  }
+}
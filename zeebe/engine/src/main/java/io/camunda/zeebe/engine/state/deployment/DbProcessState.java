@@ -364,7 +364,7 @@ public final class DbProcessState implements MutableProcessState {
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
-      return Bpmn.readModelFromStream(stream);
+      return Bpmn.readTrustedModelFromStream(stream);
     }
   }
 
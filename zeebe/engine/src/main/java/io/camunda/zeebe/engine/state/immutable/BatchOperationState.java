@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.immutable;
+
+import io.camunda.zeebe.engine.state.batchoperation.PersistedBatchOperation;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+public interface BatchOperationState {
+
+  /**
+   * Returns the batch operation with the given key. If no batch operation was found, an empty
+   * optional is returned.
+   *
+   * @param batchOperationKey the key of the batch operation
+   * @return an optional containing a copy of the batch operation if it was found, otherwise an
+   *     empty optional
+   */
+  Optional<PersistedBatchOperation> get(long batchOperationKey);
+
+  /**
+   * Visits the keys of the process instances which the batch operation has not yet been applied to,
+   * in ascending order. The iteration stops when the visitor returns false.
+   *
+   * @param batchOperationKey the key of the batch operation
+   * @param visitor the visitor of the process instance keys
+   */
+  void forEachPendingItem(long batchOperationKey, Predicate<Long> visitor);
+}
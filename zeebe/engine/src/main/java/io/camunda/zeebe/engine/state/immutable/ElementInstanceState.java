@@ -12,6 +12,7 @@ import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 
 public interface ElementInstanceState {
@@ -29,6 +30,9 @@ public interface ElementInstanceState {
    * the first key-value-pair will contain the equal key as {@code startAtKey}. If the key doesn't
    * exist it will start after.
    *
+   * <p>The children are read in chunks, so changes made to the children by the visitor may not be
+   * visible to it for the rest of the chunk.
+   *
    * @param parentKey the key of the parent element instance
    * @param startAtKey the element instance key of child the iteration should start at
    * @param visitor the visitor which is applied for each child
@@ -91,6 +95,24 @@ public interface ElementInstanceState {
    */
   List<Long> getProcessInstanceKeysByDefinitionKey(final long processDefinitionKey);
 
+  /**
+   * Visits the keys of the process instances that belong to a specific process definition, in
+   * ascending key order. The visitor indicates via the return value whether the iteration should
+   * continue.
+   *
+   * <p>The given {@code startAtKey} indicates where the iteration should start. If the key exists,
+   * it is the first key visited; otherwise the iteration starts after it. A negative value starts
+   * the iteration at the first process instance.
+   *
+   * <p>Caution: This will also visit the keys of banned process instances!
+   *
+   * @param processDefinitionKey the key of the process definition
+   * @param startAtKey the process instance key the iteration should start at
+   * @param visitor the visitor which is applied for each process instance key
+   */
+  void forEachProcessInstanceKeyByDefinitionKey(
+      long processDefinitionKey, long startAtKey, Predicate<Long> visitor);
+
   /**
    * Verifies if there are active process instances for a given process definition
    *
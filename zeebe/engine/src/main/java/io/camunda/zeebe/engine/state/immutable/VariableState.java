@@ -44,6 +44,23 @@ public interface VariableState {
 
   VariableInstance getVariableInstanceLocal(long scopeKey, DirectBuffer name);
 
+  /**
+   * Returns the variable with the given name of the given scope as it is stored. Unlike {@link
+   * #getVariableInstanceLocal(long, DirectBuffer)}, the value of an output collection doesn't
+   * contain the output elements which were collected for it since it was set.
+   *
+   * @param scopeKey the key of the variable scope
+   * @param name the name of the variable
+   * @return the stored variable, or {@code null} if it is not present in the variable scope
+   */
+  VariableInstance getStoredVariableInstanceLocal(long scopeKey, DirectBuffer name);
+
+  /**
+   * @return true if output elements were collected for the output collection with the given name of
+   *     the given scope since it was set, otherwise false
+   */
+  boolean hasOutputElements(long scopeKey, DirectBuffer name);
+
   /**
    * @return returns the parent scope key of the given {@code childScopeKey}, or {@link
    *     VariableState#NO_PARENT}
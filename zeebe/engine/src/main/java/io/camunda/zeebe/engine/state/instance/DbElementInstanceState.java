@@ -31,12 +31,21 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableLong;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class DbElementInstanceState implements MutableElementInstanceState {
 
+  /**
+   * The number of children which are read with a single multi-get when iterating over the children
+   * of an element instance. It bounds the children held in memory, as the iteration may stop early.
+   */
+  private static final int CHILDREN_READ_CHUNK_SIZE = 100;
+
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbForeignKey<DbLong>>, DbNil>
       parentChildColumnFamily;
   private final DbCompositeKey<DbForeignKey<DbLong>, DbForeignKey<DbLong>> parentChildKey;
@@ -327,15 +336,16 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     if (parentInstance != null) {
       this.parentKey.inner().wrapLong(parentKey);
 
+      final LongArrayList childKeys = new LongArrayList();
       parentChildColumnFamily.whileEqualPrefix(
           this.parentKey,
           (key, value) -> {
-            final DbLong childKey = key.second().inner();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
-
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
+            childKeys.addLong(key.second().inner().getValue());
           });
+
+      // read all children with a single lookup instead of one lookup per child, which adds up for
+      // large multi-instance bodies
+      readInstances(childKeys, children::add);
     }
     return children;
   }
@@ -345,21 +355,59 @@ public final class DbElementInstanceState implements MutableElementInstanceState
       final long parentKey,
       final long startAtKey,
       final BiFunction<Long, ElementInstance, Boolean> visitor) {
-    this.parentKey.inner().wrapLong(parentKey);
-    elementInstanceKey.wrapLong(startAtKey);
+    final LongArrayList childKeys = new LongArrayList(CHILDREN_READ_CHUNK_SIZE, -1);
+    final List<ElementInstance> children = new ArrayList<>(CHILDREN_READ_CHUNK_SIZE);
+    final var nextStartAtKey = new MutableLong(startAtKey);
+
+    do {
+      // collect the keys of the next chunk of children, and the key to continue after it
+      childKeys.clear();
+      final long chunkStartAtKey = nextStartAtKey.get();
+      nextStartAtKey.set(-1);
+      this.parentKey.inner().wrapLong(parentKey);
+      elementInstanceKey.wrapLong(chunkStartAtKey);
 
-    // If startAtKey is a negative value we should use null instead. This will make it so we start
-    // the iteration at the first child of the parent.
-    final var compositeKey = startAtKey == -1 ? null : parentChildKey;
+      // If startAtKey is a negative value we should use null instead. This will make it so we start
+      // the iteration at the first child of the parent.
+      final var compositeKey = chunkStartAtKey == -1 ? null : parentChildKey;
 
-    parentChildColumnFamily.whileEqualPrefix(
-        this.parentKey,
-        compositeKey,
-        (key, value) -> {
-          final DbLong childKey = key.second().inner();
-          final ElementInstance childInstance = getInstance(childKey.getValue());
-          return visitor.apply(childKey.getValue(), childInstance);
-        });
+      parentChildColumnFamily.whileEqualPrefix(
+          this.parentKey,
+          compositeKey,
+          (key, value) -> {
+            final long childKey = key.second().inner().getValue();
+            if (childKeys.size() == CHILDREN_READ_CHUNK_SIZE) {
+              nextStartAtKey.set(childKey);
+              return false;
+            }
+            childKeys.addLong(childKey);
+            return true;
+          });
+
+      // read the chunk with a single lookup instead of one lookup per child, which adds up for
+      // large multi-instance bodies
+      children.clear();
+      readInstances(childKeys, children::add);
+
+      for (int i = 0; i < children.size(); i++) {
+        if (!visitor.apply(childKeys.getLong(i), children.get(i))) {
+          return;
+        }
+      }
+    } while (nextStartAtKey.get() != -1);
+  }
+
+  private void readInstances(final LongArrayList keys, final Consumer<ElementInstance> consumer) {
+    elementInstanceColumnFamily.getAll(
+        () ->
+            keys.longStream()
+                .mapToObj(
+                    key -> {
+                      elementInstanceKey.wrapLong(key);
+                      return elementInstanceKey;
+                    })
+                .iterator(),
+        (key, instance) -> consumer.accept(copyElementInstance(instance)));
   }
 
   @Override
@@ -444,6 +492,23 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return processInstanceKeys;
   }
 
+  @Override
+  public void forEachProcessInstanceKeyByDefinitionKey(
+      final long processDefinitionKey, final long startAtKey, final Predicate<Long> visitor) {
+    this.processDefinitionKey.wrapLong(processDefinitionKey);
+    processInstanceKeyByProcessDefinitionKey.second().wrapLong(startAtKey);
+
+    // a negative start key means we iterate from the first process instance of the definition
+    final var compositeKey = startAtKey < 0 ? null : processInstanceKeyByProcessDefinitionKey;
+
+    processInstanceKeyByProcessDefinitionKeyColumnFamily.whileEqualPrefix(
+        this.processDefinitionKey,
+        compositeKey,
+        (key, value) -> {
+          return visitor.test(key.second().getValue());
+        });
+  }
+
   @Override
   public boolean hasActiveProcessInstances(
       final long processDefinitionKey, final List<Long> bannedInstances) {
@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.mutable;
+
+import io.camunda.zeebe.engine.state.immutable.BatchOperationState;
+import io.camunda.zeebe.protocol.impl.record.value.batchoperation.BatchOperationRecord;
+
+public interface MutableBatchOperationState extends BatchOperationState {
+
+  /**
+   * Stores the batch operation, along with its process instance keys as pending items.
+   *
+   * @param batchOperationKey the key of the batch operation
+   * @param record the batch operation
+   */
+  void create(long batchOperationKey, BatchOperationRecord record);
+
+  /**
+   * Removes the process instance keys of the record from the pending items and updates the progress
+   * of the batch operation.
+   *
+   * @param batchOperationKey the key of the batch operation
+   * @param record the chunk of the batch operation that was executed
+   */
+  void markProcessed(long batchOperationKey, BatchOperationRecord record);
+
+  /**
+   * Removes the batch operation and all of its remaining pending items.
+   *
+   * @param batchOperationKey the key of the batch operation
+   */
+  void delete(long batchOperationKey);
+}
@@ -103,6 +103,9 @@ public interface MutableProcessingState extends ProcessingState {
   @Override
   MutableMappingState getMappingState();
 
+  @Override
+  MutableBatchOperationState getBatchOperationState();
+
   @Override
   MutableResourceState getResourceState();
 
@@ -56,6 +56,22 @@ public interface MutableVariableState extends VariableState {
       int valueOffset,
       int valueLength);
 
+  /**
+   * Stores the output element at the given index of the output collection with {@code name} within
+   * the given scope with {@code scopeKey}. The element is merged into the value of the collection
+   * when the collection is read, until the collection is set again.
+   *
+   * <p>This method is expected to be called directly ONLY from an {@link
+   * io.camunda.zeebe.engine.state.EventApplier} or from tests.
+   *
+   * @param key the key of the inner instance which collected the element
+   * @param scopeKey the local scope of the output collection
+   * @param name the name of the output collection
+   * @param index the index of the element in the output collection, starting at 1
+   * @param value the value of the element (MsgPack encoded)
+   */
+  void setOutputElement(long key, long scopeKey, DirectBuffer name, int index, DirectBuffer value);
+
   void createScope(long childKey, long parentKey);
 
   void removeScope(long scopeKey);
@@ -8,13 +8,18 @@
 package io.camunda.zeebe.engine.state.variable;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackFormat;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -27,6 +32,7 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.MutableBoolean;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -52,6 +58,25 @@ public class DbVariableState implements MutableVariableState {
   private final VariableInstance newVariable = new VariableInstance();
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
+  // (scope key, variable name, index) => (output element)
+  private final ColumnFamily<
+          DbCompositeKey<DbCompositeKey<DbLong, DbString>, DbInt>, VariableInstance>
+      outputElementsColumnFamily;
+  private final DbCompositeKey<DbCompositeKey<DbLong, DbString>, DbInt> outputElementKey;
+  private final DbCompositeKey<DbLong, DbString> outputCollectionKey;
+  private final DbLong outputCollectionScopeKey;
+  private final DbString outputCollectionName;
+  private final DbInt outputElementIndex;
+
+  private final VariableInstance newOutputElement = new VariableInstance();
+
+  // merging output elements into their output collection
+  private final MsgPackReader outputCollectionReader = new MsgPackReader();
+  private final MsgPackWriter outputCollectionWriter = new MsgPackWriter();
+  private final ExpandableArrayBuffer outputCollectionBuffer = new ExpandableArrayBuffer();
+  private final VariableInstance outputCollection = new VariableInstance();
+  private final MutableInteger nextOutputCollectionIndex = new MutableInteger();
+
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
@@ -75,6 +100,18 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    outputCollectionScopeKey = new DbLong();
+    outputCollectionName = new DbString();
+    outputCollectionKey = new DbCompositeKey<>(outputCollectionScopeKey, outputCollectionName);
+    outputElementIndex = new DbInt();
+    outputElementKey = new DbCompositeKey<>(outputCollectionKey, outputElementIndex);
+    outputElementsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MULTI_INSTANCE_OUTPUT_ELEMENTS,
+            transactionContext,
+            outputElementKey,
+            new VariableInstance());
   }
 
   @Override
@@ -109,6 +146,31 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+
+    if (isArray(value, valueOffset, valueLength)) {
+      // the new value of an output collection replaces the elements which were collected for it
+      outputCollectionScopeKey.wrapLong(scopeKey);
+      outputCollectionName.wrapBuffer(variableNameView);
+      removeOutputElements(outputCollectionKey);
+    }
+  }
+
+  @Override
+  public void setOutputElement(
+      final long key,
+      final long scopeKey,
+      final DirectBuffer name,
+      final int index,
+      final DirectBuffer value) {
+    newOutputElement.reset();
+    newOutputElement.setValue(value, 0, value.capacity());
+    newOutputElement.setKey(key);
+
+    outputCollectionScopeKey.wrapLong(scopeKey);
+    outputCollectionName.wrapBuffer(name);
+    outputElementIndex.wrapInt(index);
+
+    outputElementsColumnFamily.upsert(outputElementKey, newOutputElement);
   }
 
   @Override
@@ -132,11 +194,15 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeAllVariables(final long scopeKey) {
-    visitVariablesLocal(
-        scopeKey,
-        dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
-        () -> false);
+    this.scopeKey.wrapLong(scopeKey);
+    variablesColumnFamily.whileEqualPrefix(
+        this.scopeKey,
+        (key, variable) -> {
+          variablesColumnFamily.deleteExisting(key);
+        });
+
+    outputCollectionScopeKey.wrapLong(scopeKey);
+    removeOutputElements(outputCollectionScopeKey);
   }
 
   @Override
@@ -274,7 +340,9 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public boolean isEmpty() {
-    return variablesColumnFamily.isEmpty() && childParentColumnFamily.isEmpty();
+    return variablesColumnFamily.isEmpty()
+        && childParentColumnFamily.isEmpty()
+        && outputElementsColumnFamily.isEmpty();
   }
 
   @Override
@@ -299,6 +367,27 @@ public class DbVariableState implements MutableVariableState {
     return getVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
+  @Override
+  public VariableInstance getStoredVariableInstanceLocal(
+      final long scopeKey, final DirectBuffer name) {
+    return getStoredVariableLocal(scopeKey, name, 0, name.capacity());
+  }
+
+  @Override
+  public boolean hasOutputElements(final long scopeKey, final DirectBuffer name) {
+    outputCollectionScopeKey.wrapLong(scopeKey);
+    outputCollectionName.wrapBuffer(name);
+
+    final var hasOutputElements = new MutableBoolean();
+    outputElementsColumnFamily.whileEqualPrefix(
+        outputCollectionKey,
+        (key, element) -> {
+          hasOutputElements.set(true);
+          return false;
+        });
+    return hasOutputElements.get();
+  }
+
   @Override
   public long getParentScopeKey(final long childScopeKey) {
     childKey.wrapLong(childScopeKey);
@@ -309,6 +398,16 @@ public class DbVariableState implements MutableVariableState {
 
   private VariableInstance getVariableLocal(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final VariableInstance variable =
+        getStoredVariableLocal(scopeKey, name, nameOffset, nameLength);
+    if (variable == null) {
+      return null;
+    }
+    return withOutputElements(scopeKey, variableNameView, variable);
+  }
+
+  private VariableInstance getStoredVariableLocal(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
     this.scopeKey.wrapLong(scopeKey);
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
@@ -316,6 +415,80 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Merges the output elements which were collected for the given variable into its value. Only the
+   * output collection of a multi-instance body has such elements, which are stored per index until
+   * the collection is set again, so that collecting an element doesn't write the whole collection.
+   *
+   * @return the given variable if it has no collected output elements, otherwise a variable with
+   *     the merged value that is valid until the next call
+   */
+  private VariableInstance withOutputElements(
+      final long scopeKey, final DirectBuffer name, final VariableInstance variable) {
+    final DirectBuffer value = variable.getValue();
+    if (!isArray(value, 0, value.capacity())) {
+      return variable;
+    }
+
+    outputCollectionScopeKey.wrapLong(scopeKey);
+    outputCollectionName.wrapBuffer(name);
+
+    outputCollectionReader.wrap(value, 0, value.capacity());
+    final int size = outputCollectionReader.readArrayHeader();
+    // the index of the next element of the stored collection, or 0 if nothing is merged yet
+    nextOutputCollectionIndex.set(0);
+
+    outputElementsColumnFamily.whileEqualPrefix(
+        outputCollectionKey,
+        (key, element) -> {
+          final int index = key.second().getValue();
+          if (index > size) {
+            return false;
+          }
+
+          if (nextOutputCollectionIndex.get() == 0) {
+            outputCollectionWriter.wrap(outputCollectionBuffer, 0);
+            outputCollectionWriter.writeRaw(value, 0, outputCollectionReader.getOffset());
+            nextOutputCollectionIndex.set(1);
+          }
+
+          final int offset = outputCollectionReader.getOffset();
+          outputCollectionReader.skipValues(index - nextOutputCollectionIndex.get());
+          outputCollectionWriter.writeRaw(
+              value, offset, outputCollectionReader.getOffset() - offset);
+          outputCollectionReader.skipValue();
+          outputCollectionWriter.writeRaw(element.getValue());
+
+          nextOutputCollectionIndex.set(index + 1);
+          return true;
+        });
+
+    if (nextOutputCollectionIndex.get() == 0) {
+      return variable;
+    }
+
+    final int offset = outputCollectionReader.getOffset();
+    outputCollectionWriter.writeRaw(value, offset, value.capacity() - offset);
+
+    outputCollection.reset();
+    outputCollection.setValue(outputCollectionBuffer, 0, outputCollectionWriter.getOffset());
+    outputCollection.setKey(variable.getKey());
+    return outputCollection;
+  }
+
+  private void removeOutputElements(final DbKey prefix) {
+    outputElementsColumnFamily.whileEqualPrefix(
+        prefix,
+        (key, element) -> {
+          outputElementsColumnFamily.deleteExisting(key);
+        });
+  }
+
+  private static boolean isArray(final DirectBuffer value, final int offset, final int length) {
+    return length > 0
+        && MsgPackFormat.valueOf(value.getByte(offset)).getType() == MsgPackType.ARRAY;
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -358,7 +531,7 @@ public class DbVariableState implements MutableVariableState {
           final DbString name = compositeKey.second();
 
           if (variableFilter.test(name)) {
-            variableConsumer.accept(name, variable);
+            variableConsumer.accept(name, withOutputElements(scopeKey, name.getBuffer(), variable));
           }
 
           return !completionCondition.getAsBoolean();
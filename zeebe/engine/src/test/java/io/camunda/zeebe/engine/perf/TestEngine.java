@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -40,7 +41,8 @@ public final class TestEngine {
       final int partitionId,
       final int partitionCount,
       final TestContext testContext,
-      final Consumer<StreamProcessorBuilder> processorConfiguration) {
+      final Consumer<StreamProcessorBuilder> processorConfiguration,
+      final Consumer<EngineConfiguration> engineConfigModifier) {
     this.partitionCount = partitionCount;
 
     testStreams =
@@ -77,18 +79,20 @@ public final class TestEngine {
         .manage(
             streamProcessingComposite.startTypedStreamProcessor(
                 partitionId,
-                (recordProcessorContext) ->
-                    EngineProcessors.createEngineProcessors(
-                            recordProcessorContext,
-                            partitionCount,
-                            new SubscriptionCommandSender(partitionId, interPartitionCommandSender),
-                            interPartitionCommandSender,
-                            featureFlags,
-                            JobStreamer.noop())
-                        .withListener(
-                            new ProcessingExporterTransistor(
-                                testStreams.getLogStream(
-                                    StreamProcessingComposite.getLogName(partitionId)))),
+                (recordProcessorContext) -> {
+                  engineConfigModifier.accept(recordProcessorContext.getConfig());
+                  return EngineProcessors.createEngineProcessors(
+                          recordProcessorContext,
+                          partitionCount,
+                          new SubscriptionCommandSender(partitionId, interPartitionCommandSender),
+                          interPartitionCommandSender,
+                          featureFlags,
+                          JobStreamer.noop())
+                      .withListener(
+                          new ProcessingExporterTransistor(
+                              testStreams.getLogStream(
+                                  StreamProcessingComposite.getLogName(partitionId))));
+                },
                 Optional.empty(),
                 processorConfiguration,
                 true));
@@ -104,7 +108,12 @@ public final class TestEngine {
   }
 
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
-    return new TestEngine(1, 1, testContext, cfg -> {});
+    return createSinglePartitionEngine(testContext, cfg -> {});
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext, final Consumer<EngineConfiguration> engineConfigModifier) {
+    return new TestEngine(1, 1, testContext, cfg -> {}, engineConfigModifier);
   }
 
   public void reset() {
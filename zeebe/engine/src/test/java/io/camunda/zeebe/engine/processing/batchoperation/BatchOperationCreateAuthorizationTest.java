@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.batchoperation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.security.configuration.ConfiguredUser;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.BatchOperationIntent;
+import io.camunda.zeebe.protocol.record.intent.UserIntent;
+import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
+import io.camunda.zeebe.protocol.record.value.PermissionType;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import java.util.UUID;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+
+public class BatchOperationCreateAuthorizationTest {
+  private static final String PROCESS_ID = "processId";
+
+  private static final ConfiguredUser DEFAULT_USER =
+      new ConfiguredUser(
+          UUID.randomUUID().toString(),
+          UUID.randomUUID().toString(),
+          UUID.randomUUID().toString(),
+          UUID.randomUUID().toString());
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withoutAwaitingIdentitySetup()
+          .withSecurityConfig(cfg -> cfg.getAuthorizations().setEnabled(true))
+          .withSecurityConfig(cfg -> cfg.getInitialization().setUsers(List.of(DEFAULT_USER)));
+
+  private static long defaultUserKey = -1L;
+  private static long processDefinitionKey = -1L;
+  @Rule public final TestWatcher recordingExporterTestWatcher = new RecordingExporterTestWatcher();
+
+  @BeforeClass
+  public static void beforeAll() {
+    defaultUserKey =
+        RecordingExporter.userRecords(UserIntent.CREATED)
+            .withUsername(DEFAULT_USER.getUsername())
+            .getFirst()
+            .getKey();
+
+    processDefinitionKey =
+        ENGINE
+            .deployment()
+            .withXmlResource(
+                "process.bpmn",
+                Bpmn.createExecutableProcess(PROCESS_ID).startEvent().userTask().endEvent().done())
+            .deploy(defaultUserKey)
+            .getValue()
+            .getProcessesMetadata()
+            .getFirst()
+            .getProcessDefinitionKey();
+  }
+
+  @Test
+  public void shouldBeAuthorizedToCreateBatchOperationWithUser() {
+    // given
+    final var userKey = createUser();
+    addPermissionsToUser(userKey, AuthorizationResourceType.BATCH, PermissionType.CREATE, "*");
+    addPermissionsToUser(
+        userKey,
+        AuthorizationResourceType.PROCESS_DEFINITION,
+        PermissionType.UPDATE_PROCESS_INSTANCE,
+        PROCESS_ID);
+
+    // when
+    final var created =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_CANCELLATION)
+            .withProcessDefinitionKey(processDefinitionKey)
+            .create(userKey);
+
+    // then
+    assertThat(created.getIntent()).isEqualTo(BatchOperationIntent.CREATED);
+  }
+
+  @Test
+  public void shouldBeUnauthorizedToCreateBatchOperationWithOnlyBatchPermission() {
+    // given
+    final var userKey = createUser();
+    addPermissionsToUser(userKey, AuthorizationResourceType.BATCH, PermissionType.CREATE, "*");
+
+    // when
+    final var rejection =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_CANCELLATION)
+            .withProcessDefinitionKey(processDefinitionKey)
+            .expectRejection()
+            .create(userKey);
+
+    // then
+    Assertions.assertThat(rejection)
+        .hasRejectionType(RejectionType.FORBIDDEN)
+        .hasRejectionReason(
+            "Insufficient permissions to perform operation 'UPDATE_PROCESS_INSTANCE' on resource 'PROCESS_DEFINITION', required resource identifiers are one of '[*, %s]'"
+                .formatted(PROCESS_ID));
+  }
+
+  @Test
+  public void shouldRequirePermissionForAllProcessDefinitionsWhenSelectingKeys() {
+    // given
+    final var processInstanceKey =
+        ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).create(defaultUserKey);
+    final var userKey = createUser();
+    addPermissionsToUser(userKey, AuthorizationResourceType.BATCH, PermissionType.CREATE, "*");
+    addPermissionsToUser(
+        userKey,
+        AuthorizationResourceType.PROCESS_DEFINITION,
+        PermissionType.UPDATE_PROCESS_INSTANCE,
+        PROCESS_ID);
+
+    // when
+    final var rejection =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_CANCELLATION)
+            .withProcessInstanceKeys(processInstanceKey)
+            .expectRejection()
+            .create(userKey);
+
+    // then
+    Assertions.assertThat(rejection)
+        .hasRejectionType(RejectionType.FORBIDDEN)
+        .hasRejectionReason(
+            "Insufficient permissions to perform operation 'UPDATE_PROCESS_INSTANCE' on resource 'PROCESS_DEFINITION', required resource identifiers are one of '[*]'");
+  }
+
+  private static long createUser() {
+    return ENGINE
+        .user()
+        .newUser(UUID.randomUUID().toString())
+        .withPassword(UUID.randomUUID().toString())
+        .withName(UUID.randomUUID().toString())
+        .withEmail(UUID.randomUUID().toString())
+        .create()
+        .getKey();
+  }
+
+  private void addPermissionsToUser(
+      final long userKey,
+      final AuthorizationResourceType authorization,
+      final PermissionType permissionType,
+      final String... resourceIds) {
+    ENGINE
+        .authorization()
+        .permission()
+        .withOwnerKey(userKey)
+        .withResourceType(authorization)
+        .withPermission(permissionType, resourceIds)
+        .add(defaultUserKey);
+  }
+}
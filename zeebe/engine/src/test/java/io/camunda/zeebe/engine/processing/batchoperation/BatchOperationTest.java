@@ -0,0 +1,279 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.batchoperation;
+
+import static io.camunda.zeebe.engine.processing.processinstance.migration.MigrationTestUtil.extractProcessDefinitionKeyByProcessId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.BatchOperationIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceMigrationIntent;
+import io.camunda.zeebe.protocol.record.value.BatchOperationRecordValue;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.stream.LongStream;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+
+public final class BatchOperationTest {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withEngineConfig(cfg -> cfg.setBatchOperationChunkSize(CHUNK_SIZE));
+
+  @Rule public final TestWatcher watcher = new RecordingExporterTestWatcher();
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldCancelProcessInstancesByKeys() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE.deployment().withXmlResource(serviceTaskProcess(processId, "A")).deploy();
+    final long[] processInstanceKeys = createProcessInstances(processId, 3);
+
+    // when
+    final var created =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_CANCELLATION)
+            .withProcessInstanceKeys(processInstanceKeys)
+            .create();
+
+    // then
+    final var completed = awaitCompleted(created.getKey());
+    assertThat(completed.getValue().getProcessedItems()).isEqualTo(3);
+    assertThat(
+            RecordingExporter.batchOperationRecords(BatchOperationIntent.EXECUTED)
+                .withBatchOperationKey(created.getKey())
+                .limit(2))
+        .describedAs("Expect that the process instances are cancelled in chunks")
+        .extracting(r -> r.getValue().getProcessInstanceKeys().size())
+        .containsExactly(CHUNK_SIZE, 1);
+
+    for (final long processInstanceKey : processInstanceKeys) {
+      assertThat(
+              RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_TERMINATED)
+                  .withProcessInstanceKey(processInstanceKey)
+                  .withElementType(BpmnElementType.PROCESS)
+                  .exists())
+          .isTrue();
+    }
+  }
+
+  @Test
+  public void shouldCancelProcessInstancesByProcessDefinition() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    final var deployment =
+        ENGINE.deployment().withXmlResource(serviceTaskProcess(processId, "A")).deploy();
+    final long processDefinitionKey = extractProcessDefinitionKeyByProcessId(deployment, processId);
+    final long[] processInstanceKeys = createProcessInstances(processId, 5);
+
+    // when
+    final var created =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_CANCELLATION)
+            .withProcessDefinitionKey(processDefinitionKey)
+            .create();
+
+    // then
+    final var completed = awaitCompleted(created.getKey());
+    assertThat(completed.getValue().getProcessedItems()).isEqualTo(5);
+
+    for (final long processInstanceKey : processInstanceKeys) {
+      assertThat(
+              RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_TERMINATED)
+                  .withProcessInstanceKey(processInstanceKey)
+                  .withElementType(BpmnElementType.PROCESS)
+                  .exists())
+          .isTrue();
+    }
+  }
+
+  @Test
+  public void shouldBoundScannedProcessInstancesPerChunk() {
+    // given - only child process instances, which are not cancelled on their own
+    final String processId = helper.getBpmnProcessId();
+    final String childProcessId = processId + "-child";
+    final var deployment =
+        ENGINE
+            .deployment()
+            .withXmlResource(
+                Bpmn.createExecutableProcess(processId)
+                    .startEvent()
+                    .callActivity("call", c -> c.zeebeProcessId(childProcessId))
+                    .endEvent()
+                    .done())
+            .withXmlResource(serviceTaskProcess(childProcessId, "A"))
+            .deploy();
+    final long childProcessDefinitionKey =
+        extractProcessDefinitionKeyByProcessId(deployment, childProcessId);
+    final int scanBound = CHUNK_SIZE * 10;
+    createProcessInstances(processId, scanBound + 5);
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+        .withBpmnProcessId(childProcessId)
+        .withElementType(BpmnElementType.PROCESS)
+        .limit(scanBound + 5)
+        .await();
+
+    // when
+    final var created =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_CANCELLATION)
+            .withProcessDefinitionKey(childProcessDefinitionKey)
+            .create();
+
+    // then
+    final var completed = awaitCompleted(created.getKey());
+    assertThat(completed.getValue().getProcessedItems()).isZero();
+    assertThat(
+            RecordingExporter.batchOperationRecords(BatchOperationIntent.EXECUTED)
+                .withBatchOperationKey(created.getKey())
+                .limit(2))
+        .describedAs("Expect that scanning the process instances is split into chunks")
+        .extracting(r -> r.getValue().getProcessInstanceKeys().size())
+        .containsExactly(0, 0);
+  }
+
+  @Test
+  public void shouldSkipProcessInstancesThatNoLongerExist() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE.deployment().withXmlResource(serviceTaskProcess(processId, "A")).deploy();
+    final long processInstanceKey = ENGINE.processInstance().ofBpmnProcessId(processId).create();
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+
+    // when
+    final var created =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_CANCELLATION)
+            .withProcessInstanceKeys(processInstanceKey)
+            .create();
+
+    // then
+    awaitCompleted(created.getKey());
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.CANCEL)
+                .withProcessInstanceKey(processInstanceKey)
+                .onlyCommandRejections()
+                .exists())
+        .describedAs("Expect that no cancel command is written for a completed process instance")
+        .isFalse();
+  }
+
+  @Test
+  public void shouldMigrateProcessInstancesByKeys() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    final String targetProcessId = processId + "2";
+    final var deployment =
+        ENGINE
+            .deployment()
+            .withXmlResource(serviceTaskProcess(processId, "A"))
+            .withXmlResource(serviceTaskProcess(targetProcessId, "B"))
+            .deploy();
+    final long targetProcessDefinitionKey =
+        extractProcessDefinitionKeyByProcessId(deployment, targetProcessId);
+    final long[] processInstanceKeys = createProcessInstances(processId, 3);
+
+    // when
+    final var created =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_MIGRATION)
+            .withProcessInstanceKeys(processInstanceKeys)
+            .withTargetProcessDefinitionKey(targetProcessDefinitionKey)
+            .addMappingInstruction("A", "B")
+            .create();
+
+    // then
+    awaitCompleted(created.getKey());
+    for (final long processInstanceKey : processInstanceKeys) {
+      assertThat(
+              RecordingExporter.processInstanceMigrationRecords(
+                      ProcessInstanceMigrationIntent.MIGRATED)
+                  .withProcessInstanceKey(processInstanceKey)
+                  .getFirst()
+                  .getValue()
+                  .getTargetProcessDefinitionKey())
+          .isEqualTo(targetProcessDefinitionKey);
+    }
+  }
+
+  @Test
+  public void shouldRejectWithoutSelection() {
+    // when
+    final var rejection =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_CANCELLATION)
+            .expectRejection()
+            .create();
+
+    // then
+    assertThat(rejection.getRejectionType()).isEqualTo(RejectionType.INVALID_ARGUMENT);
+    assertThat(rejection.getRejectionReason())
+        .isEqualTo(
+            "Expected to select process instances either by process instance keys or by process definition key, but none was given");
+  }
+
+  @Test
+  public void shouldRejectMigrationWithoutTargetProcessDefinition() {
+    // when
+    final var rejection =
+        ENGINE
+            .batchOperation()
+            .ofType(BatchOperationType.PROCESS_MIGRATION)
+            .withProcessInstanceKeys(123L)
+            .expectRejection()
+            .create();
+
+    // then
+    assertThat(rejection.getRejectionType()).isEqualTo(RejectionType.INVALID_ARGUMENT);
+    assertThat(rejection.getRejectionReason())
+        .isEqualTo(
+            "Expected a target process definition key for a process migration batch operation, but none was given");
+  }
+
+  private static BpmnModelInstance serviceTaskProcess(
+      final String processId, final String elementId) {
+    return Bpmn.createExecutableProcess(processId)
+        .startEvent()
+        .serviceTask(elementId, t -> t.zeebeJobType(elementId))
+        .endEvent()
+        .done();
+  }
+
+  private static long[] createProcessInstances(final String processId, final int count) {
+    return LongStream.range(0, count)
+        .map(i -> ENGINE.processInstance().ofBpmnProcessId(processId).create())
+        .toArray();
+  }
+
+  private static Record<BatchOperationRecordValue> awaitCompleted(final long batchOperationKey) {
+    return RecordingExporter.batchOperationRecords(BatchOperationIntent.COMPLETED)
+        .withBatchOperationKey(batchOperationKey)
+        .getFirst();
+  }
+}
@@ -14,6 +14,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.el.Expression;
@@ -22,7 +24,9 @@ import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.state.variable.VariableInstance;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -32,6 +36,7 @@ import org.agrona.ExpandableArrayBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,8 +63,8 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     final var flowScopeContextKey = 12345L;
 
     final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
-    when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
-        .thenReturn(collectionWithSize1);
+    when(mockStateBehavior.getStoredLocalVariableInstance(any(), eq(outputCollectionName)))
+        .thenReturn(createVariableInstance(collectionWithSize1));
 
     final var mockExpressionProcessor = mock(ExpressionProcessor.class);
     when(mockExpressionProcessor.evaluateAnyExpression(eq(outputElementExpression), anyLong()))
@@ -106,8 +111,8 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     final var flowScopeContextKey = 12345L;
 
     final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
-    when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
-        .thenReturn(unexpectedValueType);
+    when(mockStateBehavior.getStoredLocalVariableInstance(any(), eq(outputCollectionName)))
+        .thenReturn(createVariableInstance(unexpectedValueType));
 
     final var mockExpressionProcessor = mock(ExpressionProcessor.class);
     when(mockExpressionProcessor.evaluateAnyExpression(eq(outputElementExpression), anyLong()))
@@ -141,6 +146,113 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     assertThat(failure.getVariableScopeKey()).isEqualTo(flowScopeContextKey);
   }
 
+  @Test
+  void shouldCollectOutputElementWithoutWritingTheCollection() {
+    // given
+    final var elementToAdd = createMsgPackString("element to add");
+    final var outputElementExpression = new StaticExpression("dummy expression");
+    final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
+    final var loopCharacteristics =
+        createLoopCharacteristics(outputCollectionName, outputElementExpression);
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
+    when(mockStateBehavior.getStoredLocalVariableInstance(any(), eq(outputCollectionName)))
+        .thenReturn(createVariableInstance(createCollection(2)));
+
+    final var mockExpressionProcessor = mock(ExpressionProcessor.class);
+    when(mockExpressionProcessor.evaluateAnyExpression(eq(outputElementExpression), anyLong()))
+        .thenReturn(Either.right(elementToAdd));
+
+    final var mockElement = mock(ExecutableMultiInstanceBody.class);
+    when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
+
+    final var mockChildContext = mock(BpmnElementContext.class);
+    when(mockStateBehavior.getElementInstance(mockChildContext).getMultiInstanceLoopCounter())
+        .thenReturn(2);
+
+    final var mockFlowScopeContext = mock(BpmnElementContext.class);
+
+    final var sut =
+        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+
+    // when
+    final var result =
+        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext);
+
+    // then
+    assertThat(result.isRight()).isTrue();
+    verify(mockStateBehavior)
+        .collectOutputElement(
+            mockChildContext, mockFlowScopeContext, outputCollectionName, elementToAdd);
+    verify(mockStateBehavior, never()).getLocalVariableInstance(any(), any());
+    verify(mockStateBehavior, never()).updateLocalVariable(any(), anyLong(), any(), any());
+  }
+
+  @Test
+  void shouldWriteOutputCollectionWithCollectedElementsOnCompletion() {
+    // given
+    final var outputElementExpression = new StaticExpression("dummy expression");
+    final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
+    final var loopCharacteristics =
+        createLoopCharacteristics(outputCollectionName, outputElementExpression);
+    final var variableKey = 678L;
+    final var outputCollection =
+        createVariableInstance(BufferUtil.wrapArray(MsgPackConverter.convertToMsgPack("[1,2]")))
+            .setKey(variableKey);
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class);
+    final var mockContext = mock(BpmnElementContext.class);
+    when(mockStateBehavior.hasOutputElements(mockContext, outputCollectionName)).thenReturn(true);
+    when(mockStateBehavior.getLocalVariableInstance(mockContext, outputCollectionName))
+        .thenReturn(outputCollection);
+
+    final var mockElement = mock(ExecutableMultiInstanceBody.class);
+    when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
+
+    final var sut =
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mock(ExpressionProcessor.class));
+
+    // when
+    sut.completeOutputCollection(mockElement, mockContext);
+
+    // then
+    final var updatedCollection = ArgumentCaptor.forClass(DirectBuffer.class);
+    verify(mockStateBehavior)
+        .updateLocalVariable(
+            eq(mockContext),
+            eq(variableKey),
+            eq(outputCollectionName),
+            updatedCollection.capture());
+    assertThat(MsgPackConverter.convertToJson(updatedCollection.getValue())).isEqualTo("[1,2]");
+  }
+
+  @Test
+  void shouldNotWriteOutputCollectionOnCompletionIfNoElementWasCollected() {
+    // given
+    final var outputElementExpression = new StaticExpression("dummy expression");
+    final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
+    final var loopCharacteristics =
+        createLoopCharacteristics(outputCollectionName, outputElementExpression);
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class);
+    final var mockContext = mock(BpmnElementContext.class);
+    when(mockStateBehavior.hasOutputElements(mockContext, outputCollectionName)).thenReturn(false);
+
+    final var mockElement = mock(ExecutableMultiInstanceBody.class);
+    when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
+
+    final var sut =
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mock(ExpressionProcessor.class));
+
+    // when
+    sut.completeOutputCollection(mockElement, mockContext);
+
+    // then
+    verify(mockStateBehavior, never()).updateLocalVariable(any(), anyLong(), any(), any());
+  }
+
   private ExecutableLoopCharacteristics createLoopCharacteristics(
       final DirectBuffer outputCollection, final Expression outputElement) {
     return new ExecutableLoopCharacteristics(
@@ -152,6 +264,10 @@ public class MultiInstanceOutputCollectionBehaviorTest {
         Optional.of(outputElement));
   }
 
+  private VariableInstance createVariableInstance(final DirectBuffer value) {
+    return new VariableInstance().setValue(value, 0, value.capacity());
+  }
+
   private DirectBuffer createCollection(final int size) {
     final var writer = new MsgPackWriter();
     final var buffer = new ExpandableArrayBuffer();
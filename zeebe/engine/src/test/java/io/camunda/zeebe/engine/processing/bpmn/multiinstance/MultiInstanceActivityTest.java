@@ -857,9 +857,52 @@ public final class MultiInstanceActivityTest {
             RecordingExporter.variableRecords()
                 .withName(OUTPUT_COLLECTION_VARIABLE)
                 .withScopeKey(multiInstanceBody.getKey())
-                .limit(INPUT_COLLECTION.size() + 1))
-        .extracting(r -> r.getValue().getValue())
-        .contains("[null,null,null]", "[11,null,null]", "[11,22,null]", "[11,22,33]");
+                .limit(r -> r.getIntent() == VariableIntent.UPDATED))
+        .extracting(Record::getIntent, r -> r.getValue().getValue())
+        .describedAs("the output collection is written only once, when the body completes")
+        .containsExactlyInAnyOrder(
+            tuple(VariableIntent.CREATED, "[null,null,null]"),
+            tuple(VariableIntent.OUTPUT_ELEMENT_COLLECTED, "11"),
+            tuple(VariableIntent.OUTPUT_ELEMENT_COLLECTED, "22"),
+            tuple(VariableIntent.OUTPUT_ELEMENT_COLLECTED, "33"),
+            tuple(VariableIntent.UPDATED, "[11,22,33]"));
+  }
+
+  @Test
+  public void shouldReadCollectedOutputElementsBeforeBodyIsCompleted() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            process(miBuilder.andThen(m -> m.completionCondition("=list contains(results, 22)"))))
+        .deploy();
+
+    // when
+    final var processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION_EXPRESSION, INPUT_COLLECTION)
+            .create();
+
+    completeJobs(processInstanceKey, 2);
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+                .exists())
+        .describedAs("the completion condition reads the collected output elements")
+        .isTrue();
+
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withName(OUTPUT_COLLECTION_VARIABLE)
+                .withScopeKey(processInstanceKey)
+                .getFirst()
+                .getValue())
+        .hasValue("[11,22,null]");
   }
 
   @Test
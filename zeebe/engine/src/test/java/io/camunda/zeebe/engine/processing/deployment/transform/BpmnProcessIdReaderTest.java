@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import org.junit.jupiter.api.Test;
+
+final class BpmnProcessIdReaderTest {
+
+  private final BpmnProcessIdReader reader = new BpmnProcessIdReader();
+
+  @Test
+  void shouldReadIdOfExecutableProcess() {
+    // given
+    final var model = Bpmn.createExecutableProcess("process").startEvent().endEvent().done();
+    final var resource = wrapString(Bpmn.convertToString(model));
+
+    // when
+    final var processId = reader.readFirstExecutableProcessId(resource);
+
+    // then
+    assertThat(processId).isEqualTo("process");
+  }
+
+  @Test
+  void shouldIgnoreNonExecutableProcesses() {
+    // given
+    final var resource =
+        wrapString(
+            """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL" id="definitions">
+              <process id="nonExecutable" isExecutable="false" />
+              <process id="undefined" />
+              <process id="executable" isExecutable="true" />
+            </definitions>
+            """);
+
+    // when
+    final var processId = reader.readFirstExecutableProcessId(resource);
+
+    // then
+    assertThat(processId).isEqualTo("executable");
+  }
+
+  @Test
+  void shouldIgnoreProcessElementsOfOtherNamespaces() {
+    // given
+    final var resource =
+        wrapString(
+            """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL" id="definitions">
+              <other:process xmlns:other="urn:other" id="other" isExecutable="true" />
+            </definitions>
+            """);
+
+    // when
+    final var processId = reader.readFirstExecutableProcessId(resource);
+
+    // then
+    assertThat(processId).isNull();
+  }
+
+  @Test
+  void shouldReadIdOfFirstExecutableProcess() {
+    // given
+    final var resource =
+        wrapString(
+            """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL" id="definitions">
+              <process id="first" isExecutable="true" />
+              <process id="second" isExecutable="true" />
+            </definitions>
+            """);
+
+    // when
+    final var processId = reader.readFirstExecutableProcessId(resource);
+
+    // then
+    assertThat(processId).isEqualTo("first");
+  }
+
+  @Test
+  void shouldNotReadIdOfMalformedResource() {
+    // given
+    final var resource =
+        wrapString(
+            """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL" id="definitions"
+              <process id="process" isExecutable="true" />
+            </definitions>
+            """);
+
+    // when - then
+    assertThat(reader.readFirstExecutableProcessId(resource)).isNull();
+  }
+
+  @Test
+  void shouldNotResolveExternalEntities() {
+    // given
+    final var resource =
+        wrapString(
+            """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <!DOCTYPE definitions [<!ENTITY id SYSTEM "file:///etc/hostname">]>
+            <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL" id="definitions">
+              <process id="&id;" isExecutable="true" />
+            </definitions>
+            """);
+
+    // when - then
+    assertThat(reader.readFirstExecutableProcessId(resource)).isNull();
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.deployment.ChecksumGenerator;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the work the deployment processor does for a deployment of 100 large BPMN models, with
+ * and without pre-validation. {@link #parseValidateAndTransform()} is the work the processor did
+ * before, and which is now done by the command API. {@link #takePreValidatedResources()} is the
+ * work which is left for the processor if all resources were pre-validated.
+ */
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BpmnResourcePreValidationBenchmark {
+
+  private static final int MODEL_COUNT = 100;
+  private static final int TASKS_PER_MODEL = 100;
+
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final ValidatedBpmnResources validatedResources =
+      new ValidatedBpmnResources(Long.MAX_VALUE, Duration.ofHours(1));
+  private final BpmnResourcePreValidator preValidator =
+      new BpmnResourcePreValidator(
+          InstantSource.system(),
+          EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE,
+          validatedResources);
+  private final DeploymentRecord deployment = new DeploymentRecord();
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < MODEL_COUNT; i++) {
+      deployment
+          .resources()
+          .add()
+          .setResourceName("process-" + i + ".bpmn")
+          .setResource(createLargeModel("process-" + i));
+    }
+  }
+
+  @Benchmark
+  public void parseValidateAndTransform(final Blackhole blackhole) {
+    preValidator.preValidate(deployment);
+    blackhole.consume(takeAll());
+  }
+
+  @Benchmark
+  public int takePreValidatedResources(final PreValidated preValidated) {
+    return takeAll();
+  }
+
+  private int takeAll() {
+    int taken = 0;
+    for (final DeploymentResource resource : deployment.resources()) {
+      if (validatedResources.take(checksumGenerator.checksum(resource.getResourceBuffer()))
+          != null) {
+        taken++;
+      }
+    }
+    return taken;
+  }
+
+  private static byte[] createLargeModel(final String processId) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(processId).startEvent();
+    for (int i = 0; i < TASKS_PER_MODEL; i++) {
+      builder =
+          builder
+              .serviceTask("task-" + i)
+              .zeebeJobTypeExpression("\"type-\" + string(" + i + ")")
+              .zeebeJobRetriesExpression("3")
+              .zeebeInputExpression("input + " + i, "local_" + i)
+              .zeebeOutputExpression("result.value", "output_" + i);
+    }
+    return Bpmn.convertToString(builder.endEvent().done()).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /** Pre-validates all resources before each invocation, outside of the measured time. */
+  @State(Scope.Thread)
+  public static class PreValidated {
+
+    @Setup(Level.Invocation)
+    public void preValidate(final BpmnResourcePreValidationBenchmark benchmark) {
+      benchmark.preValidator.preValidate(benchmark.deployment);
+    }
+  }
+}
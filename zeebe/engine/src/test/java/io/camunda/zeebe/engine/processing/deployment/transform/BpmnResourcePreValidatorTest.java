@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.test.util.Strings;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.InstantSource;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class BpmnResourcePreValidatorTest {
+
+  private static final ValidatedBpmnResources VALIDATED_RESOURCES =
+      new ValidatedBpmnResources(10 * 1024 * 1024, Duration.ofMinutes(5));
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withEngineConfig(cfg -> cfg.setValidatedBpmnResources(VALIDATED_RESOURCES));
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  private final BpmnResourcePreValidator preValidator =
+      new BpmnResourcePreValidator(
+          InstantSource.system(),
+          EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE,
+          VALIDATED_RESOURCES);
+
+  @Test
+  public void shouldDeployPreValidatedProcess() {
+    // given
+    final var processId = Strings.newRandomValidBpmnId();
+    final var resource =
+        Bpmn.convertToString(
+                Bpmn.createExecutableProcess(processId)
+                    .startEvent()
+                    .serviceTask("task", t -> t.zeebeJobTypeExpression("\"type\""))
+                    .endEvent()
+                    .done())
+            .getBytes(StandardCharsets.UTF_8);
+    preValidator.preValidate(deploymentOf(resource));
+    assertThat(VALIDATED_RESOURCES.size()).isOne();
+
+    // when
+    final var deployment = ENGINE.deployment().withXmlResource(resource).deploy();
+
+    // then
+    Assertions.assertThat(deployment).hasIntent(DeploymentIntent.CREATED);
+    assertThat(deployment.getValue().getProcessesMetadata())
+        .singleElement()
+        .satisfies(metadata -> assertThat(metadata.getBpmnProcessId()).isEqualTo(processId));
+    assertThat(VALIDATED_RESOURCES.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotHandOverInvalidProcess() {
+    // given
+    final var resource =
+        Bpmn.convertToString(
+                Bpmn.createExecutableProcess(Strings.newRandomValidBpmnId())
+                    .startEvent()
+                    .serviceTask("task")
+                    .endEvent()
+                    .done())
+            .getBytes(StandardCharsets.UTF_8);
+
+    // when
+    preValidator.preValidate(deploymentOf(resource));
+
+    // then
+    assertThat(VALIDATED_RESOURCES.size()).isZero();
+    final var rejection = ENGINE.deployment().withXmlResource(resource).expectRejection().deploy();
+    assertThat(rejection.getRejectionReason())
+        .contains("Must have exactly one 'zeebe:taskDefinition'");
+  }
+
+  private static DeploymentRecord deploymentOf(final byte[] resource) {
+    final var deployment = new DeploymentRecord();
+    deployment.resources().add().setResourceName("process.xml").setResource(resource);
+    return deployment;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import static io.camunda.zeebe.engine.processing.deployment.transform.ValidatedBpmnResources.ESTIMATED_MEMORY_FACTOR;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.deployment.transform.ValidatedBpmnResources.ValidatedBpmnResource;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class ValidatedBpmnResourcesTest {
+
+  private static final int RESOURCE_SIZE = 1024;
+  private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+  private final AtomicLong now = new AtomicLong();
+  private final InstantSource clock = () -> Instant.ofEpochMilli(now.get());
+
+  @Test
+  void shouldTakeResourceOnlyOnce() {
+    // given
+    final var resources = new ValidatedBpmnResources(maxSizeOf(2), TIME_TO_LIVE, clock);
+    final var resource = newResource();
+    resources.put(wrapString("a"), RESOURCE_SIZE, resource);
+
+    // when - then
+    assertThat(resources.take(wrapString("a"))).isSameAs(resource);
+    assertThat(resources.take(wrapString("a"))).isNull();
+  }
+
+  @Test
+  void shouldEvictOldestResourcesWhenMaxSizeIsExceeded() {
+    // given
+    final var resources = new ValidatedBpmnResources(maxSizeOf(2), TIME_TO_LIVE, clock);
+    resources.put(wrapString("a"), RESOURCE_SIZE, newResource());
+    resources.put(wrapString("b"), RESOURCE_SIZE, newResource());
+
+    // when
+    resources.put(wrapString("c"), RESOURCE_SIZE, newResource());
+
+    // then
+    assertThat(resources.size()).isEqualTo(2);
+    assertThat(resources.take(wrapString("a"))).isNull();
+    assertThat(resources.take(wrapString("b"))).isNotNull();
+    assertThat(resources.take(wrapString("c"))).isNotNull();
+  }
+
+  @Test
+  void shouldNotHoldResourceLargerThanMaxSize() {
+    // given
+    final var resources = new ValidatedBpmnResources(maxSizeOf(2), TIME_TO_LIVE, clock);
+    resources.put(wrapString("a"), RESOURCE_SIZE, newResource());
+
+    // when
+    resources.put(wrapString("b"), 3 * RESOURCE_SIZE, newResource());
+
+    // then
+    assertThat(resources.size()).isOne();
+    assertThat(resources.take(wrapString("a"))).isNotNull();
+  }
+
+  @Test
+  void shouldExpireResources() {
+    // given
+    final var resources = new ValidatedBpmnResources(maxSizeOf(2), TIME_TO_LIVE, clock);
+    resources.put(wrapString("a"), RESOURCE_SIZE, newResource());
+    now.addAndGet(TIME_TO_LIVE.toMillis() / 2);
+    resources.put(wrapString("b"), RESOURCE_SIZE, newResource());
+
+    // when
+    now.addAndGet(TIME_TO_LIVE.toMillis() / 2);
+
+    // then
+    assertThat(resources.take(wrapString("a"))).isNull();
+    assertThat(resources.take(wrapString("b"))).isNotNull();
+  }
+
+  @Test
+  void shouldRenewExpiryOfReplacedResource() {
+    // given
+    final var resources = new ValidatedBpmnResources(maxSizeOf(2), TIME_TO_LIVE, clock);
+    resources.put(wrapString("a"), RESOURCE_SIZE, newResource());
+    resources.put(wrapString("b"), RESOURCE_SIZE, newResource());
+    now.addAndGet(TIME_TO_LIVE.toMillis() / 2);
+
+    // when
+    final var replaced = newResource();
+    resources.put(wrapString("a"), RESOURCE_SIZE, replaced);
+    now.addAndGet(TIME_TO_LIVE.toMillis() / 2);
+
+    // then
+    assertThat(resources.take(wrapString("b"))).isNull();
+    assertThat(resources.take(wrapString("a"))).isSameAs(replaced);
+  }
+
+  @Test
+  void shouldNeverHoldResourcesIfDisabled() {
+    // given
+    final var resources = ValidatedBpmnResources.none();
+
+    // when
+    resources.put(wrapString("a"), RESOURCE_SIZE, newResource());
+
+    // then
+    assertThat(resources.isEnabled()).isFalse();
+    assertThat(resources.size()).isZero();
+  }
+
+  private static long maxSizeOf(final int resourceCount) {
+    return (long) resourceCount * RESOURCE_SIZE * ESTIMATED_MEMORY_FACTOR;
+  }
+
+  private static ValidatedBpmnResource newResource() {
+    return new ValidatedBpmnResource(null, List.of());
+  }
+}
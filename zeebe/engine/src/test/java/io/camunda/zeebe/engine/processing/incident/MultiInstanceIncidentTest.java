@@ -227,11 +227,10 @@ public final class MultiInstanceIncidentTest {
     // would still complete normally, but would not have collected the output of the first task.
     // for more information see: https://github.com/camunda/camunda/issues/6546
     assertThat(
-            RecordingExporter.variableRecords()
+            RecordingExporter.variableRecords(VariableIntent.UPDATED)
                 .withProcessInstanceKey(processInstanceKey)
                 .withName("results")
-                .limit(4)
-                .getLast())
+                .getFirst())
         .extracting(Record::getValue)
         .extracting(VariableRecordValue::getValue)
         .describedAs("the results have been collected")
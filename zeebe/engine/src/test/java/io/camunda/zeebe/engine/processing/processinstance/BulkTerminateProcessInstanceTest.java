@@ -0,0 +1,219 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessMessageSubscriptionIntent;
+import io.camunda.zeebe.protocol.record.intent.UserTaskIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class BulkTerminateProcessInstanceTest {
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition().withEngineConfig(cfg -> cfg.setEnableBulkTermination(true));
+
+  private static final String PROCESS_ID = "process";
+  private static final List<Integer> ITEMS = IntStream.range(0, 50).boxed().toList();
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Test
+  public void shouldTerminateMultiInstanceChildrenWithoutCommands() {
+    // given
+    final BpmnModelInstance process =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .serviceTask(
+                "task",
+                t ->
+                    t.zeebeJobType("task")
+                        .multiInstance(m -> m.parallel().zeebeInputCollectionExpression("items")))
+            .endEvent()
+            .done();
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final long processInstanceKey =
+        ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).withVariable("items", ITEMS).create();
+    RecordingExporter.jobRecords(JobIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .limit(ITEMS.size())
+        .await();
+
+    // when
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+
+    // then
+    final var records = terminationRecords(processInstanceKey);
+
+    assertThat(records)
+        .filteredOn(r -> r.getValue().getBpmnElementType() == BpmnElementType.SERVICE_TASK)
+        .extracting(Record::getIntent)
+        .doesNotContain(ProcessInstanceIntent.TERMINATE_ELEMENT)
+        .filteredOn(ProcessInstanceIntent.ELEMENT_TERMINATED::equals)
+        .hasSize(ITEMS.size());
+
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.CANCELED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limit(ITEMS.size()))
+        .hasSize(ITEMS.size());
+  }
+
+  @Test
+  public void shouldCancelSubscriptionsOfBulkTerminatedChildren() {
+    // given
+    final BpmnModelInstance process =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .receiveTask(
+                "task",
+                t ->
+                    t.message(m -> m.name("message").zeebeCorrelationKeyExpression("string(item)"))
+                        .multiInstance(
+                            m ->
+                                m.parallel()
+                                    .zeebeInputCollectionExpression("items")
+                                    .zeebeInputElement("item")))
+            .endEvent()
+            .done();
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final long processInstanceKey =
+        ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).withVariable("items", ITEMS).create();
+    RecordingExporter.processMessageSubscriptionRecords(ProcessMessageSubscriptionIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .limit(ITEMS.size())
+        .await();
+
+    // when
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+
+    // then
+    assertThat(terminationRecords(processInstanceKey))
+        .filteredOn(r -> r.getValue().getBpmnElementType() == BpmnElementType.RECEIVE_TASK)
+        .extracting(Record::getIntent)
+        .doesNotContain(ProcessInstanceIntent.TERMINATE_ELEMENT)
+        .filteredOn(ProcessInstanceIntent.ELEMENT_TERMINATED::equals)
+        .hasSize(ITEMS.size());
+
+    assertThat(
+            RecordingExporter.processMessageSubscriptionRecords(
+                    ProcessMessageSubscriptionIntent.DELETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limit(ITEMS.size()))
+        .hasSize(ITEMS.size());
+  }
+
+  @Test
+  public void shouldTerminateUserTasksWithCommands() {
+    // given
+    final BpmnModelInstance process =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .userTask(
+                "task",
+                t ->
+                    t.zeebeUserTask()
+                        .multiInstance(m -> m.parallel().zeebeInputCollectionExpression("items")))
+            .endEvent()
+            .done();
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", List.of(1, 2, 3))
+            .create();
+    RecordingExporter.userTaskRecords(UserTaskIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .limit(3)
+        .await();
+
+    // when
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+
+    // then
+    assertThat(terminationRecords(processInstanceKey))
+        .filteredOn(r -> r.getValue().getBpmnElementType() == BpmnElementType.USER_TASK)
+        .extracting(Record::getIntent)
+        .filteredOn(ProcessInstanceIntent.TERMINATE_ELEMENT::equals)
+        .hasSize(3);
+
+    assertThat(
+            RecordingExporter.userTaskRecords(UserTaskIntent.CANCELED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limit(3))
+        .hasSize(3);
+  }
+
+  @Test
+  public void shouldTerminateChildrenOfNestedSubProcess() {
+    // given
+    final BpmnModelInstance process =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .subProcess(
+                "subProcess",
+                s ->
+                    s.embeddedSubProcess()
+                        .startEvent()
+                        .parallelGateway("fork")
+                        .serviceTask("task1", t -> t.zeebeJobType("task"))
+                        .moveToNode("fork")
+                        .serviceTask("task2", t -> t.zeebeJobType("task")))
+            .endEvent()
+            .done();
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final long processInstanceKey = ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).create();
+    RecordingExporter.jobRecords(JobIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .limit(2)
+        .await();
+
+    // when
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+
+    // then
+    assertThat(terminationRecords(processInstanceKey))
+        .filteredOn(r -> r.getIntent() == ProcessInstanceIntent.ELEMENT_TERMINATED)
+        .extracting(r -> r.getValue().getElementId())
+        .containsExactlyInAnyOrder("task1", "task2", "subProcess", PROCESS_ID);
+  }
+
+  private static List<Record<ProcessInstanceRecordValue>> terminationRecords(
+      final long processInstanceKey) {
+    return RecordingExporter.processInstanceRecords()
+        .withProcessInstanceKey(processInstanceKey)
+        .skipUntil(r -> r.getIntent() == ProcessInstanceIntent.CANCEL)
+        .limit(
+            r ->
+                r.getKey() == processInstanceKey
+                    && r.getIntent() == ProcessInstanceIntent.ELEMENT_TERMINATED)
+        .asList();
+  }
+}
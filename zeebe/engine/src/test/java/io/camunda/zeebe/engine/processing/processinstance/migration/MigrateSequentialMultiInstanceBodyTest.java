@@ -977,10 +977,10 @@ public class MigrateSequentialMultiInstanceBodyTest {
     ENGINE.job().withKey(job.getKey()).complete();
 
     final var resultsVariable =
-        RecordingExporter.variableRecords(VariableIntent.UPDATED)
+        RecordingExporter.variableRecords(VariableIntent.OUTPUT_ELEMENT_COLLECTED)
             .withProcessInstanceKey(processInstanceKey)
             .withName("results")
-            .withValue("[1,null,null]")
+            .withValue("1")
             .getFirst();
 
     // when
@@ -1026,13 +1026,13 @@ public class MigrateSequentialMultiInstanceBodyTest {
 
     // then the new output collection can be filled correctly
     Assertions.assertThat(
-            RecordingExporter.variableRecords(VariableIntent.UPDATED)
+            RecordingExporter.variableRecords(VariableIntent.OUTPUT_ELEMENT_COLLECTED)
                 .withProcessInstanceKey(processInstanceKey)
                 .withName("results2")
                 .getFirst()
                 .getValue())
         .describedAs("Expect that the second entry is collected as output")
-        .hasValue("[1,2,null]");
+        .hasValue("2");
   }
 
   @Test
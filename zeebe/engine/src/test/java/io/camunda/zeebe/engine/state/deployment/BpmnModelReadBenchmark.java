@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a deployed BPMN resource with 1000+ elements, as done when a process is loaded
+ * into the process cache or the same resource is deployed again, with and without the second schema
+ * validation pass. The concurrent variants show the contention on the shared document builder
+ * factory. Run with {@code -prof gc} to compare the allocation rate as well.
+ */
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BpmnModelReadBenchmark {
+
+  private static final int TASK_COUNT = 500;
+
+  private byte[] resource;
+
+  @Setup
+  public void setup() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+    // each task adds a sequence flow too
+    for (int i = 0; i < TASK_COUNT; i++) {
+      builder =
+          builder
+              .serviceTask("task-" + i)
+              .zeebeJobType("type-" + i)
+              .zeebeInputExpression("input + " + i, "local_" + i)
+              .zeebeOutputExpression("result.value", "output_" + i);
+    }
+    resource = Bpmn.convertToString(builder.endEvent().done()).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public BpmnModelInstance readModel() {
+    return Bpmn.readModelFromStream(new ByteArrayInputStream(resource));
+  }
+
+  @Benchmark
+  public BpmnModelInstance readTrustedModel() {
+    return Bpmn.readTrustedModelFromStream(new ByteArrayInputStream(resource));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public BpmnModelInstance readModelConcurrently() {
+    return readModel();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public BpmnModelInstance readTrustedModelConcurrently() {
+    return readTrustedModel();
+  }
+}
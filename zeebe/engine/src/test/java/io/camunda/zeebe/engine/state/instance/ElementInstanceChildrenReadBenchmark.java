@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.collections.MutableInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading the children of a multi-instance body with 10k active children with multi-gets
+ * against a point lookup per child. Terminating the body iterates over its children in chunks, each
+ * read with a single multi-get. See {@code BulkTerminationBenchmark} for the whole termination.
+ */
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ElementInstanceChildrenReadBenchmark {
+
+  private static final int CHILD_COUNT = 10_000;
+  private static final long BODY_KEY = 1L;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableElementInstanceState elementInstanceState;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("children-read-benchmark");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    final var processingState =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext),
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new EngineConfiguration(),
+            InstantSource.system());
+    elementInstanceState = processingState.getElementInstanceState();
+
+    final var record = new ProcessInstanceRecord();
+    record.setBpmnProcessId(wrapString("process"));
+    record.setProcessInstanceKey(BODY_KEY);
+    record.setProcessDefinitionKey(2L);
+    record.setElementId("task");
+    record.setBpmnElementType(BpmnElementType.MULTI_INSTANCE_BODY);
+
+    final ElementInstance body =
+        elementInstanceState.newInstance(BODY_KEY, record, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    record.setFlowScopeKey(BODY_KEY);
+    record.setBpmnElementType(BpmnElementType.SERVICE_TASK);
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < CHILD_COUNT; i++) {
+            elementInstanceState.newInstance(
+                body, BODY_KEY + 1 + i, record, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public List<ElementInstance> getChildrenWithMultiGet() {
+    return elementInstanceState.getChildren(BODY_KEY);
+  }
+
+  @Benchmark
+  public int forEachChildWithChunkedMultiGet() {
+    // the iteration behind terminating the children of the body in batches
+    final var visited = new MutableInteger();
+    elementInstanceState.forEachChild(
+        BODY_KEY,
+        -1,
+        (childKey, childInstance) -> {
+          visited.increment();
+          return true;
+        });
+    return visited.get();
+  }
+
+  @Benchmark
+  public List<ElementInstance> getChildrenWithPointLookups() {
+    final List<ElementInstance> children = new ArrayList<>();
+    for (int i = 0; i < CHILD_COUNT; i++) {
+      children.add(elementInstanceState.getInstance(BODY_KEY + 1 + i));
+    }
+    return children;
+  }
+}
@@ -20,6 +20,7 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.test.util.MsgPackUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -282,6 +283,64 @@ public final class ElementInstanceStateTest {
     assertChildInstance(children.get(1), 102, "subProcess2");
   }
 
+  @Test
+  public void shouldVisitChildInstancesOfMultipleChunks() {
+    // given
+    final var childKeys = createChildInstances(100, 250);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        100,
+        -1,
+        (childKey, childInstance) -> {
+          assertThat(childInstance.getKey()).isEqualTo(childKey);
+          visitedKeys.add(childKey);
+          return true;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactlyElementsOf(childKeys);
+  }
+
+  @Test
+  public void shouldVisitChildInstancesStartingAtKey() {
+    // given
+    final var childKeys = createChildInstances(100, 250);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        100,
+        childKeys.get(150),
+        (childKey, childInstance) -> {
+          visitedKeys.add(childKey);
+          return true;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactlyElementsOf(childKeys.subList(150, 250));
+  }
+
+  @Test
+  public void shouldStopVisitingChildInstances() {
+    // given
+    final var childKeys = createChildInstances(100, 250);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        100,
+        -1,
+        (childKey, childInstance) -> {
+          visitedKeys.add(childKey);
+          return visitedKeys.size() < 120;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactlyElementsOf(childKeys.subList(0, 120));
+  }
+
   @Test
   public void shouldInsertProcessInstanceKeyByProcessDefinitionKey() {
     // given
@@ -540,6 +599,24 @@ public final class ElementInstanceStateTest {
     assertProcessInstanceRecord(childInstance.getValue(), wrapString(elementId));
   }
 
+  private List<Long> createChildInstances(final long parentKey, final int count) {
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            parentKey, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    final List<Long> childKeys = new ArrayList<>();
+    for (int i = 1; i <= count; i++) {
+      final long childKey = parentKey + i;
+      elementInstanceState.newInstance(
+          parentInstance,
+          childKey,
+          processInstanceRecord,
+          ProcessInstanceIntent.ELEMENT_ACTIVATING);
+      childKeys.add(childKey);
+    }
+    return childKeys;
+  }
+
   private ProcessInstanceRecord createProcessInstanceRecord() {
     final ProcessInstanceRecord processInstanceRecord = new ProcessInstanceRecord();
     processInstanceRecord.setElementId("startEvent");
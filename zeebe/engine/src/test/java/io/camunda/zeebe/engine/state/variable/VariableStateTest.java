@@ -462,6 +462,67 @@ public final class VariableStateTest {
             tuple(keyVariableC, child, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldMergeOutputElementsIntoOutputCollection() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    final var outputCollection = wrapString("results");
+    setVariableLocal(parent, outputCollection, asMsgPack("[null,null,null]"));
+
+    // when
+    variableState.setOutputElement(1, parent, outputCollection, 3, asMsgPack("33"));
+    variableState.setOutputElement(2, parent, outputCollection, 1, asMsgPack("11"));
+
+    // then
+    assertThat(variableState.hasOutputElements(parent, outputCollection)).isTrue();
+    assertEquality(variableState.getVariableLocal(parent, outputCollection), "[11,null,33]");
+    assertEquality(variableState.getVariable(child, outputCollection), "[11,null,33]");
+    assertEquality(
+        variableState.getVariableInstanceLocal(parent, outputCollection).getValue(),
+        "[11,null,33]");
+    assertEquality(variableState.getVariablesAsDocument(child), "{'results': [11,null,33]}");
+    assertEquality(
+        variableState.getStoredVariableInstanceLocal(parent, outputCollection).getValue(),
+        "[null,null,null]");
+  }
+
+  @Test
+  public void shouldReplaceOutputElementsWhenOutputCollectionIsSet() {
+    // given
+    declareScope(parent);
+
+    final var outputCollection = wrapString("results");
+    final long key = setVariableLocal(parent, outputCollection, asMsgPack("[null,null]"));
+    variableState.setOutputElement(1, parent, outputCollection, 1, asMsgPack("11"));
+
+    // when
+    variableState.setVariableLocal(
+        key, parent, PROCESS_KEY, outputCollection, asMsgPack("[11,22]"));
+
+    // then
+    assertThat(variableState.hasOutputElements(parent, outputCollection)).isFalse();
+    assertEquality(variableState.getVariableLocal(parent, outputCollection), "[11,22]");
+  }
+
+  @Test
+  public void shouldRemoveOutputElementsOfScope() {
+    // given
+    declareScope(parent);
+
+    final var outputCollection = wrapString("results");
+    setVariableLocal(parent, outputCollection, asMsgPack("[null]"));
+    variableState.setOutputElement(1, parent, outputCollection, 1, asMsgPack("11"));
+
+    // when
+    variableState.removeScope(parent);
+
+    // then
+    assertThat(variableState.hasOutputElements(parent, outputCollection)).isFalse();
+    assertThat(variableState.getVariableLocal(parent, outputCollection)).isNull();
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
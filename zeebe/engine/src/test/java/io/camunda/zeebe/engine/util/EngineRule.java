@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.camunda.security.configuration.SecurityConfiguration;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -21,6 +22,7 @@ import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender.CommandInterceptor;
 import io.camunda.zeebe.engine.util.client.AuthorizationClient;
+import io.camunda.zeebe.engine.util.client.BatchOperationClient;
 import io.camunda.zeebe.engine.util.client.ClockClient;
 import io.camunda.zeebe.engine.util.client.DecisionEvaluationClient;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
@@ -103,6 +105,7 @@ public final class EngineRule extends ExternalResource {
   private FeatureFlags featureFlags = FeatureFlags.createDefaultForTests();
   private ArrayList<TestInterPartitionCommandSender> interPartitionCommandSenders;
   private Consumer<SecurityConfiguration> securityConfigModifier = cfg -> {};
+  private Consumer<EngineConfiguration> engineConfigModifier = cfg -> {};
 
   private EngineRule(final int partitionCount) {
     this(partitionCount, null);
@@ -189,6 +192,11 @@ public final class EngineRule extends ExternalResource {
     return this;
   }
 
+  public EngineRule withEngineConfig(final Consumer<EngineConfiguration> modifier) {
+    engineConfigModifier = engineConfigModifier.andThen(modifier);
+    return this;
+  }
+
   private void startProcessors(final StreamProcessorMode mode, final boolean awaitOpening) {
     interPartitionCommandSenders = new ArrayList<>();
 
@@ -201,6 +209,7 @@ public final class EngineRule extends ExternalResource {
               partitionId,
               (recordProcessorContext) -> {
                 securityConfigModifier.accept(recordProcessorContext.getSecurityConfig());
+                engineConfigModifier.accept(recordProcessorContext.getConfig());
                 return EngineProcessors.createEngineProcessors(
                         recordProcessorContext,
                         partitionCount,
@@ -523,6 +532,10 @@ public final class EngineRule extends ExternalResource {
     return new ClockClient(environmentRule);
   }
 
+  public BatchOperationClient batchOperation() {
+    return new BatchOperationClient(environmentRule);
+  }
+
   private static final class VersatileBlob implements DbKey, DbValue {
 
     private final DirectBuffer genericBuffer = new UnsafeBuffer(0, 0);
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.util.client;
+
+import io.camunda.zeebe.protocol.impl.record.value.batchoperation.BatchOperationRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationMappingInstruction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.BatchOperationIntent;
+import io.camunda.zeebe.protocol.record.value.BatchOperationRecordValue;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.function.Function;
+
+public class BatchOperationClient {
+  private static final Function<Long, Record<BatchOperationRecordValue>> SUCCESS_EXPECTATION =
+      (position) ->
+          RecordingExporter.batchOperationRecords(BatchOperationIntent.CREATED)
+              .withSourceRecordPosition(position)
+              .getFirst();
+  private static final Function<Long, Record<BatchOperationRecordValue>> REJECTION_EXPECTATION =
+      (position) ->
+          RecordingExporter.batchOperationRecords()
+              .onlyCommandRejections()
+              .withSourceRecordPosition(position)
+              .getFirst();
+
+  private final CommandWriter writer;
+  private final BatchOperationRecord record = new BatchOperationRecord();
+  private Function<Long, Record<BatchOperationRecordValue>> expectation = SUCCESS_EXPECTATION;
+
+  public BatchOperationClient(final CommandWriter writer) {
+    this.writer = writer;
+  }
+
+  public BatchOperationClient ofType(final BatchOperationType type) {
+    record.setBatchOperationType(type);
+    return this;
+  }
+
+  public BatchOperationClient withProcessInstanceKeys(final long... processInstanceKeys) {
+    for (final long processInstanceKey : processInstanceKeys) {
+      record.addProcessInstanceKey(processInstanceKey);
+    }
+    return this;
+  }
+
+  public BatchOperationClient withProcessDefinitionKey(final long processDefinitionKey) {
+    record.setProcessDefinitionKey(processDefinitionKey);
+    return this;
+  }
+
+  public BatchOperationClient withTargetProcessDefinitionKey(
+      final long targetProcessDefinitionKey) {
+    record.setTargetProcessDefinitionKey(targetProcessDefinitionKey);
+    return this;
+  }
+
+  public BatchOperationClient addMappingInstruction(
+      final String sourceElementId, final String targetElementId) {
+    record.addMappingInstruction(
+        new ProcessInstanceMigrationMappingInstruction()
+            .setSourceElementId(sourceElementId)
+            .setTargetElementId(targetElementId));
+    return this;
+  }
+
+  public BatchOperationClient expectRejection() {
+    expectation = REJECTION_EXPECTATION;
+    return this;
+  }
+
+  public BatchOperationClient withTenantId(final String tenantId) {
+    record.setTenantId(tenantId);
+    return this;
+  }
+
+  public Record<BatchOperationRecordValue> create() {
+    final long position = writer.writeCommand(BatchOperationIntent.CREATE, record);
+    return expectation.apply(position);
+  }
+
+  public Record<BatchOperationRecordValue> create(final long userKey) {
+    final long position = writer.writeCommand(BatchOperationIntent.CREATE, record, userKey);
+    return expectation.apply(position);
+  }
+}
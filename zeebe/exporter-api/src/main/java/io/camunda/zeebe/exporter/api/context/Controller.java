@@ -51,6 +51,15 @@ public interface Controller {
    */
   ScheduledTask scheduleCancellableTask(final Duration delay, final Runnable task);
 
+  /**
+   * Submits a {@param task} to be ran by the exporter as soon as possible. Unlike the other methods
+   * of the controller, this one may be called from any thread, e.g. from the callback of an
+   * asynchronous request; the task itself is always ran on the exporter's thread.
+   *
+   * @param task the task to run
+   */
+  void submit(final Runnable task);
+
   /**
    * Read arbitrary metadata of the exporter that was stored previously by using the exporter
    * controller.
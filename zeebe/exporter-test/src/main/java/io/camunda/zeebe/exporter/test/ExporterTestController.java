@@ -74,6 +74,15 @@ public final class ExporterTestController implements Controller {
     return scheduledTask;
   }
 
+  /**
+   * Submitted tasks are not ran immediately, but as part of the next call to {@link
+   * #runScheduledTasks(Duration)}, like tasks scheduled with a {@link Duration#ZERO} delay.
+   */
+  @Override
+  public void submit(final Runnable task) {
+    scheduleCancellableTask(Duration.ZERO, task);
+  }
+
   @Override
   public Optional<byte[]> readMetadata() {
     return exporterMetadata.get();
@@ -51,7 +51,8 @@ public class UserTaskVariableHandler
 
   @Override
   public boolean handlesRecord(final Record<VariableRecordValue> record) {
-    return !VariableIntent.MIGRATED.equals(record.getIntent());
+    return !VariableIntent.MIGRATED.equals(record.getIntent())
+        && !VariableIntent.OUTPUT_ELEMENT_COLLECTED.equals(record.getIntent());
   }
 
   @Override
@@ -40,7 +40,8 @@ public class VariableHandler implements ExportHandler<VariableEntity, VariableRe
 
   @Override
   public boolean handlesRecord(final Record<VariableRecordValue> record) {
-    return !record.getIntent().equals(VariableIntent.MIGRATED);
+    return !record.getIntent().equals(VariableIntent.MIGRATED)
+        && !record.getIntent().equals(VariableIntent.OUTPUT_ELEMENT_COLLECTED);
   }
 
   @Override
@@ -43,6 +43,27 @@ public class ListViewVariableFromVariableHandlerTest {
     assertThat(underTest.getEntityType()).isEqualTo(VariableForListViewEntity.class);
   }
 
+  @Test
+  public void shouldHandleRecord() {
+    // given
+    final Record<VariableRecordValue> variableRecord =
+        factory.generateRecord(ValueType.VARIABLE, r -> r.withIntent(VariableIntent.UPDATED));
+
+    // when - then
+    assertThat(underTest.handlesRecord(variableRecord)).isTrue();
+  }
+
+  @Test
+  public void shouldNotHandleOutputElementRecord() {
+    // given
+    final Record<VariableRecordValue> variableRecord =
+        factory.generateRecord(
+            ValueType.VARIABLE, r -> r.withIntent(VariableIntent.OUTPUT_ELEMENT_COLLECTED));
+
+    // when - then
+    assertThat(underTest.handlesRecord(variableRecord)).isFalse();
+  }
+
   @Test
   public void shouldGenerateIds() {
     // given
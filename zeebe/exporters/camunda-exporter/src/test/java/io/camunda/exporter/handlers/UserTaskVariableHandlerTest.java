@@ -54,6 +54,7 @@ public class UserTaskVariableHandlerTest {
     // given
     Arrays.stream(VariableIntent.values())
         .filter(i -> i != VariableIntent.MIGRATED)
+        .filter(i -> i != VariableIntent.OUTPUT_ELEMENT_COLLECTED)
         .forEach(
             intent -> {
               final Record<VariableRecordValue> variableRecord =
@@ -72,6 +73,16 @@ public class UserTaskVariableHandlerTest {
     assertThat(underTest.handlesRecord(variableRecord)).isFalse();
   }
 
+  @Test
+  void shouldNotHandleOutputElementRecord() {
+    // given
+    final Record<VariableRecordValue> variableRecord =
+        factory.generateRecord(
+            ValueType.VARIABLE, r -> r.withIntent(VariableIntent.OUTPUT_ELEMENT_COLLECTED));
+    // when - then
+    assertThat(underTest.handlesRecord(variableRecord)).isFalse();
+  }
+
   @Test
   void shouldGenerateId() {
     // given
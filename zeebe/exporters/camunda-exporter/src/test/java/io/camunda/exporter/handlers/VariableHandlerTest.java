@@ -44,7 +44,7 @@ public class VariableHandlerTest {
   @ParameterizedTest
   @EnumSource(
       value = VariableIntent.class,
-      names = {"MIGRATED"},
+      names = {"MIGRATED", "OUTPUT_ELEMENT_COLLECTED"},
       mode = Mode.EXCLUDE)
   void shouldHandleRecord(final VariableIntent intent) {
     // given
@@ -55,11 +55,14 @@ public class VariableHandlerTest {
     assertThat(underTest.handlesRecord(decisionRecord)).isTrue();
   }
 
-  @Test
-  void shouldNotHandleRecord() {
+  @ParameterizedTest
+  @EnumSource(
+      value = VariableIntent.class,
+      names = {"MIGRATED", "OUTPUT_ELEMENT_COLLECTED"})
+  void shouldNotHandleRecord(final VariableIntent intent) {
     // given
     final Record<VariableRecordValue> decisionRecord =
-        factory.generateRecord(ValueType.VARIABLE, r -> r.withIntent(VariableIntent.MIGRATED));
+        factory.generateRecord(ValueType.VARIABLE, r -> r.withIntent(intent));
 
     // when - then
     assertThat(underTest.handlesRecord(decisionRecord)).isFalse();
@@ -7,33 +7,44 @@
  */
 package io.camunda.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
  * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
  * avoid having to serialize it again on retry.
+ *
+ * <p>Operations are serialized as nd-json straight into a single buffer, which is reused across
+ * flushes, such that writing the request is a single copy of that buffer. Records are written field
+ * by field with a streaming generator instead of being introspected as beans; only the record value
+ * and authorizations go through the object mapper.
  */
 final class BulkIndexRequest implements ContentProducer {
 
   private static final ObjectMapper MAPPER =
       new ObjectMapper()
-          .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
+          .enable(Feature.ALLOW_SINGLE_QUOTES)
+          // the generator is flushed explicitly once an operation is fully written
+          .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private final List<BufferedOperation> operations = new ArrayList<>();
+  private final OperationsBuffer buffer = new OperationsBuffer();
+  private JsonGenerator generator;
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -58,32 +69,93 @@ final class BulkIndexRequest implements ContentProducer {
       return false;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.size();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      final JsonGenerator jsonGenerator = generator();
+      MAPPER.writeValue(jsonGenerator, action);
+      jsonGenerator.flush();
+      buffer.write('\n');
+
+      sourceOffset = buffer.size();
+      serializeRecord(jsonGenerator, record, recordSequence);
+      jsonGenerator.flush();
+      buffer.write('\n');
     } catch (final IOException e) {
+      discardPartialOperation(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
+    } catch (final RuntimeException e) {
+      discardPartialOperation(operationOffset);
+      throw e;
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    // the source excludes the trailing line ending
+    final int sourceLength = buffer.size() - sourceOffset - 1;
+    final BufferedOperation command = new BufferedOperation(action, sourceOffset, sourceLength);
+    memoryUsageBytes += sourceLength;
     lastIndexedMetadata = action;
     operations.add(command);
     return true;
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  /**
+   * Writes the record as the JSON document Jackson would produce for it, enhanced by its sequence
+   * number. The sequence number is not a part of the record itself but a special property for
+   * Elasticsearch. It can be used to limit the number of records when reading from the index, for
+   * example, by using a range query. Read https://github.com/camunda/camunda/issues/10568 for
+   * details.
+   */
+  private static void serializeRecord(
+      final JsonGenerator generator, final Record<?> record, final RecordSequence recordSequence)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("position", record.getPosition());
+    generator.writeNumberField("sourceRecordPosition", record.getSourceRecordPosition());
+    generator.writeNumberField("key", record.getKey());
+    generator.writeNumberField("timestamp", record.getTimestamp());
+    writeEnumField(generator, "recordType", record.getRecordType());
+    writeIntentField(generator, record.getIntent());
+    generator.writeNumberField("partitionId", record.getPartitionId());
+    writeEnumField(generator, "rejectionType", record.getRejectionType());
+    generator.writeStringField("rejectionReason", record.getRejectionReason());
+    generator.writeStringField("brokerVersion", record.getBrokerVersion());
+    generator.writeFieldName("authorizations");
+    MAPPER.writeValue(generator, record.getAuthorizations());
+    generator.writeNumberField("recordVersion", record.getRecordVersion());
+    writeEnumField(generator, "valueType", record.getValueType());
+    generator.writeFieldName("value");
+    MAPPER.writeValue(generator, record.getValue());
+    generator.writeNumberField("operationReference", record.getOperationReference());
+    generator.writeNumberField(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence());
+    generator.writeEndObject();
+  }
+
+  private static void writeEnumField(
+      final JsonGenerator generator, final String fieldName, final Enum<?> value)
       throws IOException {
-    return MAPPER
-        .writer()
-        // Enhance the serialized record by its sequence number. The sequence number is not a part
-        // of the record itself but a special property for Elasticsearch. It can be used to limit
-        // the number of records when reading from the index, for example, by using a range query.
-        // Read https://github.com/camunda/camunda/issues/10568 for details.
-        .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+    generator.writeStringField(fieldName, value == null ? null : value.name());
+  }
+
+  private static void writeIntentField(final JsonGenerator generator, final Intent intent)
+      throws IOException {
+    generator.writeStringField("intent", intent == null ? null : intent.name());
+  }
+
+  private JsonGenerator generator() throws IOException {
+    if (generator == null) {
+      generator = MAPPER.getFactory().createGenerator(buffer);
+      // operations are separated by line endings, which are written directly to the buffer
+      generator.setRootValueSeparator(null);
+    }
+
+    return generator;
+  }
+
+  private void discardPartialOperation(final int operationOffset) {
+    // the generator may be left in the middle of an object, so it cannot be reused
+    generator = null;
+    buffer.truncate(operationOffset);
   }
 
   /** Returns the number of operations indexed so far. */
@@ -101,9 +173,10 @@ final class BulkIndexRequest implements ContentProducer {
     return operations.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /** Clears the buffer entirely, retaining its allocated memory for the next operations. */
   void clear() {
     operations.clear();
+    buffer.reset();
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -113,9 +186,15 @@ final class BulkIndexRequest implements ContentProducer {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /** Returns a copy of the currently indexed operations, including their serialized sources. */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    return operations.stream()
+        .map(
+            operation ->
+                new BulkOperation(
+                    operation.metadata(),
+                    buffer.copyOf(operation.sourceOffset(), operation.sourceLength())))
+        .toList();
   }
 
   /**
@@ -124,16 +203,25 @@ final class BulkIndexRequest implements ContentProducer {
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
   }
 
+  private record BufferedOperation(BulkIndexAction metadata, int sourceOffset, int sourceLength) {}
+
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
 
-  @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
-  private static final class RecordSequenceMixin {}
+  private static final class OperationsBuffer extends ByteArrayOutputStream {
+
+    private OperationsBuffer() {
+      super(4 * 1024);
+    }
+
+    private void truncate(final int size) {
+      count = size;
+    }
+
+    private byte[] copyOf(final int offset, final int length) {
+      return Arrays.copyOfRange(buf, offset, offset + length);
+    }
+  }
 }
@@ -30,11 +30,16 @@ import io.camunda.zeebe.util.VersionUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer.Sample;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -44,7 +49,8 @@ class ElasticsearchClient implements AutoCloseable {
   private final ElasticsearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private final Deque<BulkIndexRequest> recycledBulkIndexRequests = new ArrayDeque<>();
+  private BulkIndexRequest bulkIndexRequest;
 
   private final ElasticsearchMetrics metrics;
 
@@ -148,6 +154,84 @@ class ElasticsearchClient implements AutoCloseable {
         });
   }
 
+  /**
+   * Detaches the current bulk request so that it can be sent asynchronously via {@link
+   * #flushAsync(BulkIndexRequest)}, and starts a new bulk for any records indexed afterwards. Once
+   * the detached bulk was acknowledged, it should be handed back via {@link
+   * #recycle(BulkIndexRequest)} so its buffer can be reused.
+   *
+   * @return the detached bulk request, or null if the current bulk is empty
+   */
+  public BulkIndexRequest detachBulk() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+    metrics.stopFlushLatencyMeasurement(flushLatencyMeasurement);
+
+    final var detachedBulk = bulkIndexRequest;
+    final var recycledBulk = recycledBulkIndexRequests.poll();
+    bulkIndexRequest = recycledBulk != null ? recycledBulk : new BulkIndexRequest();
+    return detachedBulk;
+  }
+
+  /**
+   * Sends the given, previously detached bulk request to Elastic without waiting for the response.
+   * The bulk must not be modified until the returned future is completed.
+   *
+   * @param bulk the bulk request to send
+   * @return a future which is completed once all items of the bulk were flushed successfully, or
+   *     completed exceptionally with an {@link ElasticsearchExporterException} otherwise
+   */
+  public CompletableFuture<Void> flushAsync(final BulkIndexRequest bulk) {
+    final var result = new CompletableFuture<Void>();
+    final var flushDurationMeasurement = metrics.startFlushDurationMeasurement();
+
+    client.performRequestAsync(
+        createBulkRequest(bulk),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              final var bulkResponse = readResponse(response, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                throwCollectedBulkError(bulkResponse);
+              }
+
+              metrics.stopFlushDurationMeasurement(flushDurationMeasurement);
+              result.complete(null);
+            } catch (final IOException e) {
+              onFailure(e);
+            } catch (final ElasticsearchExporterException e) {
+              metrics.recordFailedFlush();
+              result.completeExceptionally(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            metrics.recordFailedFlush();
+            result.completeExceptionally(
+                new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+
+    return result;
+  }
+
+  /**
+   * Hands back a bulk request previously returned by {@link #detachBulk()}, such that it can be
+   * reused for one of the next bulks.
+   *
+   * @param bulk the acknowledged bulk request
+   */
+  public void recycle(final BulkIndexRequest bulk) {
+    bulk.clear();
+    recycledBulkIndexRequests.add(bulk);
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -190,12 +274,7 @@ class ElasticsearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
@@ -205,6 +284,14 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  private Request createBulkRequest(final BulkIndexRequest bulk) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
   private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
@@ -281,7 +368,11 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
@@ -23,8 +23,12 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -45,6 +49,7 @@ public class ElasticsearchExporter implements Exporter {
       Pattern.compile(PATTERN_MIN_AGE_FORMAT).asPredicate();
   // by default, the bulk request may not be bigger than 100MB
   private static final int RECOMMENDED_MAX_BULK_MEMORY_LIMIT = 100 * 1024 * 1024;
+  private static final Duration FAILED_BULK_RETRY_DELAY = Duration.ofSeconds(1);
   private Logger log = LoggerFactory.getLogger(getClass().getPackageName());
   private final ObjectMapper exporterMetadataObjectMapper = new ObjectMapper();
 
@@ -61,6 +66,13 @@ public class ElasticsearchExporter implements Exporter {
   private long lastPosition = -1;
   private Set<String> indexTemplatesCreated;
 
+  /**
+   * Bulks which were sent asynchronously but not yet acknowledged, in the order they were sent.
+   * Positions are only acknowledged in this order, such that the exported position never skips a
+   * bulk which is still in flight or failed.
+   */
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+
   @Override
   public void configure(final Context context) {
     log = context.getLogger();
@@ -97,6 +109,7 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
     if (client != null) {
       try {
+        awaitInFlightBulks();
         flush();
         updateLastExportedPosition();
       } catch (final Exception e) {
@@ -126,6 +139,10 @@ public class ElasticsearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    if (isAsyncFlushEnabled()) {
+      ensureBulkCapacity();
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     final var isRecordIndexedToBatch = client.index(record, recordSequence);
     if (isRecordIndexedToBatch) {
@@ -134,8 +151,12 @@ public class ElasticsearchExporter implements Exporter {
     lastPosition = record.getPosition();
 
     if (client.shouldFlush()) {
-      flush();
-      updateLastExportedPosition();
+      if (isAsyncFlushEnabled()) {
+        flushAsync();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     }
   }
 
@@ -153,6 +174,13 @@ public class ElasticsearchExporter implements Exporter {
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     final Integer numberOfShards = configuration.index.getNumberOfShards();
     if (numberOfShards != null && numberOfShards < 1) {
       throw new ExporterException(
@@ -197,8 +225,12 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isAsyncFlushEnabled()) {
+        flushAsync();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -214,6 +246,131 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isAsyncFlushEnabled() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
+  /**
+   * Sends the current bulk without waiting for its response, so that records can be collected into
+   * the next bulk in the meantime. If all in-flight slots are taken, the current bulk is kept and
+   * sent as soon as one of the in-flight bulks is acknowledged.
+   */
+  private void flushAsync() {
+    acknowledgeFlushedBulks();
+    trySendBulk();
+  }
+
+  /**
+   * Makes sure the current bulk can take another record. If it's full and can't be sent because all
+   * in-flight slots are taken, an exception is thrown before the record is indexed, so that its
+   * export is retried later, as with synchronous flushing. This applies backpressure while Elastic
+   * is slow or unavailable, and keeps the bulk within its size and memory limits.
+   */
+  private void ensureBulkCapacity() {
+    if (!client.shouldFlush()) {
+      return;
+    }
+
+    acknowledgeFlushedBulks();
+    if (trySendBulk()) {
+      return;
+    }
+
+    final var oldestBulk = inFlightBulks.peek();
+    if (oldestBulk.hasFailed()) {
+      throw new ElasticsearchExporterException(
+          String.format(
+              "Expected to flush bulk, but the bulk up to position %d failed to flush; will retry once it is acknowledged",
+              oldestBulk.position));
+    }
+
+    throw new ElasticsearchExporterException(
+        String.format(
+            "Expected to flush bulk, but %d bulks are still in flight; will retry once the bulk up to position %d is acknowledged",
+            inFlightBulks.size(), oldestBulk.position));
+  }
+
+  private boolean trySendBulk() {
+    if (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      return false;
+    }
+
+    final var bulk = client.detachBulk();
+    if (bulk == null) {
+      return true;
+    }
+
+    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
+    final var inFlightBulk =
+        new InFlightBulk(bulk, lastPosition, serializeExporterMetadata(exporterMetadata));
+    inFlightBulks.add(inFlightBulk);
+    send(inFlightBulk);
+    return true;
+  }
+
+  private void send(final InFlightBulk bulk) {
+    bulk.response = client.flushAsync(bulk.request);
+    bulk.response.whenComplete((ok, error) -> controller.submit(this::onBulkCompleted));
+  }
+
+  private void onBulkCompleted() {
+    acknowledgeFlushedBulks();
+
+    // the current bulk may have filled up while all in-flight slots were taken
+    if (client.shouldFlush()) {
+      trySendBulk();
+    }
+  }
+
+  private void acknowledgeFlushedBulks() {
+    InFlightBulk bulk;
+    while ((bulk = inFlightBulks.peek()) != null && bulk.isDone()) {
+      if (bulk.response.isCompletedExceptionally()) {
+        retryFailedBulk(bulk);
+        return;
+      }
+
+      inFlightBulks.poll();
+      controller.updateLastExportedRecordPosition(bulk.position, bulk.metadata);
+      client.recycle(bulk.request);
+    }
+  }
+
+  private void retryFailedBulk(final InFlightBulk bulk) {
+    log.warn(
+        "Failed to flush bulk up to position {}, will retry in {}",
+        bulk.position,
+        FAILED_BULK_RETRY_DELAY,
+        bulk.failure());
+
+    // clear the response so that the bulk is not retried again until the resend is done
+    bulk.response = null;
+    controller.scheduleCancellableTask(FAILED_BULK_RETRY_DELAY, () -> send(bulk));
+  }
+
+  /**
+   * Waits for all in-flight bulks to complete, acknowledging their positions in order. Stops at the
+   * first failed bulk; its records and all records after it are exported again after a restart.
+   */
+  private void awaitInFlightBulks() {
+    while (!inFlightBulks.isEmpty()) {
+      final var bulk = inFlightBulks.peek();
+      if (bulk.response == null) {
+        throw new ElasticsearchExporterException(
+            String.format("Failed to flush bulk up to position %d before closing", bulk.position));
+      }
+
+      final var failure = bulk.awaitResponse();
+      if (failure != null) {
+        throw new ElasticsearchExporterException(
+            String.format("Failed to flush bulk up to position %d before closing", bulk.position),
+            failure);
+      }
+
+      acknowledgeFlushedBulks();
+    }
+  }
+
   private void updateLastExportedPosition() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
@@ -394,6 +551,45 @@ public class ElasticsearchExporter implements Exporter {
     }
   }
 
+  private static final class InFlightBulk {
+    private final BulkIndexRequest request;
+    private final long position;
+    private final byte[] metadata;
+    private CompletableFuture<Void> response;
+
+    private InFlightBulk(
+        final BulkIndexRequest request, final long position, final byte[] metadata) {
+      this.request = request;
+      this.position = position;
+      this.metadata = metadata;
+    }
+
+    private boolean isDone() {
+      return response != null && response.isDone();
+    }
+
+    private boolean hasFailed() {
+      // the response is cleared while the failed bulk is waiting to be resent
+      return response == null || response.isCompletedExceptionally();
+    }
+
+    private Throwable failure() {
+      return response.handle((ok, error) -> error).join();
+    }
+
+    private Throwable awaitResponse() {
+      try {
+        response.get();
+        return null;
+      } catch (final ExecutionException e) {
+        return e.getCause();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return e;
+      }
+    }
+  }
+
   private static class ElasticsearchRecordFilter implements Context.RecordFilter {
 
     private final ElasticsearchExporterConfiguration configuration;
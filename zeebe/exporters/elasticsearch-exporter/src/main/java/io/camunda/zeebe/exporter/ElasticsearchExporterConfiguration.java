@@ -338,6 +338,9 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // number of bulk requests which may be in flight at the same time; with 1, bulks are flushed
+    // synchronously, with more, the exporter keeps collecting records while earlier bulks are sent
+    public int maxInFlightRequests = 1;
 
     @Override
     public String toString() {
@@ -348,6 +351,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
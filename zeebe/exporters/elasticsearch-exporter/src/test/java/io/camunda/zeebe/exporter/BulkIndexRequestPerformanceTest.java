@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares serializing a bulk of records with the streaming serializer of {@link BulkIndexRequest}
+ * against serializing every record as a bean with an {@link ObjectMapper}, which is how records
+ * were serialized before.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BulkIndexRequestPerformanceTest {
+  private static final int BULK_SIZE = 1_000;
+  private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().addMixIn(Record.class, RecordSequenceMixin.class);
+  private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
+
+  private final BulkIndexRequest request = new BulkIndexRequest();
+  private List<Record<RecordValue>> records;
+  private List<BulkIndexAction> actions;
+
+  @Setup
+  public void setup() {
+    records = new ProtocolFactory().generateRecords().limit(BULK_SIZE).toList();
+    actions =
+        IntStream.range(0, BULK_SIZE)
+            .mapToObj(i -> new BulkIndexAction("index", String.valueOf(i), "routing"))
+            .toList();
+  }
+
+  @JMHTest("measureStreamingSerialization")
+  void shouldSerializeFasterThanObjectMapper(final JMHTestCase testCase) throws RunnerException {
+    // given
+    final var objectMapperScore =
+        new Runner(
+                new OptionsBuilder()
+                    .include(
+                        "^\\Q"
+                            + BulkIndexRequestPerformanceTest.class.getName()
+                            + ".measureObjectMapperSerialization\\E$")
+                    .build())
+            .runSingle()
+            .getPrimaryResult()
+            .getScore();
+    assertThat(objectMapperScore).isPositive();
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(objectMapperScore, 0.0);
+  }
+
+  @Benchmark
+  public int measureStreamingSerialization() {
+    request.clear();
+    for (int i = 0; i < BULK_SIZE; i++) {
+      request.index(actions.get(i), records.get(i), new RecordSequence(1, i));
+    }
+
+    return request.memoryUsageBytes();
+  }
+
+  @Benchmark
+  public int measureObjectMapperSerialization() throws IOException {
+    int memoryUsageBytes = 0;
+    for (int i = 0; i < BULK_SIZE; i++) {
+      final byte[] metadata = OBJECT_MAPPER.writeValueAsBytes(actions.get(i));
+      final byte[] source =
+          OBJECT_WRITER
+              .withAttribute(RECORD_SEQUENCE_PROPERTY, new RecordSequence(1, i).sequence())
+              .writeValueAsBytes(records.get(i));
+      memoryUsageBytes += metadata.length + source.length;
+    }
+
+    return memoryUsageBytes;
+  }
+
+  @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
+  private static final class RecordSequenceMixin {}
+}
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.exporter.ElasticsearchClient.buildPutIndexLifecyc
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -29,11 +30,14 @@ import io.camunda.zeebe.util.VersionUtil;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.entity.BasicHttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -130,9 +134,16 @@ final class ElasticsearchClientTest {
   }
 
   private <T> ArgumentCaptor<Request> mockClientResponse(final T content) throws IOException {
+    final var requestCaptor = ArgumentCaptor.forClass(Request.class);
+    final var response = mockResponse(content);
+    when(restClient.performRequest(requestCaptor.capture())).thenReturn(response);
+
+    return requestCaptor;
+  }
+
+  private <T> Response mockResponse(final T content) throws IOException {
     final var httpEntity = new BasicHttpEntity();
     final var serializedContent = MAPPER.writeValueAsBytes(content);
-    final var requestCaptor = ArgumentCaptor.forClass(Request.class);
     final var response = mock(Response.class);
 
     httpEntity.setContent(new ByteArrayInputStream(serializedContent));
@@ -140,9 +151,7 @@ final class ElasticsearchClientTest {
     httpEntity.setContentType("application/json");
 
     when(response.getEntity()).thenReturn(httpEntity);
-    when(restClient.performRequest(requestCaptor.capture())).thenReturn(response);
-
-    return requestCaptor;
+    return response;
   }
 
   @Nested
@@ -249,4 +258,96 @@ final class ElasticsearchClientTest {
       assertThat(bulkRequest.size()).isEqualTo(1);
     }
   }
+
+  @Nested
+  final class AsyncFlushTest {
+
+    @Test
+    void shouldNotDetachEmptyBulk() {
+      // when
+      final var detachedBulk = client.detachBulk();
+
+      // then
+      assertThat(detachedBulk).isNull();
+    }
+
+    @Test
+    void shouldStartNewBulkOnDetach() {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var detachedBulk = client.detachBulk();
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+
+      // then
+      assertThat(detachedBulk).isSameAs(bulkRequest);
+      assertThat(detachedBulk.size()).isEqualTo(1);
+      assertThat(client.detachBulk()).isNotSameAs(detachedBulk);
+    }
+
+    @Test
+    void shouldReuseRecycledBulk() {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      final var recycledBulk = client.detachBulk();
+      client.recycle(recycledBulk);
+
+      // when
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+      client.detachBulk();
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 3));
+
+      // then
+      final var detachedBulk = client.detachBulk();
+      assertThat(detachedBulk).isSameAs(recycledBulk);
+      assertThat(detachedBulk.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCompleteAsyncFlushOnSuccess() throws IOException {
+      // given
+      final var response = mockResponse(new BulkIndexResponse(false, List.of()));
+      doAnswer(
+              invocation -> {
+                invocation.<ResponseListener>getArgument(1).onSuccess(response);
+                return null;
+              })
+          .when(restClient)
+          .performRequestAsync(any(), any());
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var result = client.flushAsync(client.detachBulk());
+
+      // then
+      assertThat(result).isCompleted();
+    }
+
+    @Test
+    void shouldFailAsyncFlushOnError() {
+      // given
+      final var failure = new IOException("Injected failure");
+      doAnswer(
+              invocation -> {
+                invocation.<ResponseListener>getArgument(1).onFailure(failure);
+                return null;
+              })
+          .when(restClient)
+          .performRequestAsync(any(), any());
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var result = client.flushAsync(client.detachBulk());
+
+      // then
+      assertThat(result)
+          .failsWithin(Duration.ZERO)
+          .withThrowableOfType(ExecutionException.class)
+          .havingCause()
+          .isInstanceOf(ElasticsearchExporterException.class)
+          .havingCause()
+          .isSameAs(failure);
+    }
+  }
 }
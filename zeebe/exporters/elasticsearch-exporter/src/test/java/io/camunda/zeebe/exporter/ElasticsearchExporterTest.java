@@ -15,6 +15,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,10 +29,16 @@ import io.camunda.zeebe.protocol.record.ImmutableRecord;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import io.camunda.zeebe.util.VersionUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -320,6 +327,212 @@ final class ElasticsearchExporterTest {
     }
   }
 
+  @Nested
+  final class AsyncFlushTest {
+    private final BulkIndexRequest firstBulk = new BulkIndexRequest();
+    private final BulkIndexRequest secondBulk = new BulkIndexRequest();
+    private final CompletableFuture<Void> firstResponse = new CompletableFuture<>();
+    private final CompletableFuture<Void> secondResponse = new CompletableFuture<>();
+    private final Deque<BulkIndexRequest> bulks = new ArrayDeque<>(List.of(firstBulk, secondBulk));
+    private boolean isBulkFull;
+
+    @BeforeEach
+    void beforeEach() {
+      config.bulk.maxInFlightRequests = 2;
+      // each bulk is full with a single record
+      when(client.index(any(), any()))
+          .thenAnswer(
+              invocation -> {
+                isBulkFull = true;
+                return true;
+              });
+      when(client.shouldFlush()).thenAnswer(invocation -> isBulkFull);
+      when(client.detachBulk())
+          .thenAnswer(
+              invocation -> {
+                isBulkFull = false;
+                return bulks.poll();
+              });
+      when(client.flushAsync(firstBulk)).thenReturn(firstResponse);
+      when(client.flushAsync(secondBulk)).thenReturn(secondResponse);
+
+      exporter.configure(context);
+      exporter.open(controller);
+    }
+
+    @Test
+    void shouldNotWaitForFlushedBulk() {
+      // when
+      exporter.export(recordWithPosition(10L));
+
+      // then
+      verify(client, times(1)).flushAsync(firstBulk);
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldUpdateLastExportedPositionOnceBulkIsAcknowledged() {
+      // given
+      exporter.export(recordWithPosition(10L));
+
+      // when
+      firstResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(10L);
+      verify(client, times(1)).recycle(firstBulk);
+    }
+
+    @Test
+    void shouldAcknowledgeBulksInOrder() {
+      // given
+      exporter.export(recordWithPosition(10L));
+      exporter.export(recordWithPosition(20L));
+
+      // when
+      secondResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      firstResponse.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(20L);
+    }
+
+    @Test
+    void shouldRetryFailedBulk() {
+      // given
+      final var retriedResponse = new CompletableFuture<Void>();
+      when(client.flushAsync(firstBulk)).thenReturn(firstResponse, retriedResponse);
+      exporter.export(recordWithPosition(10L));
+
+      // when
+      firstResponse.completeExceptionally(new ElasticsearchExporterException("failed to flush"));
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      verify(client, times(2)).flushAsync(firstBulk);
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldKeepCollectingRecordsUntilBulkIsFullWhenTooManyBulksAreInFlight() {
+      // given
+      exporter.export(recordWithPosition(10L));
+      exporter.export(recordWithPosition(20L));
+
+      // when - then
+      assertThatCode(() -> exporter.export(recordWithPosition(30L))).doesNotThrowAnyException();
+      verify(client, times(2)).detachBulk();
+      verify(client, times(3)).index(any(), any());
+    }
+
+    @Test
+    void shouldRejectRecordWhenBulkIsFullAndTooManyBulksAreInFlight() {
+      // given
+      exporter.export(recordWithPosition(10L));
+      exporter.export(recordWithPosition(20L));
+      exporter.export(recordWithPosition(30L));
+
+      // when - then
+      assertThatCode(() -> exporter.export(recordWithPosition(40L)))
+          .isInstanceOf(ElasticsearchExporterException.class);
+      verify(client, times(2)).detachBulk();
+      verify(client, times(3)).index(any(), any());
+    }
+
+    @Test
+    void shouldSendCollectedBulkOnceInFlightBulkIsAcknowledged() {
+      // given
+      final var thirdBulk = new BulkIndexRequest();
+      bulks.add(thirdBulk);
+      when(client.flushAsync(thirdBulk)).thenReturn(new CompletableFuture<>());
+      exporter.export(recordWithPosition(10L));
+      exporter.export(recordWithPosition(20L));
+      exporter.export(recordWithPosition(30L));
+
+      // when
+      firstResponse.complete(null);
+      controller.runScheduledTasks(Duration.ZERO);
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(10L);
+      verify(client, times(1)).flushAsync(thirdBulk);
+    }
+
+    @Test
+    void shouldBackOffWhenOldestInFlightBulkFailed() {
+      // given
+      exporter.export(recordWithPosition(10L));
+      exporter.export(recordWithPosition(20L));
+      exporter.export(recordWithPosition(30L));
+
+      // when
+      firstResponse.completeExceptionally(new ElasticsearchExporterException("failed to flush"));
+
+      // then
+      assertThatCode(() -> exporter.export(recordWithPosition(40L)))
+          .isInstanceOf(ElasticsearchExporterException.class)
+          .hasMessageContaining("failed to flush");
+      verify(client, times(2)).detachBulk();
+    }
+
+    @Test
+    void shouldKeepBulksWithinLimitsWhileElasticIsSlow() {
+      // given - an Elastic which never responds
+      final var restClient = mock(RestClient.class);
+      config.bulk.size = 5;
+      config.index.createTemplate = false;
+      final var slowClient =
+          spy(new ElasticsearchClient(config, new SimpleMeterRegistry(), restClient));
+      doReturn(true).when(slowClient).bulkPutIndexLifecycleSettings(any());
+      final var slowExporter =
+          new ElasticsearchExporter() {
+            @Override
+            protected ElasticsearchClient createClient() {
+              return slowClient;
+            }
+          };
+      slowExporter.configure(context);
+      slowExporter.open(controller);
+      final var factory = new ProtocolFactory();
+
+      // when
+      var rejectedRecords = 0;
+      for (int i = 0; i < 100; i++) {
+        final Record<?> record = factory.generateRecord(ValueType.PROCESS_INSTANCE);
+        try {
+          slowExporter.export(record);
+        } catch (final ElasticsearchExporterException e) {
+          rejectedRecords++;
+        }
+      }
+
+      // then
+      final var sentBulks = ArgumentCaptor.forClass(BulkIndexRequest.class);
+      verify(slowClient, times(2)).flushAsync(sentBulks.capture());
+      assertThat(sentBulks.getAllValues())
+          .allSatisfy(bulk -> assertThat(bulk.size()).isEqualTo(config.bulk.size));
+      assertThat(slowClient.detachBulk().size()).isEqualTo(config.bulk.size);
+      assertThat(rejectedRecords).isEqualTo(100 - 3 * config.bulk.size);
+    }
+
+    private Record<?> recordWithPosition(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
+  }
+
   @Nested
   final class ValidationTest {
 
@@ -332,6 +545,16 @@ final class ElasticsearchExporterTest {
       assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
     }
 
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(ints = {-1, 0})
+    void shouldForbidNonPositiveMaxInFlightRequests(final int invalidMaxInFlightRequests) {
+      // given
+      config.bulk.maxInFlightRequests = invalidMaxInFlightRequests;
+
+      // when - then
+      assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
+    }
+
     @ParameterizedTest(name = "{0}")
     @ValueSource(ints = {-1, 0})
     void shouldForbidNonPositiveNumberOfShards(final int invalidNumberOfShards) {
@@ -101,6 +101,7 @@ final class TestSupport {
             ValueType.NULL_VAL,
             ValueType.PROCESS_INSTANCE_RESULT,
             ValueType.CLOCK,
+            ValueType.BATCH_OPERATION,
             ValueType.SCALE,
             ValueType.REDISTRIBUTION,
             // these are not yet supported
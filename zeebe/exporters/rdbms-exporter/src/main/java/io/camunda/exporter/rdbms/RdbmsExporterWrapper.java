@@ -40,6 +40,7 @@ public class RdbmsExporterWrapper implements Exporter {
 
   private static final int DEFAULT_FLUSH_INTERVAL = 500;
   private static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+  private static final int DEFAULT_MAX_BATCH_SIZE = 100;
   private static final Logger LOG = LoggerFactory.getLogger(RdbmsExporterWrapper.class);
 
   private long partitionId;
@@ -49,6 +50,7 @@ public class RdbmsExporterWrapper implements Exporter {
   // configuration
   private Duration flushInterval;
   private int maxQueueSize;
+  private int maxBatchSize;
 
   private RdbmsExporter exporter;
 
@@ -64,18 +66,23 @@ public class RdbmsExporterWrapper implements Exporter {
           (Integer) arguments.getOrDefault("flushInterval", DEFAULT_FLUSH_INTERVAL);
       flushInterval = Duration.ofMillis(flushIntervalMillis);
       maxQueueSize = (Integer) arguments.getOrDefault("maxQueueSize", DEFAULT_MAX_QUEUE_SIZE);
+      maxBatchSize = (Integer) arguments.getOrDefault("maxBatchSize", DEFAULT_MAX_BATCH_SIZE);
     } else {
       flushInterval = Duration.ofMillis(DEFAULT_FLUSH_INTERVAL);
       maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+      maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
     }
 
     LOG.info(
-        "[RDBMS Exporter] Configuration: flushInterval={}, maxQueueSize={}",
+        "[RDBMS Exporter] Configuration: flushInterval={}, maxQueueSize={}, maxBatchSize={}",
         flushInterval,
-        maxQueueSize);
+        maxQueueSize,
+        maxBatchSize);
     partitionId = context.getPartitionId();
 
-    rdbmsWriter = rdbmsService.createWriter(partitionId, maxQueueSize);
+    rdbmsWriter =
+        rdbmsService.createWriter(
+            partitionId, maxQueueSize, maxBatchSize, context.getMeterRegistry());
   }
 
   @Override
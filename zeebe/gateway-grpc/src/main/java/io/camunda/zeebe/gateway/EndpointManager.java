@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
@@ -33,6 +34,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -68,18 +72,25 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.util.VersionUtil;
 import io.grpc.Context;
+import io.grpc.Status;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public final class EndpointManager {
 
+  private static final GrpcErrorMapper ERROR_MAPPER = new GrpcErrorMapper();
+
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler<ActivateJobsResponse> activateJobsHandler;
@@ -213,6 +224,53 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    final int requestCount = request.getRequestsCount();
+    if (requestCount == 0) {
+      responseObserver.onNext(CompleteJobsResponse.getDefaultInstance());
+      responseObserver.onCompleted();
+      return;
+    }
+
+    // every job is completed independently; the response is sent once all results are collected
+    final CompleteJobsResult[] results = new CompleteJobsResult[requestCount];
+    final AtomicInteger pendingResults = new AtomicInteger(requestCount);
+    for (int i = 0; i < requestCount; i++) {
+      final int index = i;
+      final long jobKey = request.getRequests(i).getJobKey();
+      final Consumer<CompleteJobsResult> resultConsumer =
+          result -> {
+            results[index] = result;
+            if (pendingResults.decrementAndGet() == 0) {
+              responseObserver.onNext(
+                  CompleteJobsResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+              responseObserver.onCompleted();
+            }
+          };
+
+      final BrokerRequest<JobRecord> brokerRequest;
+      try {
+        brokerRequest =
+            mapToBrokerRequest(request.getRequests(i), RequestMapper::toCompleteJobRequest);
+      } catch (final Exception e) {
+        resultConsumer.accept(toCompleteJobsResult(jobKey, e));
+        continue;
+      }
+
+      brokerClient.sendRequestWithRetry(
+          brokerRequest,
+          (key, response) ->
+              resultConsumer.accept(
+                  CompleteJobsResult.newBuilder()
+                      .setJobKey(jobKey)
+                      .setCode(Status.Code.OK.value())
+                      .build()),
+          error -> resultConsumer.accept(toCompleteJobsResult(jobKey, error)));
+    }
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -515,6 +573,15 @@ public final class EndpointManager {
     return brokerRequest;
   }
 
+  private CompleteJobsResult toCompleteJobsResult(final long jobKey, final Throwable error) {
+    final Status status = ERROR_MAPPER.mapError(error).getStatus();
+    return CompleteJobsResult.newBuilder()
+        .setJobKey(jobKey)
+        .setCode(status.getCode().value())
+        .setMessage(status.getDescription() == null ? "" : status.getDescription())
+        .build();
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
@@ -29,6 +29,7 @@ import io.camunda.zeebe.gateway.interceptors.impl.AuthenticationInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.ContextInjectingInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.DecoratedInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.InterceptorRepository;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.query.impl.QueryApiImpl;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
@@ -355,7 +356,9 @@ public final class Gateway implements CloseableSilently {
           brokerClient,
           gatewayCfg.getNetwork().getMaxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          REQUEST_CANCELED_EXCEPTION_PROVIDER);
+          REQUEST_CANCELED_EXCEPTION_PROVIDER,
+          gatewayCfg.getLongPolling().getActivationFanOut(),
+          new LongPollingMetrics());
     }
   }
 
@@ -367,6 +370,7 @@ public final class Gateway implements CloseableSilently {
         .setLongPollingTimeout(gatewayCfg.getLongPolling().getTimeout())
         .setProbeTimeoutMillis(gatewayCfg.getLongPolling().getProbeTimeout())
         .setMinEmptyResponses(gatewayCfg.getLongPolling().getMinEmptyResponses())
+        .setActivationFanOut(gatewayCfg.getLongPolling().getActivationFanOut())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
         .setRequestCanceledExceptionProvider(REQUEST_CANCELED_EXCEPTION_PROVIDER)
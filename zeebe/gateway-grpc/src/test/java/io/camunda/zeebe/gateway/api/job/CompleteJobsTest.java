@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.util.JsonUtil;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.grpc.Status;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldCompleteAllJobs() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+    final String variables = JsonUtil.toJson(Collections.singletonMap("key", "value"));
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(1L).setVariables(variables))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(2L))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobsResult::getJobKey, CompleteJobsResult::getCode)
+        .containsExactly(tuple(1L, Status.Code.OK.value()), tuple(2L, Status.Code.OK.value()));
+
+    final List<BrokerRequest<?>> brokerRequests = brokerClient.getBrokerRequests();
+    assertThat(brokerRequests)
+        .hasSize(2)
+        .allSatisfy(
+            brokerRequest -> {
+              assertThat(brokerRequest).isInstanceOf(BrokerCompleteJobRequest.class);
+              assertThat(((BrokerCompleteJobRequest) brokerRequest).getIntent())
+                  .isEqualTo(JobIntent.COMPLETE);
+            });
+    final JobRecord firstJob =
+        ((BrokerCompleteJobRequest) brokerRequests.get(0)).getRequestWriter();
+    MsgPackUtil.assertEqualityExcluding(firstJob.getVariablesBuffer(), variables);
+  }
+
+  @Test
+  public void shouldReturnResultPerJob() {
+    // given
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class,
+        (RequestHandler<BrokerCompleteJobRequest, BrokerResponse<?>>)
+            request -> {
+              if (request.getKey() == 2L) {
+                return new BrokerRejectionResponse<>(
+                    new BrokerRejection(
+                        JobIntent.COMPLETE, 2L, RejectionType.NOT_FOUND, "job not found"));
+              }
+              return new BrokerResponse<>(new JobRecord(), 0, request.getKey());
+            });
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(1L))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(2L))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(3L))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(3);
+    assertThat(response.getResults(0).getCode()).isEqualTo(Status.Code.OK.value());
+    assertThat(response.getResults(1).getJobKey()).isEqualTo(2L);
+    assertThat(response.getResults(1).getCode()).isEqualTo(Status.Code.NOT_FOUND.value());
+    assertThat(response.getResults(1).getMessage()).contains("job not found");
+    assertThat(response.getResults(2).getCode()).isEqualTo(Status.Code.OK.value());
+  }
+
+  @Test
+  public void shouldRespondToEmptyRequest() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+}
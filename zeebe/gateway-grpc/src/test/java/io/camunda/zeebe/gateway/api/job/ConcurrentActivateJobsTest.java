@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.security.configuration.SecurityConfiguration;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+
+public final class ConcurrentActivateJobsTest extends GatewayTest {
+
+  private static final int FAN_OUT = 3;
+
+  public ConcurrentActivateJobsTest() {
+    super(getConfig(), new SecurityConfiguration());
+  }
+
+  private static GatewayCfg getConfig() {
+    final var config = new GatewayCfg();
+    config.getLongPolling().setEnabled(false);
+    config.getLongPolling().setActivationFanOut(FAN_OUT);
+    return config;
+  }
+
+  @Test
+  public void shouldPollPartitionsConcurrently() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    new FailJobStub().registerWith(brokerClient);
+
+    final String type = "test";
+    stub.addAvailableJobs(type, 2);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder().setType(type).setMaxJobsToActivate(2).build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    assertThat(responses.hasNext()).isTrue();
+    assertThat(responses.next().getJobsCount()).isEqualTo(2);
+    assertThat(responses.hasNext()).isFalse();
+
+    assertThat(activateJobsRequests())
+        .extracting(BrokerRequest::getPartitionId)
+        .hasSize(FAN_OUT)
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldReactivateSurplusJobs() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    new FailJobStub().registerWith(brokerClient);
+
+    final String type = "test";
+    final int maxJobsToActivate = 3;
+    stub.addAvailableJobs(type, maxJobsToActivate * FAN_OUT);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(type)
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .build();
+
+    // when
+    final List<ActivatedJob> activatedJobs = new ArrayList<>();
+    client.activateJobs(request).forEachRemaining(r -> activatedJobs.addAll(r.getJobsList()));
+
+    // then
+    assertThat(activatedJobs)
+        .hasSize(maxJobsToActivate)
+        .extracting(job -> Protocol.decodePartitionId(job.getKey()))
+        .containsOnly(activateJobsRequests().getFirst().getPartitionId());
+
+    assertThat(brokerClient.getBrokerRequests())
+        .filteredOn(BrokerFailJobRequest.class::isInstance)
+        .hasSize(maxJobsToActivate * (FAN_OUT - 1));
+  }
+
+  private List<BrokerActivateJobsRequest> activateJobsRequests() {
+    return brokerClient.getBrokerRequests().stream()
+        .filter(BrokerActivateJobsRequest.class::isInstance)
+        .map(BrokerActivateJobsRequest.class::cast)
+        .toList();
+  }
+}
@@ -25,6 +25,7 @@ import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.AuthenticationInterceptor;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
@@ -152,7 +153,9 @@ public final class StubbedGateway {
           brokerClient,
           config.getNetwork().getMaxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER);
+          Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER,
+          config.getLongPolling().getActivationFanOut(),
+          new LongPollingMetrics());
     }
   }
 
@@ -161,6 +164,7 @@ public final class StubbedGateway {
     return LongPollingActivateJobsHandler.<ActivateJobsResponse>newBuilder()
         .setBrokerClient(brokerClient)
         .setMaxMessageSize(config.getNetwork().getMaxMessageSize().toBytes())
+        .setActivationFanOut(config.getLongPolling().getActivationFanOut())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
         .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
@@ -18,9 +18,15 @@ import io.camunda.zeebe.gateway.rest.RequestMapper;
 import io.camunda.zeebe.gateway.rest.ResponseMapper;
 import io.camunda.zeebe.gateway.rest.RestErrorMapper;
 import jakarta.servlet.http.Part;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
@@ -31,6 +37,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -40,6 +47,9 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 @RequestMapping("/v2/documents")
 public class DocumentController {
 
+  private static final String BYTES_RANGE_UNIT = "bytes";
+  private static final int RANGE_COPY_BUFFER_SIZE = 64 * 1024;
+
   private final DocumentServices documentServices;
   private final ObjectMapper objectMapper;
 
@@ -100,20 +110,29 @@ public class DocumentController {
   public ResponseEntity<StreamingResponseBody> getDocumentContent(
       @PathVariable final String documentId,
       @RequestParam(required = false) final String storeId,
-      @RequestParam(required = false) final String contentHash) {
+      @RequestParam(required = false) final String contentHash,
+      @RequestHeader(name = HttpHeaders.RANGE, required = false) final String range) {
 
     try {
       final DocumentContentResponse contentResponse =
           getDocumentContentResponse(documentId, storeId, contentHash);
       final MediaType mediaType = resolveMediaType(contentResponse);
-      return ResponseEntity.ok()
-          .contentType(mediaType)
-          .body(
-              bodyStream -> {
-                try (final var contentInputStream = contentResponse.content()) {
-                  contentInputStream.transferTo(bodyStream);
-                }
-              });
+      final Long size = contentResponse.size();
+      final HttpRange httpRange = size == null ? null : parseSingleRange(range);
+      if (httpRange != null) {
+        return getDocumentContentRange(contentResponse, mediaType, size, httpRange);
+      }
+
+      final var response = ResponseEntity.ok().contentType(mediaType);
+      if (size != null) {
+        response.contentLength(size).header(HttpHeaders.ACCEPT_RANGES, BYTES_RANGE_UNIT);
+      }
+      return response.body(
+          bodyStream -> {
+            try (final var contentInputStream = contentResponse.content()) {
+              contentInputStream.transferTo(bodyStream);
+            }
+          });
     } catch (final Exception e) {
       // we can't return a generic Object type when streaming a response due to Spring MVC
       // limitations
@@ -125,6 +144,82 @@ public class DocumentController {
     }
   }
 
+  /**
+   * Serves a single byte range of the content, so clients can resume downloads or seek in large
+   * documents without the whole content being streamed. Requests for several ranges are served with
+   * the full content, which is permitted by RFC 9110.
+   */
+  private ResponseEntity<StreamingResponseBody> getDocumentContentRange(
+      final DocumentContentResponse contentResponse,
+      final MediaType mediaType,
+      final long size,
+      final HttpRange httpRange)
+      throws IOException {
+    if (!isSatisfiable(httpRange, size)) {
+      contentResponse.content().close();
+      return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+          .header(HttpHeaders.CONTENT_RANGE, BYTES_RANGE_UNIT + " */" + size)
+          .build();
+    }
+
+    final long start = httpRange.getRangeStart(size);
+    final long end = httpRange.getRangeEnd(size);
+    final long length = end - start + 1;
+    return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+        .contentType(mediaType)
+        .contentLength(length)
+        .header(HttpHeaders.ACCEPT_RANGES, BYTES_RANGE_UNIT)
+        .header(
+            HttpHeaders.CONTENT_RANGE, "%s %d-%d/%d".formatted(BYTES_RANGE_UNIT, start, end, size))
+        .body(
+            bodyStream -> {
+              try (final var contentInputStream = contentResponse.content()) {
+                contentInputStream.skipNBytes(start);
+                if (end == size - 1) {
+                  contentInputStream.transferTo(bodyStream);
+                } else {
+                  copyRange(contentInputStream, bodyStream, length);
+                }
+              }
+            });
+  }
+
+  private static HttpRange parseSingleRange(final String range) {
+    if (range == null) {
+      return null;
+    }
+
+    try {
+      final List<HttpRange> ranges = HttpRange.parseRanges(range);
+      return ranges.size() == 1 ? ranges.getFirst() : null;
+    } catch (final IllegalArgumentException e) {
+      // an invalid range header is ignored, and the full content is served instead
+      return null;
+    }
+  }
+
+  private static boolean isSatisfiable(final HttpRange httpRange, final long size) {
+    try {
+      return httpRange.getRangeStart(size) <= httpRange.getRangeEnd(size);
+    } catch (final IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static void copyRange(final InputStream in, final OutputStream out, final long length)
+      throws IOException {
+    final byte[] buffer = new byte[RANGE_COPY_BUFFER_SIZE];
+    long remaining = length;
+    while (remaining > 0) {
+      final int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+      if (read < 0) {
+        throw new EOFException("Document content ended before the end of the requested range");
+      }
+      out.write(buffer, 0, read);
+      remaining -= read;
+    }
+  }
+
   private MediaType resolveMediaType(final DocumentContentResponse contentResponse) {
     try {
       final var contentType = contentResponse.contentType();
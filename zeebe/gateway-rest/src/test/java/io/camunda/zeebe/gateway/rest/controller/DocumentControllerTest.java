@@ -29,6 +29,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 
@@ -245,5 +247,102 @@ public class DocumentControllerTest extends RestControllerTest {
         .isEqualTo(content);
   }
 
+  @Test
+  void shouldReturnRequestedRangeOfDocumentContent() {
+    // given
+    final var content = new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+    when(documentServices.getDocumentContent("documentId", null, null))
+        .thenReturn(
+            new DocumentContentResponse(
+                new ByteArrayInputStream(content), "application/pdf", (long) content.length));
+
+    // when/then
+    webClient
+        .get()
+        .uri(DOCUMENTS_BASE_URL + "/documentId")
+        .accept(MediaType.APPLICATION_PDF)
+        .header(HttpHeaders.RANGE, "bytes=2-4")
+        .exchange()
+        .expectStatus()
+        .isEqualTo(HttpStatus.PARTIAL_CONTENT)
+        .expectHeader()
+        .valueEquals(HttpHeaders.CONTENT_RANGE, "bytes 2-4/10")
+        .expectHeader()
+        .contentLength(3)
+        .expectBody(byte[].class)
+        .isEqualTo(new byte[] {2, 3, 4});
+  }
+
+  @Test
+  void shouldReturnSuffixRangeOfDocumentContent() {
+    // given
+    final var content = new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+    when(documentServices.getDocumentContent("documentId", null, null))
+        .thenReturn(
+            new DocumentContentResponse(
+                new ByteArrayInputStream(content), "application/pdf", (long) content.length));
+
+    // when/then
+    webClient
+        .get()
+        .uri(DOCUMENTS_BASE_URL + "/documentId")
+        .accept(MediaType.APPLICATION_PDF)
+        .header(HttpHeaders.RANGE, "bytes=-3")
+        .exchange()
+        .expectStatus()
+        .isEqualTo(HttpStatus.PARTIAL_CONTENT)
+        .expectHeader()
+        .valueEquals(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10")
+        .expectBody(byte[].class)
+        .isEqualTo(new byte[] {7, 8, 9});
+  }
+
+  @Test
+  void shouldRejectUnsatisfiableRange() {
+    // given
+    final var content = new byte[] {1, 2, 3};
+
+    when(documentServices.getDocumentContent("documentId", null, null))
+        .thenReturn(
+            new DocumentContentResponse(
+                new ByteArrayInputStream(content), "application/pdf", (long) content.length));
+
+    // when/then
+    webClient
+        .get()
+        .uri(DOCUMENTS_BASE_URL + "/documentId")
+        .accept(MediaType.APPLICATION_PDF)
+        .header(HttpHeaders.RANGE, "bytes=5-")
+        .exchange()
+        .expectStatus()
+        .isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+        .expectHeader()
+        .valueEquals(HttpHeaders.CONTENT_RANGE, "bytes */3");
+  }
+
+  @Test
+  void shouldIgnoreRangeIfSizeIsUnknown() {
+    // given
+    final var content = new byte[] {1, 2, 3};
+
+    when(documentServices.getDocumentContent("documentId", null, null))
+        .thenReturn(
+            new DocumentContentResponse(new ByteArrayInputStream(content), "application/pdf"));
+
+    // when/then
+    webClient
+        .get()
+        .uri(DOCUMENTS_BASE_URL + "/documentId")
+        .accept(MediaType.APPLICATION_PDF)
+        .header(HttpHeaders.RANGE, "bytes=1-")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(byte[].class)
+        .isEqualTo(content);
+  }
+
   // TODO: test error cases
 }
@@ -55,6 +55,17 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  /**
+   * Creates a new request with the same job batch and authorization, which can be sent
+   * independently of this one, e.g. to another partition at the same time.
+   */
+  public BrokerActivateJobsRequest copy() {
+    final var copy = new BrokerActivateJobsRequest(requestDto.getType());
+    copy.requestDto.wrap(BufferUtil.createCopy(requestDto));
+    copy.request.setAuthorization(BufferUtil.createCopy(request.getAuthorization()));
+    return copy;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
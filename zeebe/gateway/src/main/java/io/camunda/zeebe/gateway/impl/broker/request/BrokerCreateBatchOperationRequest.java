@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.protocol.impl.record.value.batchoperation.BatchOperationRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationMappingInstruction;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.BatchOperationIntent;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+public final class BrokerCreateBatchOperationRequest
+    extends BrokerExecuteCommand<BatchOperationRecord> {
+
+  private final BatchOperationRecord requestDto = new BatchOperationRecord();
+
+  public BrokerCreateBatchOperationRequest() {
+    super(ValueType.BATCH_OPERATION, BatchOperationIntent.CREATE);
+  }
+
+  public BrokerCreateBatchOperationRequest setBatchOperationType(
+      final BatchOperationType batchOperationType) {
+    requestDto.setBatchOperationType(batchOperationType);
+    return this;
+  }
+
+  public BrokerCreateBatchOperationRequest setProcessInstanceKeys(
+      final List<Long> processInstanceKeys) {
+    processInstanceKeys.forEach(requestDto::addProcessInstanceKey);
+    return this;
+  }
+
+  public BrokerCreateBatchOperationRequest setProcessDefinitionKey(
+      final long processDefinitionKey) {
+    requestDto.setProcessDefinitionKey(processDefinitionKey);
+    return this;
+  }
+
+  public BrokerCreateBatchOperationRequest setTargetProcessDefinitionKey(
+      final long targetProcessDefinitionKey) {
+    requestDto.setTargetProcessDefinitionKey(targetProcessDefinitionKey);
+    return this;
+  }
+
+  public BrokerCreateBatchOperationRequest setMappingInstructions(
+      final List<ProcessInstanceMigrationMappingInstruction> mappingInstructions) {
+    mappingInstructions.forEach(requestDto::addMappingInstruction);
+    return this;
+  }
+
+  public BrokerCreateBatchOperationRequest setTenantId(final String tenantId) {
+    requestDto.setTenantId(tenantId);
+    return this;
+  }
+
+  @Override
+  public BatchOperationRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected BatchOperationRecord toResponseDto(final DirectBuffer buffer) {
+    final BatchOperationRecord responseDto = new BatchOperationRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
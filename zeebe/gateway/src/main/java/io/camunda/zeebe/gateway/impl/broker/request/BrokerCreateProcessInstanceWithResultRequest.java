@@ -79,6 +79,11 @@ public final class BrokerCreateProcessInstanceWithResultRequest
     return this;
   }
 
+  @Override
+  public boolean isLongLived() {
+    return true;
+  }
+
   @Override
   public ProcessInstanceCreationRecord getRequestWriter() {
     return requestDto;
@@ -32,6 +32,7 @@ public final class ClusterCfg {
   private List<String> initialContactPoints =
       Collections.singletonList(DEFAULT_CONTACT_POINT_HOST + ":" + DEFAULT_CONTACT_POINT_PORT);
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+  private RequestCoalescingCfg requestCoalescing = new RequestCoalescingCfg();
   private String clusterName = DEFAULT_CLUSTER_NAME;
   private String memberId = DEFAULT_CLUSTER_MEMBER_ID;
   // leave host and advertised host to null, so we can distinguish if they are set explicitly or not
@@ -114,6 +115,15 @@ public final class ClusterCfg {
     return this;
   }
 
+  public RequestCoalescingCfg getRequestCoalescing() {
+    return requestCoalescing;
+  }
+
+  public ClusterCfg setRequestCoalescing(final RequestCoalescingCfg requestCoalescing) {
+    this.requestCoalescing = requestCoalescing;
+    return this;
+  }
+
   public String getClusterName() {
     return clusterName;
   }
@@ -171,6 +181,7 @@ public final class ClusterCfg {
     return Objects.hash(
         initialContactPoints,
         requestTimeout,
+        requestCoalescing,
         clusterName,
         memberId,
         host,
@@ -193,6 +204,7 @@ public final class ClusterCfg {
     return port == that.port
         && Objects.equals(initialContactPoints, that.initialContactPoints)
         && Objects.equals(requestTimeout, that.requestTimeout)
+        && Objects.equals(requestCoalescing, that.requestCoalescing)
         && Objects.equals(clusterName, that.clusterName)
         && Objects.equals(memberId, that.memberId)
         && Objects.equals(host, that.host)
@@ -209,6 +221,8 @@ public final class ClusterCfg {
         + initialContactPoints
         + ", requestTimeout="
         + requestTimeout
+        + ", requestCoalescing="
+        + requestCoalescing
         + ", clusterName='"
         + clusterName
         + '\''
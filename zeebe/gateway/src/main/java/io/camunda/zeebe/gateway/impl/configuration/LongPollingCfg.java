@@ -16,6 +16,7 @@ public final class LongPollingCfg {
   private long probeTimeout = ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+  private int activationFanOut = ConfigurationDefaults.DEFAULT_ACTIVATION_FAN_OUT;
 
   public long getTimeout() {
     return timeout;
@@ -41,6 +42,18 @@ public final class LongPollingCfg {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  /**
+   * @return the number of partitions which are polled concurrently when activating jobs; a value of
+   *     1 polls the partitions one after the other
+   */
+  public int getActivationFanOut() {
+    return activationFanOut;
+  }
+
+  public void setActivationFanOut(final int activationFanOut) {
+    this.activationFanOut = activationFanOut;
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -52,7 +65,7 @@ public final class LongPollingCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses);
+    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses, activationFanOut);
   }
 
   @Override
@@ -67,7 +80,8 @@ public final class LongPollingCfg {
     return enabled == that.enabled
         && timeout == that.timeout
         && probeTimeout == that.probeTimeout
-        && minEmptyResponses == that.minEmptyResponses;
+        && minEmptyResponses == that.minEmptyResponses
+        && activationFanOut == that.activationFanOut;
   }
 
   @Override
@@ -81,6 +95,8 @@ public final class LongPollingCfg {
         + probeTimeout
         + ", minEmptyResponses="
         + minEmptyResponses
+        + ", activationFanOut="
+        + activationFanOut
         + '}';
   }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configures whether commands sent to the same partition within a short window are packed into one
+ * message to the partition leader. Brokers which don't support this receive the commands one by one
+ * as before.
+ */
+public final class RequestCoalescingCfg {
+
+  private boolean enabled = ConfigurationDefaults.DEFAULT_REQUEST_COALESCING_ENABLED;
+  private Duration window = ConfigurationDefaults.DEFAULT_REQUEST_COALESCING_WINDOW;
+  private int maxRequests = ConfigurationDefaults.DEFAULT_REQUEST_COALESCING_MAX_REQUESTS;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public RequestCoalescingCfg setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  /**
+   * @return how long the first command of a batch waits for further commands
+   */
+  public Duration getWindow() {
+    return window;
+  }
+
+  public RequestCoalescingCfg setWindow(final Duration window) {
+    this.window = window;
+    return this;
+  }
+
+  /**
+   * @return how many commands are packed into one message at most
+   */
+  public int getMaxRequests() {
+    return maxRequests;
+  }
+
+  public RequestCoalescingCfg setMaxRequests(final int maxRequests) {
+    this.maxRequests = maxRequests;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, window, maxRequests);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final RequestCoalescingCfg that = (RequestCoalescingCfg) o;
+    return enabled == that.enabled
+        && maxRequests == that.maxRequests
+        && Objects.equals(window, that.window);
+  }
+
+  @Override
+  public String toString() {
+    return "RequestCoalescingCfg{"
+        + "enabled="
+        + enabled
+        + ", window="
+        + window
+        + ", maxRequests="
+        + maxRequests
+        + '}';
+  }
+}
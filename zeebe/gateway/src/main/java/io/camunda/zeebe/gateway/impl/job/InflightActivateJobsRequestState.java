@@ -8,6 +8,8 @@
 package io.camunda.zeebe.gateway.impl.job;
 
 import io.camunda.zeebe.broker.client.impl.PartitionIdIterator;
+import java.util.ArrayDeque;
+import java.util.Queue;
 
 public class InflightActivateJobsRequestState {
 
@@ -15,6 +17,8 @@ public class InflightActivateJobsRequestState {
   private int remainingAmount;
   private boolean pollPrevPartition;
   private boolean resourceExhaustedWasPresent;
+  private final Queue<Integer> partitionsToPollAgain = new ArrayDeque<>();
+  private int inflightRequests;
 
   public InflightActivateJobsRequestState(
       final PartitionIdIterator iterator, final int remainingAmount) {
@@ -57,4 +61,35 @@ public class InflightActivateJobsRequestState {
   public boolean shouldActivateJobs() {
     return remainingAmount > 0 && (pollPrevPartition || hasNextPartition());
   }
+
+  /**
+   * Returns the next partition to poll when activating jobs concurrently. Partitions which have to
+   * be polled again are preferred over partitions which haven't been polled yet.
+   */
+  public int getNextPartitionToPoll() {
+    final Integer partitionId = partitionsToPollAgain.poll();
+    return partitionId != null ? partitionId : iterator.next();
+  }
+
+  public void pollPartitionAgain(final int partitionId) {
+    partitionsToPollAgain.add(partitionId);
+  }
+
+  public void onRequestSent() {
+    inflightRequests++;
+  }
+
+  public void onResponseReceived() {
+    inflightRequests--;
+  }
+
+  public boolean hasInflightRequests() {
+    return inflightRequests > 0;
+  }
+
+  public boolean shouldActivateJobsConcurrently(final int fanOut) {
+    return remainingAmount > 0
+        && inflightRequests < fanOut
+        && (!partitionsToPollAgain.isEmpty() || hasNextPartition());
+  }
 }
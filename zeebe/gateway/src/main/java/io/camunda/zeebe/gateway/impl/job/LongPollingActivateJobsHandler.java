@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.gateway.impl.job;
 
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_ACTIVATION_FAN_OUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_TIMEOUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
@@ -60,18 +61,24 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final long longPollingTimeout,
       final long probeTimeoutMillis,
       final int failedAttemptThreshold,
+      final int activationFanOut,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> noJobsReceivedExceptionProvider,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
     this.brokerClient = brokerClient;
+    metrics = new LongPollingMetrics();
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+            brokerClient,
+            maxMessageSize,
+            activationResultMapper,
+            requestCanceledExceptionProvider,
+            activationFanOut,
+            metrics);
     this.noJobsReceivedExceptionProvider = noJobsReceivedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
-    metrics = new LongPollingMetrics();
   }
 
   @Override
@@ -380,6 +387,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     // Minimum number of responses with jobCount 0 to infer that no jobs are available
     private int minEmptyResponses = DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+    // Number of partitions which are polled concurrently per activation attempt
+    private int activationFanOut = DEFAULT_ACTIVATION_FAN_OUT;
     private Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
     private Function<String, Exception> noJobsReceivedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
@@ -409,6 +418,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setActivationFanOut(final int activationFanOut) {
+      this.activationFanOut = activationFanOut;
+      return this;
+    }
+
     public Builder<T> setActivationResultMapper(
         final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper) {
       this.activationResultMapper = activationResultMapper;
@@ -435,6 +449,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           longPollingTimeout,
           probeTimeoutMillis,
           minEmptyResponses,
+          activationFanOut,
           activationResultMapper,
           noJobsReceivedExceptionProvider,
           requestCanceledExceptionProvider);
@@ -18,10 +18,13 @@ import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.util.Either;
+import io.prometheus.client.Histogram;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,6 +35,11 @@ import java.util.function.Function;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>With an activation fan-out greater than 1, up to that many partitions are polled concurrently.
+ * All of them share the remaining amount of jobs to activate: each partition is asked for the whole
+ * remaining amount, and any jobs activated beyond it (or after the request was already closed) are
+ * reactivated right away.
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -40,6 +48,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       ACTIVATE_JOB_NOT_SENT_MSG + ", failed with: %s";
   private static final String MAX_MESSAGE_SIZE_EXCEEDED_MSG =
       "the response is bigger than the maximum allowed message size %d";
+  private static final String SURPLUS_JOBS_MSG =
+      "more jobs were activated concurrently than were requested";
 
   private final Map<String, RoundRobinDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
@@ -47,6 +57,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
   private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final int activationFanOut;
+  private final LongPollingMetrics metrics;
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
@@ -56,11 +68,33 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(
+        brokerClient,
+        maxMessageSize,
+        activationResultMapper,
+        requestCanceledExceptionProvider,
+        1,
+        new LongPollingMetrics());
+  }
+
+  public RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final int activationFanOut,
+      final LongPollingMetrics metrics) {
+    if (activationFanOut < 1) {
+      throw new IllegalArgumentException(
+          "Expected activation fan-out to be at least 1, but was " + activationFanOut);
+    }
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
     this.requestCanceledExceptionProvider = requestCanceledExceptionProvider;
+    this.activationFanOut = activationFanOut;
+    this.metrics = metrics;
   }
 
   @Override
@@ -101,9 +135,15 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
 
     final var requestState =
         new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
-    final var delegate = new ResponseObserverDelegate(onError, onCompleted);
+    final var fanOut = Math.min(activationFanOut, partitionsCount);
+    final var delegate =
+        new ResponseObserverDelegate(onError, onCompleted, metrics.startActivationTimer(fanOut));
 
-    activateJobs(request, requestState, delegate);
+    if (fanOut > 1) {
+      activateJobsConcurrently(request, requestState, delegate, fanOut);
+    } else {
+      activateJobs(request, requestState, delegate);
+    }
   }
 
   private void activateJobs(
@@ -138,6 +178,132 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         });
   }
 
+  private void activateJobsConcurrently(
+      final InflightActivateJobsRequest<T> request,
+      final InflightActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final int fanOut) {
+    actor.run(
+        () -> {
+          if (!request.isOpen() || delegate.isDone()) {
+            return;
+          }
+
+          while (requestState.shouldActivateJobsConcurrently(fanOut)) {
+            // every request gets its own copy, as the partition is only read when it is sent
+            final var brokerRequest = request.getRequest().copy();
+            final var partitionId = requestState.getNextPartitionToPoll();
+            brokerRequest.setPartitionId(partitionId);
+            brokerRequest.setMaxJobsToActivate(requestState.getRemainingAmount());
+
+            requestState.onRequestSent();
+            brokerClient
+                .sendRequest(brokerRequest)
+                .whenComplete(
+                    (brokerResponse, error) -> {
+                      if (error == null) {
+                        handleConcurrentResponseSuccess(
+                            request, requestState, delegate, fanOut, partitionId, brokerResponse);
+                      } else {
+                        handleConcurrentResponseError(
+                            request, requestState, delegate, fanOut, partitionId, error);
+                      }
+                    });
+          }
+
+          if (!requestState.hasInflightRequests()) {
+            // enough jobs activated or no more partitions left to check
+            final var remainingAmount = requestState.getRemainingAmount();
+            final var resourceExhaustedWasPresent = requestState.wasResourceExhaustedPresent();
+            delegate.onCompleted(remainingAmount, resourceExhaustedWasPresent);
+          }
+        });
+  }
+
+  private void handleConcurrentResponseSuccess(
+      final InflightActivateJobsRequest<T> request,
+      final InflightActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final int fanOut,
+      final int partitionId,
+      final BrokerResponse<JobBatchRecord> brokerResponse) {
+    actor.run(
+        () -> {
+          requestState.onResponseReceived();
+
+          final var response = brokerResponse.getResponse();
+          final var budget =
+              request.isOpen() && !delegate.isDone() ? requestState.getRemainingAmount() : 0;
+          final var surplusJobs = removeSurplusJobs(response, budget);
+          if (!surplusJobs.isEmpty()) {
+            final var jobKeys = surplusJobs.stream().map(ActivatedJob::key).toList();
+            logResponseNotSent(request.getType(), jobKeys, SURPLUS_JOBS_MSG);
+            reactivateJobs(surplusJobs, SURPLUS_JOBS_MSG);
+          }
+
+          final var jobsCount = trySendActivatedJobs(request, delegate, brokerResponse);
+          if (jobsCount < 0) {
+            return;
+          }
+
+          requestState.setRemainingAmount(requestState.getRemainingAmount() - jobsCount);
+          if (response.getTruncated()) {
+            requestState.pollPartitionAgain(partitionId);
+          }
+          activateJobsConcurrently(request, requestState, delegate, fanOut);
+        });
+  }
+
+  private void handleConcurrentResponseError(
+      final InflightActivateJobsRequest<T> request,
+      final InflightActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final int fanOut,
+      final int partitionId,
+      final Throwable error) {
+    actor.run(
+        () -> {
+          requestState.onResponseReceived();
+
+          final var wasResourceExhausted = wasResourceExhausted(error);
+          if (isRejection(error)) {
+            delegate.onError(error);
+            return;
+          } else if (wasResourceExhausted) {
+            requestState.setResourceExhaustedWasPresent(true);
+          } else {
+            logErrorResponse(partitionId, request.getType(), error);
+          }
+
+          activateJobsConcurrently(request, requestState, delegate, fanOut);
+        });
+  }
+
+  /**
+   * Removes all jobs beyond the given budget from the response, such that they are not sent to the
+   * client.
+   *
+   * @return the removed jobs, which have to be reactivated
+   */
+  private List<ActivatedJob> removeSurplusJobs(final JobBatchRecord response, final int budget) {
+    final List<ActivatedJob> surplusJobs = new ArrayList<>();
+    final var jobKeys = response.jobKeys().iterator();
+    final var jobs = response.jobs().iterator();
+    var jobsCount = 0;
+
+    while (jobKeys.hasNext() && jobs.hasNext()) {
+      final var jobKey = jobKeys.next();
+      final var job = jobs.next();
+      if (++jobsCount > budget) {
+        surplusJobs.add(new ActivatedJob(jobKey.getValue(), job.getRetries()));
+        jobKeys.remove();
+        jobs.remove();
+      }
+    }
+
+    return surplusJobs;
+  }
+
   private BiConsumer<BrokerResponse<JobBatchRecord>, Throwable> handleBrokerResponse(
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState requestState,
@@ -158,43 +324,13 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final BrokerResponse<JobBatchRecord> brokerResponse) {
     actor.run(
         () -> {
-          final var response = brokerResponse.getResponse();
-          final JobActivationResult<T> jobActivationResult =
-              activationResultMapper.apply(
-                  new JobActivationResponse(brokerResponse.getKey(), response, maxMessageSize));
-
-          final List<ActivatedJob> jobsToDefer = jobActivationResult.getJobsToDefer();
-          if (!jobsToDefer.isEmpty()) {
-            final var jobKeys = jobsToDefer.stream().map(ActivatedJob::key).toList();
-            final var jobType = request.getType();
-            final var reason = String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
-
-            logResponseNotSent(jobType, jobKeys, reason);
-            reactivateJobs(jobsToDefer, reason);
-          }
-
-          final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
-          final var jobsCount = jobActivationResult.getJobsCount();
-          final var jobsActivated = jobsCount > 0;
-          if (jobsActivated) {
-            final var result = request.tryToSendActivatedJobs(activateJobsResponse);
-            final var responseWasSent = result.getOrElse(false);
-
-            if (!responseWasSent) {
-              final var activatedJobsToReactivate = jobActivationResult.getJobs();
-              final var jobKeys = response.getJobKeys();
-              final var jobType = request.getType();
-              final var reason = createReasonMessage(result);
-
-              logResponseNotSent(jobType, jobKeys, reason);
-              reactivateJobs(activatedJobsToReactivate, reason);
-              cancelActivateJobsRequest(reason, delegate);
-              return;
-            }
+          final var jobsCount = trySendActivatedJobs(request, delegate, brokerResponse);
+          if (jobsCount < 0) {
+            return;
           }
 
           final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
-          final var shouldPollCurrentPartitionAgain = response.getTruncated();
+          final var shouldPollCurrentPartitionAgain = brokerResponse.getResponse().getTruncated();
 
           requestState.setRemainingAmount(remainingJobsToActivate);
           requestState.setPollPrevPartition(shouldPollCurrentPartitionAgain);
@@ -202,6 +338,54 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         });
   }
 
+  /**
+   * Sends the jobs activated by the given response to the client. If they can't be sent, the jobs
+   * are reactivated and the request is canceled.
+   *
+   * @return the number of jobs sent to the client, or -1 if the request was canceled
+   */
+  private int trySendActivatedJobs(
+      final InflightActivateJobsRequest<T> request,
+      final ResponseObserverDelegate delegate,
+      final BrokerResponse<JobBatchRecord> brokerResponse) {
+    final var response = brokerResponse.getResponse();
+    final JobActivationResult<T> jobActivationResult =
+        activationResultMapper.apply(
+            new JobActivationResponse(brokerResponse.getKey(), response, maxMessageSize));
+
+    final List<ActivatedJob> jobsToDefer = jobActivationResult.getJobsToDefer();
+    if (!jobsToDefer.isEmpty()) {
+      final var jobKeys = jobsToDefer.stream().map(ActivatedJob::key).toList();
+      final var jobType = request.getType();
+      final var reason = String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
+
+      logResponseNotSent(jobType, jobKeys, reason);
+      reactivateJobs(jobsToDefer, reason);
+    }
+
+    final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
+    final var jobsCount = jobActivationResult.getJobsCount();
+    final var jobsActivated = jobsCount > 0;
+    if (jobsActivated) {
+      final var result = request.tryToSendActivatedJobs(activateJobsResponse);
+      final var responseWasSent = result.getOrElse(false);
+
+      if (!responseWasSent) {
+        final var activatedJobsToReactivate = jobActivationResult.getJobs();
+        final var jobKeys = response.getJobKeys();
+        final var jobType = request.getType();
+        final var reason = createReasonMessage(result);
+
+        logResponseNotSent(jobType, jobKeys, reason);
+        reactivateJobs(activatedJobsToReactivate, reason);
+        cancelActivateJobsRequest(reason, delegate);
+        return -1;
+      }
+    }
+
+    return jobsCount;
+  }
+
   private String createReasonMessage(final Either<Exception, Boolean> resultValue) {
     final String errorMessage;
     if (resultValue.isLeft()) {
@@ -299,15 +483,50 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         topologyManager);
   }
 
-  private record ResponseObserverDelegate(
-      Consumer<Throwable> onErrorDelegate, BiConsumer<Integer, Boolean> onCompletedDelegate) {
+  /**
+   * Completes the activation attempt exactly once; further calls are ignored, which may happen when
+   * multiple partitions are polled concurrently.
+   */
+  private static final class ResponseObserverDelegate {
+
+    private final Consumer<Throwable> onErrorDelegate;
+    private final BiConsumer<Integer, Boolean> onCompletedDelegate;
+    private final Histogram.Timer activationTimer;
+    private boolean isDone;
+
+    private ResponseObserverDelegate(
+        final Consumer<Throwable> onErrorDelegate,
+        final BiConsumer<Integer, Boolean> onCompletedDelegate,
+        final Histogram.Timer activationTimer) {
+      this.onErrorDelegate = onErrorDelegate;
+      this.onCompletedDelegate = onCompletedDelegate;
+      this.activationTimer = activationTimer;
+    }
 
     public void onError(final Throwable t) {
-      onErrorDelegate.accept(t);
+      if (tryFinish()) {
+        onErrorDelegate.accept(t);
+      }
     }
 
     public void onCompleted(final int remainingAmount, final boolean resourceExhaustedWasPresent) {
-      onCompletedDelegate.accept(remainingAmount, resourceExhaustedWasPresent);
+      if (tryFinish()) {
+        onCompletedDelegate.accept(remainingAmount, resourceExhaustedWasPresent);
+      }
+    }
+
+    public boolean isDone() {
+      return isDone;
+    }
+
+    private boolean tryFinish() {
+      if (isDone) {
+        return false;
+      }
+
+      isDone = true;
+      activationTimer.observeDuration();
+      return true;
     }
   }
 }
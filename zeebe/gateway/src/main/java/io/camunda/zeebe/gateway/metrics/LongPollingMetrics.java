@@ -9,6 +9,7 @@ package io.camunda.zeebe.gateway.metrics;
 
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public final class LongPollingMetrics {
   private static final Gauge REQUESTS_QUEUED_CURRENT =
@@ -19,6 +20,16 @@ public final class LongPollingMetrics {
           .labelNames("type")
           .register();
 
+  private static final Histogram ACTIVATION_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("activate_jobs_latency")
+          .help(
+              "Time taken to activate jobs on all partitions for one activation attempt, by the"
+                  + " number of partitions polled concurrently")
+          .labelNames("fan_out")
+          .register();
+
   public void setBlockedRequestsCount(final String type, final int count) {
     REQUESTS_QUEUED_CURRENT.labels(type).set(count);
   }
@@ -27,4 +38,8 @@ public final class LongPollingMetrics {
   public double getBlockedRequestsCount(final String type) {
     return REQUESTS_QUEUED_CURRENT.labels(type).get();
   }
+
+  public Histogram.Timer startActivationTimer(final int fanOut) {
+    return ACTIVATION_LATENCY.labels(Integer.toString(fanOut)).startTimer();
+  }
 }
@@ -21,6 +21,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.nio.file.Path;
 import java.util.SortedMap;
+import org.agrona.DirectBuffer;
 
 public interface Journal extends AutoCloseable {
 
@@ -67,6 +68,16 @@ public interface Journal extends AutoCloseable {
    */
   JournalRecord append(long checksum, byte[] serializedRecord);
 
+  /**
+   * Appends already serialized journal record. See {@link JournalRecord#serializedRecord()}. The
+   * record is copied from the given buffer into the journal, so the buffer can be reused after this
+   * call returns.
+   *
+   * @param checksum checksum of serializedRecord
+   * @param serializedRecord serializedRecord
+   */
+  JournalRecord append(long checksum, DirectBuffer serializedRecord);
+
   /**
    * Delete all records after indexExclusive. After a call to this method, {@link
    * Journal#getLastIndex()} should return indexExclusive.
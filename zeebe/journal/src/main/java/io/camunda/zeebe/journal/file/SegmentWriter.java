@@ -35,6 +35,7 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferUnderflowException;
 import java.nio.MappedByteBuffer;
+import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -160,11 +161,11 @@ final class SegmentWriter {
   }
 
   Either<SegmentFull, JournalRecord> append(
-      final long expectedChecksum, final byte[] serializedRecord) {
+      final long expectedChecksum, final DirectBuffer serializedRecord) {
 
     final int startPosition = buffer.position();
     final int frameLength = FrameUtil.getLength();
-    final int recordLength = serializedRecord.length;
+    final int recordLength = serializedRecord.capacity();
     final int metadataLength = serializer.getMetadataLength();
 
     if (startPosition + frameLength + metadataLength + recordLength > buffer.capacity()) {
@@ -172,7 +173,8 @@ final class SegmentWriter {
     }
 
     // write serialized RecordData
-    writeBuffer.putBytes(startPosition + frameLength + metadataLength, serializedRecord);
+    writeBuffer.putBytes(
+        startPosition + frameLength + metadataLength, serializedRecord, 0, recordLength);
 
     finalizeAppend(expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
     return Either.right(lastEntry);
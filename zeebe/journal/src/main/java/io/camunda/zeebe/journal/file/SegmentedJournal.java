@@ -34,6 +34,8 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Collectors;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -93,6 +95,11 @@ public final class SegmentedJournal implements Journal {
 
   @Override
   public JournalRecord append(final long checksum, final byte[] serializedRecord) {
+    return append(checksum, new UnsafeBuffer(serializedRecord));
+  }
+
+  @Override
+  public JournalRecord append(final long checksum, final DirectBuffer serializedRecord) {
     try (final var ignored = journalMetrics.observeAppendLatency()) {
       return writer.append(checksum, serializedRecord);
     }
@@ -22,6 +22,7 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
@@ -106,7 +107,8 @@ public final class FlowControl implements AppendListener {
   }
 
   /**
-   * Tries to acquire a free in-flight spot, applying backpressure as needed.
+   * Tries to acquire a free in-flight spot for every user command of the batch, applying
+   * backpressure as needed.
    *
    * @return An Optional containing a {@link InFlightEntry} if append was accepted, an empty
    *     Optional otherwise.
@@ -128,29 +130,48 @@ public final class FlowControl implements AppendListener {
 
   private Either<Rejection, InFlightEntry> tryAcquireInternal(
       final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
-    final Listener requestListener;
+    final List<Listener> requestListeners;
     switch (context) {
       case final Internal ignored -> {
         // Internal commands are always accepted for incident response and maintenance.
         return Either.right(new InFlightEntry(metrics, batchMetadata, null));
       }
       case UserCommand(final var intent) -> {
-        requestListener = processingLimiter.acquire(intent).orElse(null);
-        if (requestListener == null) {
+        requestListeners = acquireRequestListeners(intent, batchMetadata.size());
+        if (requestListeners == null) {
           return Either.left(Rejection.RequestLimitExhausted);
         }
       }
-      default -> requestListener = null;
+      default -> requestListeners = null;
     }
 
     if (writeRateLimiter != null && !writeRateLimiter.tryAcquire(batchMetadata.size())) {
-      if (requestListener != null) {
-        requestListener.onIgnore();
+      if (requestListeners != null) {
+        requestListeners.forEach(Listener::onIgnore);
       }
       return Either.left(Rejection.WriteRateLimitExhausted);
     }
 
-    return Either.right(new InFlightEntry(metrics, batchMetadata, requestListener));
+    return Either.right(new InFlightEntry(metrics, batchMetadata, requestListeners));
+  }
+
+  /**
+   * Acquires one request limit spot per command, so that a batch of user commands counts as many
+   * in-flight requests as the commands would when appended one by one.
+   *
+   * @return the listeners of the acquired spots, or null if the limit is exhausted
+   */
+  private List<Listener> acquireRequestListeners(final Intent intent, final int commandCount) {
+    final var requestListeners = new ArrayList<Listener>(commandCount);
+    for (int i = 0; i < commandCount; i++) {
+      final var requestListener = processingLimiter.acquire(intent);
+      if (requestListener.isEmpty()) {
+        requestListeners.forEach(Listener::onIgnore);
+        return null;
+      }
+      requestListeners.add(requestListener.get());
+    }
+    return requestListeners;
   }
 
   public void onAppend(final InFlightEntry entry, final long highestPosition) {
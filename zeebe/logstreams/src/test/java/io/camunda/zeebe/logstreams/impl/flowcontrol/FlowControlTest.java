@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
+import io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class FlowControlTest {
+
+  private static final LogAppendEntryMetadata COMMAND =
+      new LogAppendEntryMetadata(
+          RecordType.COMMAND,
+          ValueType.PROCESS_INSTANCE_CREATION,
+          ProcessInstanceCreationIntent.CREATE);
+  private static final WriteContext CONTEXT =
+      WriteContext.userCommand(ProcessInstanceCreationIntent.CREATE);
+
+  private final FlowControl flowControl =
+      new FlowControl(new LogStreamMetrics(1), FixedLimit.of(4), RateLimit.disabled());
+
+  @Test
+  void shouldAcquireRequestLimitPerCommandOfBatch() {
+    // given
+    final var batch = Collections.nCopies(3, COMMAND);
+    assertThat(flowControl.tryAcquire(CONTEXT, batch).isRight()).isTrue();
+
+    // when
+    final var result = flowControl.tryAcquire(CONTEXT, batch);
+
+    // then
+    assertThat(result.isLeft()).isTrue();
+    assertThat(result.getLeft()).isEqualTo(Rejection.RequestLimitExhausted);
+  }
+
+  @Test
+  void shouldRejectBatchesAtConfiguredLimit() {
+    // given
+    final var batch = Collections.nCopies(2, COMMAND);
+    assertThat(flowControl.tryAcquire(CONTEXT, batch).isRight()).isTrue();
+    assertThat(flowControl.tryAcquire(CONTEXT, batch).isRight()).isTrue();
+
+    // when
+    final var result = flowControl.tryAcquire(CONTEXT, List.of(COMMAND));
+
+    // then
+    assertThat(result.isLeft()).isTrue();
+    assertThat(result.getLeft()).isEqualTo(Rejection.RequestLimitExhausted);
+  }
+
+  @Test
+  void shouldReleaseRequestLimitOfRejectedBatch() {
+    // given
+    assertThat(flowControl.tryAcquire(CONTEXT, Collections.nCopies(3, COMMAND)).isRight()).isTrue();
+    assertThat(flowControl.tryAcquire(CONTEXT, Collections.nCopies(2, COMMAND)).isLeft()).isTrue();
+
+    // when
+    final var result = flowControl.tryAcquire(CONTEXT, List.of(COMMAND));
+
+    // then - the spot acquired for the rejected batch was given back
+    assertThat(result.isRight()).isTrue();
+  }
+
+  @Test
+  void shouldReleaseRequestLimitOfBatchOnceProcessed() {
+    // given
+    final var entry = flowControl.tryAcquire(CONTEXT, Collections.nCopies(4, COMMAND)).get();
+    entry.onAppend();
+
+    // when
+    entry.onProcessed();
+
+    // then
+    assertThat(flowControl.tryAcquire(CONTEXT, Collections.nCopies(4, COMMAND)).isRight()).isTrue();
+  }
+}
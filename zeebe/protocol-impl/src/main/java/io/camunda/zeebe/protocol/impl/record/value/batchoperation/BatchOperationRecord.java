@@ -0,0 +1,214 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record.value.batchoperation;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.EnumProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.msgpack.value.ValueArray;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationMappingInstruction;
+import io.camunda.zeebe.protocol.record.value.BatchOperationRecordValue;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceMigrationRecordValue.ProcessInstanceMigrationMappingInstructionValue;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+public final class BatchOperationRecord extends UnifiedRecordValue
+    implements BatchOperationRecordValue {
+
+  private final LongProperty batchOperationKeyProperty = new LongProperty("batchOperationKey", -1L);
+  private final EnumProperty<BatchOperationType> batchOperationTypeProperty =
+      new EnumProperty<>(
+          "batchOperationType", BatchOperationType.class, BatchOperationType.PROCESS_CANCELLATION);
+  private final ArrayProperty<LongValue> processInstanceKeysProperty =
+      new ArrayProperty<>("processInstanceKeys", LongValue::new);
+  private final LongProperty processDefinitionKeyProperty =
+      new LongProperty("processDefinitionKey", -1L);
+  private final LongProperty targetProcessDefinitionKeyProperty =
+      new LongProperty("targetProcessDefinitionKey", -1L);
+  private final ArrayProperty<ProcessInstanceMigrationMappingInstruction>
+      mappingInstructionsProperty =
+          new ArrayProperty<>(
+              "mappingInstructions", ProcessInstanceMigrationMappingInstruction::new);
+  private final LongProperty processedItemsProperty = new LongProperty("processedItems", 0L);
+
+  /**
+   * The index is used to keep track of the position in the batch. When the index is -1, there won't
+   * be another chunk.
+   *
+   * <p>Depending on how the process instances are selected the index is used differently:
+   *
+   * <ul>
+   *   <li>by process instance keys - The remaining keys are kept in the state, so the index stays 0
+   *       as long as there are keys left.
+   *   <li>by process definition key - The index is the key of the first process instance of the
+   *       next chunk. It starts at 0, which is before any process instance key.
+   * </ul>
+   */
+  private final LongProperty indexProperty = new LongProperty("index", 0L);
+
+  private final StringProperty tenantIdProperty =
+      new StringProperty("tenantId", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+  public BatchOperationRecord() {
+    super(9);
+    declareProperty(batchOperationKeyProperty)
+        .declareProperty(batchOperationTypeProperty)
+        .declareProperty(processInstanceKeysProperty)
+        .declareProperty(processDefinitionKeyProperty)
+        .declareProperty(targetProcessDefinitionKeyProperty)
+        .declareProperty(mappingInstructionsProperty)
+        .declareProperty(processedItemsProperty)
+        .declareProperty(indexProperty)
+        .declareProperty(tenantIdProperty);
+  }
+
+  public BatchOperationRecord copy() {
+    final var copy = new BatchOperationRecord();
+    copy.copyFrom(this);
+    return copy;
+  }
+
+  @Override
+  public long getBatchOperationKey() {
+    return batchOperationKeyProperty.getValue();
+  }
+
+  public BatchOperationRecord setBatchOperationKey(final long batchOperationKey) {
+    batchOperationKeyProperty.setValue(batchOperationKey);
+    return this;
+  }
+
+  @Override
+  public BatchOperationType getBatchOperationType() {
+    return batchOperationTypeProperty.getValue();
+  }
+
+  public BatchOperationRecord setBatchOperationType(final BatchOperationType batchOperationType) {
+    batchOperationTypeProperty.setValue(batchOperationType);
+    return this;
+  }
+
+  @Override
+  public List<Long> getProcessInstanceKeys() {
+    return StreamSupport.stream(processInstanceKeysProperty.spliterator(), false)
+        .map(LongValue::getValue)
+        .toList();
+  }
+
+  /** Returns the process instance keys without copying them, e.g. to iterate over them. */
+  @JsonIgnore
+  public ValueArray<LongValue> processInstanceKeys() {
+    return processInstanceKeysProperty;
+  }
+
+  /** Returns true if the process instances are selected by their keys, otherwise false. */
+  @JsonIgnore
+  public boolean hasProcessInstanceKeys() {
+    return !processInstanceKeysProperty.isEmpty();
+  }
+
+  public BatchOperationRecord addProcessInstanceKey(final long processInstanceKey) {
+    processInstanceKeysProperty.add().setValue(processInstanceKey);
+    return this;
+  }
+
+  public BatchOperationRecord resetProcessInstanceKeys() {
+    processInstanceKeysProperty.reset();
+    return this;
+  }
+
+  @Override
+  public long getProcessDefinitionKey() {
+    return processDefinitionKeyProperty.getValue();
+  }
+
+  public BatchOperationRecord setProcessDefinitionKey(final long processDefinitionKey) {
+    processDefinitionKeyProperty.setValue(processDefinitionKey);
+    return this;
+  }
+
+  @Override
+  public long getTargetProcessDefinitionKey() {
+    return targetProcessDefinitionKeyProperty.getValue();
+  }
+
+  public BatchOperationRecord setTargetProcessDefinitionKey(final long targetProcessDefinitionKey) {
+    targetProcessDefinitionKeyProperty.setValue(targetProcessDefinitionKey);
+    return this;
+  }
+
+  /**
+   * This method is expensive because it copies each element before returning it. It is recommended
+   * to use {@link #mappingInstructions()} to iterate over the instructions instead.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  public List<ProcessInstanceMigrationMappingInstructionValue> getMappingInstructions() {
+    // we need to make a copy of each element in the ArrayProperty while iterating it because the
+    // inner values are updated during the iteration
+    return mappingInstructionsProperty.stream()
+        .map(
+            element -> {
+              final var elementCopy = new ProcessInstanceMigrationMappingInstruction();
+              elementCopy.copy(element);
+              return (ProcessInstanceMigrationMappingInstructionValue) elementCopy;
+            })
+        .toList();
+  }
+
+  /** Returns the mapping instructions without copying them, e.g. to iterate over them. */
+  @JsonIgnore
+  public ValueArray<ProcessInstanceMigrationMappingInstruction> mappingInstructions() {
+    return mappingInstructionsProperty;
+  }
+
+  public BatchOperationRecord addMappingInstruction(
+      final ProcessInstanceMigrationMappingInstruction mappingInstruction) {
+    mappingInstructionsProperty.add().copy(mappingInstruction);
+    return this;
+  }
+
+  @Override
+  public long getProcessedItems() {
+    return processedItemsProperty.getValue();
+  }
+
+  public BatchOperationRecord setProcessedItems(final long processedItems) {
+    processedItemsProperty.setValue(processedItems);
+    return this;
+  }
+
+  @Override
+  public long getIndex() {
+    return indexProperty.getValue();
+  }
+
+  public BatchOperationRecord setIndex(final long index) {
+    indexProperty.setValue(index);
+    return this;
+  }
+
+  @Override
+  public String getTenantId() {
+    return bufferAsString(tenantIdProperty.getValue());
+  }
+
+  public BatchOperationRecord setTenantId(final String tenantId) {
+    tenantIdProperty.setValue(tenantId);
+    return this;
+  }
+}
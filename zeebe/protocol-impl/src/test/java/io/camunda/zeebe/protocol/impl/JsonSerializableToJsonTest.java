@@ -24,6 +24,7 @@ import io.camunda.zeebe.protocol.impl.record.value.authorization.IdentitySetupRe
 import io.camunda.zeebe.protocol.impl.record.value.authorization.MappingRecord;
 import io.camunda.zeebe.protocol.impl.record.value.authorization.Permission;
 import io.camunda.zeebe.protocol.impl.record.value.authorization.RoleRecord;
+import io.camunda.zeebe.protocol.impl.record.value.batchoperation.BatchOperationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.clock.ClockRecord;
 import io.camunda.zeebe.protocol.impl.record.value.compensation.CompensationSubscriptionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.decision.DecisionEvaluationRecord;
@@ -77,6 +78,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.value.AuthorizationOwnerType;
 import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.BpmnEventType;
 import io.camunda.zeebe.protocol.record.value.EntityType;
@@ -2710,6 +2712,65 @@ final class JsonSerializableToJsonTest {
         }
         """
       },
+      /////////////////////////////////////////////////////////////////////////////////////////////
+      //////////////////////////////////// BatchOperationRecord ///////////////////////////////////
+      /////////////////////////////////////////////////////////////////////////////////////////////
+      {
+        "BatchOperationRecord",
+        (Supplier<UnifiedRecordValue>)
+            () ->
+                new BatchOperationRecord()
+                    .setBatchOperationKey(1L)
+                    .setBatchOperationType(BatchOperationType.PROCESS_MIGRATION)
+                    .addProcessInstanceKey(123L)
+                    .addProcessInstanceKey(456L)
+                    .setTargetProcessDefinitionKey(789L)
+                    .addMappingInstruction(
+                        new ProcessInstanceMigrationMappingInstruction()
+                            .setSourceElementId("sourceId")
+                            .setTargetElementId("targetId"))
+                    .setProcessedItems(2L)
+                    .setIndex(-1L)
+                    .setTenantId("tenant"),
+        """
+        {
+          "batchOperationKey": 1,
+          "batchOperationType": "PROCESS_MIGRATION",
+          "processInstanceKeys": [123, 456],
+          "processDefinitionKey": -1,
+          "targetProcessDefinitionKey": 789,
+          "mappingInstructions": [{
+            "sourceElementId": "sourceId",
+            "targetElementId": "targetId"
+          }],
+          "processedItems": 2,
+          "index": -1,
+          "tenantId": "tenant"
+        }
+        """
+      },
+
+      /////////////////////////////////////////////////////////////////////////////////////////////
+      //////////////////////////////// Empty BatchOperationRecord /////////////////////////////////
+      /////////////////////////////////////////////////////////////////////////////////////////////
+      {
+        "Empty BatchOperationRecord",
+        (Supplier<UnifiedRecordValue>) BatchOperationRecord::new,
+        """
+        {
+          "batchOperationKey": -1,
+          "batchOperationType": "PROCESS_CANCELLATION",
+          "processInstanceKeys": [],
+          "processDefinitionKey": -1,
+          "targetProcessDefinitionKey": -1,
+          "mappingInstructions": [],
+          "processedItems": 0,
+          "index": 0,
+          "tenantId": "<default>"
+        }
+        """
+      },
+
       /////////////////////////////////////////////////////////////////////////////////////////////
       //////////////////////////////////// AuthorizationRecord ////////////////////////////////////
       /////////////////////////////////////////////////////////////////////////////////////////////
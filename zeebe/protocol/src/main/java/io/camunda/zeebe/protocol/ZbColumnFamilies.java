@@ -223,7 +223,12 @@ public enum ZbColumnFamilies implements EnumValue {
   RESOURCE_VERSION(115),
   RESOURCE_BY_ID_AND_VERSION(116),
   RESOURCE_KEY_BY_RESOURCE_ID_AND_VERSION_TAG(117),
-  RESOURCE_KEY_BY_RESOURCE_ID_AND_DEPLOYMENT_KEY(118);
+  RESOURCE_KEY_BY_RESOURCE_ID_AND_DEPLOYMENT_KEY(118),
+
+  BATCH_OPERATION(119),
+  BATCH_OPERATION_PENDING_ITEMS(120),
+
+  MULTI_INSTANCE_OUTPUT_ELEMENTS(121);
 
   private final int value;
 
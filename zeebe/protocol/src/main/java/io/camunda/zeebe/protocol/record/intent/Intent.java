@@ -70,7 +70,8 @@ public interface Intent {
           RedistributionIntent.class,
           GroupIntent.class,
           MappingIntent.class,
-          IdentitySetupIntent.class);
+          IdentitySetupIntent.class,
+          BatchOperationIntent.class);
   short NULL_VAL = 255;
   Intent UNKNOWN = UnknownIntent.UNKNOWN;
 
@@ -178,6 +179,8 @@ public interface Intent {
         return MappingIntent.from(intent);
       case IDENTITY_SETUP:
         return IdentitySetupIntent.from(intent);
+      case BATCH_OPERATION:
+        return BatchOperationIntent.from(intent);
       case NULL_VAL:
       case SBE_UNKNOWN:
         return Intent.UNKNOWN;
@@ -275,6 +278,8 @@ public interface Intent {
         return MappingIntent.valueOf(intent);
       case IDENTITY_SETUP:
         return IdentitySetupIntent.valueOf(intent);
+      case BATCH_OPERATION:
+        return BatchOperationIntent.valueOf(intent);
       case NULL_VAL:
       case SBE_UNKNOWN:
         return Intent.UNKNOWN;
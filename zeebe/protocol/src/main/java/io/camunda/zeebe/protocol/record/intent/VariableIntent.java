@@ -18,7 +18,8 @@ package io.camunda.zeebe.protocol.record.intent;
 public enum VariableIntent implements Intent {
   CREATED((short) 0),
   UPDATED((short) 1),
-  MIGRATED((short) 2);
+  MIGRATED((short) 2),
+  OUTPUT_ELEMENT_COLLECTED((short) 3);
 
   private final short value;
 
@@ -44,6 +45,8 @@ public enum VariableIntent implements Intent {
         return UPDATED;
       case 2:
         return MIGRATED;
+      case 3:
+        return OUTPUT_ELEMENT_COLLECTED;
       default:
         return Intent.UNKNOWN;
     }
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.protocol.record.value;
+
+import io.camunda.zeebe.protocol.record.ImmutableProtocol;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceMigrationRecordValue.ProcessInstanceMigrationMappingInstructionValue;
+import java.util.List;
+import org.immutables.value.Value;
+
+/**
+ * Represents an operation that is applied to many process instances at once, e.g. cancelling all
+ * instances of a process definition. Instead of sending one command per process instance, a single
+ * batch operation is created. It is distributed to all partitions, and each partition applies it to
+ * its own process instances in bounded chunks. The operation is only applied to process instances
+ * of its tenant.
+ */
+@Value.Immutable
+@ImmutableProtocol(builder = ImmutableBatchOperationRecordValue.Builder.class)
+public interface BatchOperationRecordValue extends RecordValue, TenantOwned {
+
+  /**
+   * @return the key of the batch operation, which is the same on all partitions
+   */
+  long getBatchOperationKey();
+
+  /**
+   * @return the operation to apply to each of the selected process instances
+   */
+  BatchOperationType getBatchOperationType();
+
+  /**
+   * @return the keys of the process instances to apply the operation to, or an empty list if the
+   *     process instances are selected by {@link #getProcessDefinitionKey()}
+   */
+  List<Long> getProcessInstanceKeys();
+
+  /**
+   * @return the key of the process definition whose active process instances the operation is
+   *     applied to, or -1 if the process instances are selected by {@link
+   *     #getProcessInstanceKeys()}
+   */
+  long getProcessDefinitionKey();
+
+  /**
+   * @return the key of the process definition to migrate to, only set for {@link
+   *     BatchOperationType#PROCESS_MIGRATION}
+   */
+  long getTargetProcessDefinitionKey();
+
+  /**
+   * @return the mapping instructions used to migrate the process instances, only set for {@link
+   *     BatchOperationType#PROCESS_MIGRATION}
+   */
+  List<ProcessInstanceMigrationMappingInstructionValue> getMappingInstructions();
+
+  /**
+   * @return the number of process instances this partition has applied the operation to so far
+   */
+  long getProcessedItems();
+
+  /**
+   * @return an index used to keep track of where the next chunk of the operation starts on this
+   *     partition, or -1 if there is no further chunk
+   */
+  long getIndex();
+}
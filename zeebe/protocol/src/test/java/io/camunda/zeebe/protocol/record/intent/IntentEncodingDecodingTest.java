@@ -78,6 +78,7 @@ final class IntentEncodingDecodingTest {
         buildParameterSets(SignalSubscriptionIntent.class, SignalSubscriptionIntent::from));
     result.addAll(buildParameterSets(ClockIntent.class, ClockIntent::from));
     result.addAll(buildParameterSets(TenantIntent.class, TenantIntent::from));
+    result.addAll(buildParameterSets(BatchOperationIntent.class, BatchOperationIntent::from));
 
     return result.stream();
   }
@@ -27,10 +27,13 @@ import java.io.UncheckedIOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,18 +47,35 @@ public class PartitionRestoreService {
   private final RaftPartition partition;
   private final int brokerId;
   private final CRC32CChecksumProvider checksumProvider;
+  private final Executor executor;
 
   public PartitionRestoreService(
       final BackupStore backupStore,
       final RaftPartition partition,
       final int brokerId,
       final CRC32CChecksumProvider checksumProvider) {
+    this(backupStore, partition, brokerId, checksumProvider, Runnable::run);
+  }
+
+  /**
+   * @param executor executes the blocking steps after downloading, i.e. moving the files into
+   *     place, verifying the snapshot and resetting the journal. When restoring multiple partitions
+   *     concurrently, pass an executor which does not share threads between partitions so that
+   *     these steps do not block the backup store's threads or each other.
+   */
+  public PartitionRestoreService(
+      final BackupStore backupStore,
+      final RaftPartition partition,
+      final int brokerId,
+      final CRC32CChecksumProvider checksumProvider,
+      final Executor executor) {
     this.backupStore = backupStore;
     partitionId = partition.id().id();
     rootDirectory = partition.dataDirectory().toPath();
     this.partition = partition;
     this.brokerId = brokerId;
     this.checksumProvider = Objects.requireNonNull(checksumProvider);
+    this.executor = Objects.requireNonNull(executor);
   }
 
   /**
@@ -68,14 +88,21 @@ public class PartitionRestoreService {
    */
   public CompletableFuture<BackupDescriptor> restore(
       final long backupId, final BackupValidator validator) {
+    final var startTime = System.nanoTime();
     return getTargetDirectory(backupId)
         .thenCompose(targetDirectory -> download(backupId, targetDirectory, validator))
-        .thenApply(this::moveFilesToDataDirectory)
-        .thenApply(
+        .thenApplyAsync(this::moveFilesToDataDirectory, executor)
+        .thenApplyAsync(
             backup -> {
               resetLogToCheckpointPosition(backup.descriptor().checkpointPosition(), rootDirectory);
+              LOG.info(
+                  "Restored partition {} from backup {} in {} ms",
+                  partitionId,
+                  backupId,
+                  Duration.ofNanos(System.nanoTime() - startTime).toMillis());
               return backup.descriptor();
-            })
+            },
+            executor)
         .toCompletableFuture();
 
     // TODO: As an additional consistency check:
@@ -213,10 +240,44 @@ public class PartitionRestoreService {
         .thenCompose(
             backup -> {
               LOG.info("Downloading backup {} to {}", backup, tempRestoringDirectory);
-              return backupStore.restore(backup, tempRestoringDirectory);
+              final var startTime = System.nanoTime();
+              return backupStore
+                  .restore(backup, tempRestoringDirectory)
+                  .thenApply(
+                      restored -> {
+                        logDownloadProgress(restored, System.nanoTime() - startTime);
+                        return restored;
+                      });
             });
   }
 
+  private void logDownloadProgress(final Backup backup, final long elapsedNanos) {
+    if (!LOG.isInfoEnabled()) {
+      return;
+    }
+
+    final var files = new ArrayList<Path>(backup.segments().files());
+    files.addAll(backup.snapshot().files());
+    long bytes = 0;
+    for (final var file : files) {
+      try {
+        bytes += Files.size(file);
+      } catch (final IOException e) {
+        // only used for logging, the restore itself fails later if the file is missing
+        LOG.debug("Failed to determine size of restored file {}", file, e);
+      }
+    }
+
+    final var elapsedMillis = Math.max(1, Duration.ofNanos(elapsedNanos).toMillis());
+    LOG.info(
+        "Downloaded {} files ({} bytes) of partition {} in {} ms ({} MiB/s)",
+        files.size(),
+        bytes,
+        partitionId,
+        elapsedMillis,
+        String.format("%.2f", bytes / (1024.0 * 1024.0) / (elapsedMillis / 1000.0)));
+  }
+
   private CompletionStage<BackupIdentifier> findValidBackup(
       final long checkpointId, final BackupValidator validator) {
     LOG.info("Searching for a completed backup with id {}", checkpointId);
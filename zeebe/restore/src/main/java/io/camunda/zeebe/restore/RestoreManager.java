@@ -24,6 +24,9 @@ import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Path;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,10 +60,23 @@ public class RestoreManager {
     final var partitionIds = partitionToRestore.stream().map(p -> p.id().id()).toList();
     LOG.info("Restoring partitions {}", partitionIds);
 
+    // All partitions are restored concurrently. Each partition moves, verifies and truncates its
+    // files on its own thread, so a large partition does not hold back the others.
+    final var executor = Executors.newVirtualThreadPerTaskExecutor();
+    final var restoredPartitions = new AtomicInteger();
     return CompletableFuture.allOf(
             partitionToRestore.stream()
-                .map(partition -> restorePartition(partition, backupId, validateConfig))
+                .map(
+                    partition ->
+                        restorePartition(partition, backupId, validateConfig, executor)
+                            .thenRun(
+                                () ->
+                                    LOG.info(
+                                        "Restored {}/{} partitions",
+                                        restoredPartitions.incrementAndGet(),
+                                        partitionIds.size())))
                 .toArray(CompletableFuture[]::new))
+        .whenComplete((ignored, error) -> executor.shutdown())
         .exceptionallyComposeAsync(error -> logFailureAndDeleteDataDirectory(dataDirectory, error));
   }
 
@@ -86,7 +102,10 @@ public class RestoreManager {
   }
 
   private CompletableFuture<Void> restorePartition(
-      final RaftPartition partition, final long backupId, final boolean validateConfig) {
+      final RaftPartition partition,
+      final long backupId,
+      final boolean validateConfig,
+      final Executor executor) {
     final BackupValidator validator;
     if (validateConfig) {
       validator = new ValidatePartitionCount(configuration.getCluster().getPartitionsCount());
@@ -98,7 +117,8 @@ public class RestoreManager {
             backupStore,
             partition,
             configuration.getCluster().getNodeId(),
-            new ChecksumProviderRocksDBImpl())
+            new ChecksumProviderRocksDBImpl(),
+            executor)
         .restore(backupId, validator)
         .thenAccept(backup -> logSuccessfulRestore(backup, partition.id().id(), backupId));
   }
@@ -40,7 +40,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterAll;
@@ -163,6 +165,44 @@ class PartitionRestoreServiceTest {
         .containsExactlyInAnyOrderElementsOf(expectedSnapshotFiles);
   }
 
+  @Test
+  void shouldMoveAndVerifyRestoredFilesOnGivenExecutor() {
+    // given
+    appendRecord(1, "data");
+    appendRecord(2, "data");
+    appendRecord(3, "checkpoint");
+
+    takeSnapshot(1, 2);
+
+    final long backupId = 3;
+    takeBackup(backupId, 3);
+
+    final var executedTasks = new AtomicInteger();
+    final Executor executor =
+        task -> {
+          executedTasks.incrementAndGet();
+          task.run();
+        };
+    final var partitionMetadata =
+        new PartitionMetadata(
+            PartitionId.from("raft", partitionId), Set.of(), Map.of(), 1, new MemberId("1"));
+    final var restoreServiceWithExecutor =
+        new PartitionRestoreService(
+            backupStore,
+            new RaftPartition(partitionMetadata, null, dataDirectoryToRestore.toFile()),
+            nodeId,
+            snapshotPath -> Map.of(),
+            executor);
+
+    // when
+    final var restored = restoreServiceWithExecutor.restore(backupId, BackupValidator.none());
+
+    // then
+    assertThat(restored).succeedsWithin(Duration.ofSeconds(10));
+    assertThat(executedTasks).hasValue(2);
+    assertThat(dataDirectoryToRestore).isNotEmptyDirectory();
+  }
+
   @Test
   void shouldFailToRestoreWhenCheckpointPositionNotFound() {
     // given
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +31,13 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Reuses the given chunks of the latest persisted snapshot, instead of receiving them again. In
+   * case any of the chunks does not exist with the same checksum in the latest snapshot, the future
+   * will be completed with a SnapshotWriteException.
+   *
+   * @param chunkChecksums the checksums of the chunks to reuse, by chunk name
+   */
+  ActorFuture<Void> reuse(Map<String, Long> chunkChecksums);
 }
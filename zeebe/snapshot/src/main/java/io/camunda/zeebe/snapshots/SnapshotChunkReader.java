@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,17 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Skips the remaining chunks which the receiver already has, such that they are not returned by
+   * this reader anymore. Chunks which were already (partially) returned are never skipped. The
+   * total count of the chunks does not change, as the receiver is expected to reuse the skipped
+   * chunks.
+   *
+   * @param receiverChecksums the checksums of the chunks the receiver already has, by chunk name
+   * @return the checksums of the skipped chunks, by chunk name
+   */
+  default Map<String, Long> skip(final Map<String, Long> receiverChecksums) {
+    return Map.of();
+  }
 }
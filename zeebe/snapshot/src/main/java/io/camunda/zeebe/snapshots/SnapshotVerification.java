@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots;
+
+/** Defines how the latest snapshot is verified against its checksum file when the store starts. */
+public enum SnapshotVerification {
+  /** Recomputes the checksums of all files of the snapshot before it can be used. */
+  FULL,
+
+  /**
+   * Trusts the checksums persisted when the snapshot was committed for all files whose size,
+   * modification time and file key did not change since then, and only recomputes the checksums of
+   * the other files.
+   */
+  FINGERPRINT,
+
+  /**
+   * Verifies the snapshot like {@link #FINGERPRINT} on startup, and afterwards recomputes the
+   * checksums of all files in the background, one file at a time.
+   */
+  FINGERPRINT_WITH_BACKGROUND_VERIFICATION
+}
@@ -18,10 +18,14 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +44,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  // chunks which are hard links to the files of the latest persisted snapshot
+  private final Set<String> reusedChunks = new HashSet<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -68,6 +74,75 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final Map<String, Long> chunkChecksums) {
+    return actor.call(
+        () -> {
+          reuseInternal(chunkChecksums);
+          return null;
+        });
+  }
+
+  private void reuseInternal(final Map<String, Long> chunkChecksums) throws SnapshotWriteException {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot().orElse(null);
+    if (latestSnapshot == null) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse chunks %s for snapshot %s, but there is no persisted snapshot",
+              chunkChecksums.keySet(), snapshotId));
+    }
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    final var latestChecksums = latestSnapshot.getChecksums().getChecksums();
+    for (final var chunk : chunkChecksums.entrySet()) {
+      final var chunkName = chunk.getKey();
+      if (reusedChunks.contains(chunkName)) {
+        continue;
+      }
+
+      if (!Objects.equals(chunk.getValue(), latestChecksums.get(chunkName))) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse chunk %s with checksum %d of snapshot %s, but it has checksum %s",
+                chunkName,
+                chunk.getValue(),
+                latestSnapshot.getId(),
+                latestChecksums.get(chunkName)));
+      }
+
+      // the files of a persisted snapshot are immutable, so they can be shared by linking them
+      final var snapshotFile = directory.resolve(chunkName);
+      try {
+        Files.deleteIfExists(snapshotFile);
+        Files.createLink(snapshotFile, latestSnapshot.getPath().resolve(chunkName));
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Failed to reuse chunk %s of snapshot %s", chunkName, latestSnapshot.getId()),
+            e);
+      }
+
+      reusedChunks.add(chunkName);
+      checksumCollection.updateFromChecksum(snapshotFile, chunk.getValue());
+    }
+
+    LOGGER.debug(
+        "Reused {} chunks of snapshot {} for snapshot {}",
+        chunkChecksums.size(),
+        latestSnapshot.getId(),
+        snapshotId);
+  }
+
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
     checkSnapshotIdIsValid(snapshotChunk.getSnapshotId());
 
@@ -96,6 +171,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
+    if (reusedChunks.remove(chunkName)) {
+      // never write into a reused chunk, as it is shared with the latest persisted snapshot
+      try {
+        Files.delete(snapshotFile);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to replace reused chunk %s", chunkName), e);
+      }
+    }
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
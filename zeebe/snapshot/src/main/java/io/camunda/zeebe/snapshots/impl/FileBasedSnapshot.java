@@ -87,7 +87,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory);
+      return new FileBasedSnapshotChunkReader(directory, checksums.getChecksums());
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
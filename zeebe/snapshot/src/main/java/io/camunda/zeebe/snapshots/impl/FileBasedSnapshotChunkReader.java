@@ -15,7 +15,10 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.TreeSet;
 
 /**
@@ -25,6 +28,7 @@ import java.util.TreeSet;
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
+  private final Map<String, Long> checksums;
   private final NavigableSet<CharSequence> chunks;
 
   private long offset;
@@ -34,12 +38,29 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private long maximumChunkSize;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
-    this(directory, Long.MAX_VALUE);
+    this(directory, Map.of());
+  }
+
+  /**
+   * @param directory the snapshot directory
+   * @param checksums the checksums of the snapshot files, by file name; used to find the chunks
+   *     which can be skipped, as the receiver already has them
+   */
+  public FileBasedSnapshotChunkReader(final Path directory, final Map<String, Long> checksums)
+      throws IOException {
+    this(directory, checksums, Long.MAX_VALUE);
   }
 
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, Map.of(), maximumChunkSize);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final Map<String, Long> checksums, final long maximumChunkSize)
+      throws IOException {
     this.directory = directory;
+    this.checksums = checksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -89,6 +110,34 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public Map<String, Long> skip(final Map<String, Long> receiverChecksums) {
+    final var skipped = new HashMap<String, Long>();
+    final var partiallyReadChunk = offset > 0 && !chunksView.isEmpty() ? chunksView.first() : null;
+    for (final var chunk : chunksView) {
+      final var fileName = chunk.toString();
+      final var checksum = checksums.get(fileName);
+      // the metadata is always sent, as the receiver reads it from the received chunks
+      if (chunk == partiallyReadChunk
+          || checksum == null
+          || fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)
+          || !Objects.equals(checksum, receiverChecksums.get(fileName))) {
+        continue;
+      }
+
+      skipped.put(fileName, checksum);
+    }
+
+    // at least one chunk must remain, as the last chunk completes the snapshot on the receiver
+    if (skipped.size() == chunksView.size()) {
+      return Map.of();
+    }
+
+    chunks.removeAll(skipped.keySet());
+    chunksView.removeAll(skipped.keySet());
+    return skipped;
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -17,6 +17,7 @@ import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import io.camunda.zeebe.snapshots.RestorableSnapshotStore;
 import io.camunda.zeebe.snapshots.SnapshotException;
+import io.camunda.zeebe.snapshots.SnapshotVerification;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
 import io.camunda.zeebe.util.Either;
 import java.io.IOException;
@@ -37,10 +38,20 @@ public final class FileBasedSnapshotStore extends Actor
       final int partitionId,
       final Path root,
       final CRC32CChecksumProvider checksumProvider) {
+    this(brokerId, partitionId, root, checksumProvider, SnapshotVerification.FULL);
+  }
+
+  public FileBasedSnapshotStore(
+      final int brokerId,
+      final int partitionId,
+      final Path root,
+      final CRC32CChecksumProvider checksumProvider,
+      final SnapshotVerification verification) {
     actorName = buildActorName("SnapshotStore", partitionId);
     this.partitionId = partitionId;
     snapshotStore =
-        new FileBasedSnapshotStoreImpl(brokerId, partitionId, root, checksumProvider, this);
+        new FileBasedSnapshotStoreImpl(
+            brokerId, partitionId, root, checksumProvider, verification, this);
   }
 
   @Override
@@ -15,6 +15,7 @@ import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.CRC32CChecksumProvider;
 import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
+import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistableSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
@@ -22,19 +23,24 @@ import io.camunda.zeebe.snapshots.SnapshotException;
 import io.camunda.zeebe.snapshots.SnapshotException.CorruptedSnapshotException;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
 import io.camunda.zeebe.snapshots.SnapshotId;
+import io.camunda.zeebe.snapshots.SnapshotVerification;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.FileUtil;
+import io.prometheus.client.Histogram.Timer;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicLong;
@@ -76,6 +82,7 @@ public final class FileBasedSnapshotStoreImpl {
   private final Set<PersistableSnapshot> pendingSnapshots = new HashSet<>();
   private final Set<FileBasedSnapshot> availableSnapshots = new HashSet<>();
   private final CRC32CChecksumProvider checksumProvider;
+  private final SnapshotVerification verification;
   private final ConcurrencyControl actor;
 
   public FileBasedSnapshotStoreImpl(
@@ -84,6 +91,16 @@ public final class FileBasedSnapshotStoreImpl {
       final Path root,
       final CRC32CChecksumProvider checksumProvider,
       final ConcurrencyControl actor) {
+    this(brokerId, partitionId, root, checksumProvider, SnapshotVerification.FULL, actor);
+  }
+
+  public FileBasedSnapshotStoreImpl(
+      final int brokerId,
+      final int partitionId,
+      final Path root,
+      final CRC32CChecksumProvider checksumProvider,
+      final SnapshotVerification verification,
+      final ConcurrencyControl actor) {
     this.brokerId = brokerId;
     snapshotsDirectory = root.resolve(SNAPSHOTS_DIRECTORY);
     pendingDirectory = root.resolve(PENDING_DIRECTORY);
@@ -101,6 +118,7 @@ public final class FileBasedSnapshotStoreImpl {
 
     listeners = new CopyOnWriteArraySet<>();
     this.checksumProvider = Objects.requireNonNull(checksumProvider);
+    this.verification = Objects.requireNonNull(verification);
   }
 
   public void start() {
@@ -108,6 +126,9 @@ public final class FileBasedSnapshotStoreImpl {
     currentPersistedSnapshotRef.set(latestSnapshot);
     if (latestSnapshot != null) {
       availableSnapshots.add(latestSnapshot);
+      if (verification == SnapshotVerification.FINGERPRINT_WITH_BACKGROUND_VERIFICATION) {
+        verifyInBackground(latestSnapshot);
+      }
     }
     purgePendingSnapshotsDirectory();
   }
@@ -189,8 +210,7 @@ public final class FileBasedSnapshotStoreImpl {
 
     try {
       final var expectedChecksum = SnapshotChecksum.read(checksumPath);
-      final var actualChecksum =
-          SnapshotChecksum.calculateWithProvidedChecksums(path, checksumProvider);
+      final var actualChecksum = calculateChecksum(path, checksumPath, expectedChecksum);
       if (!actualChecksum.sameChecksums(expectedChecksum)) {
         LOGGER.warn(
             "Expected snapshot {} to have checksums {}, but the actual checksums are {}; the snapshot is most likely corrupted. The startup will fail if there is no other valid snapshot and the log has been compacted.",
@@ -209,6 +229,79 @@ public final class FileBasedSnapshotStoreImpl {
     }
   }
 
+  private MutableChecksumsSFV calculateChecksum(
+      final Path path, final Path checksumPath, final ImmutableChecksumsSFV expectedChecksum)
+      throws IOException {
+    if (verification == SnapshotVerification.FULL) {
+      try (final var ignored = snapshotMetrics.startVerificationTimer("full")) {
+        return SnapshotChecksum.calculateWithProvidedChecksums(path, checksumProvider);
+      }
+    }
+
+    try (final var ignored = snapshotMetrics.startVerificationTimer("fingerprint")) {
+      final var fingerprints = SnapshotChecksum.readFingerprints(checksumPath);
+      return SnapshotChecksum.calculateWithFingerprints(
+          path, checksumProvider, expectedChecksum, fingerprints);
+    }
+  }
+
+  /**
+   * Recomputes the checksum of every file of the given snapshot, one file per actor job so that the
+   * store stays responsive. Stops as soon as the snapshot is not the latest one anymore, since it
+   * is then about to be deleted anyway.
+   */
+  private void verifyInBackground(final FileBasedSnapshot snapshot) {
+    final Queue<Entry<String, Long>> remainingFiles =
+        new ArrayDeque<>(Map.copyOf(snapshot.getChecksums().getChecksums()).entrySet());
+    final var timer = snapshotMetrics.startVerificationTimer("background");
+    actor.run(() -> verifyNextFile(snapshot, remainingFiles, timer));
+  }
+
+  private void verifyNextFile(
+      final FileBasedSnapshot snapshot,
+      final Queue<Entry<String, Long>> remainingFiles,
+      final Timer timer) {
+    if (currentPersistedSnapshotRef.get() != snapshot) {
+      LOGGER.debug(
+          "Stop verifying snapshot {} in the background, as it is not the latest snapshot anymore",
+          snapshot.getId());
+      return;
+    }
+
+    final var file = remainingFiles.poll();
+    if (file == null) {
+      final var duration = timer.observeDuration();
+      LOGGER.debug("Verified snapshot {} in the background in {}s", snapshot.getId(), duration);
+      return;
+    }
+
+    final var actualChecksum = new SfvChecksumImpl();
+    try {
+      actualChecksum.updateFromFile(snapshot.getPath().resolve(file.getKey()));
+    } catch (final IOException e) {
+      LOGGER.error(
+          "Failed to verify file {} of snapshot {} in the background",
+          file.getKey(),
+          snapshot.getId(),
+          e);
+      snapshotMetrics.incrementVerificationFailureCount();
+      return;
+    }
+
+    if (!file.getValue().equals(actualChecksum.getChecksums().get(file.getKey()))) {
+      LOGGER.error(
+          "Expected file {} of snapshot {} to have checksum {}, but the actual checksum is {}; the snapshot is most likely corrupted.",
+          file.getKey(),
+          snapshot.getId(),
+          file.getValue(),
+          actualChecksum.getChecksums().get(file.getKey()));
+      snapshotMetrics.incrementVerificationFailureCount();
+      return;
+    }
+
+    actor.run(() -> verifyNextFile(snapshot, remainingFiles, timer));
+  }
+
   private FileBasedSnapshotMetadata collectMetadata(
       final Path path, final FileBasedSnapshotId snapshotId) throws IOException {
     final var metadataPath = path.resolve(METADATA_FILE_NAME);
@@ -500,7 +593,8 @@ public final class FileBasedSnapshotStoreImpl {
       final var tmpChecksumPath =
           checksumPath.resolveSibling(checksumPath.getFileName().toString() + TMP_CHECKSUM_SUFFIX);
       try {
-        SnapshotChecksum.persist(tmpChecksumPath, immutableChecksumsSFV);
+        SnapshotChecksum.persist(
+            tmpChecksumPath, immutableChecksumsSFV, SnapshotChecksum.fingerprint(destination));
         FileUtil.moveDurably(tmpChecksumPath, checksumPath);
       } catch (final IOException e) {
         rollbackPartialSnapshot(destination);
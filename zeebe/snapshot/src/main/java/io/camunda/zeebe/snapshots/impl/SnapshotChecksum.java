@@ -15,13 +15,21 @@ import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 final class SnapshotChecksum {
 
+  // fingerprints are written as SFV comments, so that they are ignored by older versions and tools
+  private static final String FINGERPRINT_LINE_PREFIX = "; fingerprint ";
+  private static final String FORMAT_FINGERPRINT_LINE = FINGERPRINT_LINE_PREFIX + "%s   %s\n";
+  private static final String FINGERPRINT_SEPARATOR = "   ";
+
   private SnapshotChecksum() {
     throw new IllegalStateException("Utility class");
   }
@@ -38,21 +46,56 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, snapshotPath -> Map.of());
+    return createChecksumForSnapshot(snapshotDirectory, Map.of());
   }
 
   public static MutableChecksumsSFV calculateWithProvidedChecksums(
       final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, provider);
+    return createChecksumForSnapshot(
+        snapshotDirectory, provider.getSnapshotChecksums(snapshotDirectory));
+  }
+
+  /**
+   * Calculates the checksums of the given snapshot, but reuses the expected checksum of every file
+   * whose fingerprint did not change since it was recorded. Only the remaining files are read.
+   */
+  public static MutableChecksumsSFV calculateWithFingerprints(
+      final Path snapshotDirectory,
+      final CRC32CChecksumProvider provider,
+      final ImmutableChecksumsSFV expectedChecksums,
+      final Map<String, SnapshotFileFingerprint> expectedFingerprints)
+      throws IOException {
+    final var knownChecksums = new HashMap<String, Long>();
+    var hasChangedFiles = false;
+    try (final var fileStream = Files.list(snapshotDirectory)) {
+      for (final var file : (Iterable<Path>) fileStream::iterator) {
+        final var fileName = file.getFileName().toString();
+        final var expectedChecksum = expectedChecksums.getChecksums().get(fileName);
+        final var expectedFingerprint = expectedFingerprints.get(fileName);
+        if (expectedChecksum != null
+            && expectedFingerprint != null
+            && expectedFingerprint.equals(SnapshotFileFingerprint.of(file))) {
+          knownChecksums.put(fileName, expectedChecksum);
+        } else {
+          hasChangedFiles = true;
+        }
+      }
+    }
+
+    if (hasChangedFiles) {
+      // only ask the provider if it's needed, as it may have to open the snapshot
+      provider.getSnapshotChecksums(snapshotDirectory).forEach(knownChecksums::putIfAbsent);
+    }
+
+    return createChecksumForSnapshot(snapshotDirectory, knownChecksums);
   }
 
   private static MutableChecksumsSFV createChecksumForSnapshot(
-      final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
+      final Path snapshotDirectory, final Map<String, Long> fullFileChecksums) throws IOException {
 
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
       final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
-      final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
       fileStream.forEachOrdered(path -> updateChecksum(sfvChecksum, fullFileChecksums, path));
 
       // While persisting transient snapshot, the checksum of metadata file is added at the end.
@@ -62,18 +105,64 @@ final class SnapshotChecksum {
       final var metadataFile =
           snapshotDirectory.resolve(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
       if (metadataFile.toFile().exists()) {
-        sfvChecksum.updateFromFile(metadataFile);
+        updateChecksum(sfvChecksum, fullFileChecksums, metadataFile);
       }
       return sfvChecksum;
     }
   }
 
+  /**
+   * Reads the fingerprints which were persisted together with the checksums. Returns an empty map
+   * for checksum files written without fingerprints.
+   */
+  public static Map<String, SnapshotFileFingerprint> readFingerprints(final Path checksumPath)
+      throws IOException {
+    final var fingerprints = new HashMap<String, SnapshotFileFingerprint>();
+    for (final var line : Files.readAllLines(checksumPath)) {
+      if (!line.startsWith(FINGERPRINT_LINE_PREFIX)) {
+        continue;
+      }
+
+      final var fingerprintLine = line.substring(FINGERPRINT_LINE_PREFIX.length());
+      final var separator = fingerprintLine.lastIndexOf(FINGERPRINT_SEPARATOR);
+      if (separator > 0) {
+        fingerprints.put(
+            fingerprintLine.substring(0, separator),
+            SnapshotFileFingerprint.parse(
+                fingerprintLine.substring(separator + FINGERPRINT_SEPARATOR.length())));
+      }
+    }
+
+    return fingerprints;
+  }
+
+  /** Collects the fingerprints of all files of the given snapshot. */
+  public static Map<String, SnapshotFileFingerprint> fingerprint(final Path snapshotDirectory)
+      throws IOException {
+    final var fingerprints = new TreeMap<String, SnapshotFileFingerprint>();
+    try (final var fileStream = Files.list(snapshotDirectory)) {
+      for (final var file : (Iterable<Path>) fileStream::iterator) {
+        fingerprints.put(file.getFileName().toString(), SnapshotFileFingerprint.of(file));
+      }
+    }
+
+    return fingerprints;
+  }
+
   private static boolean isNotMetadataFile(final Path file) {
     return !file.getFileName().toString().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
   }
 
   public static void persist(final Path checksumPath, final ImmutableChecksumsSFV checksum)
       throws IOException {
+    persist(checksumPath, checksum, Map.of());
+  }
+
+  public static void persist(
+      final Path checksumPath,
+      final ImmutableChecksumsSFV checksum,
+      final Map<String, SnapshotFileFingerprint> fingerprints)
+      throws IOException {
     // FileOutputStream#flush does nothing, so use a file channel to enforce it
     try (final var channel =
             FileChannel.open(
@@ -83,6 +172,12 @@ final class SnapshotChecksum {
                 StandardOpenOption.TRUNCATE_EXISTING);
         final var output = Channels.newOutputStream(channel)) {
       checksum.write(output);
+      for (final var fingerprint : fingerprints.entrySet()) {
+        output.write(
+            FORMAT_FINGERPRINT_LINE
+                .formatted(fingerprint.getKey(), fingerprint.getValue().format())
+                .getBytes(StandardCharsets.UTF_8));
+      }
       channel.force(true);
     }
   }
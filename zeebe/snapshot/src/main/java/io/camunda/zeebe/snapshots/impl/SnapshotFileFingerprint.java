@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Identifies the state of a snapshot file on disk without reading its content. Snapshot files are
+ * never modified after the snapshot is committed, so as long as the fingerprint of a file is
+ * unchanged, the checksum computed at commit time can be trusted.
+ *
+ * @param size the size of the file in bytes
+ * @param lastModifiedMillis the last modification time of the file, in milliseconds
+ * @param fileKey the file key (e.g. device and inode) or {@link #NO_FILE_KEY} if the file system
+ *     does not provide one
+ */
+record SnapshotFileFingerprint(long size, long lastModifiedMillis, String fileKey) {
+  static final String NO_FILE_KEY = "-";
+
+  static SnapshotFileFingerprint of(final Path file) throws IOException {
+    final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    final var fileKey = attributes.fileKey();
+    return new SnapshotFileFingerprint(
+        attributes.size(),
+        attributes.lastModifiedTime().toMillis(),
+        fileKey == null ? NO_FILE_KEY : fileKey.toString().replace(' ', '_'));
+  }
+
+  /** Parses a fingerprint previously formatted with {@link #format()}. */
+  static SnapshotFileFingerprint parse(final String fingerprint) {
+    final var parts = fingerprint.trim().split(" ");
+    if (parts.length != 3) {
+      throw new IllegalArgumentException(
+          "Expected fingerprint to consist of size, modification time and file key, but got '%s'"
+              .formatted(fingerprint));
+    }
+
+    return new SnapshotFileFingerprint(
+        Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]);
+  }
+
+  String format() {
+    return size + " " + lastModifiedMillis + " " + fileKey;
+  }
+}
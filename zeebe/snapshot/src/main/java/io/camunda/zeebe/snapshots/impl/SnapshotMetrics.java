@@ -16,6 +16,7 @@ import io.prometheus.client.Histogram.Timer;
 public final class SnapshotMetrics {
   private static final String NAMESPACE = "zeebe";
   private static final String PARTITION_LABEL_NAME = "partition";
+  private static final String VERIFICATION_LABEL_NAME = "verification";
 
   private static final Counter SNAPSHOT_COUNT =
       Counter.build()
@@ -62,20 +63,40 @@ public final class SnapshotMetrics {
           .buckets(.01, .1, .5, 1, 5, 10, 25, 50, 100, 250, 500)
           .register();
 
+  private static final Histogram SNAPSHOT_VERIFICATION_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME, VERIFICATION_LABEL_NAME)
+          .name("snapshot_verification_duration")
+          .help("Approximate duration of verifying the checksums of the latest snapshot")
+          .buckets(.01, .1, .5, 1, 5, 10, 30, 60, 120, 300, 600)
+          .register();
+  private static final Counter SNAPSHOT_VERIFICATION_FAILURES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_verification_failures")
+          .help("Number of times the background verification found a corrupted snapshot")
+          .register();
+
+  private final String partitionId;
   private final Histogram.Child snapshotPersistDuration;
   private final Histogram.Child snapshotFileSize;
   private final Histogram.Child snapshotDuration;
   private final Gauge.Child snapshotChunkCount;
   private final Gauge.Child snapshotSize;
   private final Child snapshotCount;
+  private final Child snapshotVerificationFailures;
 
   public SnapshotMetrics(final String partitionId) {
+    this.partitionId = partitionId;
     snapshotDuration = SNAPSHOT_DURATION.labels(partitionId);
     snapshotPersistDuration = SNAPSHOT_PERSIST_DURATION.labels(partitionId);
     snapshotFileSize = SNAPSHOT_FILE_SIZE.labels(partitionId);
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
     snapshotCount = SNAPSHOT_COUNT.labels(partitionId);
+    snapshotVerificationFailures = SNAPSHOT_VERIFICATION_FAILURES.labels(partitionId);
   }
 
   void incrementSnapshotCount() {
@@ -101,4 +122,17 @@ public final class SnapshotMetrics {
   Timer startPersistTimer() {
     return snapshotPersistDuration.startTimer();
   }
+
+  /**
+   * @param verification the kind of verification, e.g. the {@link
+   *     io.camunda.zeebe.snapshots.SnapshotVerification} used on startup or the background
+   *     verification
+   */
+  Timer startVerificationTimer(final String verification) {
+    return SNAPSHOT_VERIFICATION_DURATION.labels(partitionId, verification).startTimer();
+  }
+
+  void incrementVerificationFailureCount() {
+    snapshotVerificationFailures.inc();
+  }
 }
@@ -348,6 +348,61 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseChunksOfLatestSnapshot() {
+    // given
+    final var latestSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      final var reusedChunks =
+          snapshotChunkReader.skip(latestSnapshot.getChecksums().getChecksums());
+      receivedSnapshot.reuse(reusedChunks).join();
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var newSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(newSnapshot.getChecksums().sameChecksums(persistedSnapshot.getChecksums())).isTrue();
+    for (final var fileName : SNAPSHOT_FILE_CONTENTS.keySet()) {
+      assertThat(newSnapshot.getPath().resolve(fileName))
+          .hasContent(SNAPSHOT_FILE_CONTENTS.get(fileName));
+    }
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithDifferentChecksum() {
+    // given
+    final var latestSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(takePersistedSnapshot(2L).getId()).join();
+    final var checksum = latestSnapshot.getChecksums().getChecksums().get("file1");
+
+    // when
+    final var future = receivedSnapshot.reuse(Map.of("file1", checksum + 1));
+
+    // then
+    assertThatThrownBy(future::join).hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
+  @Test
+  public void shouldNotReuseChunksWithoutLatestSnapshot() {
+    // given
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(takePersistedSnapshot(1L).getId()).join();
+
+    // when
+    final var future = receivedSnapshot.reuse(Map.of("file1", 1L));
+
+    // then
+    assertThatThrownBy(future::join).hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -332,6 +332,63 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldSkipChunksWithSameChecksum() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+
+    // when
+    final var skipped = snapshotChunkReader.skip(Map.of("file1", 1L, "file2", 4L));
+
+    // then
+    assertThat(skipped).containsExactly(Map.entry("file1", 1L));
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file2", "file3");
+  }
+
+  @Test
+  public void shouldKeepTotalCountWhenSkippingChunks() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+
+    // when
+    snapshotChunkReader.skip(Map.of("file1", 1L));
+
+    // then
+    assertThat(snapshotChunkReader.next().getTotalCount()).isEqualTo(SNAPSHOT_CHUNK.size());
+  }
+
+  @Test
+  public void shouldNotSkipAllChunks() throws IOException {
+    // given
+    final var checksums = Map.of("file1", 1L, "file2", 2L, "file3", 3L);
+    final var snapshotChunkReader = newReader(checksums);
+
+    // when
+    final var skipped = snapshotChunkReader.skip(checksums);
+
+    // then
+    assertThat(skipped).isEmpty();
+    assertThat(getAllChunks(snapshotChunkReader)).hasSize(SNAPSHOT_CHUNK.size());
+  }
+
+  @Test
+  public void shouldNotSkipPartiallyReadChunk() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(Map.of("file1", 1L, "file2", 2L, "file3", 3L), 2);
+    snapshotChunkReader.next();
+
+    // when
+    final var skipped = snapshotChunkReader.skip(Map.of("file1", 1L, "file2", 2L));
+
+    // then
+    assertThat(skipped).containsExactly(Map.entry("file2", 2L));
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsOnly("file1", "file3");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -347,6 +404,16 @@ public final class FileBasedSnapshotChunkReaderTest {
   }
 
   private FileBasedSnapshotChunkReader newReader(final long chunkSize) throws IOException {
+    return newReader(Map.of(), chunkSize);
+  }
+
+  private FileBasedSnapshotChunkReader newReader(final Map<String, Long> checksums)
+      throws IOException {
+    return newReader(checksums, Long.MAX_VALUE);
+  }
+
+  private FileBasedSnapshotChunkReader newReader(
+      final Map<String, Long> checksums, final long chunkSize) throws IOException {
     snapshotDirectory = temporaryFolder.getRoot().toPath();
 
     for (final var chunk : SNAPSHOT_CHUNK.keySet()) {
@@ -355,7 +422,7 @@ public final class FileBasedSnapshotChunkReaderTest {
       Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
     }
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, chunkSize);
+    return new FileBasedSnapshotChunkReader(snapshotDirectory, checksums, chunkSize);
   }
 
   private FileBasedSnapshotChunkReader newReader() throws IOException {
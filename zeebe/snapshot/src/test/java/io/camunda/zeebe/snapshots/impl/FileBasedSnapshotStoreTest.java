@@ -13,10 +13,12 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotNotFoundException;
+import io.camunda.zeebe.snapshots.SnapshotVerification;
 import io.camunda.zeebe.snapshots.TestChecksumProvider;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
 import io.camunda.zeebe.test.util.asserts.DirectoryAssert;
 import io.camunda.zeebe.util.FileUtil;
+import io.prometheus.client.CollectorRegistry;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
@@ -26,6 +28,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.zip.CRC32C;
+import org.awaitility.Awaitility;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -266,6 +269,85 @@ public class FileBasedSnapshotStoreTest {
     assertThat(persistedChecksums.getChecksums().get(SNAPSHOT_CONTENT_FILE_NAME)).isEqualTo(123L);
   }
 
+  @Test
+  public void shouldPersistFingerprintsWithChecksums() throws IOException {
+    // given
+    final var persistedSnapshot = (FileBasedSnapshot) takeTransientSnapshot().persist().join();
+
+    // when
+    final var fingerprints = SnapshotChecksum.readFingerprints(persistedSnapshot.getChecksumPath());
+
+    // then
+    assertThat(fingerprints)
+        .containsOnlyKeys(SNAPSHOT_CONTENT_FILE_NAME, FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)
+        .containsEntry(
+            SNAPSHOT_CONTENT_FILE_NAME,
+            SnapshotFileFingerprint.of(
+                persistedSnapshot.getPath().resolve(SNAPSHOT_CONTENT_FILE_NAME)));
+    assertThat(SnapshotChecksum.read(persistedSnapshot.getChecksumPath()).getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
+  @Test
+  public void shouldLoadExistingSnapshotUsingFingerprints() {
+    // given
+    final var persistedSnapshot = takeTransientSnapshot().persist().join();
+
+    // when
+    snapshotStore.close();
+    snapshotStore = createStore(rootDirectory, SnapshotVerification.FINGERPRINT);
+
+    // then
+    assertThat(snapshotStore.getLatestSnapshot()).hasValue(persistedSnapshot);
+  }
+
+  @Test
+  public void shouldNotLoadSnapshotWithChangedFingerprint() throws IOException {
+    // given
+    final var persistedSnapshot = takeTransientSnapshot().persist().join();
+    Files.writeString(
+        persistedSnapshot.getPath().resolve(SNAPSHOT_CONTENT_FILE_NAME), "corrupted content");
+
+    // when
+    snapshotStore.close();
+    snapshotStore = createStore(rootDirectory, SnapshotVerification.FINGERPRINT);
+
+    // then
+    assertThat(snapshotStore.getLatestSnapshot()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotRecomputeChecksumOfFileWithUnchangedFingerprint() throws IOException {
+    // given
+    final var persistedSnapshot = takeTransientSnapshot().persist().join();
+    overwriteKeepingFingerprint(persistedSnapshot.getPath().resolve(SNAPSHOT_CONTENT_FILE_NAME));
+
+    // when
+    snapshotStore.close();
+    snapshotStore = createStore(rootDirectory, SnapshotVerification.FINGERPRINT);
+
+    // then
+    assertThat(snapshotStore.getLatestSnapshot()).hasValue(persistedSnapshot);
+  }
+
+  @Test
+  public void shouldDetectCorruptedSnapshotInBackground() throws IOException {
+    // given
+    final var persistedSnapshot = takeTransientSnapshot().persist().join();
+    overwriteKeepingFingerprint(persistedSnapshot.getPath().resolve(SNAPSHOT_CONTENT_FILE_NAME));
+    final var failuresBefore = getVerificationFailures();
+
+    // when
+    snapshotStore.close();
+    snapshotStore =
+        createStore(rootDirectory, SnapshotVerification.FINGERPRINT_WITH_BACKGROUND_VERIFICATION);
+
+    // then
+    assertThat(snapshotStore.getLatestSnapshot()).hasValue(persistedSnapshot);
+    Awaitility.await("until the background verification detects the corrupted file")
+        .untilAsserted(() -> assertThat(getVerificationFailures()).isEqualTo(failuresBefore + 1));
+  }
+
   @Test
   public void shouldPurgePendingSnapshots() {
     // given
@@ -423,9 +505,32 @@ public class FileBasedSnapshotStoreTest {
   }
 
   private FileBasedSnapshotStore createStore(final Path root) {
-    final var store = new FileBasedSnapshotStore(0, 1, root, snapshotPath -> Map.of());
+    return createStore(root, SnapshotVerification.FULL);
+  }
+
+  private FileBasedSnapshotStore createStore(
+      final Path root, final SnapshotVerification verification) {
+    final var store =
+        new FileBasedSnapshotStore(0, 1, root, snapshotPath -> Map.of(), verification);
     scheduler.submitActor(store).join();
 
     return store;
   }
+
+  private void overwriteKeepingFingerprint(final Path file) throws IOException {
+    final var lastModifiedTime = Files.getLastModifiedTime(file);
+    final var content = Files.readAllBytes(file);
+    content[0]++;
+    Files.write(file, content, StandardOpenOption.WRITE);
+    Files.setLastModifiedTime(file, lastModifiedTime);
+  }
+
+  private double getVerificationFailures() {
+    final var failures =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_snapshot_verification_failures_total",
+            new String[] {"partition"},
+            new String[] {String.valueOf(PARTITION_ID)});
+    return failures == null ? 0 : failures;
+  }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.test.util.record;
+
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.value.BatchOperationRecordValue;
+import io.camunda.zeebe.protocol.record.value.BatchOperationType;
+import java.util.stream.Stream;
+
+public class BatchOperationRecordStream
+    extends ExporterRecordStream<BatchOperationRecordValue, BatchOperationRecordStream> {
+
+  public BatchOperationRecordStream(final Stream<Record<BatchOperationRecordValue>> wrappedStream) {
+    super(wrappedStream);
+  }
+
+  @Override
+  protected BatchOperationRecordStream supply(
+      final Stream<Record<BatchOperationRecordValue>> wrappedStream) {
+    return new BatchOperationRecordStream(wrappedStream);
+  }
+
+  public BatchOperationRecordStream withBatchOperationKey(final long batchOperationKey) {
+    return valueFilter(v -> v.getBatchOperationKey() == batchOperationKey);
+  }
+
+  public BatchOperationRecordStream withBatchOperationType(final BatchOperationType type) {
+    return valueFilter(v -> v.getBatchOperationType() == type);
+  }
+}
@@ -13,6 +13,7 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.AuthorizationIntent;
+import io.camunda.zeebe.protocol.record.intent.BatchOperationIntent;
 import io.camunda.zeebe.protocol.record.intent.ClockIntent;
 import io.camunda.zeebe.protocol.record.intent.CommandDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.DecisionEvaluationIntent;
@@ -46,6 +47,7 @@ import io.camunda.zeebe.protocol.record.intent.VariableDocumentIntent;
 import io.camunda.zeebe.protocol.record.intent.VariableIntent;
 import io.camunda.zeebe.protocol.record.intent.scaling.ScaleIntent;
 import io.camunda.zeebe.protocol.record.value.AuthorizationRecordValue;
+import io.camunda.zeebe.protocol.record.value.BatchOperationRecordValue;
 import io.camunda.zeebe.protocol.record.value.ClockRecordValue;
 import io.camunda.zeebe.protocol.record.value.CommandDistributionRecordValue;
 import io.camunda.zeebe.protocol.record.value.CompensationSubscriptionRecordValue;
@@ -468,6 +470,16 @@ public final class RecordingExporter implements Exporter {
     return clockRecords().withIntent(intent);
   }
 
+  public static BatchOperationRecordStream batchOperationRecords() {
+    return new BatchOperationRecordStream(
+        records(ValueType.BATCH_OPERATION, BatchOperationRecordValue.class));
+  }
+
+  public static BatchOperationRecordStream batchOperationRecords(
+      final BatchOperationIntent intent) {
+    return batchOperationRecords().withIntent(intent);
+  }
+
   public static AuthorizationRecordStream authorizationRecords() {
     return new AuthorizationRecordStream(
         records(ValueType.AUTHORIZATION, AuthorizationRecordValue.class));
@@ -8,7 +8,9 @@
 package io.camunda.zeebe.transport;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
@@ -98,4 +100,39 @@ public interface ClientTransport extends AutoCloseable {
    */
   ActorFuture<DirectBuffer> sendRequest(
       Supplier<String> nodeAddressSupplier, ClientRequest clientRequest, Duration timeout);
+
+  /**
+   * Send several requests for the same partition as one {@link RequestType#COMMAND_BATCH} message
+   * to a node, without any retries. The node answers each request on its own as soon as it was
+   * handled, so that a request which takes long doesn't hold back the responses of the others.
+   *
+   * @param nodeAddressSupplier supplier for the node address. The supplier may resolve to <code>
+   *     null</code> to signal that a node address can not be determined. In that case, the returned
+   *     future is completed with a NoRemoteAddressFoundException.
+   * @param partitionId the partition which all requests are addressed to
+   * @param requests the requests which should be send
+   * @param responseConsumer consumes the response of each request, on the actor of the transport
+   * @param timeout The timeout until the returned future fails if the node didn't accept the batch,
+   *     after which responses of the batch are no longer consumed.
+   * @return a future which is completed once the node accepted the batch. Can complete
+   *     exceptionally in failure cases such as timeout, or if the node doesn't accept batches.
+   */
+  ActorFuture<Void> sendRequestBatch(
+      Supplier<String> nodeAddressSupplier,
+      int partitionId,
+      List<? extends BufferWriter> requests,
+      BatchResponseConsumer responseConsumer,
+      Duration timeout);
+
+  /** Consumes the responses of the requests of a batch, one by one. */
+  @FunctionalInterface
+  interface BatchResponseConsumer {
+
+    /**
+     * @param index the index of the request in its batch
+     * @param response the response of the request, or null if it failed
+     * @param error the reason why the request failed, or null
+     */
+    void accept(int index, DirectBuffer response, Throwable error);
+  }
 }
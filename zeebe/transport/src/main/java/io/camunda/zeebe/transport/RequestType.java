@@ -19,6 +19,8 @@ package io.camunda.zeebe.transport;
 public enum RequestType {
   // Supported request types
   COMMAND("command"),
+  // several commands packed into one message, see RequestBatchCodec
+  COMMAND_BATCH("command-batch"),
   QUERY("query"),
   ADMIN("admin"),
 
@@ -9,16 +9,25 @@ package io.camunda.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.utils.net.Address;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.ClientRequest;
 import io.camunda.zeebe.transport.ClientTransport;
+import io.camunda.zeebe.transport.RequestType;
+import io.camunda.zeebe.transport.impl.RequestBatchCodec.BatchResponse;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.net.ConnectException;
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,12 +39,32 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
   private static final String NO_REMOTE_ADDRESS_FOUND_ERROR_MESSAGE =
       "Failed to send request to %s, no remote address found.";
 
+  private static final String BATCH_RESPONSE_TOPIC_PREFIX = "command-batch-response-";
+
   private final MessagingService messagingService;
+  // responses of request batches are sent to this topic, see RequestBatchCodec
+  private final String batchResponseTopic = BATCH_RESPONSE_TOPIC_PREFIX + UUID.randomUUID();
+  private final Long2ObjectHashMap<PendingBatch> pendingBatches = new Long2ObjectHashMap<>();
+  private final AtomicLong nextBatchId = new AtomicLong();
 
   public AtomixClientTransportAdapter(final MessagingService messagingService) {
     this.messagingService = messagingService;
   }
 
+  @Override
+  protected void onActorStarting() {
+    messagingService.registerHandler(
+        batchResponseTopic,
+        (final Address sender, final byte[] response) -> handleBatchResponse(response),
+        actor::run);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    messagingService.unregisterHandler(batchResponseTopic);
+    pendingBatches.clear();
+  }
+
   @Override
   public ActorFuture<DirectBuffer> sendRequestWithRetry(
       final Supplier<String> nodeAddressSupplier,
@@ -54,6 +83,54 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
     return sendRequestInternal(nodeAddressSupplier, r -> true, clientRequest, false, timeout);
   }
 
+  @Override
+  public ActorFuture<Void> sendRequestBatch(
+      final Supplier<String> nodeAddressSupplier,
+      final int partitionId,
+      final List<? extends BufferWriter> requests,
+      final BatchResponseConsumer responseConsumer,
+      final Duration timeout) {
+
+    // copy once
+    final long batchId = nextBatchId.getAndIncrement();
+    final var batchBytes = new byte[RequestBatchCodec.requestsLength(batchResponseTopic, requests)];
+    RequestBatchCodec.writeRequests(
+        batchId, batchResponseTopic, requests, new UnsafeBuffer(batchBytes), 0);
+
+    final var acceptedFuture = new CompletableActorFuture<Void>();
+    final var requestFuture = new CompletableActorFuture<DirectBuffer>();
+    final var requestContext =
+        new RequestContext(
+            requestFuture,
+            nodeAddressSupplier,
+            partitionId,
+            RequestType.COMMAND_BATCH,
+            batchBytes,
+            r -> true,
+            false,
+            timeout);
+    actor.call(
+        () -> {
+          final var batch = new PendingBatch(responseConsumer, requests.size());
+          batch.timer = actor.schedule(timeout, () -> pendingBatches.remove(batchId));
+          pendingBatches.put(batchId, batch);
+
+          actor.runOnCompletion(
+              requestFuture,
+              (ok, error) -> {
+                if (error == null) {
+                  acceptedFuture.complete(null);
+                } else {
+                  removeBatch(batchId);
+                  acceptedFuture.completeExceptionally(error);
+                }
+              });
+          startRequest(requestContext);
+        });
+
+    return acceptedFuture;
+  }
+
   private ActorFuture<DirectBuffer> sendRequestInternal(
       final Supplier<String> nodeAddressSupplier,
       final Predicate<DirectBuffer> responseValidator,
@@ -81,16 +158,18 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
             responseValidator,
             shouldRetry,
             timeout);
-    actor.call(
-        () -> {
-          final var scheduledTimer = actor.schedule(timeout, () -> timeoutFuture(requestContext));
-          requestContext.setScheduledTimer(scheduledTimer);
-          tryToSend(requestContext);
-        });
+    actor.call(() -> startRequest(requestContext));
 
     return requestFuture;
   }
 
+  private void startRequest(final RequestContext requestContext) {
+    final var scheduledTimer =
+        actor.schedule(requestContext.getTimeout(), () -> timeoutFuture(requestContext));
+    requestContext.setScheduledTimer(scheduledTimer);
+    tryToSend(requestContext);
+  }
+
   private void tryToSend(final RequestContext requestContext) {
     if (requestContext.isDone()) {
       if (LOG.isTraceEnabled()) {
@@ -216,6 +295,49 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
     }
   }
 
+  private void handleBatchResponse(final byte[] message) {
+    final BatchResponse batchResponse;
+    try {
+      batchResponse = RequestBatchCodec.readResponse(new UnsafeBuffer(message));
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to read response of request batch, will ignore it.", e);
+      return;
+    }
+
+    final var batch = pendingBatches.get(batchResponse.batchId());
+    if (batch == null) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+            "Got response of request {}, but batch {} is already done",
+            batchResponse.index(),
+            batchResponse.batchId());
+      }
+      return;
+    }
+
+    final var response = batchResponse.response();
+    if (response.isFailure()) {
+      batch.responseConsumer.accept(
+          batchResponse.index(),
+          null,
+          new MessagingException.RemoteHandlerFailure(response.failureMessage()));
+    } else {
+      batch.responseConsumer.accept(
+          batchResponse.index(), new UnsafeBuffer(response.content()), null);
+    }
+
+    if (--batch.remainingResponses <= 0) {
+      removeBatch(batchResponse.batchId());
+    }
+  }
+
+  private void removeBatch(final long batchId) {
+    final var batch = pendingBatches.remove(batchId);
+    if (batch != null && batch.timer != null) {
+      batch.timer.cancel();
+    }
+  }
+
   private boolean exceptionShowsConnectionIssue(final Throwable throwable) {
     return throwable instanceof ConnectException
         || throwable instanceof MessagingException.NoRemoteHandler;
@@ -228,4 +350,18 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
 
     requestContext.timeout();
   }
+
+  /** A request batch which was sent, whose responses are still expected. */
+  private static final class PendingBatch {
+
+    private final BatchResponseConsumer responseConsumer;
+    private int remainingResponses;
+    private ScheduledTimer timer;
+
+    private PendingBatch(
+        final BatchResponseConsumer responseConsumer, final int remainingResponses) {
+      this.responseConsumer = responseConsumer;
+      this.remainingResponses = remainingResponses;
+    }
+  }
 }
@@ -8,14 +8,18 @@
 package io.camunda.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.utils.net.Address;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.RequestHandler;
 import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.transport.ServerResponse;
 import io.camunda.zeebe.transport.ServerTransport;
+import io.camunda.zeebe.transport.impl.RequestBatchCodec.RequestBatch;
+import io.camunda.zeebe.transport.impl.RequestBatchCodec.Response;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.IdGenerator;
@@ -28,6 +32,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   private static final String API_TOPIC_FORMAT = "%s-api-%d";
   private static final String ERROR_MSG_MISSING_PARTITON_MAP =
       "Node already unsubscribed from partition %d, this can only happen when atomix does not cleanly remove its handlers.";
+  private static final byte[] BATCH_ACCEPTED = new byte[0];
 
   private final Int2ObjectHashMap<Long2ObjectHashMap<CompletableFuture<byte[]>>>
       partitionsRequestMap;
@@ -72,6 +77,14 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
               topicName,
               (sender, request) ->
                   handleAtomixRequest(request, partitionId, requestType, requestHandler));
+
+          if (requestType == RequestType.COMMAND) {
+            // commands can also be sent packed into one message, see RequestBatchCodec
+            messagingService.registerHandler(
+                topicName(partitionId, RequestType.COMMAND_BATCH),
+                (sender, batch) ->
+                    handleAtomixBatchRequest(sender, batch, partitionId, requestHandler));
+          }
         });
   }
 
@@ -95,6 +108,10 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     final var topicName = topicName(partitionId, requestType);
     LOG.trace("Unsubscribe from topic {}", topicName);
     messagingService.unregisterHandler(topicName);
+
+    if (requestType == RequestType.COMMAND) {
+      messagingService.unregisterHandler(topicName(partitionId, RequestType.COMMAND_BATCH));
+    }
   }
 
   private CompletableFuture<byte[]> handleAtomixRequest(
@@ -104,42 +121,112 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
       final RequestHandler requestHandler) {
     final var completableFuture = new CompletableFuture<byte[]>();
     actor.call(
-        () -> {
-          final long requestId = requestIdGenerator.nextId();
-          final var requestMap = partitionsRequestMap.get(partitionId);
-          if (requestMap == null) {
-            final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
-            LOG.trace(errorMsg);
-            completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
-            return;
-          }
-
-          try {
-            requestHandler.onRequest(
-                this,
-                partitionId,
-                requestId,
+        () ->
+            handleRequest(
                 new UnsafeBuffer(requestBytes),
-                0,
-                requestBytes.length);
-            if (LOG.isTraceEnabled()) {
-              LOG.trace(
-                  "Handled request {} for topic {}",
-                  requestId,
-                  topicName(partitionId, requestType));
-            }
-            // we only add the request to the map after successful handling
-            requestMap.put(requestId, completableFuture);
-          } catch (final Exception exception) {
-            LOG.error(
-                "Unexpected exception on handling request for partition {}.",
                 partitionId,
-                exception);
-            completableFuture.completeExceptionally(exception);
+                requestType,
+                requestHandler,
+                completableFuture));
+
+    return completableFuture;
+  }
+
+  /**
+   * Hands each request of the batch to the request handler, as if it was sent on its own, and sends
+   * each response back to the sender as soon as the request was answered. The returned future only
+   * acknowledges that the batch was accepted, so that a request which takes long doesn't hold back
+   * the responses of the others.
+   */
+  private CompletableFuture<byte[]> handleAtomixBatchRequest(
+      final Address sender,
+      final byte[] batchBytes,
+      final int partitionId,
+      final RequestHandler requestHandler) {
+    final RequestBatch batch;
+    try {
+      batch = RequestBatchCodec.readRequests(batchBytes);
+    } catch (final RuntimeException e) {
+      LOG.error("Unexpected exception on reading request batch for partition {}.", partitionId, e);
+      return CompletableFuture.failedFuture(e);
+    }
+
+    final var acceptedFuture = new CompletableFuture<byte[]>();
+    actor.run(
+        () -> {
+          final var requests = batch.requests();
+          for (int i = 0; i < requests.size(); i++) {
+            final int index = i;
+            final var responseFuture = new CompletableFuture<byte[]>();
+            responseFuture.whenComplete(
+                (response, error) -> sendBatchResponse(sender, batch, index, response, error));
+            handleRequest(
+                requests.get(i),
+                partitionId,
+                RequestType.COMMAND_BATCH,
+                requestHandler,
+                responseFuture);
           }
+          acceptedFuture.complete(BATCH_ACCEPTED);
         });
 
-    return completableFuture;
+    return acceptedFuture;
+  }
+
+  private void sendBatchResponse(
+      final Address sender,
+      final RequestBatch batch,
+      final int index,
+      final byte[] response,
+      final Throwable error) {
+    final var message =
+        RequestBatchCodec.writeResponse(
+            batch.batchId(),
+            index,
+            error == null ? Response.of(response) : Response.failure(error));
+    messagingService
+        .sendAsync(sender, batch.responseTopic(), message)
+        .whenComplete(
+            (ok, errorOnSend) -> {
+              if (errorOnSend != null) {
+                LOG.debug(
+                    "Failed to send response of request {} of batch {} to {}",
+                    index,
+                    batch.batchId(),
+                    sender,
+                    errorOnSend);
+              }
+            });
+  }
+
+  private void handleRequest(
+      final DirectBuffer request,
+      final int partitionId,
+      final RequestType requestType,
+      final RequestHandler requestHandler,
+      final CompletableFuture<byte[]> completableFuture) {
+    final long requestId = requestIdGenerator.nextId();
+    final var requestMap = partitionsRequestMap.get(partitionId);
+    if (requestMap == null) {
+      final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
+      LOG.trace(errorMsg);
+      completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
+      return;
+    }
+
+    try {
+      requestHandler.onRequest(this, partitionId, requestId, request, 0, request.capacity());
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+            "Handled request {} for topic {}", requestId, topicName(partitionId, requestType));
+      }
+      // we only add the request to the map after successful handling
+      requestMap.put(requestId, completableFuture);
+    } catch (final Exception exception) {
+      LOG.error(
+          "Unexpected exception on handling request for partition {}.", partitionId, exception);
+      completableFuture.completeExceptionally(exception);
+    }
   }
 
   @Override
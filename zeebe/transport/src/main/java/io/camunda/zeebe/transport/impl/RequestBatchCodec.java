@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.impl;
+
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Encodes several requests into one {@link io.camunda.zeebe.transport.RequestType#COMMAND_BATCH}
+ * message, and each of their responses into a message of its own. Each request is handled by the
+ * server as if it was sent on its own, and is answered as soon as it was handled, regardless of the
+ * other requests of the batch.
+ *
+ * <p>A request batch is the id of the batch and the topic to send the responses to, followed by the
+ * number of requests and each request prefixed with its length. A batch response is the id of the
+ * batch and the index of the request in it, followed by a status byte and the response prefixed
+ * with its length. If the status is {@link #STATUS_FAILURE}, the content is the UTF-8 encoded error
+ * message instead of the response.
+ */
+public final class RequestBatchCodec {
+
+  public static final byte STATUS_RESPONSE = 0;
+  public static final byte STATUS_FAILURE = 1;
+
+  private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+  private static final int STATUS_LENGTH = BitUtil.SIZE_OF_BYTE;
+
+  private RequestBatchCodec() {}
+
+  /**
+   * @return the length of the request batch containing the given requests
+   */
+  public static int requestsLength(
+      final String responseTopic, final List<? extends BufferWriter> requests) {
+    int length =
+        BitUtil.SIZE_OF_LONG
+            + BitUtil.SIZE_OF_INT
+            + responseTopic.getBytes(StandardCharsets.UTF_8).length
+            + BitUtil.SIZE_OF_INT;
+    for (final BufferWriter request : requests) {
+      length += BitUtil.SIZE_OF_INT + request.getLength();
+    }
+    return length;
+  }
+
+  /**
+   * Writes the given requests as one batch into the buffer.
+   *
+   * @return the number of bytes written
+   */
+  public static int writeRequests(
+      final long batchId,
+      final String responseTopic,
+      final List<? extends BufferWriter> requests,
+      final MutableDirectBuffer buffer,
+      final int offset) {
+    int position = offset;
+    buffer.putLong(position, batchId, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_LONG;
+
+    final var topic = responseTopic.getBytes(StandardCharsets.UTF_8);
+    buffer.putInt(position, topic.length, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_INT;
+    buffer.putBytes(position, topic);
+    position += topic.length;
+
+    buffer.putInt(position, requests.size(), BYTE_ORDER);
+    position += BitUtil.SIZE_OF_INT;
+
+    for (final BufferWriter request : requests) {
+      final int length = request.getLength();
+      buffer.putInt(position, length, BYTE_ORDER);
+      position += BitUtil.SIZE_OF_INT;
+      request.write(buffer, position);
+      position += length;
+    }
+
+    return position - offset;
+  }
+
+  /**
+   * @return the given batch, with each request copied into its own buffer like a request which was
+   *     sent on its own
+   */
+  public static RequestBatch readRequests(final byte[] batch) {
+    final var buffer = new UnsafeBuffer(batch);
+    int position = 0;
+    final long batchId = buffer.getLong(position, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_LONG;
+
+    final int topicLength = buffer.getInt(position, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_INT;
+    final var responseTopic = buffer.getStringWithoutLengthUtf8(position, topicLength);
+    position += topicLength;
+
+    final int count = buffer.getInt(position, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_INT;
+    final var requests = new ArrayList<DirectBuffer>(count);
+    for (int i = 0; i < count; i++) {
+      final int length = buffer.getInt(position, BYTE_ORDER);
+      position += BitUtil.SIZE_OF_INT;
+      final var request = new byte[length];
+      buffer.getBytes(position, request);
+      requests.add(new UnsafeBuffer(request));
+      position += length;
+    }
+
+    return new RequestBatch(batchId, responseTopic, requests);
+  }
+
+  /**
+   * @return the message answering the request with the given index of the batch
+   */
+  public static byte[] writeResponse(final long batchId, final int index, final Response response) {
+    final var bytes =
+        new byte
+            [BitUtil.SIZE_OF_LONG
+                + BitUtil.SIZE_OF_INT
+                + STATUS_LENGTH
+                + BitUtil.SIZE_OF_INT
+                + response.content().length];
+    final var buffer = new UnsafeBuffer(bytes);
+    int position = 0;
+    buffer.putLong(position, batchId, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_LONG;
+    buffer.putInt(position, index, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_INT;
+    buffer.putByte(position, response.status());
+    position += STATUS_LENGTH;
+    buffer.putInt(position, response.content().length, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_INT;
+    buffer.putBytes(position, response.content());
+
+    return bytes;
+  }
+
+  /**
+   * @return the response of a single request of a batch
+   */
+  public static BatchResponse readResponse(final DirectBuffer message) {
+    int position = 0;
+    final long batchId = message.getLong(position, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_LONG;
+    final int index = message.getInt(position, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_INT;
+    final byte status = message.getByte(position);
+    position += STATUS_LENGTH;
+    final int length = message.getInt(position, BYTE_ORDER);
+    position += BitUtil.SIZE_OF_INT;
+    final var content = new byte[length];
+    message.getBytes(position, content);
+
+    return new BatchResponse(batchId, index, new Response(status, content));
+  }
+
+  /** The requests of a batch, whose responses are sent to the given topic of the sender. */
+  public record RequestBatch(long batchId, String responseTopic, List<DirectBuffer> requests) {}
+
+  /** The response of the request with the given index of a batch. */
+  public record BatchResponse(long batchId, int index, Response response) {}
+
+  /** The response of a single request. */
+  public record Response(byte status, byte[] content) {
+
+    public static Response of(final byte[] response) {
+      return new Response(STATUS_RESPONSE, response);
+    }
+
+    public static Response failure(final Throwable error) {
+      final var message = String.valueOf(error.getMessage());
+      return new Response(STATUS_FAILURE, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFailure() {
+      return status == STATUS_FAILURE;
+    }
+
+    public String failureMessage() {
+      return new String(content, StandardCharsets.UTF_8);
+    }
+  }
+}
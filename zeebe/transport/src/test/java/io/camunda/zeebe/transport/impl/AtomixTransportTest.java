@@ -20,6 +20,7 @@ import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
 import io.camunda.zeebe.transport.ClientRequest;
 import io.camunda.zeebe.transport.ClientTransport;
+import io.camunda.zeebe.transport.ClientTransport.BatchResponseConsumer;
 import io.camunda.zeebe.transport.RequestHandler;
 import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.transport.ServerOutput;
@@ -29,7 +30,9 @@ import java.net.ConnectException;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +42,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.SnowflakeIdGenerator;
@@ -224,6 +228,115 @@ public class AtomixTransportTest {
         .hasCauseInstanceOf(MessagingException.RemoteHandlerFailure.class);
   }
 
+  @Test
+  public void shouldHandleEachCommandOfBatch() {
+    // given
+    final var incomingRequests = new CopyOnWriteArrayList<String>();
+    serverTransport
+        .subscribe(
+            0, RequestType.COMMAND, new DirectlyResponder(b -> incomingRequests.add(new String(b))))
+        .join();
+    final var responses = new BatchResponses(2);
+
+    // when
+    final var acceptedFuture =
+        clientTransport.sendRequestBatch(
+            nodeAddressSupplier,
+            0,
+            List.of(new Request("messageA"), new Request("messageBC")),
+            responses,
+            REQUEST_TIMEOUT);
+
+    // then
+    acceptedFuture.join();
+    assertThat(responses.get(0).join()).isEqualTo("messageA");
+    assertThat(responses.get(1).join()).isEqualTo("messageBC");
+    assertThat(incomingRequests).containsExactlyInAnyOrder("messageA", "messageBC");
+  }
+
+  @Test
+  public void shouldFailOnlyCommandOfBatchWhichFailed() {
+    // given
+    serverTransport
+        .subscribe(
+            0,
+            RequestType.COMMAND,
+            new DirectlyResponder(
+                bytes -> {
+                  if (new String(bytes).equals("fail")) {
+                    throw new IllegalStateException("expected");
+                  }
+                }))
+        .join();
+    final var responses = new BatchResponses(2);
+
+    // when
+    clientTransport.sendRequestBatch(
+        nodeAddressSupplier,
+        0,
+        List.of(new Request("fail"), new Request("messageABC")),
+        responses,
+        REQUEST_TIMEOUT);
+
+    // then
+    assertThatThrownBy(() -> responses.get(0).join())
+        .hasCauseInstanceOf(MessagingException.RemoteHandlerFailure.class)
+        .hasMessageContaining("expected");
+    assertThat(responses.get(1).join()).isEqualTo("messageABC");
+  }
+
+  @Test
+  public void shouldAnswerCommandOfBatchWithoutWaitingForOthers() {
+    // given
+    serverTransport
+        .subscribe(
+            0,
+            RequestType.COMMAND,
+            (output, partitionId, requestId, buffer, offset, length) -> {
+              if (!new String(buffer.byteArray()).equals("unanswered")) {
+                output.sendResponse(
+                    new ServerResponseImpl()
+                        .buffer(buffer, 0, length)
+                        .setRequestId(requestId)
+                        .setPartitionId(partitionId));
+              }
+            })
+        .join();
+    final var responses = new BatchResponses(2);
+
+    // when
+    clientTransport.sendRequestBatch(
+        nodeAddressSupplier,
+        0,
+        List.of(new Request("unanswered"), new Request("messageABC")),
+        responses,
+        REQUEST_TIMEOUT);
+
+    // then
+    assertThat(responses.get(1).join()).isEqualTo("messageABC");
+    assertThat(responses.get(0)).isNotDone();
+  }
+
+  @Test
+  public void shouldUnsubscribeFromBatchesWithCommands() {
+    // given
+    serverTransport.subscribe(0, RequestType.COMMAND, new FailingResponder()).join();
+
+    // when
+    serverTransport.unsubscribe(0, RequestType.COMMAND).join();
+    final var acceptedFuture =
+        clientTransport.sendRequestBatch(
+            nodeAddressSupplier,
+            0,
+            List.of(new Request("messageA"), new Request("messageB")),
+            new BatchResponses(2),
+            REQUEST_TIMEOUT);
+
+    // then
+    assertThatThrownBy(acceptedFuture::join)
+        .hasCauseInstanceOf(MessagingException.NoRemoteHandler.class);
+  }
+
   @Test
   public void shouldUnsubscribeFromPartition() {
     // given
@@ -424,6 +537,28 @@ public class AtomixTransportTest {
     }
   }
 
+  private static final class BatchResponses implements BatchResponseConsumer {
+
+    private final List<CompletableFuture<String>> responses;
+
+    private BatchResponses(final int count) {
+      responses = Stream.generate(CompletableFuture<String>::new).limit(count).toList();
+    }
+
+    private CompletableFuture<String> get(final int index) {
+      return responses.get(index);
+    }
+
+    @Override
+    public void accept(final int index, final DirectBuffer response, final Throwable error) {
+      if (error == null) {
+        responses.get(index).complete(new String(response.byteArray()));
+      } else {
+        responses.get(index).completeExceptionally(error);
+      }
+    }
+  }
+
   private static class DirectlyResponder implements RequestHandler {
 
     private final Consumer<byte[]> requestConsumer;
@@ -44,6 +44,20 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the stored values of all given keys with a single read, which is cheaper than calling
+   * {@link #get(DbKey)} for each key.
+   *
+   * <p>Each key is serialized as soon as the iterable returns it, so the iterable may return the
+   * same key instance each time after changing its value. The visitor is called for every key in
+   * the order of the iterable, with {@code null} as the value if the key was not found. Be aware
+   * that the given key and value are reused between calls and should not be stored.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which accepts each key and its value
+   */
+  void getAll(Iterable<KeyType> keys, BiConsumer<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -0,0 +1,26 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+/** Defines how the RocksDB memory limit is allocated to the partitions of a broker. */
+public enum MemoryAllocationStrategy {
+  /**
+   * Every partition gets its own block cache and write buffers, sized from the memory limit. Memory
+   * which a partition doesn't use, e.g. because it is a follower, cannot be used by any other
+   * partition.
+   */
+  PARTITION,
+
+  /**
+   * The memory limit of all partitions hosted by the broker is pooled into a single block cache and
+   * write buffer manager, which are shared by all partitions. Partitions which are busy, usually
+   * the leaders, can use the memory idle partitions don't need, while the total memory used by
+   * RocksDB stays bounded by the pool.
+   */
+  BROKER
+}
@@ -43,9 +43,13 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final MemoryAllocationStrategy DEFAULT_MEMORY_ALLOCATION_STRATEGY =
+      MemoryAllocationStrategy.PARTITION;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
+  private MemoryAllocationStrategy memoryAllocationStrategy = DEFAULT_MEMORY_ALLOCATION_STRATEGY;
   private int maxWriteBufferNumber = DEFAULT_MAX_WRITE_BUFFER_NUMBER;
   private int minWriteBufferNumberToMerge = DEFAULT_MIN_WRITE_BUFFER_NUMBER_TO_MERGE;
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
@@ -101,6 +105,16 @@ public final class RocksDbConfiguration {
     return this;
   }
 
+  public MemoryAllocationStrategy getMemoryAllocationStrategy() {
+    return memoryAllocationStrategy;
+  }
+
+  public RocksDbConfiguration setMemoryAllocationStrategy(
+      final MemoryAllocationStrategy memoryAllocationStrategy) {
+    this.memoryAllocationStrategy = memoryAllocationStrategy;
+    return this;
+  }
+
   public int getMaxOpenFiles() {
     return maxOpenFiles;
   }
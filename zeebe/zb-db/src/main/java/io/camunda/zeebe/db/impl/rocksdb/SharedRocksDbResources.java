@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import org.agrona.CloseHelper;
+import org.rocksdb.LRUCache;
+import org.rocksdb.RocksDB;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * Memory pool shared by all RocksDB instances of a broker when using the {@link
+ * MemoryAllocationStrategy#BROKER} strategy. It consists of a single block cache and a write buffer
+ * manager, which charges the memory of all memtables to that same cache. As with the per-partition
+ * allocation, about two thirds of the pool can be taken by memtables and the rest is left for
+ * blocks, but the split is no longer fixed per partition: whichever partitions are actually reading
+ * and writing get the memory, and the total stays bounded by the pool.
+ *
+ * <p>The pool must only be closed after all databases using it have been closed.
+ */
+public final class SharedRocksDbResources implements AutoCloseable {
+
+  static {
+    RocksDB.loadLibrary();
+  }
+
+  private final long memoryLimit;
+  private final LRUCache blockCache;
+  private final WriteBufferManager writeBufferManager;
+  private boolean closed;
+
+  private SharedRocksDbResources(
+      final long memoryLimit,
+      final LRUCache blockCache,
+      final WriteBufferManager writeBufferManager) {
+    this.memoryLimit = memoryLimit;
+    this.blockCache = blockCache;
+    this.writeBufferManager = writeBufferManager;
+  }
+
+  /**
+   * @param memoryLimitPerPartition the configured memory limit of a single partition
+   * @param partitionCount the number of partitions sharing the pool
+   * @return a pool sized for all partitions together
+   */
+  public static SharedRocksDbResources allocate(
+      final long memoryLimitPerPartition, final int partitionCount) {
+    final long memoryLimit = memoryLimitPerPartition * Math.max(1, partitionCount);
+    // same shard count and high priority pool as the per-partition caches; the high priority pool
+    // keeps indexes and filters from being evicted by data blocks
+    final var blockCache = new LRUCache(memoryLimit, 8, false, 0.15);
+    // memtables may take up to two thirds of the pool, same as with the per-partition allocation;
+    // their memory is reserved in the block cache, so both together never exceed the pool. writes
+    // are not stalled when the limit is reached, the largest memtables are flushed instead
+    final var writeBufferManager =
+        new WriteBufferManager(memoryLimit - memoryLimit / 3, blockCache, false);
+    return new SharedRocksDbResources(memoryLimit, blockCache, writeBufferManager);
+  }
+
+  public long getMemoryLimit() {
+    return memoryLimit;
+  }
+
+  /**
+   * @return the memory currently used by the pool, i.e. cached blocks and memtables of all
+   *     partitions
+   */
+  public synchronized long getUsage() {
+    return closed ? 0 : blockCache.getUsage();
+  }
+
+  /**
+   * @return the memory of the pool which is currently pinned and cannot be evicted, e.g. pinned
+   *     indexes and filters, and memtables
+   */
+  public synchronized long getPinnedUsage() {
+    return closed ? 0 : blockCache.getPinnedUsage();
+  }
+
+  LRUCache getBlockCache() {
+    return blockCache;
+  }
+
+  WriteBufferManager getWriteBufferManager() {
+    return writeBufferManager;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    // the write buffer manager references the cache, so it has to be closed first
+    CloseHelper.quietCloseAll(writeBufferManager, blockCache);
+  }
+}
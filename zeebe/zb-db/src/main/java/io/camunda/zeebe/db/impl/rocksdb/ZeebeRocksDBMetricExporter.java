@@ -72,6 +72,27 @@ public final class ZeebeRocksDBMetricExporter<
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
 
+  private static final String SHARED_MEMORY_METRICS_PREFIX = "rocksdb_shared_memory";
+  private static final Gauge SHARED_MEMORY_LIMIT =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name(SHARED_MEMORY_METRICS_PREFIX + "_limit")
+          .help("Memory limit of the RocksDB memory pool shared by all partitions of the broker")
+          .register();
+  private static final Gauge SHARED_MEMORY_USAGE =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name(SHARED_MEMORY_METRICS_PREFIX + "_usage")
+          .help(
+              "Memory used by cached blocks and memtables of all partitions in the shared RocksDB memory pool")
+          .register();
+  private static final Gauge SHARED_MEMORY_PINNED_USAGE =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name(SHARED_MEMORY_METRICS_PREFIX + "_pinned_usage")
+          .help("Memory of the shared RocksDB memory pool which is pinned and cannot be evicted")
+          .register();
+
   private final String partition;
   private final Supplier<ZeebeDb<ColumnFamilyType>> databaseSupplier;
 
@@ -92,6 +113,17 @@ public final class ZeebeRocksDBMetricExporter<
     LOG.trace("Exporting RocksDBMetrics took + {} ms", elapsedTime);
   }
 
+  /**
+   * Exports the usage of the memory pool shared by all partitions. The per-partition metrics above
+   * still report each partition's own memtables, which are charged to that pool, while the block
+   * cache metrics of every partition report the shared cache.
+   */
+  public static void exportSharedMemoryMetrics(final SharedRocksDbResources sharedResources) {
+    SHARED_MEMORY_LIMIT.set(sharedResources.getMemoryLimit());
+    SHARED_MEMORY_USAGE.set(sharedResources.getUsage());
+    SHARED_MEMORY_PINNED_USAGE.set(sharedResources.getPinnedUsage());
+  }
+
   private void exportMetrics(final RocksDBMetric[] metrics) {
     final var database = databaseSupplier.get();
     if (database == null) {
@@ -24,6 +24,7 @@ import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -52,14 +53,28 @@ public final class ZeebeRocksDbFactory<
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
+  private final SharedRocksDbResources sharedResources;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration metricsConfiguration) {
+    this(rocksDbConfiguration, consistencyChecksSettings, metricsConfiguration, null);
+  }
+
+  /**
+   * @param sharedResources the memory pool shared with the databases of other partitions, or null
+   *     if each database should allocate its own block cache and write buffers
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration metricsConfiguration,
+      final SharedRocksDbResources sharedResources) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
     metrics = metricsConfiguration;
+    this.sharedResources = sharedResources;
   }
 
   @Override
@@ -136,6 +151,12 @@ public final class ZeebeRocksDbFactory<
             .setLogFileTimeToRoll(Duration.ofMinutes(30).toSeconds())
             .setKeepLogFileNum(2);
 
+    if (sharedResources != null) {
+      // bounds the memtables of all partitions together, flushing the largest ones once the
+      // shared limit is reached
+      dbOptions.setWriteBufferManager(sharedResources.getWriteBufferManager());
+    }
+
     // limit I/O writes
     if (rocksDbConfiguration.getIoRateBytesPerSecond() > 0) {
       final RateLimiter rateLimiter =
@@ -271,10 +292,16 @@ public final class ZeebeRocksDbFactory<
 
   private TableFormatConfig createTableFormatConfig(
       final List<AutoCloseable> closeables, final long blockCacheMemory) {
-    // you can use the perf context to check if we're often blocked on the block cache mutex, in
-    // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
-    closeables.add(cache);
+    final Cache cache;
+    if (sharedResources != null) {
+      // owned by the broker and shared with the other partitions, so must not be closed with the db
+      cache = sharedResources.getBlockCache();
+    } else {
+      // you can use the perf context to check if we're often blocked on the block cache mutex, in
+      // which case we want to increase the number of shards (shard count == 2^shardBits)
+      cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+      closeables.add(cache);
+    }
 
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
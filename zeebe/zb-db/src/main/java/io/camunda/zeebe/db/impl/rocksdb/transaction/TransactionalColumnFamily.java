@@ -19,6 +19,8 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -156,6 +158,45 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void getAll(final Iterable<KeyType> keys, final BiConsumer<KeyType, ValueType> visitor) {
+    Objects.requireNonNull(visitor);
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final List<byte[]> keysWithColumnFamily = new ArrayList<>();
+            for (final var key : keys) {
+              keysWithColumnFamily.add(columnFamilyContext.keyWithColumnFamily(key).array());
+            }
+
+            if (keysWithColumnFamily.isEmpty()) {
+              return;
+            }
+
+            final var values =
+                transaction.multiGet(
+                    transactionDb.getDefaultReadOptions(),
+                    transactionDb.getDefaultHandle(),
+                    keysWithColumnFamily);
+
+            for (int i = 0; i < keysWithColumnFamily.size(); i++) {
+              columnFamilyContext.wrapKeyView(keysWithColumnFamily.get(i));
+              final DirectBuffer keyViewBuffer = columnFamilyContext.getKeyView();
+              keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
+
+              columnFamilyContext.wrapValueView(values.get(i));
+              final DirectBuffer valueViewBuffer = columnFamilyContext.getValueView();
+              if (valueViewBuffer != null) {
+                valueInstance.wrap(valueViewBuffer, 0, valueViewBuffer.capacity());
+                visitor.accept(keyInstance, valueInstance);
+              } else {
+                visitor.accept(keyInstance, null);
+              }
+            }
+          });
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
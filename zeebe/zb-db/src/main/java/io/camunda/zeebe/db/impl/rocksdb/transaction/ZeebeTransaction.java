@@ -12,6 +12,8 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.Collections;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -90,6 +92,18 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Looks up all given keys in a single call. Reads go through the transaction, so uncommitted
+   * writes of the transaction are visible.
+   *
+   * @return the values in the same order as the given keys, with {@code null} for missing keys
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(options, Collections.nCopies(keys.size(), handle), keys);
+  }
+
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
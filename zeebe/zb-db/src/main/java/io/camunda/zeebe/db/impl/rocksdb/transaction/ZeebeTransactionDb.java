@@ -132,6 +132,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected ColumnFamilyHandle getDefaultHandle() {
     return defaultHandle;
   }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.db.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -16,7 +17,9 @@ import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -124,6 +127,44 @@ public final class ColumnFamilyTest {
     assertThat(longValue.getValue()).isEqualTo(12345);
   }
 
+  @Test
+  public void shouldGetAllValues() {
+    // given
+    upsertKeyValuePair(1213, 255);
+    upsertKeyValuePair(4567, 123);
+    final var keys = List.of(4567L, 404L, 1213L);
+
+    // when
+    final Map<Long, Long> values = new LinkedHashMap<>();
+    columnFamily.getAll(
+        () ->
+            keys.stream()
+                .map(
+                    k -> {
+                      // the same key instance is reused for every lookup
+                      key.wrapLong(k);
+                      return key;
+                    })
+                .iterator(),
+        (k, v) -> values.put(k.getValue(), v != null ? v.getValue() : null));
+
+    // then
+    assertThat(values).containsExactly(entry(4567L, 123L), entry(404L, null), entry(1213L, 255L));
+  }
+
+  @Test
+  public void shouldNotVisitOnGetAllWithoutKeys() {
+    // given
+    upsertKeyValuePair(1213, 255);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    columnFamily.getAll(List.of(), (k, v) -> visited.add(k.getValue()));
+
+    // then
+    assertThat(visited).isEmpty();
+  }
+
   @Test
   public void shouldCheckForExistence() {
     // given
@@ -18,6 +18,7 @@ import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -151,6 +152,42 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isTrue();
   }
 
+  @Test
+  public void shouldGetAllOnOpenTransaction() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    oneColumnFamily.insert(oneKey, oneValue);
+    oneKey.wrapLong(2);
+    oneValue.wrapLong(-2);
+    oneColumnFamily.insert(oneKey, oneValue);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    final Map<Long, Long> values = new HashMap<>();
+
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneColumnFamily.deleteExisting(oneKey);
+          oneKey.wrapLong(3);
+          oneValue.wrapLong(-3);
+          oneColumnFamily.insert(oneKey, oneValue);
+
+          // when
+          final var keys = List.of(new DbLong(), new DbLong(), new DbLong());
+          keys.get(0).wrapLong(1);
+          keys.get(1).wrapLong(2);
+          keys.get(2).wrapLong(3);
+          oneColumnFamily.getAll(
+              keys,
+              (key, value) -> values.put(key.getValue(), value != null ? value.getValue() : null));
+        });
+
+    // then
+    // sees the uncommitted changes of the same transaction
+    assertThat(values).containsEntry(1L, null).containsEntry(2L, -2L).containsEntry(3L, -3L);
+  }
+
   @Test
   public void shouldNotReopenTransaction() throws Exception {
     // given
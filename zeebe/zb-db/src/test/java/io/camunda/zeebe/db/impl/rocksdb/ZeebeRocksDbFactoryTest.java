@@ -26,6 +26,7 @@ import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowingConsumer;
@@ -165,6 +166,47 @@ final class ZeebeRocksDbFactoryTest {
     assertThat(snapshotValue).isEqualTo("bar");
   }
 
+  @Test
+  void shouldShareMemoryPoolBetweenDbs(
+      final @TempDir File firstPath, final @TempDir File secondPath) throws Exception {
+    // given
+    final var configuration =
+        new RocksDbConfiguration().setMemoryAllocationStrategy(MemoryAllocationStrategy.BROKER);
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+
+    try (final var sharedResources =
+        SharedRocksDbResources.allocate(configuration.getMemoryLimit(), 2)) {
+      final var factory =
+          new ZeebeRocksDbFactory<DefaultColumnFamily>(
+              configuration,
+              new ConsistencyChecksSettings(),
+              new AccessMetricsConfiguration(Kind.NONE, 1),
+              sharedResources);
+
+      // when
+      try (final var firstDb = factory.createDb(firstPath);
+          final var secondDb = factory.createDb(secondPath)) {
+        for (final var db : List.of(firstDb, secondDb)) {
+          db.createColumnFamily(
+                  DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+              .insert(key, value);
+        }
+
+        // then
+        assertThat(sharedResources.getMemoryLimit())
+            .isEqualTo(2 * RocksDbConfiguration.DEFAULT_MEMORY_LIMIT);
+        assertThat(sharedResources.getUsage()).isPositive();
+        assertThat(firstDb.getProperty("rocksdb.block-cache-capacity"))
+            .hasValue(String.valueOf(sharedResources.getMemoryLimit()));
+        assertThat(secondDb.getProperty("rocksdb.block-cache-capacity"))
+            .hasValue(String.valueOf(sharedResources.getMemoryLimit()));
+      }
+    }
+  }
+
   @Test
   void shouldFailToOpenNonExistentSnapshotOnlyDb(final @TempDir File path) {
     // given